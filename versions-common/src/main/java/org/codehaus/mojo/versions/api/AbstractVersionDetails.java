@@ -20,7 +20,6 @@ package org.codehaus.mojo.versions.api;
  */
 
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Objects;
@@ -30,7 +29,6 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.artifact.versioning.Restriction;
 import org.apache.maven.artifact.versioning.VersionRange;
@@ -39,7 +37,6 @@ import org.codehaus.mojo.versions.ordering.DefaultSegmentCounter;
 import org.codehaus.mojo.versions.ordering.InvalidSegmentException;
 import org.codehaus.mojo.versions.utils.ArtifactVersionService;
 
-import static java.util.Collections.reverseOrder;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
@@ -93,6 +90,17 @@ public abstract class AbstractVersionDetails implements VersionDetails {
      */
     protected AbstractVersionDetails() {}
 
+    /**
+     * Returns the sorted index of the available versions, used to answer all version queries. The default
+     * implementation indexes {@link #getVersions(boolean)} on each call; subclasses holding a fixed set of
+     * versions compute the index once.
+     *
+     * @return index of the available versions
+     */
+    VersionIndex getVersionIndex() {
+        return VersionIndex.of(getVersions(true));
+    }
+
     /**
      * If a version is a version range consisting of one or more version ranges, returns the highest <u>lower</u>
      * bound. If a single version range is present, returns its value.
@@ -217,17 +225,15 @@ public abstract class AbstractVersionDetails implements VersionDetails {
     @Override
     public final ArtifactVersion getNewestVersion(
             VersionRange versionRange, Restriction restriction, boolean includeSnapshots, boolean allowDowngrade) {
-        // reverseOrder( getVersions( ... ) ) will contain versions sorted from latest to oldest,
+        // the index walks the versions in the restriction from latest to oldest,
         // so we only need to find the first candidate fulfilling the criteria
-        return Arrays.stream(getVersions(includeSnapshots))
-                .sorted(reverseOrder())
-                .filter(candidate -> allowDowngrade
-                        || versionRange == null
-                        || ArtifactVersions.isVersionInRange(candidate, versionRange))
-                .filter(candidate -> restriction == null || isVersionInRestriction(restriction, candidate))
-                .filter(candidate -> includeSnapshots || !ArtifactUtils.isSnapshot(candidate.toString()))
-                .findAny()
-                .orElse(null);
+        return getVersionIndex()
+                .newest(
+                        restriction,
+                        includeSnapshots,
+                        allowDowngrade || versionRange == null
+                                ? null
+                                : candidate -> ArtifactVersions.isVersionInRange(candidate, versionRange));
     }
 
     @Override
@@ -242,12 +248,7 @@ public abstract class AbstractVersionDetails implements VersionDetails {
 
     @Override
     public final boolean containsVersion(String version) {
-        for (ArtifactVersion candidate : getVersions(true)) {
-            if (version.equals(candidate.toString())) {
-                return true;
-            }
-        }
-        return false;
+        return getVersionIndex().contains(version);
     }
 
     @Override
@@ -284,10 +285,7 @@ public abstract class AbstractVersionDetails implements VersionDetails {
         } else {
             lookupRestriction = segmentRestriction;
         }
-        return Arrays.stream(getVersions(includeSnapshots))
-                .filter(candidate -> isVersionInRestriction(lookupRestriction, candidate))
-                .filter(candidate -> includeSnapshots || !ArtifactUtils.isSnapshot(candidate.toString()))
-                .max(Comparator.naturalOrder());
+        return Optional.ofNullable(getVersionIndex().newest(lookupRestriction, includeSnapshots, null));
     }
 
     @Override
@@ -298,13 +296,13 @@ public abstract class AbstractVersionDetails implements VersionDetails {
     @Override
     public final ArtifactVersion[] getVersions(
             VersionRange versionRange, Restriction restriction, boolean includeSnapshots) {
-        return Arrays.stream(getVersions(includeSnapshots))
-                .filter(candidate -> versionRange == null || ArtifactVersions.isVersionInRange(candidate, versionRange))
-                .filter(candidate -> restriction == null || isVersionInRestriction(restriction, candidate))
-                .filter(candidate -> includeSnapshots || !ArtifactUtils.isSnapshot(candidate.toString()))
-                .sorted(Comparator.naturalOrder())
-                .distinct()
-                .toArray(ArtifactVersion[]::new);
+        return getVersionIndex()
+                .select(
+                        restriction,
+                        includeSnapshots,
+                        versionRange == null
+                                ? null
+                                : candidate -> ArtifactVersions.isVersionInRange(candidate, versionRange));
     }
 
     @Override
@@ -426,9 +424,11 @@ public abstract class AbstractVersionDetails implements VersionDetails {
      *         or <code>null</code> if no version is available.
      */
     public final ArtifactVersion getReportNewestUpdate(Optional<Segment> updateScope, boolean includeSnapshots) {
-        return getArtifactVersionStream(updateScope, includeSnapshots)
-                .min(Collections.reverseOrder())
-                .orElse(null);
+        if (getCurrentVersion() != null) {
+            return getVersionIndex()
+                    .newest(restrictionForSelectedSegment(getCurrentVersion(), updateScope), includeSnapshots, null);
+        }
+        return null;
     }
 
     /**
@@ -480,8 +480,7 @@ public abstract class AbstractVersionDetails implements VersionDetails {
         if (getCurrentVersion() != null) {
             Restriction restriction = restrictionForSelectedSegment(getCurrentVersion(), updateScope);
 
-            return Arrays.stream(getVersions(includeSnapshots))
-                    .filter(candidate -> isVersionInRestriction(restriction, candidate));
+            return Arrays.stream(getVersionIndex().select(restriction, includeSnapshots, null));
         }
         return Stream.empty();
     }
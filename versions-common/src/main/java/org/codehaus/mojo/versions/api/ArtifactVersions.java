@@ -23,12 +23,9 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.maven.artifact.Artifact;
-import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.artifact.versioning.Restriction;
 import org.apache.maven.artifact.versioning.VersionRange;
@@ -54,7 +51,7 @@ public class ArtifactVersions extends AbstractVersionDetails implements Comparab
      *
      * @since 1.0-alpha-3
      */
-    private final SortedSet<ArtifactVersion> versions;
+    private final VersionIndex versions;
 
     /**
      * Creates a new {@link ArtifactVersions} instance.
@@ -65,8 +62,7 @@ public class ArtifactVersions extends AbstractVersionDetails implements Comparab
      */
     public ArtifactVersions(Artifact artifact, List<ArtifactVersion> versions) {
         this.artifact = artifact;
-        this.versions = new TreeSet<>();
-        this.versions.addAll(versions);
+        this.versions = VersionIndex.of(versions);
         setCurrentVersion(artifact.getVersion());
         setCurrentVersionRange(artifact.getVersionRange());
     }
@@ -196,11 +192,12 @@ public class ArtifactVersions extends AbstractVersionDetails implements Comparab
     }
 
     public ArtifactVersion[] getVersions(boolean includeSnapshots) {
-        return includeSnapshots
-                ? versions.toArray(new ArtifactVersion[0])
-                : versions.stream()
-                        .filter(v -> !ArtifactUtils.isSnapshot(v.toString()))
-                        .toArray(ArtifactVersion[]::new);
+        return versions.toArray(includeSnapshots);
+    }
+
+    @Override
+    VersionIndex getVersionIndex() {
+        return versions;
     }
 
     /**
@@ -214,11 +211,7 @@ public class ArtifactVersions extends AbstractVersionDetails implements Comparab
      *         if {@code includeSnapshots} is {@code false}, returns {@code true} if there are no releases.
      */
     public boolean isEmpty(boolean includeSnapshots) {
-        return includeSnapshots
-                ? versions.isEmpty()
-                // the below means: the only versions that could be present in the collection
-                // are snapshots
-                : versions.stream().map(Object::toString).allMatch(ArtifactUtils::isSnapshot);
+        return versions.isEmpty(includeSnapshots);
     }
 
     /**
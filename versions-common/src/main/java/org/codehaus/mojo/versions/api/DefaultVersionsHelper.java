@@ -19,11 +19,15 @@ package org.codehaus.mojo.versions.api;
  * under the License.
  */
 
+import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,9 +35,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -53,12 +58,13 @@ import org.apache.maven.model.Plugin;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
-import org.codehaus.mojo.versions.model.IgnoreVersion;
 import org.codehaus.mojo.versions.rule.RuleService;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
 import org.codehaus.mojo.versions.utils.ArtifactVersionService;
 import org.codehaus.mojo.versions.utils.DependencyComparator;
 import org.codehaus.mojo.versions.utils.PluginComparator;
+import org.codehaus.mojo.versions.utils.SessionDataUtils;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.repository.RemoteRepository;
@@ -67,6 +73,7 @@ import org.eclipse.aether.resolution.ArtifactRequest;
 import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.aether.resolution.VersionRangeRequest;
 import org.eclipse.aether.resolution.VersionRangeResolutionException;
+import org.eclipse.aether.version.Version;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.of;
@@ -82,7 +89,25 @@ import static org.apache.maven.RepositoryUtils.toArtifact;
  */
 public class DefaultVersionsHelper implements VersionsHelper {
 
-    private static final int LOOKUP_PARALLEL_THREADS = 5;
+    /**
+     * Location of the persistent version metadata cache, relative to the local repository
+     */
+    private static final String DEFAULT_METADATA_CACHE_PATH = ".cache/versions-maven-plugin/metadata";
+
+    /**
+     * Key of the version resolutions in progress within the session
+     */
+    private static final List<Class<?>> PENDING_RESOLUTIONS_KEY =
+            Arrays.asList(DefaultVersionsHelper.class, CompletableFuture.class);
+
+    /**
+     * Order of dependencies whose updates are looked up: extends {@link DependencyComparator} with all other
+     * properties used to create the dependency artifact, so that only equivalent lookups are merged
+     */
+    private static final Comparator<Dependency> DEPENDENCY_LOOKUP_ORDER = DependencyComparator.INSTANCE
+            .thenComparing(d -> ofNullable(d.getType()).orElse(""))
+            .thenComparing(d -> ofNullable(d.getScope()).orElse(""))
+            .thenComparing(d -> ofNullable(d.getSystemPath()).orElse(""));
 
     private final RuleService ruleService;
 
@@ -110,22 +135,62 @@ public class DefaultVersionsHelper implements VersionsHelper {
 
     private final PomHelper pomHelper;
 
+    /**
+     * Persistent version metadata cache; {@code null} if caching is disabled, or if the session is offline,
+     * as versions resolved offline only reflect the local repository.
+     */
+    private final VersionMetadataCache metadataCache;
+
+    /**
+     * {@code true} if an update has been forced (e.g. using {@code -U}), in which case the entries of
+     * the {@link #metadataCache} are replaced rather than read.
+     */
+    private final boolean refreshMetadataCache;
+
+    /**
+     * Executor running parallel lookups, shared within the session
+     */
+    private final SharedExecutor lookupExecutor;
+
+    /**
+     * Version range resolutions currently in progress, shared within the session
+     */
+    private final Map<String, CompletableFuture<List<String>>> pendingResolutions;
+
+    /**
+     * Versions resolved by the last prefetch batch of this instance, serving the lookups following it;
+     * replaced by every batch, so that lookups outside of batches are never served stale versions
+     */
+    private volatile Map<String, List<String>> prefetchedVersions = Collections.emptyMap();
+
     /**
      * Private constructor used by the builder
      */
-    private DefaultVersionsHelper(
-            PomHelper pomHelper,
-            ArtifactFactory artifactFactory,
-            RepositorySystem repositorySystem,
-            MavenSession mavenSession,
-            RuleService ruleService,
-            Log log) {
-        this.pomHelper = requireNonNull(pomHelper);
-        this.artifactFactory = requireNonNull(artifactFactory);
-        this.repositorySystem = requireNonNull(repositorySystem);
-        this.mavenSession = requireNonNull(mavenSession);
-        this.ruleService = requireNonNull(ruleService);
-        this.log = requireNonNull(log);
+    private DefaultVersionsHelper(Builder builder) {
+        this.pomHelper = requireNonNull(builder.pomHelper);
+        this.artifactFactory = requireNonNull(builder.artifactFactory);
+        this.repositorySystem = requireNonNull(builder.repositorySystem);
+        this.mavenSession = requireNonNull(builder.mavenSession);
+        this.ruleService = requireNonNull(builder.ruleService);
+        this.log = requireNonNull(builder.log);
+        this.metadataCache = builder.metadataCacheTtl > 0 && !mavenSession.isOffline()
+                ? new VersionMetadataCache(
+                        ofNullable(builder.metadataCacheDirectory)
+                                .orElseGet(() -> new File(
+                                        mavenSession
+                                                .getRepositorySession()
+                                                .getLocalRepository()
+                                                .getBasedir(),
+                                        DEFAULT_METADATA_CACHE_PATH))
+                                .toPath(),
+                        Duration.ofSeconds(builder.metadataCacheTtl),
+                        log)
+                : null;
+        this.refreshMetadataCache = isUpdateForced(mavenSession);
+        this.lookupExecutor =
+                SharedExecutor.forSession(mavenSession, builder.lookupThreads, builder.lookupVirtualThreads);
+        this.pendingResolutions =
+                SessionDataUtils.computeIfAbsent(mavenSession, PENDING_RESOLUTIONS_KEY, ConcurrentHashMap::new);
 
         this.remoteProjectRepositories = of(mavenSession)
                 .map(MavenSession::getCurrentProject)
@@ -176,45 +241,10 @@ public class DefaultVersionsHelper implements VersionsHelper {
             Artifact artifact, VersionRange versionRange, boolean usePluginRepositories, boolean useProjectRepositories)
             throws VersionRetrievalException {
         try {
-            Collection<IgnoreVersion> ignoredVersions = ruleService.getIgnoredVersions(artifact);
-            if (!ignoredVersions.isEmpty() && log.isDebugEnabled()) {
-                log.debug("Found ignored versions: " + ignoredVersions + " for artifact" + artifact);
-            }
-
-            VersionRangeRequest versionRangeRequest = new VersionRangeRequest(
-                    toArtifact(artifact)
-                            .setVersion(ofNullable(versionRange)
-                                    .map(VersionRange::getRestrictions)
-                                    .flatMap(list -> list.stream().findFirst().map(Restriction::toString))
-                                    .orElse("(,)")),
-                    Stream.concat(
-                                    usePluginRepositories ? remotePluginRepositories.stream() : Stream.empty(),
-                                    useProjectRepositories ? remoteProjectRepositories.stream() : Stream.empty())
-                            .distinct()
-                            .collect(Collectors.toList()),
-                    "lookupArtifactVersions");
-
-            return new ArtifactVersions(
-                    artifact,
-                    repositorySystem
-                            .resolveVersionRange(mavenSession.getRepositorySession(), versionRangeRequest)
-                            .getVersions()
-                            .stream()
-                            .filter(v -> ignoredVersions.stream().noneMatch(i -> {
-                                if (IgnoreVersionHelper.isVersionIgnored(v, i)) {
-                                    if (log.isDebugEnabled()) {
-                                        log.debug("Version " + v + " for artifact "
-                                                + ArtifactUtils.versionlessKey(artifact)
-                                                + " found on ignore list: "
-                                                + i);
-                                    }
-                                    return true;
-                                }
+            VersionRangeRequest versionRangeRequest =
+                    createVersionRangeRequest(artifact, versionRange, usePluginRepositories, useProjectRepositories);
 
-                                return false;
-                            }))
-                            .map(v -> ArtifactVersionService.getArtifactVersion(v.toString()))
-                            .collect(Collectors.toList()));
+            return toArtifactVersions(artifact, resolveVersions(artifact, versionRangeRequest));
         } catch (VersionRangeResolutionException e) {
             throw new VersionRetrievalException(e.getMessage(), artifact, e);
         } catch (RuntimeException e) {
@@ -224,6 +254,158 @@ public class DefaultVersionsHelper implements VersionsHelper {
         }
     }
 
+    /**
+     * Returns the given resolved versions of the given artifact, except those ignored by the rules
+     *
+     * @param artifact artifact the versions belong to
+     * @param versions resolved versions
+     * @return versions of the artifact which are not ignored
+     */
+    private ArtifactVersions toArtifactVersions(Artifact artifact, List<String> versions) {
+        IgnoreVersionMatcher ignoredVersions = ruleService.getIgnoredVersionsMatcher(artifact);
+        if (!ignoredVersions.isEmpty() && log.isDebugEnabled()) {
+            log.debug("Found ignored versions: " + ignoredVersions.getIgnoreVersions() + " for artifact" + artifact);
+        }
+
+        return new ArtifactVersions(
+                artifact,
+                versions.stream()
+                        .filter(v -> {
+                            if (ignoredVersions.isEmpty() || !ignoredVersions.isIgnored(v)) {
+                                return true;
+                            }
+                            if (log.isDebugEnabled()) {
+                                log.debug("Version " + v + " for artifact "
+                                        + ArtifactUtils.versionlessKey(artifact)
+                                        + " found on ignore list: "
+                                        + ignoredVersions.findIgnoringRule(v).orElse(null));
+                            }
+                            return false;
+                        })
+                        .map(ArtifactVersionService::getArtifactVersion)
+                        .collect(Collectors.toList()));
+    }
+
+    private VersionRangeRequest createVersionRangeRequest(
+            Artifact artifact,
+            VersionRange versionRange,
+            boolean usePluginRepositories,
+            boolean useProjectRepositories) {
+        return new VersionRangeRequest(
+                toArtifact(artifact)
+                        .setVersion(ofNullable(versionRange)
+                                .map(VersionRange::getRestrictions)
+                                .flatMap(list -> list.stream().findFirst().map(Restriction::toString))
+                                .orElse("(,)")),
+                Stream.concat(
+                                usePluginRepositories ? remotePluginRepositories.stream() : Stream.empty(),
+                                useProjectRepositories ? remoteProjectRepositories.stream() : Stream.empty())
+                        .distinct()
+                        .collect(Collectors.toList()),
+                "lookupArtifactVersions");
+    }
+
+    private static String resolutionKey(Artifact artifact, VersionRangeRequest request) {
+        return VersionMetadataCache.key(artifact, request.getArtifact().getVersion(), request.getRepositories());
+    }
+
+    /**
+     * Resolves the versions matching the given request. Concurrent requests for the same artifact,
+     * version range and set of repositories within the session are coalesced: only the first one
+     * is resolved, the others wait for and share its result. Versions resolved by the last
+     * prefetch batch are served without resolving them again.
+     *
+     * @param artifact artifact whose versions are being resolved
+     * @param request version range request
+     * @return list of available versions
+     * @throws VersionRangeResolutionException thrown if the resolution fails
+     * @throws VersionRetrievalException thrown if the thread is interrupted while waiting for a pending resolution
+     */
+    private List<String> resolveVersions(Artifact artifact, VersionRangeRequest request)
+            throws VersionRangeResolutionException, VersionRetrievalException {
+        String key = resolutionKey(artifact, request);
+        List<String> resolved = prefetchedVersions.get(key);
+        if (resolved != null) {
+            return resolved;
+        }
+
+        CompletableFuture<List<String>> pending = new CompletableFuture<>();
+        CompletableFuture<List<String>> inFlight = pendingResolutions.putIfAbsent(key, pending);
+        if (inFlight != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Waiting for pending resolution of " + ArtifactUtils.versionlessKey(artifact));
+            }
+            try {
+                return inFlight.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new VersionRetrievalException(
+                        "Interrupted while waiting for versions of " + artifact, artifact, e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof VersionRangeResolutionException) {
+                    throw (VersionRangeResolutionException) e.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new VersionRetrievalException(e.getMessage(), artifact, e.getCause());
+            }
+        }
+
+        try {
+            List<String> versions = resolveVersions(artifact, request, key);
+            pending.complete(versions);
+            return versions;
+        } catch (VersionRangeResolutionException | RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingResolutions.remove(key, pending);
+        }
+    }
+
+    private static boolean isUpdateForced(MavenSession session) {
+        return session.getRequest() != null && session.getRequest().isUpdateSnapshots()
+                || session.getRepositorySession() != null
+                        && RepositoryPolicy.UPDATE_POLICY_ALWAYS.equals(
+                                session.getRepositorySession().getUpdatePolicy());
+    }
+
+    /**
+     * Resolves the versions matching the given request, consulting the persistent
+     * {@link VersionMetadataCache} first, if enabled and unless an update has been forced.
+     *
+     * @param artifact artifact whose versions are being resolved
+     * @param request version range request
+     * @param key key of the request
+     * @return list of available versions
+     * @throws VersionRangeResolutionException thrown if the resolution fails
+     */
+    private List<String> resolveVersions(Artifact artifact, VersionRangeRequest request, String key)
+            throws VersionRangeResolutionException {
+        if (metadataCache != null && !refreshMetadataCache) {
+            Optional<List<String>> cached = metadataCache.get(key);
+            if (cached.isPresent()) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Using cached version metadata for " + ArtifactUtils.versionlessKey(artifact));
+                }
+                return cached.get();
+            }
+        }
+
+        List<String> versions =
+                repositorySystem
+                        .resolveVersionRange(mavenSession.getRepositorySession(), request)
+                        .getVersions()
+                        .stream()
+                        .map(Version::toString)
+                        .collect(Collectors.toList());
+        if (metadataCache != null) {
+            metadataCache.put(key, versions);
+        }
+        return versions;
+    }
+
     @Override
     public ArtifactVersions lookupArtifactVersions(Artifact artifact, boolean usePluginRepositories)
             throws VersionRetrievalException {
@@ -255,11 +437,10 @@ public class DefaultVersionsHelper implements VersionsHelper {
             boolean useProjectRepositories,
             boolean allowSnapshots)
             throws VersionRetrievalException {
-        ExecutorService executor = Executors.newFixedThreadPool(LOOKUP_PARALLEL_THREADS);
         try {
             Map<Dependency, ArtifactVersions> dependencyUpdates = new TreeMap<>(DependencyComparator.INSTANCE);
             List<Future<? extends Pair<Dependency, ArtifactVersions>>> futures = dependencies
-                    .map(dependency -> executor.submit(() -> new ImmutablePair<>(
+                    .map(dependency -> lookupExecutor.submit(() -> new ImmutablePair<>(
                             dependency,
                             lookupDependencyUpdates(
                                     dependency, usePluginRepositories, useProjectRepositories, allowSnapshots))))
@@ -276,8 +457,6 @@ public class DefaultVersionsHelper implements VersionsHelper {
             }
             throw new VersionRetrievalException(
                     "Unable to acquire metadata for dependencies " + dependencies + ": " + e.getMessage(), null, e);
-        } finally {
-            executor.shutdown();
         }
     }
 
@@ -288,6 +467,81 @@ public class DefaultVersionsHelper implements VersionsHelper {
         return lookupDependenciesUpdates(dependencies, usePluginRepositories, !usePluginRepositories, allowSnapshots);
     }
 
+    @Override
+    public <K> CompletableFuture<Map<K, Map<Dependency, ArtifactVersions>>> lookupDependenciesUpdatesAsync(
+            Map<K, ? extends Collection<Dependency>> dependencyGroups,
+            boolean usePluginRepositories,
+            boolean useProjectRepositories,
+            boolean allowSnapshots) {
+        // each distinct artifact, version range and set of repositories is resolved once per batch, even if
+        // it is shared by dependencies with different versions, e.g. by several modules of an aggregate report
+        Map<String, CompletableFuture<List<String>>> resolutions = new HashMap<>();
+        Map<Dependency, CompletableFuture<ArtifactVersions>> lookups = new TreeMap<>(DEPENDENCY_LOOKUP_ORDER);
+        dependencyGroups
+                .values()
+                .forEach(group -> group.forEach(dependency -> lookups.computeIfAbsent(dependency, d -> {
+                    Artifact artifact = artifactFactory.createArtifact(d);
+                    VersionRangeRequest request =
+                            createVersionRangeRequest(artifact, null, usePluginRepositories, useProjectRepositories);
+                    return resolutions
+                            .computeIfAbsent(
+                                    resolutionKey(artifact, request), k -> resolveVersionsAsync(artifact, request))
+                            .thenApply(versions -> dependencyUpdates(artifact, versions, allowSnapshots));
+                })));
+        if (log.isDebugEnabled()) {
+            log.debug("Looking up updates of " + lookups.size() + " distinct dependencies, resolving "
+                    + resolutions.size() + " distinct artifacts");
+        }
+
+        return CompletableFuture.allOf(lookups.values().toArray(new CompletableFuture[0]))
+                .handle((ignored, e) -> {
+                    if (e != null) {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        throw new CompletionException(
+                                cause instanceof VersionRetrievalException
+                                        ? cause
+                                        : new VersionRetrievalException(
+                                                "Unable to acquire metadata for dependencies: " + cause.getMessage(),
+                                                null,
+                                                cause));
+                    }
+                    // instances shared by several groups are copied, so that the groups can be processed independently
+                    Set<ArtifactVersions> used = Collections.newSetFromMap(new IdentityHashMap<>());
+                    Map<K, Map<Dependency, ArtifactVersions>> result = new LinkedHashMap<>();
+                    dependencyGroups.forEach((key, group) -> {
+                        Map<Dependency, ArtifactVersions> updates = new TreeMap<>(DependencyComparator.INSTANCE);
+                        group.forEach(dependency -> {
+                            ArtifactVersions versions = lookups.get(dependency).join();
+                            updates.put(dependency, used.add(versions) ? versions : new ArtifactVersions(versions));
+                        });
+                        result.put(key, updates);
+                    });
+                    return result;
+                });
+    }
+
+    @Override
+    public <K> Map<K, Map<Dependency, ArtifactVersions>> lookupDependenciesUpdates(
+            Map<K, ? extends Collection<Dependency>> dependencyGroups,
+            boolean usePluginRepositories,
+            boolean useProjectRepositories,
+            boolean allowSnapshots)
+            throws VersionRetrievalException {
+        try {
+            return lookupDependenciesUpdatesAsync(
+                            dependencyGroups, usePluginRepositories, useProjectRepositories, allowSnapshots)
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VersionRetrievalException("Interrupted while looking up dependency updates", null, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof VersionRetrievalException) {
+                throw (VersionRetrievalException) e.getCause();
+            }
+            throw new VersionRetrievalException(e.getMessage(), null, e.getCause());
+        }
+    }
+
     @Override
     public ArtifactVersions lookupDependencyUpdates(
             Dependency dependency,
@@ -302,14 +556,115 @@ public class DefaultVersionsHelper implements VersionsHelper {
                 Arrays.stream(allVersions.getAllUpdates(allowSnapshots)).collect(Collectors.toList()));
     }
 
+    /**
+     * Resolves the versions matching the given request on the lookup executor
+     *
+     * @param artifact artifact whose versions are being resolved
+     * @param request version range request
+     * @return future completing with the list of available versions, or exceptionally with
+     * a {@link VersionRetrievalException} citing the artifact if the resolution fails
+     */
+    private CompletableFuture<List<String>> resolveVersionsAsync(Artifact artifact, VersionRangeRequest request) {
+        return lookupExecutor.submit(() -> {
+            try {
+                return resolveVersions(artifact, request);
+            } catch (VersionRangeResolutionException e) {
+                throw new VersionRetrievalException(e.getMessage(), artifact, e);
+            } catch (RuntimeException e) {
+                throw new VersionRetrievalException("Unable to retrieve versions for " + artifact, artifact, e);
+            }
+        });
+    }
+
+    /**
+     * Returns the updates of the given artifact among the given resolved versions, like
+     * {@link #lookupDependencyUpdates(Dependency, boolean, boolean, boolean)}
+     *
+     * @param artifact artifact whose updates are returned
+     * @param versions resolved versions of the artifact
+     * @param allowSnapshots whether snapshots should be included
+     * @return updates of the artifact
+     */
+    private ArtifactVersions dependencyUpdates(Artifact artifact, List<String> versions, boolean allowSnapshots) {
+        ArtifactVersions allVersions = toArtifactVersions(artifact, versions);
+        return new ArtifactVersions(
+                allVersions.getArtifact(),
+                Arrays.stream(allVersions.getAllUpdates(allowSnapshots)).collect(Collectors.toList()));
+    }
+
+    @Override
+    public void prefetchPluginsVersions(Stream<Plugin> plugins) throws VersionRetrievalException {
+        // mirrors lookupPluginUpdates: plugins are looked up in plugin repositories,
+        // their dependencies in project repositories
+        prefetchArtifactVersions(plugins.flatMap(plugin -> {
+            Artifact pluginArtifact = artifactFactory.createMavenPluginArtifact(
+                    plugin.getGroupId(),
+                    plugin.getArtifactId(),
+                    plugin.getVersion() != null ? plugin.getVersion() : "LATEST");
+            return Stream.concat(
+                    Stream.of(new ImmutablePair<>(
+                            pluginArtifact, createVersionRangeRequest(pluginArtifact, null, true, false))),
+                    ofNullable(plugin.getDependencies())
+                            .map(List::stream)
+                            .orElseGet(Stream::empty)
+                            .map(d -> {
+                                Artifact artifact = artifactFactory.createArtifact(d);
+                                return new ImmutablePair<>(
+                                        artifact, createVersionRangeRequest(artifact, null, false, true));
+                            }));
+        }));
+    }
+
+    /**
+     * Resolves the versions of the given artifacts in one parallel batch. Each distinct combination
+     * of artifact, version range and repositories is only resolved once. The resolved versions replace
+     * those of the previous batch, so that the memory they use is bounded by the size of the batch.
+     *
+     * @param requests artifacts along with their version range requests
+     * @throws VersionRetrievalException thrown if any of the resolutions fails
+     */
+    private void prefetchArtifactVersions(Stream<? extends Pair<Artifact, VersionRangeRequest>> requests)
+            throws VersionRetrievalException {
+        Map<String, Pair<Artifact, VersionRangeRequest>> unique = new LinkedHashMap<>();
+        requests.forEach(r -> unique.putIfAbsent(resolutionKey(r.getKey(), r.getValue()), r));
+        if (log.isDebugEnabled()) {
+            log.debug("Resolving versions of " + unique.size() + " distinct artifacts");
+        }
+
+        Map<String, Future<List<String>>> futures = new LinkedHashMap<>();
+        unique.forEach((key, r) -> futures.put(key, lookupExecutor.submit(() -> {
+            try {
+                return resolveVersions(r.getKey(), r.getValue());
+            } catch (VersionRangeResolutionException e) {
+                throw new VersionRetrievalException(e.getMessage(), r.getKey(), e);
+            } catch (RuntimeException e) {
+                throw new VersionRetrievalException("Unable to retrieve versions for " + r.getKey(), r.getKey(), e);
+            }
+        })));
+        Map<String, List<String>> batch = new HashMap<>();
+        try {
+            for (Map.Entry<String, Future<List<String>>> future : futures.entrySet()) {
+                batch.put(future.getKey(), future.getValue().get());
+            }
+            prefetchedVersions = batch;
+        } catch (ExecutionException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (e.getCause() instanceof VersionRetrievalException) {
+                throw (VersionRetrievalException) e.getCause();
+            }
+            throw new VersionRetrievalException("Unable to acquire metadata: " + e.getMessage(), null, e);
+        }
+    }
+
     @Override
     public Map<Plugin, PluginUpdatesDetails> lookupPluginsUpdates(Stream<Plugin> plugins, boolean allowSnapshots)
             throws VersionRetrievalException {
-        ExecutorService executor = Executors.newFixedThreadPool(LOOKUP_PARALLEL_THREADS);
         try {
             Map<Plugin, PluginUpdatesDetails> pluginUpdates = new TreeMap<>(PluginComparator.INSTANCE);
-            List<Future<? extends Pair<Plugin, PluginUpdatesDetails>>> futures = plugins.map(
-                            p -> executor.submit(() -> new ImmutablePair<>(p, lookupPluginUpdates(p, allowSnapshots))))
+            List<Future<? extends Pair<Plugin, PluginUpdatesDetails>>> futures = plugins.map(p ->
+                            lookupExecutor.submit(() -> new ImmutablePair<>(p, lookupPluginUpdates(p, allowSnapshots))))
                     .collect(Collectors.toList());
             for (Future<? extends Pair<Plugin, PluginUpdatesDetails>> details : futures) {
                 Pair<Plugin, PluginUpdatesDetails> pair = details.get();
@@ -323,8 +678,6 @@ public class DefaultVersionsHelper implements VersionsHelper {
             }
             throw new VersionRetrievalException(
                     "Unable to acquire metadata for plugins " + plugins + ": " + e.getMessage(), null, e);
-        } finally {
-            executor.shutdown();
         }
     }
 
@@ -407,7 +760,7 @@ public class DefaultVersionsHelper implements VersionsHelper {
         });
 
         log.debug("Processing properties to build PropertyVersions");
-        Map<Property, PropertyVersions> propertyVersions = new LinkedHashMap<>(properties.size());
+        Map<Property, PropertyVersionsBuilder> propertyBuilders = new LinkedHashMap<>(properties.size());
 
         for (Property property : properties.values()) {
             String propertyName = property.getName();
@@ -469,19 +822,65 @@ public class DefaultVersionsHelper implements VersionsHelper {
                             .withCurrentVersionRange(VersionRange.createFromVersionSpec(currentVersion));
                 }
 
-                PropertyVersions versions = builder.build();
-                propertyVersions.put(property, versions);
-
-            } catch (VersionRetrievalException e) {
-                throw new MojoExecutionException(e.getMessage(), e);
+                propertyBuilders.put(property, builder);
             } catch (InvalidVersionSpecificationException e) {
                 throw new RuntimeException(e);
             }
         }
 
+        Map<Property, PropertyVersions> propertyVersions = new LinkedHashMap<>(propertyBuilders.size());
+        try {
+            // the versions of all associated artifacts are looked up at once, before intersecting them per property
+            Map<ArtifactAssociation, ArtifactVersions> associatedVersions =
+                    lookupAssociatedVersions(propertyBuilders.values());
+            for (Map.Entry<Property, PropertyVersionsBuilder> entry : propertyBuilders.entrySet()) {
+                propertyVersions.put(entry.getKey(), entry.getValue().build(associatedVersions));
+            }
+        } catch (VersionRetrievalException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+
         return propertyVersions;
     }
 
+    /**
+     * Looks up the versions of the artifacts associated with the given builders in parallel,
+     * each distinct association being looked up only once.
+     *
+     * @param builders property builders
+     * @return versions of each associated artifact
+     * @throws VersionRetrievalException thrown if any of the lookups fails
+     */
+    private Map<ArtifactAssociation, ArtifactVersions> lookupAssociatedVersions(
+            Collection<PropertyVersionsBuilder> builders) throws VersionRetrievalException {
+        Map<ArtifactAssociation, CompletableFuture<ArtifactVersions>> lookups = new TreeMap<>();
+        builders.forEach(builder -> builder.getAssociations()
+                .forEach(association -> lookups.computeIfAbsent(
+                        association,
+                        a -> lookupExecutor.submit(
+                                () -> lookupArtifactVersions(a.getArtifact(), a.isUsePluginRepositories())))));
+        if (log.isDebugEnabled()) {
+            log.debug("Looking up versions of " + lookups.size() + " distinct associated artifacts");
+        }
+
+        Map<ArtifactAssociation, ArtifactVersions> result = new TreeMap<>();
+        for (Map.Entry<ArtifactAssociation, CompletableFuture<ArtifactVersions>> lookup : lookups.entrySet()) {
+            try {
+                result.put(lookup.getKey(), lookup.getValue().join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof VersionRetrievalException) {
+                    throw (VersionRetrievalException) e.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new VersionRetrievalException(
+                        e.getCause().getMessage(), lookup.getKey().getArtifact(), e.getCause());
+            }
+        }
+        return result;
+    }
+
     /**
      * Builder class for {@linkplain DefaultVersionsHelper}
      */
@@ -498,6 +897,14 @@ public class DefaultVersionsHelper implements VersionsHelper {
 
         private PomHelper pomHelper;
 
+        private long metadataCacheTtl;
+
+        private File metadataCacheDirectory;
+
+        private int lookupThreads = SharedExecutor.DEFAULT_PARALLELISM;
+
+        private boolean lookupVirtualThreads;
+
         /**
          * Creates a new instance
          */
@@ -563,6 +970,57 @@ public class DefaultVersionsHelper implements VersionsHelper {
             return this;
         }
 
+        /**
+         * Provides the time-to-live, in seconds, of the persistent version metadata cache entries.
+         * A value of {@code 0} or less (the default) disables the cache.
+         * The cache is not used by offline sessions, and is refreshed rather than read if the session forces
+         * updates.
+         * @param metadataCacheTtl time-to-live of version metadata cache entries, in seconds
+         * @return {@link Builder} instance
+         * @since 2.20.0
+         */
+        public Builder withMetadataCacheTtl(long metadataCacheTtl) {
+            this.metadataCacheTtl = metadataCacheTtl;
+            return this;
+        }
+
+        /**
+         * Provides the directory of the persistent version metadata cache. If not provided,
+         * a directory within the local repository is used.
+         * @param metadataCacheDirectory directory of the version metadata cache; may be {@code null}
+         * @return {@link Builder} instance
+         * @since 2.20.0
+         */
+        public Builder withMetadataCacheDirectory(File metadataCacheDirectory) {
+            this.metadataCacheDirectory = metadataCacheDirectory;
+            return this;
+        }
+
+        /**
+         * Provides the maximum number of parallel version lookups. The lookups are run on an executor
+         * shared by all helpers with the same configuration within the session.
+         * A value of {@code 0} or less means the number of available processors.
+         * @param lookupThreads maximum number of parallel version lookups
+         * @return {@link Builder} instance
+         * @since 2.20.0
+         */
+        public Builder withLookupThreads(int lookupThreads) {
+            this.lookupThreads = lookupThreads;
+            return this;
+        }
+
+        /**
+         * Provides the information whether parallel version lookups should be run on virtual threads.
+         * Only effective on JDK 21 or newer; ignored otherwise.
+         * @param lookupVirtualThreads whether to run parallel version lookups on virtual threads
+         * @return {@link Builder} instance
+         * @since 2.20.0
+         */
+        public Builder withLookupVirtualThreads(boolean lookupVirtualThreads) {
+            this.lookupVirtualThreads = lookupVirtualThreads;
+            return this;
+        }
+
         /**
          * Builds the constructed {@linkplain DefaultVersionsHelper} object
          *
@@ -570,8 +1028,7 @@ public class DefaultVersionsHelper implements VersionsHelper {
          * @throws MojoExecutionException should the constructor with the RuleSet retrieval doesn't succeed
          */
         public DefaultVersionsHelper build() throws MojoExecutionException {
-            return new DefaultVersionsHelper(
-                    pomHelper, artifactFactory, repositorySystem, mavenSession, ruleService, log);
+            return new DefaultVersionsHelper(this);
         }
     }
 }
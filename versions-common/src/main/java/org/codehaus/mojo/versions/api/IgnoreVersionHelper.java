@@ -47,7 +47,7 @@ public class IgnoreVersionHelper {
     public static final List<String> VALID_TYPES = Collections.unmodifiableList(
             Arrays.asList(IgnoreVersion.TYPE_EXACT, IgnoreVersion.TYPE_REGEX, IgnoreVersion.TYPE_RANGE));
 
-    private static final Map<String, BiFunction<Version, IgnoreVersion, Boolean>> VERSION_MATCHERS;
+    private static final Map<String, BiFunction<String, IgnoreVersion, Boolean>> VERSION_MATCHERS;
 
     static {
         VERSION_MATCHERS = new HashMap<>();
@@ -76,22 +76,31 @@ public class IgnoreVersionHelper {
      * @return {@code true} if the provided version is ignored
      */
     public static boolean isVersionIgnored(Version version, IgnoreVersion ignoreVersion) {
+        return isVersionIgnored(version.toString(), ignoreVersion);
+    }
+
+    /**
+     * Check if the provided version string is ignored by the provided {@link IgnoreVersion} instance
+     *
+     * @param version version to be checked
+     * @param ignoreVersion {@link IgnoreVersion} instance providing the filter
+     * @return {@code true} if the provided version is ignored
+     */
+    public static boolean isVersionIgnored(String version, IgnoreVersion ignoreVersion) {
         return VERSION_MATCHERS.get(ignoreVersion.getType()).apply(version, ignoreVersion);
     }
 
-    private static boolean isVersionIgnoredExact(Version version, IgnoreVersion ignoreVersion) {
-        return ignoreVersion.getVersion().equals(version.toString());
+    private static boolean isVersionIgnoredExact(String version, IgnoreVersion ignoreVersion) {
+        return ignoreVersion.getVersion().equals(version);
     }
 
-    private static boolean isVersionIgnoredRegex(Version version, IgnoreVersion ignoreVersion) {
-        return Pattern.compile(ignoreVersion.getVersion())
-                .matcher(version.toString())
-                .matches();
+    private static boolean isVersionIgnoredRegex(String version, IgnoreVersion ignoreVersion) {
+        return Pattern.compile(ignoreVersion.getVersion()).matcher(version).matches();
     }
 
-    private static boolean isVersionIgnoredRange(Version version, IgnoreVersion ignoreVersion) {
+    private static boolean isVersionIgnoredRange(String version, IgnoreVersion ignoreVersion) {
         try {
-            ArtifactVersion aVersion = ArtifactVersionService.getArtifactVersion(version.toString());
+            ArtifactVersion aVersion = ArtifactVersionService.getArtifactVersion(version);
             VersionRange versionRange = VersionRange.createFromVersionSpec(ignoreVersion.getVersion());
             if (versionRange.hasRestrictions()) {
                 return versionRange.containsVersion(aVersion);
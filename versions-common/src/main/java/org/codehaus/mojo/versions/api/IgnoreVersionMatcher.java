@@ -0,0 +1,191 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.codehaus.mojo.versions.model.IgnoreVersion;
+import org.codehaus.mojo.versions.utils.ArtifactVersionService;
+
+/**
+ * Compiled form of a collection of {@link IgnoreVersion} instances, checking whether a version
+ * is ignored by any of them, with the same semantics as
+ * {@link IgnoreVersionHelper#isVersionIgnored(String, IgnoreVersion)}.
+ * <p>
+ * The matcher is meant to be built once per set of rules and then applied to many versions:
+ * exact versions are kept in a hash set, regular expressions are combined into a single alternation
+ * compiled once, and version ranges are parsed once.
+ *
+ * @since 2.20.0
+ */
+public final class IgnoreVersionMatcher {
+    /**
+     * Back references and quotations, which would change their meaning within an alternation
+     */
+    private static final Pattern NOT_COMBINABLE = Pattern.compile("\\\\(?:[1-9]|k<|Q)");
+
+    private final List<IgnoreVersion> ignoreVersions;
+
+    private final Set<String> exactVersions = new HashSet<>();
+
+    /**
+     * Alternation of all regular expressions, {@code null} if there are none
+     */
+    private final Pattern combinedPattern;
+
+    /**
+     * Regular expressions which could not be combined into {@link #combinedPattern}
+     */
+    private final List<Pattern> separatePatterns = new ArrayList<>();
+
+    private final List<VersionRange> ranges = new ArrayList<>();
+
+    private IgnoreVersionMatcher(Collection<IgnoreVersion> ignoreVersions) {
+        this.ignoreVersions = Collections.unmodifiableList(new ArrayList<>(ignoreVersions));
+        List<String> regexes = new ArrayList<>();
+        for (IgnoreVersion ignoreVersion : ignoreVersions) {
+            switch (ignoreVersion.getType()) {
+                case IgnoreVersion.TYPE_EXACT:
+                    exactVersions.add(ignoreVersion.getVersion());
+                    break;
+                case IgnoreVersion.TYPE_REGEX:
+                    if (NOT_COMBINABLE.matcher(ignoreVersion.getVersion()).find()) {
+                        separatePatterns.add(Pattern.compile(ignoreVersion.getVersion()));
+                    } else {
+                        regexes.add(ignoreVersion.getVersion());
+                    }
+                    break;
+                case IgnoreVersion.TYPE_RANGE:
+                    try {
+                        ranges.add(VersionRange.createFromVersionSpec(ignoreVersion.getVersion()));
+                    } catch (InvalidVersionSpecificationException e) {
+                        throw new IgnoreVersionHelper.IgnoreVersionException(e);
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Invalid ignoreVersion type: " + ignoreVersion.getType());
+            }
+        }
+        combinedPattern = combine(regexes);
+    }
+
+    private Pattern combine(List<String> regexes) {
+        if (regexes.isEmpty()) {
+            return null;
+        }
+        if (regexes.size() == 1) {
+            return Pattern.compile(regexes.get(0));
+        }
+        try {
+            return Pattern.compile(regexes.stream().map(r -> "(?:" + r + ")").collect(Collectors.joining("|")));
+        } catch (PatternSyntaxException e) {
+            // e.g. duplicate named groups: fall back to separate patterns, reporting any invalid one
+            regexes.stream().map(Pattern::compile).forEach(separatePatterns::add);
+            return null;
+        }
+    }
+
+    /**
+     * Compiles the given {@link IgnoreVersion} instances, which must all be of a
+     * {@linkplain IgnoreVersionHelper#isValidType(IgnoreVersion) valid type}.
+     *
+     * @param ignoreVersions ignore version rules to compile
+     * @return compiled matcher
+     * @throws RuntimeException if a regular expression or a version range is invalid,
+     * or the type of a rule is not valid
+     */
+    public static IgnoreVersionMatcher of(Collection<IgnoreVersion> ignoreVersions) {
+        return new IgnoreVersionMatcher(ignoreVersions);
+    }
+
+    /**
+     * @return the rules the matcher has been compiled from
+     */
+    public List<IgnoreVersion> getIgnoreVersions() {
+        return ignoreVersions;
+    }
+
+    /**
+     * @return {@code true} if there are no rules, i.e. no version is ignored
+     */
+    public boolean isEmpty() {
+        return ignoreVersions.isEmpty();
+    }
+
+    /**
+     * Checks if the given version is ignored by any of the rules.
+     *
+     * @param version version to check
+     * @return {@code true} if the version is ignored
+     */
+    public boolean isIgnored(String version) {
+        if (exactVersions.contains(version)) {
+            return true;
+        }
+        if (combinedPattern != null && combinedPattern.matcher(version).matches()) {
+            return true;
+        }
+        for (Pattern pattern : separatePatterns) {
+            if (pattern.matcher(version).matches()) {
+                return true;
+            }
+        }
+        if (!ranges.isEmpty()) {
+            ArtifactVersion artifactVersion = ArtifactVersionService.getArtifactVersion(version);
+            for (VersionRange range : ranges) {
+                if (containsVersion(range, artifactVersion)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the first rule ignoring the given version. Slower than {@link #isIgnored(String)},
+     * meant for reporting purposes.
+     *
+     * @param version version to check
+     * @return first rule ignoring the given version, or empty if the version is not ignored
+     */
+    public Optional<IgnoreVersion> findIgnoringRule(String version) {
+        return ignoreVersions.stream()
+                .filter(i -> IgnoreVersionHelper.isVersionIgnored(version, i))
+                .findFirst();
+    }
+
+    private static boolean containsVersion(VersionRange versionRange, ArtifactVersion version) {
+        return versionRange.hasRestrictions()
+                ? versionRange.containsVersion(version)
+                : versionRange.getRecommendedVersion().equals(version);
+    }
+}
@@ -0,0 +1,299 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable batch of version edits to be applied to a single POM document in one streaming pass
+ * by {@link PomHelper#applyEdits(org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader, PomEdits,
+ * org.apache.maven.model.Model, org.apache.maven.plugin.logging.Log)}.
+ * <p>
+ * Each edit has the same semantics as its single-edit counterpart:
+ * {@link PomHelper#setDependencyVersion}, {@link PomHelper#setPluginVersion}
+ * and {@link PomHelper#setPropertyVersion} respectively. Edits are compared by identity, so that
+ * callers can map the edits reported as applied back to their own change descriptions.
+ *
+ * @since 2.20.0
+ */
+public final class PomEdits {
+
+    /**
+     * Kind of the edit
+     */
+    public enum Kind {
+        /**
+         * Changes the version of a dependency
+         */
+        DEPENDENCY,
+        /**
+         * Changes the version of a plugin
+         */
+        PLUGIN,
+        /**
+         * Changes the value of a property
+         */
+        PROPERTY
+    }
+
+    /**
+     * A single edit. Instances are created using {@link #dependency(String, String, String, String)},
+     * {@link #plugin(String, String, String, String)} or {@link #property(String, String, String)}.
+     */
+    public static final class Edit {
+        private final Kind kind;
+
+        private final String groupId;
+
+        private final String artifactId;
+
+        private final String oldVersion;
+
+        private final String profileId;
+
+        private final String property;
+
+        private final String newValue;
+
+        private Edit(
+                Kind kind,
+                String groupId,
+                String artifactId,
+                String oldVersion,
+                String profileId,
+                String property,
+                String newValue) {
+            this.kind = kind;
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.oldVersion = oldVersion;
+            this.profileId = profileId;
+            this.property = property;
+            this.newValue = newValue;
+        }
+
+        /**
+         * @return kind of the edit
+         */
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * @return groupId of the dependency or plugin, {@code null} for property edits
+         */
+        public String getGroupId() {
+            return groupId;
+        }
+
+        /**
+         * @return artifactId of the dependency or plugin, {@code null} for property edits
+         */
+        public String getArtifactId() {
+            return artifactId;
+        }
+
+        /**
+         * @return version or version range which needs to overlap the version found in the document,
+         * {@code null} for property edits
+         */
+        public String getOldVersion() {
+            return oldVersion;
+        }
+
+        /**
+         * @return id of the profile in which the property is to be changed or {@code null}
+         * for the project properties
+         */
+        public String getProfileId() {
+            return profileId;
+        }
+
+        /**
+         * @return name of the property, {@code null} for dependency and plugin edits
+         */
+        public String getProperty() {
+            return property;
+        }
+
+        /**
+         * @return new version or property value
+         */
+        public String getNewValue() {
+            return newValue;
+        }
+
+        @Override
+        public String toString() {
+            return kind == Kind.PROPERTY
+                    ? "property " + (profileId != null ? profileId + ":" : "") + property + " -> " + newValue
+                    : kind.name().toLowerCase() + " " + groupId + ":" + artifactId + ":" + oldVersion + " -> "
+                            + newValue;
+        }
+    }
+
+    private final List<Edit> edits;
+
+    private PomEdits(List<Edit> edits) {
+        this.edits = Collections.unmodifiableList(edits);
+    }
+
+    /**
+     * Creates an edit changing the version of all dependencies with the given coordinates
+     * whose version overlaps with {@code oldVersion}
+     *
+     * @param groupId    groupId of the dependency
+     * @param artifactId artifactId of the dependency
+     * @param oldVersion old version or version range of the dependency
+     * @param newVersion new version of the dependency
+     * @return new edit
+     */
+    public static Edit dependency(String groupId, String artifactId, String oldVersion, String newVersion) {
+        return new Edit(
+                Kind.DEPENDENCY,
+                requireNonNull(groupId),
+                requireNonNull(artifactId),
+                oldVersion,
+                null,
+                null,
+                newVersion);
+    }
+
+    /**
+     * Creates an edit changing the version of all plugins with the given coordinates
+     * whose version overlaps with {@code oldVersion}
+     *
+     * @param groupId    groupId of the plugin, may be {@code null} for {@code org.apache.maven.plugins}
+     * @param artifactId artifactId of the plugin
+     * @param oldVersion old version or version range of the plugin
+     * @param newVersion new version of the plugin
+     * @return new edit
+     */
+    public static Edit plugin(String groupId, String artifactId, String oldVersion, String newVersion) {
+        return new Edit(Kind.PLUGIN, groupId, requireNonNull(artifactId), oldVersion, null, null, newVersion);
+    }
+
+    /**
+     * Creates an edit redefining the given property
+     *
+     * @param profileId id of the profile in which to modify the property, {@code null} for the project properties
+     * @param property  name of the property
+     * @param value     new value of the property
+     * @return new edit
+     */
+    public static Edit property(String profileId, String property, String value) {
+        return new Edit(Kind.PROPERTY, null, null, null, profileId, requireNonNull(property), value);
+    }
+
+    /**
+     * @return edits in the order of their addition
+     */
+    public List<Edit> getEdits() {
+        return edits;
+    }
+
+    /**
+     * @return {@code true} if the batch does not contain any edits
+     */
+    public boolean isEmpty() {
+        return edits.isEmpty();
+    }
+
+    /**
+     * Creates a new {@link Builder} instance
+     *
+     * @return new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link PomEdits}
+     */
+    public static class Builder {
+        private final List<Edit> edits = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * Adds the given edit to the batch
+         *
+         * @param edit edit to add
+         * @return builder instance
+         */
+        public Builder withEdit(Edit edit) {
+            edits.add(requireNonNull(edit));
+            return this;
+        }
+
+        /**
+         * Adds a dependency edit to the batch
+         *
+         * @param groupId    groupId of the dependency
+         * @param artifactId artifactId of the dependency
+         * @param oldVersion old version or version range of the dependency
+         * @param newVersion new version of the dependency
+         * @return builder instance
+         * @see PomEdits#dependency(String, String, String, String)
+         */
+        public Builder withDependencyVersion(String groupId, String artifactId, String oldVersion, String newVersion) {
+            return withEdit(dependency(groupId, artifactId, oldVersion, newVersion));
+        }
+
+        /**
+         * Adds a plugin edit to the batch
+         *
+         * @param groupId    groupId of the plugin
+         * @param artifactId artifactId of the plugin
+         * @param oldVersion old version or version range of the plugin
+         * @param newVersion new version of the plugin
+         * @return builder instance
+         * @see PomEdits#plugin(String, String, String, String)
+         */
+        public Builder withPluginVersion(String groupId, String artifactId, String oldVersion, String newVersion) {
+            return withEdit(plugin(groupId, artifactId, oldVersion, newVersion));
+        }
+
+        /**
+         * Adds a property edit to the batch
+         *
+         * @param profileId id of the profile, {@code null} for the project properties
+         * @param property  name of the property
+         * @param value     new value of the property
+         * @return builder instance
+         * @see PomEdits#property(String, String, String)
+         */
+        public Builder withPropertyValue(String profileId, String property, String value) {
+            return withEdit(property(profileId, property, value));
+        }
+
+        /**
+         * @return new {@link PomEdits} instance
+         */
+        public PomEdits build() {
+            return new PomEdits(new ArrayList<>(edits));
+        }
+    }
+}
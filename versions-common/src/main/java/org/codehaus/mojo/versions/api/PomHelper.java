@@ -40,8 +40,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -49,7 +52,10 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -81,9 +87,11 @@ import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.project.ProjectBuildingResult;
 import org.apache.maven.shared.utils.io.IOUtil;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+import org.codehaus.mojo.versions.rewriting.PomDocumentStore;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
 import org.codehaus.mojo.versions.utils.ModelNode;
 import org.codehaus.mojo.versions.utils.RegexUtils;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
@@ -140,7 +148,11 @@ public class PomHelper {
         PARENT_START,
         END_ELEMENT,
         START,
-        END
+        END,
+        DEPENDENCY_START,
+        DEPENDENCY_END,
+        PLUGIN_START,
+        PLUGIN_END
     }
 
     /**
@@ -224,59 +236,14 @@ public class PomHelper {
      */
     public static boolean setPropertyVersion(
             MutableXMLStreamReader pom, String profileId, String property, String value) throws XMLStreamException {
-        class PropertyVersionInternal {
-            final Pattern propertyRegex = Pattern.compile(
-                    (profileId == null ? "/project/properties/" : "/project/profiles/profile/properties/")
-                            + RegexUtils.quote(property));
-            final Pattern matchScopeRegex = profileId == null
-                    ? Pattern.compile("/project/properties")
-                    : Pattern.compile("/project/profiles/profile");
-            final Pattern profileIdRegex = profileId == null ? null : Pattern.compile("/project/profiles/profile/id");
-
-            boolean setPropertyVersion(String path, boolean inMatchScope) throws XMLStreamException {
-                boolean replaced = false;
-                while (!replaced && pom.hasNext()) {
-                    pom.next();
-                    if (pom.isStartElement()) {
-                        String elementPath = path + "/" + pom.getLocalName();
-                        if (propertyRegex.matcher(elementPath).matches()) {
-                            pom.mark(START);
-                        } else if (matchScopeRegex.matcher(elementPath).matches()) {
-                            // we're in a new match scope -> reset any previous partial matches
-                            inMatchScope = profileId == null;
-                            pom.clearMark(START);
-                            pom.clearMark(END);
-                        } else if (profileId != null
-                                && profileIdRegex.matcher(elementPath).matches()) {
-                            inMatchScope =
-                                    profileId.trim().equals(pom.getElementText().trim());
-                        }
-
-                        // getElementText could've pushed the pointer to END_ELEMENT
-                        if (!pom.isEndElement()) {
-                            // inMatchScope will not change in the child element
-                            replaced = setPropertyVersion(elementPath, inMatchScope);
-                        }
-                    } else if (pom.isEndElement()) {
-                        if (propertyRegex.matcher(path).matches()) {
-                            pom.mark(END);
-                        } else if (matchScopeRegex.matcher(path).matches()) {
-                            if (inMatchScope && pom.hasMark(START) && pom.hasMark(END)) {
-                                pom.replaceBetween(START, END, value);
-                                replaced = true;
-                            }
-                            pom.clearMark(START);
-                            pom.clearMark(END);
-                        }
-                        return replaced;
-                    }
-                }
-                return replaced;
-            }
-        }
-
-        pom.rewind();
-        return new PropertyVersionInternal().setPropertyVersion("", false);
+        return !applyEdits(
+                        pom,
+                        PomEdits.builder()
+                                .withPropertyValue(profileId, property, value)
+                                .build(),
+                        null,
+                        null)
+                .isEmpty();
     }
 
     /**
@@ -469,7 +436,6 @@ public class PomHelper {
      * @return <code>true</code> if a replacement was made.
      * @throws XMLStreamException if something went wrong.
      */
-    @SuppressWarnings("checkstyle:MethodLength")
     public static boolean setDependencyVersion(
             final MutableXMLStreamReader pom,
             final String groupId,
@@ -479,80 +445,269 @@ public class PomHelper {
             final Model model,
             final Log logger)
             throws XMLStreamException {
-        Map<String, String> implicitProperties = getImplicitProperties(pom, model);
+        return !applyEdits(
+                        pom,
+                        PomEdits.builder()
+                                .withDependencyVersion(groupId, artifactId, oldVersion, newVersion)
+                                .build(),
+                        model,
+                        logger)
+                .isEmpty();
+    }
 
-        String path = "";
-        boolean inMatchScope = false;
-        boolean madeReplacement = false;
-        boolean haveGroupId = false;
-        boolean haveArtifactId = false;
-        boolean haveOldVersion = false;
+    /**
+     * Applies all the given edits to the pom in a single streaming pass. Contrary to applying the edits one by one,
+     * the document is only traversed once for all the edits, and the implicit properties needed to evaluate
+     * dependency coordinates are collected only once for the whole batch.
+     * <p>
+     * Dependency and plugin edits are applied to every matching element; should more edits match the same element,
+     * the edit added first wins. Property edits are applied in the first matching scope; should the batch
+     * contain more edits of the same property within the same scope, the edit added last wins.
+     *
+     * @param pom    The pom to modify.
+     * @param edits  The edits to apply.
+     * @param model  The model to get the project properties from; only required if the batch contains
+     *               dependency edits.
+     * @param logger The logger to use.
+     * @return set of the edits which have caused at least one replacement
+     * @throws XMLStreamException if something went wrong.
+     * @since 2.20.0
+     */
+    public static Set<PomEdits.Edit> applyEdits(
+            final MutableXMLStreamReader pom, final PomEdits edits, final Model model, final Log logger)
+            throws XMLStreamException {
+        return new PomEditor(edits).apply(pom, model, logger);
+    }
 
-        pom.rewind();
-        for (Deque<String> stack = new ArrayDeque<>(); pom.hasNext(); ) {
-            pom.next();
-            if (pom.isStartElement()) {
-                stack.push(path);
-                path = path + "/" + pom.getLocalName();
-                if (PATTERN_PROJECT_DEPENDENCY.matcher(path).matches()) {
-                    // we're in a new match scope
-                    // reset any previous partial matches
-                    inMatchScope = true;
-                    pom.clearMark(START);
-                    pom.clearMark(END);
+    /**
+     * Streaming implementation of {@link #applyEdits(MutableXMLStreamReader, PomEdits, Model, Log)}.
+     * Edits are indexed by their coordinates or property names so that each element is matched
+     * against the relevant edits only.
+     */
+    private static final class PomEditor {
+        private static final String PROJECT_PROPERTIES = "/project/properties";
 
-                    haveGroupId = false;
-                    haveArtifactId = false;
-                    haveOldVersion = false;
-                } else if (inMatchScope
-                        && PATTERN_PROJECT_DEPENDENCY_VERSION.matcher(path).matches()) {
-                    if ("groupId".equals(pom.getLocalName())) {
-                        haveGroupId =
-                                groupId.equals(evaluate(pom.getElementText().trim(), implicitProperties, logger));
-                    } else if ("artifactId".equals(pom.getLocalName())) {
-                        haveArtifactId =
-                                artifactId.equals(evaluate(pom.getElementText().trim(), implicitProperties, logger));
-                    } else if ("version".equals(pom.getLocalName())) {
-                        pom.mark(START);
-                    }
+        private static final String PROFILE = "/project/profiles/profile";
+
+        private static final String PROFILE_ID = PROFILE + "/id";
+
+        private static final String PROFILE_PROPERTIES = PROFILE + "/properties";
+
+        private final Map<String, List<PomEdits.Edit>> dependencyEdits = new HashMap<>();
+
+        private final Map<String, List<PomEdits.Edit>> pluginEdits = new HashMap<>();
+
+        private final Map<String, PomEdits.Edit> projectPropertyEdits = new LinkedHashMap<>();
+
+        private final Map<String, Map<String, PomEdits.Edit>> profilePropertyEdits = new HashMap<>();
+
+        private final Set<String> profileProperties = new HashSet<>();
+
+        private final Set<PomEdits.Edit> applied = new LinkedHashSet<>();
+
+        PomEditor(PomEdits edits) {
+            for (PomEdits.Edit edit : edits.getEdits()) {
+                switch (edit.getKind()) {
+                    case DEPENDENCY:
+                        dependencyEdits
+                                .computeIfAbsent(edit.getGroupId() + ":" + edit.getArtifactId(), k -> new ArrayList<>())
+                                .add(edit);
+                        break;
+                    case PLUGIN:
+                        pluginEdits
+                                .computeIfAbsent(edit.getArtifactId(), k -> new ArrayList<>())
+                                .add(edit);
+                        break;
+                    default:
+                        if (edit.getProfileId() == null) {
+                            projectPropertyEdits.put(edit.getProperty(), edit);
+                        } else {
+                            profilePropertyEdits
+                                    .computeIfAbsent(edit.getProfileId().trim(), k -> new LinkedHashMap<>())
+                                    .put(edit.getProperty(), edit);
+                            profileProperties.add(edit.getProperty());
+                        }
                 }
             }
-            // for empty elements, pom can be both start- and end element
-            if (pom.isEndElement()) {
-                if (PATTERN_PROJECT_DEPENDENCY_VERSION.matcher(path).matches()
-                        && "version".equals(pom.getLocalName())) {
-                    pom.mark(END);
-                    String compressedPomVersion = StringUtils.deleteWhitespace(
-                            pom.getBetween(START, END).trim());
-                    String compressedOldVersion = StringUtils.deleteWhitespace(oldVersion);
+        }
 
-                    try {
-                        haveOldVersion = isVersionOverlap(compressedOldVersion, compressedPomVersion);
-                    } catch (InvalidVersionSpecificationException e) {
-                        // fall back to string comparison
-                        haveOldVersion = compressedOldVersion.equals(compressedPomVersion);
+        @SuppressWarnings("checkstyle:MethodLength")
+        Set<PomEdits.Edit> apply(MutableXMLStreamReader pom, Model model, Log logger) throws XMLStreamException {
+            Map<String, String> implicitProperties =
+                    dependencyEdits.isEmpty() ? Collections.emptyMap() : getImplicitProperties(pom, model);
+
+            String path = "";
+            boolean inDependency = false;
+            String dependencyKeyGroupId = null;
+            String dependencyKeyArtifactId = null;
+            boolean inPlugin = false;
+            String pluginGroupId = null;
+            String pluginArtifactId = null;
+            String profileId = null;
+
+            pom.rewind();
+            for (Deque<String> stack = new ArrayDeque<>(); pom.hasNext(); ) {
+                pom.next();
+                if (pom.isStartElement()) {
+                    String parentPath = path;
+                    stack.push(path);
+                    final String elementName = pom.getLocalName();
+                    path = path + "/" + elementName;
+
+                    if (PATTERN_PROJECT_DEPENDENCY.matcher(path).matches()) {
+                        // we're in a new match scope
+                        // reset any previous partial matches
+                        inDependency = true;
+                        dependencyKeyGroupId = null;
+                        dependencyKeyArtifactId = null;
+                        pom.clearMark(Marks.DEPENDENCY_START);
+                        pom.clearMark(Marks.DEPENDENCY_END);
+                    } else if (inDependency
+                            && PATTERN_PROJECT_DEPENDENCY_VERSION.matcher(path).matches()) {
+                        if ("groupId".equals(elementName)) {
+                            dependencyKeyGroupId = evaluate(pom.getElementText().trim(), implicitProperties, logger);
+                        } else if ("artifactId".equals(elementName)) {
+                            dependencyKeyArtifactId =
+                                    evaluate(pom.getElementText().trim(), implicitProperties, logger);
+                        } else if ("version".equals(elementName)) {
+                            pom.mark(Marks.DEPENDENCY_START);
+                        }
+                    } else if (PATTERN_PROJECT_PLUGIN.matcher(path).matches()) {
+                        inPlugin = true;
+                        pluginGroupId = null;
+                        pluginArtifactId = null;
+                        pom.clearMark(Marks.PLUGIN_START);
+                        pom.clearMark(Marks.PLUGIN_END);
+                    } else if (inPlugin
+                            && PATTERN_PROJECT_PLUGIN_VERSION.matcher(path).matches()) {
+                        if ("groupId".equals(elementName)) {
+                            pluginGroupId = pom.getElementText().trim();
+                        } else if ("artifactId".equals(elementName)) {
+                            pluginArtifactId = pom.getElementText().trim();
+                        } else if ("version".equals(elementName)) {
+                            pom.mark(Marks.PLUGIN_START);
+                        }
+                    } else if (PROJECT_PROPERTIES.equals(parentPath) && projectPropertyEdits.containsKey(elementName)) {
+                        pom.mark(Pair.of(projectPropertyEdits.get(elementName), Marks.START));
+                    } else if (PROFILE.equals(path)) {
+                        profileId = null;
+                        clearProfilePropertyMarks(pom);
+                    } else if (PROFILE_ID.equals(path)) {
+                        profileId = pom.getElementText().trim();
+                    } else if (PROFILE_PROPERTIES.equals(parentPath) && profileProperties.contains(elementName)) {
+                        pom.mark(Pair.of(elementName, Marks.START));
                     }
-                } else if (PATTERN_PROJECT_DEPENDENCY.matcher(path).matches()) {
-                    if (inMatchScope
-                            && pom.hasMark(START)
-                            && pom.hasMark(END)
-                            && haveGroupId
-                            && haveArtifactId
-                            && haveOldVersion) {
-                        pom.replaceBetween(START, END, newVersion);
-                        madeReplacement = true;
+                }
+                // for empty elements, pom can be both start- and end element
+                if (pom.isEndElement()) {
+                    final String elementName = pom.getLocalName();
+                    final String parentPath = stack.peek();
+                    if (inDependency
+                            && PATTERN_PROJECT_DEPENDENCY_VERSION.matcher(path).matches()
+                            && "version".equals(elementName)) {
+                        pom.mark(Marks.DEPENDENCY_END);
+                    } else if (PATTERN_PROJECT_DEPENDENCY.matcher(path).matches()) {
+                        if (inDependency && pom.hasMark(Marks.DEPENDENCY_START) && pom.hasMark(Marks.DEPENDENCY_END)) {
+                            applyDependencyEdit(
+                                    pom, dependencyEdits.get(dependencyKeyGroupId + ":" + dependencyKeyArtifactId));
+                        }
+                        pom.clearMark(Marks.DEPENDENCY_START);
+                        pom.clearMark(Marks.DEPENDENCY_END);
+                        inDependency = false;
+                    } else if (inPlugin
+                            && PATTERN_PROJECT_PLUGIN_VERSION.matcher(path).matches()
+                            && "version".equals(elementName)) {
+                        pom.mark(Marks.PLUGIN_END);
+                    } else if (PATTERN_PROJECT_PLUGIN.matcher(path).matches()) {
+                        if (inPlugin && pom.hasMark(Marks.PLUGIN_START) && pom.hasMark(Marks.PLUGIN_END)) {
+                            applyPluginEdit(pom, pluginGroupId, pluginEdits.get(pluginArtifactId));
+                        }
+                        pom.clearMark(Marks.PLUGIN_START);
+                        pom.clearMark(Marks.PLUGIN_END);
+                        inPlugin = false;
+                    } else if (PROJECT_PROPERTIES.equals(parentPath) && projectPropertyEdits.containsKey(elementName)) {
+                        pom.mark(Pair.of(projectPropertyEdits.get(elementName), Marks.END));
+                    } else if (PROJECT_PROPERTIES.equals(path)) {
+                        for (PomEdits.Edit edit : projectPropertyEdits.values()) {
+                            applyPropertyEdit(pom, edit, edit);
+                        }
+                    } else if (PROFILE_PROPERTIES.equals(parentPath) && profileProperties.contains(elementName)) {
+                        pom.mark(Pair.of(elementName, Marks.END));
+                    } else if (PROFILE.equals(path)) {
+                        if (profileId != null) {
+                            for (PomEdits.Edit edit : profilePropertyEdits
+                                    .getOrDefault(profileId, Collections.emptyMap())
+                                    .values()) {
+                                applyPropertyEdit(pom, edit, edit.getProperty());
+                            }
+                        }
+                        clearProfilePropertyMarks(pom);
                     }
-                    pom.clearMark(START);
-                    pom.clearMark(END);
-                    haveArtifactId = false;
-                    haveGroupId = false;
-                    haveOldVersion = false;
-                    inMatchScope = false;
+                    path = stack.pop();
                 }
-                path = stack.pop();
+            }
+            return applied;
+        }
+
+        private void applyDependencyEdit(MutableXMLStreamReader pom, List<PomEdits.Edit> candidates) {
+            if (candidates == null) {
+                return;
+            }
+            String pomVersion = StringUtils.deleteWhitespace(
+                    pom.getBetween(Marks.DEPENDENCY_START, Marks.DEPENDENCY_END).trim());
+            candidates.stream()
+                    .filter(edit -> isOldVersion(StringUtils.deleteWhitespace(edit.getOldVersion()), pomVersion))
+                    .findFirst()
+                    .ifPresent(edit -> {
+                        pom.replaceBetween(Marks.DEPENDENCY_START, Marks.DEPENDENCY_END, edit.getNewValue());
+                        applied.add(edit);
+                    });
+        }
+
+        private void applyPluginEdit(MutableXMLStreamReader pom, String groupId, List<PomEdits.Edit> candidates) {
+            if (candidates == null) {
+                return;
+            }
+            String pomVersion =
+                    pom.getBetween(Marks.PLUGIN_START, Marks.PLUGIN_END).trim();
+            candidates.stream()
+                    .filter(edit -> edit.getGroupId() == null
+                            || APACHE_MAVEN_PLUGINS_GROUPID.equals(edit.getGroupId())
+                            || edit.getGroupId().equals(groupId))
+                    .filter(edit -> isOldVersion(edit.getOldVersion(), pomVersion))
+                    .findFirst()
+                    .ifPresent(edit -> {
+                        pom.replaceBetween(Marks.PLUGIN_START, Marks.PLUGIN_END, edit.getNewValue());
+                        applied.add(edit);
+                    });
+        }
+
+        private void applyPropertyEdit(MutableXMLStreamReader pom, PomEdits.Edit edit, Object markKey) {
+            Pair<Object, Marks> start = Pair.of(markKey, Marks.START);
+            Pair<Object, Marks> end = Pair.of(markKey, Marks.END);
+            if (!applied.contains(edit) && pom.hasMark(start) && pom.hasMark(end)) {
+                pom.replaceBetween(start, end, edit.getNewValue());
+                applied.add(edit);
+            }
+            pom.clearMark(start);
+            pom.clearMark(end);
+        }
+
+        private void clearProfilePropertyMarks(MutableXMLStreamReader pom) {
+            for (String property : profileProperties) {
+                pom.clearMark(Pair.of(property, Marks.START));
+                pom.clearMark(Pair.of(property, Marks.END));
+            }
+        }
+
+        private static boolean isOldVersion(String oldVersion, String pomVersion) {
+            try {
+                return isVersionOverlap(oldVersion, pomVersion);
+            } catch (InvalidVersionSpecificationException e) {
+                // fall back to string comparison
+                return oldVersion.equals(pomVersion);
             }
         }
-        return madeReplacement;
     }
 
     static Map<String, String> getImplicitProperties(MutableXMLStreamReader pom, Model model)
@@ -703,78 +858,14 @@ public class PomHelper {
             final String oldVersion,
             final String newVersion)
             throws XMLStreamException {
-        Deque<String> stack = new ArrayDeque<>();
-        String path = "";
-        boolean inMatchScope = false;
-        boolean madeReplacement = false;
-        boolean haveGroupId = false;
-        boolean needGroupId = groupId != null && !APACHE_MAVEN_PLUGINS_GROUPID.equals(groupId);
-        boolean haveArtifactId = false;
-        boolean haveOldVersion = false;
-
-        pom.rewind();
-        while (pom.hasNext()) {
-            pom.next();
-            if (pom.isStartElement()) {
-                stack.push(path);
-                final String elementName = pom.getLocalName();
-                path = path + "/" + elementName;
-
-                if (PATTERN_PROJECT_PLUGIN.matcher(path).matches()) {
-                    // we're in a new match scope
-                    // reset any previous partial matches
-                    inMatchScope = true;
-                    pom.clearMark(START);
-                    pom.clearMark(END);
-
-                    haveGroupId = false;
-                    haveArtifactId = false;
-                    haveOldVersion = false;
-                } else if (inMatchScope
-                        && PATTERN_PROJECT_PLUGIN_VERSION.matcher(path).matches()) {
-                    if ("groupId".equals(elementName)) {
-                        haveGroupId = pom.getElementText().trim().equals(groupId);
-                    } else if ("artifactId".equals(elementName)) {
-                        haveArtifactId = artifactId.equals(pom.getElementText().trim());
-                    } else if ("version".equals(elementName)) {
-                        pom.mark(START);
-                    }
-                }
-            }
-            // for empty elements, pom can be both start- and end element
-            if (pom.isEndElement()) {
-                if (PATTERN_PROJECT_PLUGIN_VERSION.matcher(path).matches() && "version".equals(pom.getLocalName())) {
-                    pom.mark(END);
-
-                    try {
-                        haveOldVersion = isVersionOverlap(
-                                oldVersion, pom.getBetween(START, END).trim());
-                    } catch (InvalidVersionSpecificationException e) {
-                        // fall back to string comparison
-                        haveOldVersion =
-                                oldVersion.equals(pom.getBetween(START, END).trim());
-                    }
-                } else if (PATTERN_PROJECT_PLUGIN.matcher(path).matches()) {
-                    if (inMatchScope
-                            && pom.hasMark(START)
-                            && pom.hasMark(END)
-                            && (haveGroupId || !needGroupId)
-                            && haveArtifactId
-                            && haveOldVersion) {
-                        pom.replaceBetween(START, END, newVersion);
-                        madeReplacement = true;
-                        pom.clearMark(START);
-                        pom.clearMark(END);
-                        haveArtifactId = false;
-                        haveGroupId = false;
-                        haveOldVersion = false;
-                    }
-                    inMatchScope = false;
-                }
-                path = stack.pop();
-            }
-        }
-        return madeReplacement;
+        return !applyEdits(
+                        pom,
+                        PomEdits.builder()
+                                .withPluginVersion(groupId, artifactId, oldVersion, newVersion)
+                                .build(),
+                        null,
+                        null)
+                .isEmpty();
     }
 
     /**
@@ -932,10 +1023,11 @@ public class PomHelper {
             String version = plugin.getVersion();
             if (version != null && version.contains("${") && version.indexOf('}') != -1) {
                 version = StringUtils.deleteWhitespace(version);
-                for (PropertyVersionsBuilder property : result.values()) {
+                for (String propertyName : getPropertyReferences(version)) {
                     // any of these could be defined by a property
-                    final String propertyRef = "${" + property.getName() + "}";
-                    if (version.contains(propertyRef)) {
+                    PropertyVersionsBuilder property = result.get(propertyName);
+                    if (property != null) {
+                        final String propertyRef = "${" + propertyName + "}";
                         String groupId = plugin.getGroupId();
                         if (StringUtils.isBlank(groupId)) {
                             // groupId has a special default
@@ -974,9 +1066,10 @@ public class PomHelper {
             String version = plugin.getVersion();
             if (version != null && version.contains("${") && version.indexOf('}') != -1) {
                 version = StringUtils.deleteWhitespace(version);
-                for (PropertyVersionsBuilder property : result.values()) {
-                    final String propertyRef = "${" + property.getName() + "}";
-                    if (version.contains(propertyRef)) {
+                for (String propertyName : getPropertyReferences(version)) {
+                    PropertyVersionsBuilder property = result.get(propertyName);
+                    if (property != null) {
+                        final String propertyRef = "${" + propertyName + "}";
                         // any of these could be defined by a property
                         String groupId = plugin.getGroupId();
                         if (StringUtils.isBlank(groupId)) {
@@ -1015,9 +1108,10 @@ public class PomHelper {
             String version = dependency.getVersion();
             if (version != null && version.contains("${") && version.indexOf('}') != -1) {
                 version = StringUtils.deleteWhitespace(version);
-                for (PropertyVersionsBuilder property : result.values()) {
-                    final String propertyRef = "${" + property.getName() + "}";
-                    if (version.contains(propertyRef)) {
+                for (String propertyName : getPropertyReferences(version)) {
+                    PropertyVersionsBuilder property = result.get(propertyName);
+                    if (property != null) {
+                        final String propertyRef = "${" + propertyName + "}";
                         // Any of these could be defined by a property
                         String groupId = dependency.getGroupId();
                         if (StringUtils.isBlank(groupId)) {
@@ -1054,6 +1148,30 @@ public class PomHelper {
         }
     }
 
+    /**
+     * Returns the names of the properties referenced by the given version, i.e. {@code name} for every
+     * {@code ${name}} occurring in it, in natural order, so that the properties can be looked up directly
+     * instead of searching the version for every known property.
+     *
+     * @param version version, possibly containing property references
+     * @return names of the referenced properties
+     */
+    static Set<String> getPropertyReferences(String version) {
+        Set<String> result = new TreeSet<>();
+        for (int start = version.indexOf("${"); start != -1; start = version.indexOf("${", start + 2)) {
+            int end = version.indexOf('}', start + 2);
+            if (end == -1) {
+                break;
+            }
+            String name = version.substring(start + 2, end);
+            // for nested references, only the innermost is a property reference
+            if (!name.contains("${")) {
+                result.add(name);
+            }
+        }
+        return result;
+    }
+
     private static void addBounds(PropertyVersionsBuilder builder, String rawVersionRange, String propertyRef) {
         Pattern lowerBound = Pattern.compile("([(\\[])([^,]*)," + RegexUtils.quote(propertyRef) + "([)\\]])");
         Pattern upperBound = Pattern.compile("([(\\[])" + RegexUtils.quote(propertyRef) + ",([^,]*)([)\\]])");
@@ -1258,27 +1376,62 @@ public class PomHelper {
      * @return the root node of the {@link ModelNode} of raw models relative to the project's basedir.
      */
     public static List<ModelNode> getRawModelTree(ModelNode rootNode, Log logger) throws UncheckedIOException {
-        Path baseDir = rootNode.getModel().getPomFile().getParentFile().toPath();
+        return getRawModelTree(rootNode, logger, null, null);
+    }
+
+    /**
+     * Builds a {@link ModelNode} tree of raw models keyed by module path and returns a list of all nodes,
+     * ordered depth-first visiting order. The root node is always the first node of the list.
+     * <p>
+     * The tree is loaded level by level, the module POMs of each level being read and parsed concurrently
+     * on the given executor. The result is the same as the one of {@link #getRawModelTree(ModelNode, Log)}.
+     *
+     * @param rootNode  The root node of the reactor
+     * @param logger    logger to log parsing errors to
+     * @param executor  executor to parse the module POMs on, or {@code null} to parse them sequentially
+     * @param documents store to read the module POMs from, or {@code null} to read them from disk
+     * @return the root node of the {@link ModelNode} of raw models relative to the project's basedir.
+     * @since 2.20.0
+     */
+    public static List<ModelNode> getRawModelTree(
+            ModelNode rootNode, Log logger, SharedExecutor executor, PomDocumentStore documents)
+            throws UncheckedIOException {
+        Map<ModelNode, List<ModelNode>> tree = loadModuleTree(
+                rootNode,
+                node -> {
+                    Path baseDir = node.getModel().getPomFile().getParentFile().toPath();
+                    return getAllChildModules(node.getModel(), logger).stream()
+                            .map(baseDir::resolve)
+                            .map(path -> Files.isDirectory(path) ? path.resolve("pom.xml") : path)
+                            .map(pomFile -> (Supplier<ModelNode>) () -> {
+                                try {
+                                    if (documents != null) {
+                                        return new ModelNode(
+                                                node,
+                                                documents.getRawModel(pomFile.toFile()),
+                                                documents.newReader(pomFile));
+                                    }
+                                    MutableXMLStreamReader pom = new MutableXMLStreamReader(pomFile);
+                                    return new ModelNode(node, getRawModel(pom.getSource(), pomFile.toFile()), pom);
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException("Could not open " + pomFile, e);
+                                } catch (XMLStreamException e) {
+                                    throw new RuntimeException("Could not parse " + pomFile, e);
+                                }
+                            })
+                            .collect(Collectors.toList());
+                },
+                executor);
         List<ModelNode> result = new ArrayList<>();
-        result.add(rootNode);
-        result.addAll(getAllChildModules(rootNode.getModel(), logger).stream()
-                .map(baseDir::resolve)
-                .map(path -> Files.isDirectory(path) ? path.resolve("pom.xml") : path)
-                .map(pomFile -> {
-                    try {
-                        MutableXMLStreamReader pom = new MutableXMLStreamReader(pomFile);
-                        return new ModelNode(rootNode, getRawModel(pom.getSource(), pomFile.toFile()), pom);
-                    } catch (IOException e) {
-                        throw new UncheckedIOException("Could not open " + pomFile, e);
-                    } catch (XMLStreamException e) {
-                        throw new RuntimeException("Could not parse " + pomFile, e);
-                    }
-                })
-                .flatMap(node -> getRawModelTree(node, logger).stream())
-                .collect(Collectors.toList()));
+        addDepthFirst(rootNode, tree, result);
         return result;
     }
 
+    private static void addDepthFirst(ModelNode node, Map<ModelNode, List<ModelNode>> tree, List<ModelNode> result) {
+        result.add(node);
+        tree.get(node).forEach(module -> addDepthFirst(module, tree, result));
+    }
+
     /**
      * Traverses the module tree upwards searching for the closest definition of a property with the given name.
      *
@@ -1305,44 +1458,107 @@ public class PomHelper {
      * @throws IOException if things go wrong.
      */
     public static Map<File, Model> getChildModels(MavenProject project, Log logger) throws IOException {
-        Map<File, Model> result = new LinkedHashMap<>();
-        final Model model = getRawModel(project);
-        result.put(project.getFile(), model);
-        result.putAll(getChildModels(model, logger));
-        return result;
+        return getChildModels(project, logger, null, null);
     }
 
     /**
-     * Builds a sub-map of raw models keyed by module path.
+     * Builds a map of raw models keyed by module path.
+     * <p>
+     * The module tree is loaded level by level, the module POMs of each level being read and parsed
+     * concurrently on the given executor. The result is the same as the one of
+     * {@link #getChildModels(MavenProject, Log)}.
      *
-     * @param model  The root model
-     * @param logger The logger for logging.
+     * @param project   The project to build from.
+     * @param logger    The logger for logging.
+     * @param executor  executor to parse the module POMs on, or {@code null} to parse them sequentially
+     * @param documents store to read the POMs from, or {@code null} to read them from disk
      * @return A map of raw models keyed by path relative to the project's basedir.
+     * @throws IOException if things go wrong.
+     * @since 2.20.0
      */
-    private static Map<File, Model> getChildModels(Model model, Log logger) {
+    public static Map<File, Model> getChildModels(
+            MavenProject project, Log logger, SharedExecutor executor, PomDocumentStore documents) throws IOException {
         Map<File, Model> result = new LinkedHashMap<>();
-        Map<File, Model> childResults = new LinkedHashMap<>();
+        final Model model = documents != null ? documents.getRawModel(project.getFile()) : getRawModel(project);
+        result.put(project.getFile(), model);
+        Map<Model, List<Model>> tree = loadModuleTree(
+                model,
+                parent -> {
+                    File baseDir = parent.getPomFile().getParentFile();
+                    return getAllChildModules(parent, logger).stream()
+                            .map(moduleName -> new File(baseDir, moduleName))
+                            .map(file -> file.isFile() ? file : new File(file, "pom.xml"))
+                            .filter(File::exists)
+                            .map(pomFile -> (Supplier<Model>) () -> {
+                                try {
+                                    // the aim of this goal is to fix problems when the project cannot be parsed
+                                    // by Maven, so we have to work with the raw model and not the interpolated
+                                    // parsed model from maven
+                                    return documents != null ? documents.getRawModel(pomFile) : getRawModel(pomFile);
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            })
+                            .collect(Collectors.toList());
+                },
+                executor);
+        addChildModels(model, tree, result);
+        return result;
+    }
 
-        File baseDir = model.getPomFile().getParentFile();
+    private static void addChildModels(Model model, Map<Model, List<Model>> tree, Map<File, Model> result) {
+        List<Model> modules = tree.get(model);
+        modules.forEach(module -> result.put(module.getPomFile(), module));
+        // more efficient update order if all children are added after siblings
+        modules.forEach(module -> addChildModels(module, tree, result));
+    }
 
-        getAllChildModules(model, logger).stream()
-                .map(moduleName -> new File(baseDir, moduleName))
-                .map(file -> file.isFile() ? file : new File(file, "pom.xml"))
-                .filter(File::exists)
-                .forEach(pomFile -> {
-                    try {
-                        // the aim of this goal is to fix problems when the project cannot be parsed by Maven,
-                        // so we have to work with the raw model and not the interpolated parsed model from maven
-                        Model moduleModel = getRawModel(pomFile);
-                        result.put(pomFile, moduleModel);
-                        childResults.putAll(getChildModels(moduleModel, logger));
-                    } catch (IOException e) {
-                        throw new UncheckedIOException(e);
-                    }
-                });
+    /**
+     * Loads the module tree below the given root level by level: the modules of all nodes of a level
+     * are loaded, concurrently if an executor is provided, before the next level is processed.
+     *
+     * @param root          root node of the tree
+     * @param moduleLoaders provides the loaders of the modules of a node, in declaration order
+     * @param executor      executor to run the loaders on, or {@code null} to run them sequentially
+     * @param <T>           type of the nodes
+     * @return map of each node of the tree to its modules, in declaration order
+     */
+    private static <T> Map<T, List<T>> loadModuleTree(
+            T root, Function<T, List<Supplier<T>>> moduleLoaders, SharedExecutor executor) {
+        Map<T, List<T>> tree = new IdentityHashMap<>();
+        List<T> level = Collections.singletonList(root);
+        while (!level.isEmpty()) {
+            List<List<CompletableFuture<T>>> loading = new ArrayList<>(level.size());
+            for (T node : level) {
+                loading.add(moduleLoaders.apply(node).stream()
+                        .map(loader -> executor != null
+                                ? executor.submit(loader::get)
+                                : CompletableFuture.completedFuture(loader.get()))
+                        .collect(Collectors.toList()));
+            }
+            List<T> nextLevel = new ArrayList<>();
+            for (int i = 0; i < level.size(); i++) {
+                List<T> modules = loading.get(i).stream().map(PomHelper::join).collect(Collectors.toList());
+                tree.put(level.get(i), modules);
+                nextLevel.addAll(modules);
+            }
+            level = nextLevel;
+        }
+        return tree;
+    }
 
-        result.putAll(childResults); // more efficient update order if all children are added after siblings
-        return result;
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
     }
 
     /**
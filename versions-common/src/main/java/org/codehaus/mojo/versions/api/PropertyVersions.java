@@ -28,7 +28,6 @@ import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import org.apache.maven.artifact.Artifact;
-import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
 import org.apache.maven.artifact.versioning.OverConstrainedVersionException;
@@ -60,7 +59,7 @@ public class PropertyVersions extends AbstractVersionDetails {
      *
      * @since 1.0-beta-1
      */
-    private final SortedSet<ArtifactVersion> resolvedVersions;
+    private final VersionIndex resolvedVersions;
 
     private final Log log;
 
@@ -74,7 +73,7 @@ public class PropertyVersions extends AbstractVersionDetails {
         this.name = name;
         this.log = log;
         this.associations = new TreeSet<>(associations);
-        this.resolvedVersions = resolvedVersions;
+        this.resolvedVersions = VersionIndex.of(resolvedVersions);
     }
 
     /**
@@ -140,9 +139,12 @@ public class PropertyVersions extends AbstractVersionDetails {
      * @return The (possibly empty) array of versions.
      */
     public ArtifactVersion[] getVersions(boolean includeSnapshots) {
-        return resolvedVersions.stream()
-                .filter(v -> includeSnapshots || !ArtifactUtils.isSnapshot(v.toString()))
-                .toArray(ArtifactVersion[]::new);
+        return resolvedVersions.toArray(includeSnapshots);
+    }
+
+    @Override
+    VersionIndex getVersionIndex() {
+        return resolvedVersions;
     }
 
     /**
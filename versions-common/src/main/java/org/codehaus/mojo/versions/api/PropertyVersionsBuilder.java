@@ -20,6 +20,7 @@ package org.codehaus.mojo.versions.api;
  */
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -118,7 +119,21 @@ public class PropertyVersionsBuilder {
      * with the property
      */
     public PropertyVersions build() throws VersionRetrievalException {
-        SortedSet<ArtifactVersion> resolvedVersions = resolveAssociatedVersions(helper, associations);
+        return build(Collections.emptyMap());
+    }
+
+    /**
+     * Creates a new instance of {@link PropertyVersions}, based on the values provided to the builder,
+     * using the versions of the associated artifacts which have already been looked up.
+     * @param associatedVersions versions of associated artifacts already looked up; the versions of artifacts
+     *                           missing from the map are looked up by the builder
+     * @return new {@link PropertyVersions} instance
+     * @throws VersionRetrievalException thrown if there are problems retrieving versions of artifacts linked
+     * with the property
+     */
+    PropertyVersions build(Map<ArtifactAssociation, ArtifactVersions> associatedVersions)
+            throws VersionRetrievalException {
+        SortedSet<ArtifactVersion> resolvedVersions = resolveAssociatedVersions(associatedVersions);
         PropertyVersions instance = new PropertyVersions(profileId, name, log, associations, resolvedVersions);
         instance.setCurrentVersion(currentVersion);
         instance.setCurrentVersionRange(currentVersionRange);
@@ -202,16 +217,19 @@ public class PropertyVersionsBuilder {
     }
 
     private SortedSet<ArtifactVersion> resolveAssociatedVersions(
-            VersionsHelper helper, Set<ArtifactAssociation> associations) throws VersionRetrievalException {
+            Map<ArtifactAssociation, ArtifactVersions> associatedVersions) throws VersionRetrievalException {
         SortedSet<ArtifactVersion> result = new TreeSet<>();
         for (ArtifactAssociation association : associations) {
-            ArtifactVersions artifactVersions =
-                    helper.lookupArtifactVersions(association.getArtifact(), association.isUsePluginRepositories());
-            List<ArtifactVersion> associatedVersions = Arrays.asList(artifactVersions.getVersions(true));
+            ArtifactVersions artifactVersions = associatedVersions.get(association);
+            if (artifactVersions == null) {
+                artifactVersions =
+                        helper.lookupArtifactVersions(association.getArtifact(), association.isUsePluginRepositories());
+            }
+            List<ArtifactVersion> versions = Arrays.asList(artifactVersions.getVersions(true));
             if (result.isEmpty()) {
-                result.addAll(associatedVersions);
+                result.addAll(versions);
             } else {
-                result.retainAll(associatedVersions);
+                result.retainAll(versions);
             }
         }
         return result;
@@ -0,0 +1,225 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.artifact.versioning.Restriction;
+import org.codehaus.mojo.versions.utils.ArtifactVersionService;
+
+/**
+ * Immutable, sorted index of the available versions of a {@link VersionDetails} instance.
+ * <p>
+ * Versions are held in an array sorted in ascending order, without duplicates, along with a bitmap
+ * of the snapshot versions, both computed once. The versions fulfilling a {@link Restriction} form
+ * a contiguous slice of the array, whose bounds are found using binary search.
+ */
+final class VersionIndex {
+    static final VersionIndex EMPTY = new VersionIndex(new ArtifactVersion[0]);
+
+    private final ArtifactVersion[] versions;
+
+    private final BitSet snapshots = new BitSet();
+
+    private final int releaseCount;
+
+    private VersionIndex(ArtifactVersion[] sortedVersions) {
+        versions = sortedVersions;
+        for (int i = 0; i < versions.length; i++) {
+            if (ArtifactUtils.isSnapshot(versions[i].toString())) {
+                snapshots.set(i);
+            }
+        }
+        releaseCount = versions.length - snapshots.cardinality();
+    }
+
+    /**
+     * Creates an index of the given versions. Of several versions comparing equal,
+     * only the first one is retained.
+     *
+     * @param versions versions to index
+     * @return new index
+     */
+    static VersionIndex of(Collection<? extends ArtifactVersion> versions) {
+        return of(versions.toArray(new ArtifactVersion[0]));
+    }
+
+    /**
+     * Creates an index of the given versions. Of several versions comparing equal,
+     * only the first one is retained.
+     *
+     * @param versions versions to index, the array is not modified
+     * @return new index
+     */
+    static VersionIndex of(ArtifactVersion[] versions) {
+        if (versions.length == 0) {
+            return EMPTY;
+        }
+        ArtifactVersion[] sorted = versions.clone();
+        // stable: keeps the first of equal versions in front
+        Arrays.sort(sorted);
+        int length = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i].compareTo(sorted[length - 1]) != 0) {
+                sorted[length++] = sorted[i];
+            }
+        }
+        return new VersionIndex(length == sorted.length ? sorted : Arrays.copyOf(sorted, length));
+    }
+
+    /**
+     * @param includeSnapshots whether snapshots should be counted
+     * @return {@code true} if there are no (release) versions
+     */
+    boolean isEmpty(boolean includeSnapshots) {
+        return includeSnapshots ? versions.length == 0 : releaseCount == 0;
+    }
+
+    /**
+     * @param includeSnapshots whether snapshots should be included
+     * @return all (release) versions in ascending order
+     */
+    ArtifactVersion[] toArray(boolean includeSnapshots) {
+        return select(0, versions.length, includeSnapshots, null);
+    }
+
+    /**
+     * Checks whether the index contains the given version string verbatim.
+     *
+     * @param version version string
+     * @return {@code true} if one of the versions has the given string representation
+     */
+    boolean contains(String version) {
+        int index = Arrays.binarySearch(versions, ArtifactVersionService.getArtifactVersion(version));
+        return index >= 0 && version.equals(versions[index].toString());
+    }
+
+    /**
+     * Returns the versions in the given restriction, in ascending order.
+     *
+     * @param restriction      restriction, {@code null} for no restriction
+     * @param includeSnapshots whether snapshots should be included
+     * @param filter           additional filter, {@code null} for none
+     * @return versions in the given restriction and accepted by the filter
+     */
+    ArtifactVersion[] select(Restriction restriction, boolean includeSnapshots, Predicate<ArtifactVersion> filter) {
+        return select(fromIndex(restriction), toIndex(restriction), includeSnapshots, filter);
+    }
+
+    /**
+     * Returns the newest version in the given restriction.
+     *
+     * @param restriction      restriction, {@code null} for no restriction
+     * @param includeSnapshots whether snapshots should be included
+     * @param filter           additional filter, {@code null} for none
+     * @return newest version in the given restriction and accepted by the filter, or {@code null} if none
+     */
+    ArtifactVersion newest(Restriction restriction, boolean includeSnapshots, Predicate<ArtifactVersion> filter) {
+        int from = fromIndex(restriction);
+        for (int i = previous(toIndex(restriction) - 1, includeSnapshots);
+                i >= from;
+                i = previous(i - 1, includeSnapshots)) {
+            if (filter == null || filter.test(versions[i])) {
+                return versions[i];
+            }
+        }
+        return null;
+    }
+
+    private ArtifactVersion[] select(int from, int to, boolean includeSnapshots, Predicate<ArtifactVersion> filter) {
+        if (from >= to) {
+            return new ArtifactVersion[0];
+        }
+        if (filter == null
+                && (includeSnapshots || snapshots.nextSetBit(from) < 0 || snapshots.nextSetBit(from) >= to)) {
+            return Arrays.copyOfRange(versions, from, to);
+        }
+        ArtifactVersion[] result = new ArtifactVersion[to - from];
+        int length = 0;
+        for (int i = next(from, includeSnapshots); i < to; i = next(i + 1, includeSnapshots)) {
+            if (filter == null || filter.test(versions[i])) {
+                result[length++] = versions[i];
+            }
+        }
+        return length == result.length ? result : Arrays.copyOf(result, length);
+    }
+
+    private int next(int index, boolean includeSnapshots) {
+        return includeSnapshots ? index : snapshots.nextClearBit(index);
+    }
+
+    private int previous(int index, boolean includeSnapshots) {
+        return includeSnapshots || index < 0 ? index : snapshots.previousClearBit(index);
+    }
+
+    /**
+     * @return index of the first version not below the lower bound of the restriction
+     */
+    private int fromIndex(Restriction restriction) {
+        ArtifactVersion lowerBound = restriction != null ? restriction.getLowerBound() : null;
+        if (lowerBound == null) {
+            return 0;
+        }
+        boolean inclusive = restriction.isLowerBoundInclusive();
+        int low = 0, high = versions.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int comparison = lowerBound.compareTo(versions[mid]);
+            if (comparison < 0 || comparison == 0 && inclusive) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return index following the last version not above the upper bound of the restriction
+     */
+    private int toIndex(Restriction restriction) {
+        ArtifactVersion upperBound = restriction != null ? restriction.getUpperBound() : null;
+        if (upperBound == null) {
+            return versions.length;
+        }
+        boolean inclusive = restriction.isUpperBoundInclusive();
+        int low = 0, high = versions.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int comparison = upperBound.compareTo(versions[mid]);
+            if (comparison > 0 || comparison == 0 && inclusive) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(versions);
+    }
+}
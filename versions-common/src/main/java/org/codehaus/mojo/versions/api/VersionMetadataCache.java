@@ -0,0 +1,232 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.logging.Log;
+import org.eclipse.aether.repository.RemoteRepository;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Persistent, TTL-bounded cache of the versions returned by version range resolution, shared between
+ * subsequent invocations of {@link DefaultVersionsHelper}, also across builds.
+ * <p>
+ * Each entry is keyed by the artifact's {@code groupId:artifactId}, the requested version range
+ * and the set of remote repositories consulted, and is stored in its own file, so that entries
+ * can be invalidated individually. Entries are written atomically and are discarded once they
+ * are older than the configured time-to-live.
+ * <p>
+ * The cache is best-effort: any I/O problem is logged on the debug level and treated as a miss.
+ *
+ * @since 2.20.0
+ */
+public class VersionMetadataCache {
+    private static final int MAGIC = 0x56455243; // "VERC"
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final String ENTRY_SUFFIX = ".bin";
+
+    private final Path directory;
+
+    private final Duration ttl;
+
+    private final Log log;
+
+    private final Clock clock;
+
+    /**
+     * Creates a new instance
+     *
+     * @param directory directory to hold the cache entries; will be created if it does not exist
+     * @param ttl time-to-live of a single cache entry
+     * @param log {@link Log} instance
+     */
+    public VersionMetadataCache(Path directory, Duration ttl, Log log) {
+        this(directory, ttl, log, Clock.systemUTC());
+    }
+
+    VersionMetadataCache(Path directory, Duration ttl, Log log, Clock clock) {
+        this.directory = requireNonNull(directory);
+        this.ttl = requireNonNull(ttl);
+        this.log = requireNonNull(log);
+        this.clock = requireNonNull(clock);
+    }
+
+    /**
+     * Creates the cache key for the given artifact, version range specification and list of repositories
+     *
+     * @param artifact artifact whose versions are looked up
+     * @param versionSpec version range specification used for the lookup
+     * @param repositories remote repositories consulted for the lookup
+     * @return cache key
+     */
+    public static String key(Artifact artifact, String versionSpec, Collection<RemoteRepository> repositories) {
+        return artifact.getGroupId()
+                + ':'
+                + artifact.getArtifactId()
+                + ':'
+                + versionSpec
+                + repositories.stream()
+                        .map(r -> r.getId() + '=' + r.getUrl())
+                        .sorted()
+                        .collect(Collectors.joining(",", "@[", "]"));
+    }
+
+    /**
+     * Returns the cached versions for the given key, provided an entry exists and has not expired yet
+     *
+     * @param key cache key, see {@link #key(Artifact, String, Collection)}
+     * @return list of version strings or {@link Optional#empty()} in case of a cache miss
+     */
+    public Optional<List<String>> get(String key) {
+        Path entry = entryPath(key);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+            if (in.readInt() != MAGIC || in.readByte() != FORMAT_VERSION) {
+                log.debug("Discarding incompatible version metadata cache entry " + entry);
+                invalidate(key);
+                return Optional.empty();
+            }
+            long created = in.readLong();
+            if (clock.millis() - created > ttl.toMillis()) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Version metadata cache entry for " + key + " has expired");
+                }
+                invalidate(key);
+                return Optional.empty();
+            }
+            if (!key.equals(in.readUTF())) {
+                // hash collision; treat as a miss, the entry will be overwritten
+                return Optional.empty();
+            }
+            int size = in.readInt();
+            List<String> versions = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                versions.add(in.readUTF());
+            }
+            return Optional.of(Collections.unmodifiableList(versions));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.debug("Unable to read version metadata cache entry " + entry + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the given versions under the given key, replacing any existing entry
+     *
+     * @param key cache key, see {@link #key(Artifact, String, Collection)}
+     * @param versions versions to store
+     */
+    public void put(String key, Collection<String> versions) {
+        Path entry = entryPath(key);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, entry.getFileName().toString(), ".tmp");
+            try (DataOutputStream out =
+                    new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeByte(FORMAT_VERSION);
+                out.writeLong(clock.millis());
+                out.writeUTF(key);
+                out.writeInt(versions.size());
+                for (String version : versions) {
+                    out.writeUTF(version);
+                }
+            }
+            try {
+                Files.move(tempFile, entry, ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, entry, REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.debug("Unable to write version metadata cache entry " + entry + ": " + e.getMessage());
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // best effort
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the cache entry for the given key, if it exists
+     *
+     * @param key cache key, see {@link #key(Artifact, String, Collection)}
+     */
+    public void invalidate(String key) {
+        try {
+            Files.deleteIfExists(entryPath(key));
+        } catch (IOException e) {
+            log.debug("Unable to remove version metadata cache entry for " + key + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the directory holding the cache entries
+     *
+     * @return cache directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private Path entryPath(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder(digest.length * 2 + ENTRY_SUFFIX.length());
+            for (byte b : digest) {
+                name.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return directory.resolve(name.append(ENTRY_SUFFIX).toString());
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-1 is mandated by the JCA specification
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -19,7 +19,9 @@ package org.codehaus.mojo.versions.api;
  * under the License.
  */
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -91,8 +93,21 @@ public interface VersionsHelper {
             throws VersionRetrievalException;
 
     /**
-     * Returns a map of all possible updates per dependency. The lookup is done in parallel using
-     * {@code LOOKUP_PARALLEL_THREADS} threads.
+     * Resolves the available versions of all given plugins and their dependencies in one parallel batch,
+     * so that subsequent calls to {@link #lookupPluginsUpdates(Stream, boolean)} or
+     * {@link #lookupPluginUpdates(Plugin, boolean)} using this helper do not need to consult the repositories again.
+     * The versions are retained by this helper until the next prefetch only, and lookups which have not been
+     * prefetched always consult the repositories.
+     *
+     * @param plugins stream of {@link Plugin} instances to resolve
+     * @throws VersionRetrievalException thrown if version resolution fails
+     * @since 2.20.0
+     */
+    void prefetchPluginsVersions(Stream<Plugin> plugins) throws VersionRetrievalException;
+
+    /**
+     * Returns a map of all possible updates per dependency. The lookup is done in parallel
+     * on the lookup executor shared within the session.
      *
      * @param dependencyStream      a stream of {@link Dependency} instances to look up.
      * @param usePluginRepositories Search the plugin repositories.
@@ -105,8 +120,8 @@ public interface VersionsHelper {
             throws VersionRetrievalException;
 
     /**
-     * Returns a map of all possible updates per dependency. The lookup is done in parallel using
-     * {@code LOOKUP_PARALLEL_THREADS} threads.
+     * Returns a map of all possible updates per dependency. The lookup is done in parallel
+     * on the lookup executor shared within the session.
      * The resulting {@link ArtifactVersions} instance per dependency will only contain versions that are newer
      * than the current version of the dependency.
      *
@@ -124,6 +139,51 @@ public interface VersionsHelper {
             boolean allowSnapshots)
             throws VersionRetrievalException;
 
+    /**
+     * Asynchronously looks up the possible updates of several groups of dependencies, e.g. the dependencies
+     * and the dependency management of a project, as one batch. Dependencies present in several groups
+     * are only looked up once, and the versions of an artifact are only resolved once, even if it is used
+     * with different versions; all lookups are run in parallel on the lookup executor shared within the session.
+     * The resulting {@link ArtifactVersions} instance per dependency will only contain versions that are newer
+     * than the current version of the dependency.
+     *
+     * @param dependencyGroups       dependencies to look up, per group
+     * @param usePluginRepositories  Search the plugin repositories.
+     * @param useProjectRepositories whether to use regular project repositories
+     * @param allowSnapshots         whether snapshots should be included
+     * @param <K>                    type of the group keys
+     * @return future completing with a map containing, in the iteration order of {@code dependencyGroups},
+     * the map of ArtifactVersions objects per dependency of each group, or completing exceptionally with
+     * a {@link VersionRetrievalException} if a version cannot be retrieved
+     * @since 2.20.0
+     */
+    <K> CompletableFuture<Map<K, Map<Dependency, ArtifactVersions>>> lookupDependenciesUpdatesAsync(
+            Map<K, ? extends Collection<Dependency>> dependencyGroups,
+            boolean usePluginRepositories,
+            boolean useProjectRepositories,
+            boolean allowSnapshots);
+
+    /**
+     * Looks up the possible updates of several groups of dependencies as one batch, waiting for the result
+     * of {@link #lookupDependenciesUpdatesAsync(Map, boolean, boolean, boolean)}.
+     *
+     * @param dependencyGroups       dependencies to look up, per group
+     * @param usePluginRepositories  Search the plugin repositories.
+     * @param useProjectRepositories whether to use regular project repositories
+     * @param allowSnapshots         whether snapshots should be included
+     * @param <K>                    type of the group keys
+     * @return map containing, in the iteration order of {@code dependencyGroups}, the map of ArtifactVersions
+     * objects per dependency of each group
+     * @throws VersionRetrievalException thrown if a version cannot be retrieved
+     * @since 2.20.0
+     */
+    <K> Map<K, Map<Dependency, ArtifactVersions>> lookupDependenciesUpdates(
+            Map<K, ? extends Collection<Dependency>> dependencyGroups,
+            boolean usePluginRepositories,
+            boolean useProjectRepositories,
+            boolean allowSnapshots)
+            throws VersionRetrievalException;
+
     /**
      * Creates an {@link org.codehaus.mojo.versions.api.ArtifactVersions} instance from a dependency
      * The resulting {@link ArtifactVersions} instance will only contain versions that are newer than the current version
@@ -15,31 +15,58 @@ package org.codehaus.mojo.versions.filtering;
  *  limitations under the License.
  */
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.plugin.logging.Log;
 import org.codehaus.mojo.versions.utils.DependencyComparator;
+import org.codehaus.mojo.versions.utils.SessionDataUtils;
 
 /**
  * Provides a dependency matcher based on the list of strings of
  * {@code groupId[:artifactId[:version[:type[:classifier[:scope]]]]]} for matching dependencies.
+ * <p>
+ * The expressions are compiled once: expressions which only consist of a literal groupId and artifactId
+ * are kept in a hash set, other expressions with a literal groupId and artifactId are grouped by these,
+ * so that only the remaining expressions need to be evaluated against every dependency.
+ * Instances are immutable and may be shared, see {@link #parseFrom(MavenSession, List)}.
  *
  * @see TokenizedMatcher
  */
 public class DependencyFilter {
 
     private final String pattern;
-    private final List<TokenizedMatcher> matchers;
 
-    DependencyFilter(String pattern, List<TokenizedMatcher> matchers) {
+    private final Set<String> literalCoordinates = new HashSet<>();
+
+    private final Map<String, List<DependencyPattern>> patternsByCoordinates = new HashMap<>();
+
+    private final List<DependencyPattern> wildcardPatterns = new ArrayList<>();
+
+    DependencyFilter(String pattern, List<DependencyPattern> patterns) {
         this.pattern = pattern;
-        this.matchers = matchers;
+        for (DependencyPattern p : patterns) {
+            if (p.isLiteralCoordinates()) {
+                literalCoordinates.add(p.getCoordinates());
+            } else if (p.hasLiteralCoordinates()) {
+                patternsByCoordinates
+                        .computeIfAbsent(p.getCoordinates(), k -> new ArrayList<>())
+                        .add(p);
+            } else {
+                wildcardPatterns.add(p);
+            }
+        }
     }
 
     /**
@@ -53,12 +80,28 @@ public class DependencyFilter {
      * @see TokenizedMatcher
      */
     public static DependencyFilter parseFrom(List<String> dependencies) {
-        List<TokenizedMatcher> matchers =
-                dependencies.stream().map(TokenizedMatcher::parse).collect(Collectors.toList());
+        List<DependencyPattern> patterns =
+                dependencies.stream().map(DependencyPattern::compile).collect(Collectors.toList());
 
         String debugPattern = String.join(",", dependencies);
 
-        return new DependencyFilter(debugPattern, matchers);
+        return new DependencyFilter(debugPattern, patterns);
+    }
+
+    /**
+     * Returns the instance shared within the given session for the given list of expressions, parsing it
+     * if it has not been parsed yet.
+     *
+     * @param session Maven session; if {@code null} or stubbed, a new instance is returned
+     * @param dependencies a list of {@code groupId[:artifactId[:version[:type[:classifier[:scope]]]]]}
+     *                     expressions representing dependencies to be matched
+     * @return the shared instance of {@link DependencyFilter}
+     * @since 2.20.0
+     */
+    public static DependencyFilter parseFrom(MavenSession session, List<String> dependencies) {
+        List<String> key = new ArrayList<>(dependencies);
+        return SessionDataUtils.computeIfAbsent(
+                session, Arrays.asList(DependencyFilter.class, key), () -> parseFrom(key));
     }
 
     private static <T> Predicate<T> not(Predicate<T> predicate) {
@@ -96,7 +139,26 @@ public class DependencyFilter {
      * @return {@code true} if the given dependency satisfies the list of dependencies to be matched against
      */
     public boolean matchersMatch(Dependency dependency) {
-        return matchers.stream().anyMatch(m -> m.test(dependency));
+        String coordinates = DependencyPattern.coordinates(dependency.getGroupId(), dependency.getArtifactId());
+        if (coordinates != null) {
+            if (literalCoordinates.contains(coordinates)) {
+                return true;
+            }
+            List<DependencyPattern> patterns = patternsByCoordinates.get(coordinates);
+            if (patterns != null && matchAny(patterns, dependency)) {
+                return true;
+            }
+        }
+        return matchAny(wildcardPatterns, dependency);
+    }
+
+    private static boolean matchAny(List<DependencyPattern> patterns, Dependency dependency) {
+        for (DependencyPattern p : patterns) {
+            if (p.test(dependency)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private TreeSet<Dependency> filterBy(Collection<Dependency> dependencies, Predicate<Dependency> predicate) {
@@ -120,8 +182,30 @@ public class DependencyFilter {
             List<String> excludes,
             String section,
             Log log) {
-        DependencyFilter includeDeps = DependencyFilter.parseFrom(includes);
-        DependencyFilter excludeDeps = DependencyFilter.parseFrom(excludes);
+        return filterDependencies(null, dependencies, includes, excludes, section, log);
+    }
+
+    /**
+     * Returns a set of dependencies filtered by the given include- and exclude filters, which are
+     * parsed once per session.
+     * @param session Maven session the parsed filters are shared in; may be {@code null}
+     * @param dependencies collection of dependencies to filter
+     * @param includes a list of dependency includes
+     * @param excludes a list of dependency excludes
+     * @param section if log is not null, dependency section name for the debug log
+     * @param log null or log to which debug information will be logged
+     * @return filtered set of dependencies
+     * @since 2.20.0
+     */
+    public static Set<Dependency> filterDependencies(
+            MavenSession session,
+            Collection<Dependency> dependencies,
+            List<String> includes,
+            List<String> excludes,
+            String section,
+            Log log) {
+        DependencyFilter includeDeps = DependencyFilter.parseFrom(session, includes);
+        DependencyFilter excludeDeps = DependencyFilter.parseFrom(session, excludes);
 
         Set<Dependency> filtered = includeDeps.retainingIn(dependencies);
         filtered = excludeDeps.removingFrom(filtered);
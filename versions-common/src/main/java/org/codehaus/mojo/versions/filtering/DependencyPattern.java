@@ -0,0 +1,197 @@
+package org.codehaus.mojo.versions.filtering;
+
+/*
+ * Copyright MojoHaus and Contributors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.apache.maven.model.Dependency;
+import org.codehaus.mojo.versions.utils.ArtifactVersionService;
+
+import static org.codehaus.mojo.versions.filtering.NullAwareWildcardMatcher.NULL_KEYWORD;
+import static org.codehaus.mojo.versions.filtering.WildcardMatcher.WILDCARD;
+
+/**
+ * Compiled form of a {@code groupId[:artifactId[:version[:type[:classifier[:scope]]]]]} expression, matching
+ * the semantics of {@link TokenizedMatcher}. Each token is analysed once, when the pattern is compiled,
+ * so that testing a dependency only compares strings, without dispatching over the tokens.
+ */
+final class DependencyPattern {
+    private final Token groupId;
+
+    private final Token artifactId;
+
+    private final Token version;
+
+    private final Token type;
+
+    private final Token classifier;
+
+    private final Token scope;
+
+    private DependencyPattern(String[] tokens) {
+        groupId = Token.compile(token(tokens, 0), false);
+        artifactId = Token.compile(token(tokens, 1), false);
+        version = Token.compile(token(tokens, 2), false);
+        type = Token.compile(token(tokens, 3), false);
+        classifier = Token.compile(token(tokens, 4), true);
+        scope = Token.compile(token(tokens, 5), true);
+    }
+
+    /**
+     * Compiles the given expression.
+     *
+     * @param pattern the pattern to compile (may be {@code null})
+     * @return the compiled pattern
+     */
+    static DependencyPattern compile(String pattern) {
+        return new DependencyPattern(pattern == null ? new String[0] : pattern.split(":"));
+    }
+
+    private static String token(String[] tokens, int index) {
+        return tokens.length > index ? tokens[index] : WILDCARD;
+    }
+
+    /**
+     * @return {@code true} if both the groupId and artifactId tokens are literal
+     */
+    boolean hasLiteralCoordinates() {
+        return groupId.kind == Kind.EXACT && artifactId.kind == Kind.EXACT;
+    }
+
+    /**
+     * @return {@code true} if the pattern only constrains the groupId and artifactId, which are literal
+     */
+    boolean isLiteralCoordinates() {
+        return hasLiteralCoordinates()
+                && version.kind == Kind.ANY
+                && type.kind == Kind.ANY
+                && classifier.kind == Kind.ANY
+                && scope.kind == Kind.ANY;
+    }
+
+    /**
+     * @return {@code groupId:artifactId} of a pattern with literal coordinates
+     */
+    String getCoordinates() {
+        return coordinates(groupId.value, artifactId.value);
+    }
+
+    /**
+     * Returns the key under which dependencies are looked up in a set of literal coordinates.
+     *
+     * @param groupId groupId
+     * @param artifactId artifactId
+     * @return {@code groupId:artifactId}, or {@code null} if any of them is {@code null}
+     */
+    static String coordinates(String groupId, String artifactId) {
+        return groupId == null || artifactId == null ? null : groupId + ':' + artifactId;
+    }
+
+    /**
+     * @param dependency dependency to test
+     * @return {@code true} if the dependency matches all tokens of the pattern
+     */
+    boolean test(Dependency dependency) {
+        return groupId.test(dependency.getGroupId())
+                && artifactId.test(dependency.getArtifactId())
+                && version.test(dependency.getVersion())
+                && type.test(dependency.getType())
+                && classifier.test(dependency.getClassifier())
+                && scope.test(dependency.getScope());
+    }
+
+    private enum Kind {
+        /** {@code *}: matches anything, including {@code null} */
+        ANY,
+        /** empty pattern: matches anything but {@code null} */
+        ANY_VALUE,
+        /** {@code null} keyword of null-aware tokens */
+        NULL,
+        EXACT,
+        PREFIX,
+        SUFFIX,
+        CONTAINS,
+        RANGE,
+        /** invalid version range */
+        NONE
+    }
+
+    private static final class Token {
+        private final Kind kind;
+
+        private final String value;
+
+        private final VersionRange range;
+
+        private Token(Kind kind, String value, VersionRange range) {
+            this.kind = kind;
+            this.value = value;
+            this.range = range;
+        }
+
+        static Token compile(String pattern, boolean nullAware) {
+            if (nullAware && NULL_KEYWORD.equals(pattern)) {
+                return new Token(Kind.NULL, null, null);
+            }
+            if (WILDCARD.equals(pattern)) {
+                return new Token(Kind.ANY, null, null);
+            }
+            if (pattern.isEmpty()) {
+                return new Token(Kind.ANY_VALUE, null, null);
+            }
+            if (pattern.startsWith(WILDCARD) && pattern.endsWith(WILDCARD)) {
+                return new Token(Kind.CONTAINS, pattern.substring(1, pattern.length() - 1), null);
+            }
+            if (pattern.startsWith(WILDCARD)) {
+                return new Token(Kind.SUFFIX, pattern.substring(1), null);
+            }
+            if (pattern.endsWith(WILDCARD)) {
+                return new Token(Kind.PREFIX, pattern.substring(0, pattern.length() - 1), null);
+            }
+            if (pattern.startsWith("[") || pattern.startsWith("(")) {
+                try {
+                    return new Token(Kind.RANGE, pattern, VersionRange.createFromVersionSpec(pattern));
+                } catch (InvalidVersionSpecificationException e) {
+                    return new Token(Kind.NONE, pattern, null);
+                }
+            }
+            return new Token(Kind.EXACT, pattern, null);
+        }
+
+        boolean test(String token) {
+            if (token == null) {
+                return kind == Kind.ANY || kind == Kind.NULL;
+            }
+            switch (kind) {
+                case ANY:
+                case ANY_VALUE:
+                    return true;
+                case EXACT:
+                    return token.equals(value);
+                case PREFIX:
+                    return token.startsWith(value);
+                case SUFFIX:
+                    return token.endsWith(value);
+                case CONTAINS:
+                    return token.contains(value);
+                case RANGE:
+                    return range.containsVersion(ArtifactVersionService.getArtifactVersion(token));
+                default:
+                    return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.codehaus.mojo.versions.filtering;
+
+/*
+ * Copyright MojoHaus and Contributors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
+import org.apache.maven.execution.MavenSession;
+import org.codehaus.mojo.versions.utils.SessionDataUtils;
+
+/**
+ * An {@link ArtifactFilter} shared by all mojos executed within the same {@link MavenSession}, which
+ * evaluates its delegate at most once per artifact.
+ * <p>
+ * Results are cached by groupId, artifactId, type, classifier, and base version, so the delegate must
+ * not depend on any other property of the artifact (e.g. its dependency trail). The delegate does not
+ * need to be thread-safe: it is only ever called by one thread at a time.
+ *
+ * @since 2.20.0
+ */
+public class SharedArtifactFilter implements ArtifactFilter {
+    private final ArtifactFilter delegate;
+
+    private final Map<List<String>, Boolean> results = new ConcurrentHashMap<>();
+
+    SharedArtifactFilter(ArtifactFilter delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns the filter shared within the given session under the given key, creating it if it does not
+     * exist yet.
+     *
+     * @param session Maven session; if {@code null} or stubbed, a new filter is returned
+     * @param key key identifying the delegate filter, e.g. the kind of filter and its patterns
+     * @param delegate supplier of the filter to delegate to if the shared filter does not exist yet
+     * @return the shared filter
+     */
+    public static SharedArtifactFilter forSession(
+            MavenSession session, List<?> key, Supplier<? extends ArtifactFilter> delegate) {
+        return SessionDataUtils.computeIfAbsent(
+                session,
+                Arrays.asList(SharedArtifactFilter.class, key),
+                () -> new SharedArtifactFilter(delegate.get()));
+    }
+
+    @Override
+    public boolean include(Artifact artifact) {
+        List<String> key = Arrays.asList(
+                artifact.getGroupId(),
+                artifact.getArtifactId(),
+                artifact.getType(),
+                artifact.getClassifier(),
+                artifact.getBaseVersion());
+        return results.computeIfAbsent(key, k -> {
+            synchronized (delegate) {
+                return delegate.include(artifact);
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s{%s}", getClass().getSimpleName(), delegate);
+    }
+}
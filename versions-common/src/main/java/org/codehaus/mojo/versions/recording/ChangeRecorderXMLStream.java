@@ -0,0 +1,271 @@
+package org.codehaus.mojo.versions.recording;
+
+/*
+ * Copyright MojoHaus and Contributors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+import javax.inject.Named;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import java.io.Closeable;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.codehaus.mojo.versions.api.change.DependencyVersionChange;
+import org.codehaus.mojo.versions.api.change.PropertyVersionChange;
+import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
+import org.codehaus.mojo.versions.api.recording.DependencyChangeRecord;
+import org.codehaus.mojo.versions.api.recording.PropertyChangeRecord;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.codehaus.mojo.versions.recording.ChangeRecorderXML.CHANGES_NAMESPACE;
+
+/**
+ * A recorder of version updates producing the same document as {@link ChangeRecorderXML}, without keeping
+ * the changes in memory.
+ * <p>
+ * The document is written to a spool file through an {@link XMLStreamWriter}, every change being appended
+ * as soon as it is recorded, so that memory use does not depend on the number of changes.
+ * {@link #writeReport(Path)} copies the spool file to the output path and closes the root element there;
+ * it may be called any number of times, each report containing all changes recorded so far.
+ * <p>
+ * {@link #close()} releases the spool file, dropping the changes not written to a report yet. Recording resumes
+ * from the last report afterwards, so the recorder may be closed as soon as a report has been written,
+ * e.g. at the end of the reactor, even if further changes might be recorded later.
+ *
+ * @since 2.20.0
+ */
+@Named("xml-stream")
+public class ChangeRecorderXMLStream implements ChangeRecorder, Closeable {
+    private static final XMLOutputFactory DEFAULT_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private static final byte[] FOOTER = ("</updates>" + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+
+    private final XMLOutputFactory outputFactory;
+
+    private Path spoolFile;
+
+    private Writer spoolWriter;
+
+    private XMLStreamWriter xmlWriter;
+
+    private Path lastReport;
+
+    /**
+     * Creates a new instance
+     */
+    public ChangeRecorderXMLStream() {
+        this(DEFAULT_OUTPUT_FACTORY);
+    }
+
+    /**
+     * Creates a new instance using the given StAX implementation
+     *
+     * @param outputFactory factory of the {@link XMLStreamWriter} writing the spool file
+     */
+    ChangeRecorderXMLStream(XMLOutputFactory outputFactory) {
+        this.outputFactory = outputFactory;
+    }
+
+    @Override
+    public final synchronized void recordChange(DependencyChangeRecord changeRecord) {
+        DependencyVersionChange change = changeRecord.getVersionChange();
+        write(xml -> {
+            xml.writeEmptyElement("dependencyUpdate");
+            writeAttribute(xml, "kind", changeRecord.getKind().getLabel());
+            writeAttribute(xml, "groupId", change.getGroupId());
+            writeAttribute(xml, "artifactId", change.getArtifactId());
+            writeAttribute(xml, "oldVersion", change.getOldVersion());
+            writeAttribute(xml, "newVersion", change.getNewVersion());
+        });
+    }
+
+    @Override
+    public final synchronized void recordChange(PropertyChangeRecord changeRecord) {
+        PropertyVersionChange change = changeRecord.getVersionChange();
+        write(xml -> {
+            xml.writeEmptyElement("propertyUpdate");
+            writeAttribute(xml, "property", change.getProperty());
+            writeAttribute(xml, "oldValue", change.getOldValue());
+            writeAttribute(xml, "newValue", change.getNewValue());
+        });
+    }
+
+    @Override
+    public final synchronized void writeReport(Path outputPath) throws IOException {
+        if (outputPath == null) {
+            throw new IOException("changeRecorderOutputFile not provided");
+        }
+
+        if (spoolFile == null) {
+            // don't generate empty file
+            return;
+        }
+
+        Files.createDirectories(outputPath.toAbsolutePath().getParent());
+        try (OutputStream outputStream = Files.newOutputStream(outputPath, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            Files.copy(spoolFile, outputStream);
+            outputStream.write(FOOTER);
+        }
+        lastReport = outputPath;
+    }
+
+    /**
+     * Closes and deletes the spool file, so it is meant to be called once a report has been written:
+     * changes recorded since the last report are only kept in the spool file, and are lost.
+     * The recorder remains usable: changes recorded afterwards resume from the last report,
+     * and are included in the next one.
+     *
+     * @throws IOException if the spool file cannot be closed or deleted
+     */
+    @Override
+    public final synchronized void close() throws IOException {
+        if (spoolFile == null) {
+            return;
+        }
+        try {
+            xmlWriter.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            try {
+                spoolWriter.close();
+            } finally {
+                Files.deleteIfExists(spoolFile);
+                spoolFile = null;
+                spoolWriter = null;
+                xmlWriter = null;
+            }
+        }
+    }
+
+    /**
+     * @return the current spool file, {@code null} if no spool file is open
+     */
+    synchronized Path getSpoolFile() {
+        return spoolFile;
+    }
+
+    private void write(XMLWriterAction action) {
+        try {
+            if (xmlWriter == null) {
+                openSpool();
+            }
+            xmlWriter.writeCharacters("    ");
+            action.write(xmlWriter);
+            // completes the empty element
+            xmlWriter.writeCharacters(System.lineSeparator());
+            xmlWriter.flush();
+            spoolWriter.flush();
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void openSpool() throws IOException, XMLStreamException {
+        Path spool = Files.createTempFile("versions-changes", ".xml");
+        Writer writer = null;
+        try {
+            boolean continued =
+                    lastReport != null && Files.isRegularFile(lastReport) && Files.size(lastReport) >= FOOTER.length;
+            if (continued) {
+                // continues the last report, written before the recorder was closed
+                Files.copy(lastReport, spool, REPLACE_EXISTING);
+                try (FileChannel channel = FileChannel.open(spool, WRITE)) {
+                    channel.truncate(channel.size() - FOOTER.length);
+                }
+            }
+            DiscardingWriter discardingWriter =
+                    new DiscardingWriter(Files.newBufferedWriter(spool, StandardCharsets.UTF_8, APPEND));
+            writer = discardingWriter;
+            XMLStreamWriter xml = outputFactory.createXMLStreamWriter(writer);
+            // when continuing a report, its prolog is written to the stream writer only, so that the writer
+            // is in the state it was in before closing, whichever structure checks the implementation performs
+            discardingWriter.discarding = continued;
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("updates");
+            xml.writeDefaultNamespace(CHANGES_NAMESPACE);
+            xml.writeCharacters(System.lineSeparator());
+            xml.flush();
+            discardingWriter.discarding = false;
+            spoolFile = spool;
+            spoolWriter = writer;
+            xmlWriter = xml;
+        } catch (IOException | XMLStreamException | RuntimeException e) {
+            if (writer != null) {
+                writer.close();
+            }
+            Files.deleteIfExists(spool);
+            throw e;
+        }
+    }
+
+    private static void writeAttribute(XMLStreamWriter xml, String name, String value) throws XMLStreamException {
+        if (value != null) {
+            xml.writeAttribute(name, value);
+        }
+    }
+
+    /**
+     * A writer dropping its output while {@link #discarding} is set
+     */
+    private static final class DiscardingWriter extends FilterWriter {
+        private boolean discarding;
+
+        DiscardingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            if (!discarding) {
+                super.write(c);
+            }
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            if (!discarding) {
+                super.write(cbuf, off, len);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            if (!discarding) {
+                super.write(str, off, len);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface XMLWriterAction {
+        void write(XMLStreamWriter xml) throws XMLStreamException;
+    }
+}
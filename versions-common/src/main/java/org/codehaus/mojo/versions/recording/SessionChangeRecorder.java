@@ -0,0 +1,190 @@
+package org.codehaus.mojo.versions.recording;
+
+/*
+ * Copyright MojoHaus and Contributors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.maven.execution.MavenSession;
+import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
+import org.codehaus.mojo.versions.api.recording.DependencyChangeRecord;
+import org.codehaus.mojo.versions.api.recording.PropertyChangeRecord;
+import org.codehaus.mojo.versions.utils.SessionDataUtils;
+
+/**
+ * A {@link ChangeRecorder} shared by all mojos executed within the same {@link MavenSession} which record
+ * changes in the same format to the same output file, so that a single consolidated change log is written
+ * for all of them.
+ * <p>
+ * Changes are buffered by the delegate recorder, which may be called concurrently, and only written
+ * by {@link #flush(Path, long, boolean)}: either at the end of the reactor, or earlier if the given flush interval
+ * has elapsed since the last write. Once the end of the reactor has been reached, every flush writes the log.
+ * <p>
+ * Each module of the reactor only flushes the recorder it records to, so the recorders of other modules
+ * (e.g. with the default, per-module output file) are written by {@link #flushAll(MavenSession, boolean)},
+ * which is to be called after the last goal execution of the reactor, or after a failed one.
+ *
+ * @since 2.20.0
+ */
+public class SessionChangeRecorder implements ChangeRecorder, Closeable {
+    private final ChangeRecorder delegate;
+
+    private final Path outputPath;
+
+    private boolean modified;
+
+    private long lastWrite = System.nanoTime();
+
+    private boolean reactorCompleted;
+
+    SessionChangeRecorder(ChangeRecorder delegate, Path outputPath) {
+        this.delegate = delegate;
+        this.outputPath = outputPath;
+    }
+
+    /**
+     * Returns the recorder shared within the given session for the given format and output path,
+     * creating it if it does not exist yet.
+     *
+     * @param session Maven session; if {@code null} or stubbed, a new recorder is returned
+     * @param format format of the change log, i.e. the name of the delegate recorder
+     * @param outputPath output path of the change log, may be {@code null}
+     * @param delegate supplier of the recorder to delegate to if the shared recorder does not exist yet
+     * @return the shared recorder
+     */
+    public static SessionChangeRecorder forSession(
+            MavenSession session, String format, Path outputPath, Supplier<ChangeRecorder> delegate) {
+        return SessionDataUtils.computeIfAbsent(
+                session, Arrays.asList(SessionChangeRecorder.class, format, outputPath), () -> {
+                    SessionChangeRecorder recorder = new SessionChangeRecorder(delegate.get(), outputPath);
+                    getSessionRecorders(session).add(recorder);
+                    return recorder;
+                });
+    }
+
+    /**
+     * Writes the changes recorded so far by all recorders shared within the given session, each to its own
+     * output path, regardless of their flush interval.
+     *
+     * @param session Maven session; if {@code null} or stubbed, nothing is written
+     * @param endOfReactor {@code true} if the end of the reactor has been reached, in which case
+     *                     changes recorded afterwards are written by every flush, and the recorders are
+     *                     {@link #close() closed} once written
+     * @throws IOException if any of the change logs could not be written; the other change logs are still written
+     */
+    public static void flushAll(MavenSession session, boolean endOfReactor) throws IOException {
+        IOException failure = null;
+        for (SessionChangeRecorder recorder : getSessionRecorders(session)) {
+            try {
+                recorder.flush(recorder.outputPath, 0, endOfReactor);
+                if (endOfReactor) {
+                    recorder.close();
+                }
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static Set<SessionChangeRecorder> getSessionRecorders(MavenSession session) {
+        return SessionDataUtils.computeIfAbsent(
+                session,
+                Arrays.asList(SessionChangeRecorder.class, Set.class),
+                () -> Collections.newSetFromMap(new ConcurrentHashMap<>()));
+    }
+
+    /**
+     * @return the recorder the changes are delegated to
+     */
+    public ChangeRecorder getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public synchronized void recordChange(DependencyChangeRecord changeRecord) {
+        delegate.recordChange(changeRecord);
+        modified = true;
+    }
+
+    @Override
+    public synchronized void recordChange(PropertyChangeRecord changeRecord) {
+        delegate.recordChange(changeRecord);
+        modified = true;
+    }
+
+    /**
+     * Writes the changes recorded so far, if any changes have been recorded since the last write.
+     *
+     * @param outputPath The output path, can be null, provided by <code>changeRecorderOutputFile</code>
+     *                   plugin parameters
+     * @throws IOException On write and/or I/O errors
+     */
+    @Override
+    public synchronized void writeReport(Path outputPath) throws IOException {
+        if (modified) {
+            delegate.writeReport(outputPath);
+            modified = false;
+            lastWrite = System.nanoTime();
+        }
+    }
+
+    /**
+     * Releases the resources held by the delegate recorder, if it is {@link Closeable}, e.g. its spool file.
+     * The recorder remains usable: changes recorded afterwards are added to the change log already written.
+     *
+     * @throws IOException if the delegate recorder cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (delegate instanceof Closeable) {
+            ((Closeable) delegate).close();
+        }
+    }
+
+    /**
+     * Writes the changes recorded so far if the end of the reactor has been reached,
+     * or if the flush interval has elapsed since the last write.
+     *
+     * @param outputPath The output path, can be null, provided by <code>changeRecorderOutputFile</code>
+     *                   plugin parameters
+     * @param flushInterval minimum number of seconds between two writes before the end of the reactor;
+     *                      {@code 0} always writes, a negative value only writes at the end of the reactor
+     * @param endOfReactor {@code true} if the end of the reactor has been reached
+     * @throws IOException On write and/or I/O errors
+     */
+    public synchronized void flush(Path outputPath, long flushInterval, boolean endOfReactor) throws IOException {
+        reactorCompleted |= endOfReactor;
+        if (reactorCompleted
+                || flushInterval == 0
+                || flushInterval > 0 && System.nanoTime() - lastWrite >= TimeUnit.SECONDS.toNanos(flushInterval)) {
+            writeReport(outputPath);
+        }
+    }
+}
@@ -41,23 +41,25 @@ import static java.util.Optional.ofNullable;
 
 /**
  * A mutable {@link XMLStreamReader2}, allowing simple string manipulation (replacement) of the underlying document
+ * <p>
+ * The document is kept in a {@link PieceTable}: replacements made while traversing the document are recorded
+ * against the text being parsed instead of being applied to it, and marks are kept in the coordinates
+ * of that text, so that neither requires shifting the rest of the document. The current document is only
+ * materialized when it is requested by {@link #getSource()} or on {@link #rewind()}.
  */
 public class MutableXMLStreamReader extends StreamReader2Delegate implements AutoCloseable {
     private static final XMLInputFactory FACTORY = XMLInputFactory2.newInstance();
 
-    private StringBuilder source;
+    private PieceTable source;
 
     private final Path fileName;
 
     private boolean modified;
 
-    private final Map<Object, MarkInfo> marks = new HashMap<>();
-
     /**
-     * Current (start and end) offset (caused by mutations) against the {@link #getLocationInfo()} as reported by
-     * the delegate
+     * Marks, in the coordinates of the document as last parsed
      */
-    private final int[] delta = new int[2];
+    private final Map<Object, MarkInfo> marks = new HashMap<>();
 
     static {
         FACTORY.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
@@ -91,6 +93,22 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
         rewind();
     }
 
+    /**
+     * Constructs a new object using the given, already decoded, contents as the initial contents of the document.
+     *
+     * @param source         initial document contents
+     * @param sourceEncoding encoding of the document
+     * @param fileName       name of the file
+     * @throws XMLStreamException thrown if the document cannot be parsed
+     */
+    MutableXMLStreamReader(String source, Charset sourceEncoding, Path fileName) throws XMLStreamException {
+        super(null);
+        this.fileName = fileName;
+        this.sourceEncoding = sourceEncoding;
+        this.source = new PieceTable(source);
+        rewind();
+    }
+
     /**
      * Returns the name of the file associated with the document
      *
@@ -109,6 +127,15 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
         return source.toString();
     }
 
+    /**
+     * Returns the encoding of the document, as detected when it was read
+     *
+     * @return encoding of the document
+     */
+    Charset getSourceEncoding() {
+        return sourceEncoding;
+    }
+
     /**
      * Whether the document has been modified
      *
@@ -119,22 +146,30 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
     }
 
     /**
-     * Returns current (adjusted by {@link #delta} starting char offset
+     * Returns current (adjusted by the replacements made so far) starting char offset
      *
-     * @return current (adjusted by {@link #delta} starting char offset
+     * @return current (adjusted by the replacements made so far) starting char offset
      */
     public int getCurrentStartingCharOffset() {
-        return delta[0] + (int) getLocationInfo().getStartingCharOffset();
+        return source.toCurrentOffset(getStartingCharOffset());
     }
 
     /**
-     * Returns current (adjusted by {@link #delta} ending char offset
+     * Returns current (adjusted by the replacements made so far) ending char offset
      *
-     * @return current (adjusted by {@link #delta} ending char offset
+     * @return current (adjusted by the replacements made so far) ending char offset
      */
     public int getCurrentEndingCharOffset() {
+        return source.toCurrentOffset(getEndingCharOffset());
+    }
+
+    private int getStartingCharOffset() {
+        return (int) getLocationInfo().getStartingCharOffset();
+    }
+
+    private int getEndingCharOffset() {
         try {
-            return delta[1] + (int) getLocationInfo().getEndingCharOffset();
+            return (int) getLocationInfo().getEndingCharOffset();
         } catch (XMLStreamException e) {
             throw new IllegalStateException(e);
         }
@@ -150,20 +185,9 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
             throw new IllegalStateException("Attempt at replacement outside of any element");
         }
 
-        int start = getCurrentStartingCharOffset(), end = getCurrentEndingCharOffset();
-        if (source.substring(start, end).equals(replacement)) {
-            return;
+        if (source.replace(getStartingCharOffset(), getEndingCharOffset(), replacement)) {
+            modified = true;
         }
-
-        source.replace(start, end, replacement);
-        int delta = replacement.length() - (end - start);
-
-        // marks can only be added as the cursor traverses the document onwards,
-        // so the only marks affected by the replacement are marks set on the current element
-        marks.values().stream().filter(mi -> mi.getEnd() == end).forEach(mi -> mi.setEnd(mi.getEnd() + delta));
-
-        this.delta[1] += delta;
-        modified = true;
     }
 
     private void validateMarks(Object... marks) {
@@ -214,12 +238,9 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
         if (!startMark.equals(endMark)) {
             start = startMark.getEnd();
             end = endMark.getStart();
-            if (source.substring(start, end).equals(replacement)) {
-                return;
-            }
         } else {
             // Special case: property has no value (self-closing tag)
-            String elementWithTags = source.substring(startMark.getStart(), startMark.getEnd());
+            String elementWithTags = source.getOriginal().substring(startMark.getStart(), startMark.getEnd());
             int closingTagIndex = elementWithTags.lastIndexOf("/>");
             String elementName = source.substring(
                     startMark.getStart() + elementWithTags.indexOf('<') + 1, startMark.getStart() + closingTagIndex);
@@ -228,14 +249,9 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
             replacement = ">" + replacement + "</" + elementName + ">";
         }
 
-        source.replace(start, end, replacement);
-        int delta = replacement.length() - (end - start);
-
-        marks.values().stream().filter(mi -> mi.getStart() >= end).forEach(mi -> mi.setStart(mi.getStart() + delta));
-        marks.values().stream().filter(mi -> mi.getEnd() >= end).forEach(mi -> mi.setEnd(mi.getEnd() + delta));
-
-        this.delta[1] += delta;
-        modified = true;
+        if (source.replace(start, end, replacement)) {
+            modified = true;
+        }
     }
 
     /**
@@ -247,22 +263,9 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
     public void replaceMark(Object mark, String replacement) {
         validateMarks(mark);
 
-        int start = marks.get(mark).getStart(), end = marks.get(mark).getEnd();
-        if (source.substring(start, end).equals(replacement)) {
-            return;
+        if (source.replace(marks.get(mark).getStart(), marks.get(mark).getEnd(), replacement)) {
+            modified = true;
         }
-
-        source.replace(start, end, replacement);
-        int delta = replacement.length() - (end - start);
-
-        marks.values().stream().filter(mi -> mi.getStart() >= end).forEach(mi -> mi.setStart(mi.getStart() + delta));
-        marks.values().stream().filter(mi -> mi.getEnd() >= end).forEach(mi -> mi.setEnd(mi.getEnd() + delta));
-
-        if (start < getCurrentStartingCharOffset()) {
-            this.delta[0] += delta;
-        }
-        this.delta[1] += delta;
-        modified = true;
     }
 
     /**
@@ -276,20 +279,15 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
         }
 
         marks.clear();
-        delta[0] = 0;
-        delta[1] = 0;
+        if (source.isModified()) {
+            source = new PieceTable(source.toString());
+        }
 
         XMLStreamReader2 reader = (XMLStreamReader2) FACTORY.createXMLStreamReader(
-                new ByteArrayInputStream(source.toString().getBytes(sourceEncoding)), sourceEncoding.toString());
+                new ByteArrayInputStream(source.getOriginal().getBytes(sourceEncoding)), sourceEncoding.toString());
         setParent(reader);
     }
 
-    @Override
-    public int next() throws XMLStreamException {
-        delta[0] = delta[1];
-        return super.next();
-    }
-
     /**
      * If the mark with the given {@code markNr} has been recorded
      *
@@ -301,12 +299,12 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
     }
 
     /**
-     * Records the current {@link LocationInfo} and delta under the given {@code markNr}
+     * Records the current {@link LocationInfo} under the given {@code markNr}
      *
      * @param markNr number of the mark to record to
      */
     public void mark(Object markNr) {
-        marks.put(markNr, new MarkInfo(getCurrentStartingCharOffset(), getCurrentEndingCharOffset()));
+        marks.put(markNr, new MarkInfo(getStartingCharOffset(), getEndingCharOffset()));
     }
 
     /**
@@ -332,7 +330,7 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
             buf.reset();
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
             IOUtil.copy(buf, baos);
-            source = new StringBuilder(baos.toString(sourceEncoding.toString()));
+            source = new PieceTable(baos.toString(sourceEncoding.toString()));
         }
     }
 
@@ -340,8 +338,8 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
      * Contains startingCharOffset and endingCharOffset information for a mark
      */
     private static class MarkInfo {
-        private int start;
-        private int end;
+        private final int start;
+        private final int end;
 
         MarkInfo(int start, int end) {
             this.start = start;
@@ -352,18 +350,10 @@ public class MutableXMLStreamReader extends StreamReader2Delegate implements Aut
             return start;
         }
 
-        void setStart(int value) {
-            start = value;
-        }
-
         int getEnd() {
             return end;
         }
 
-        void setEnd(int value) {
-            end = value;
-        }
-
         @Override
         public int hashCode() {
             return Objects.hash(start, end);
@@ -0,0 +1,252 @@
+package org.codehaus.mojo.versions.rewriting;
+
+/*
+ * Copyright MojoHaus and Contributors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Piece table backing the document of {@link MutableXMLStreamReader}.
+ * <p>
+ * The table consists of the immutable original text, as last parsed, and a sorted set of non-overlapping
+ * replacements. Both replacements and queries are addressed in the coordinates of the original text, which
+ * is what the underlying parser reports, so that neither the text nor any marks need to be shifted
+ * after a replacement. Replacements are located in {@code O(log n)}. Translating an original offset into
+ * an offset in the current text uses an index of the cumulated length changes per replacement, sorted by
+ * end offset: it is rebuilt in {@code O(p)}, {@code p} being the number of replacements, on the first
+ * translation following a replacement, and then searched in {@code O(log p)}. Its size thus depends on
+ * the number of replacements only, not on the length of the text.
+ * <p>
+ * Positions lying strictly inside a replaced range are resolved against the original text.
+ */
+final class PieceTable {
+    private final String original;
+
+    /**
+     * Replacements keyed by their start offset in the original text
+     */
+    private final NavigableMap<Integer, Piece> pieces = new TreeMap<>();
+
+    /**
+     * End offsets of the replacements, in ascending order; {@code null} if the index needs to be rebuilt
+     */
+    private int[] ends = new int[0];
+
+    /**
+     * Cumulated length changes of the replacements, up to and including the one at the same index in {@link #ends}
+     */
+    private int[] deltas = new int[0];
+
+    /**
+     * Materialized text, {@code null} if it needs to be recomputed
+     */
+    private String text;
+
+    PieceTable(String original) {
+        this.original = original;
+        this.text = original;
+    }
+
+    /**
+     * @return the original text
+     */
+    String getOriginal() {
+        return original;
+    }
+
+    /**
+     * @return {@code true} if at least one replacement has been made
+     */
+    boolean isModified() {
+        return !pieces.isEmpty();
+    }
+
+    /**
+     * Translates an offset in the original text into the offset of the same position in the current text.
+     *
+     * @param offset offset in the original text
+     * @return offset in the current text
+     */
+    int toCurrentOffset(int offset) {
+        if (ends == null) {
+            buildIndex();
+        }
+        // last replacement ending at or before the offset
+        int low = 0, high = ends.length - 1, found = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (ends[middle] <= offset) {
+                found = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return found < 0 ? offset : offset + deltas[found];
+    }
+
+    private void buildIndex() {
+        // replacements do not overlap, so ordering them by start offset also orders them by end offset
+        int[] newEnds = new int[pieces.size()];
+        int[] newDeltas = new int[pieces.size()];
+        int i = 0, delta = 0;
+        for (Piece piece : pieces.values()) {
+            delta += piece.delta();
+            newEnds[i] = piece.end;
+            newDeltas[i++] = delta;
+        }
+        ends = newEnds;
+        deltas = newDeltas;
+    }
+
+    /**
+     * Returns the current text between two offsets of the original text. Replacements starting at
+     * {@code from} are included, insertions made exactly at {@code from} are not.
+     *
+     * @param from starting offset in the original text, inclusive
+     * @param to   ending offset in the original text, exclusive
+     * @return current text between the two offsets
+     */
+    String substring(int from, int to) {
+        if (pieces.isEmpty()) {
+            return original.substring(from, to);
+        }
+        StringBuilder result = new StringBuilder(to - from);
+        int pos = from;
+        for (Piece piece : pieces.subMap(from, true, to, true).values()) {
+            if (piece.end > to) {
+                break;
+            }
+            if (piece.start == from && piece.end == from) {
+                continue;
+            }
+            result.append(original, pos, piece.start).append(piece.text);
+            pos = piece.end;
+        }
+        return result.append(original, pos, Math.max(pos, to)).toString();
+    }
+
+    /**
+     * Replaces the text between two offsets of the original text. An existing replacement of the same range
+     * is overwritten; any replacements overlapping the range are merged with the new one.
+     *
+     * @param from        starting offset in the original text, inclusive
+     * @param to          ending offset in the original text, exclusive
+     * @param replacement replacement text
+     * @return {@code true} if the text has changed
+     */
+    boolean replace(int from, int to, String replacement) {
+        Piece same = pieces.get(from);
+        String current = same != null && same.end == to ? same.text : substring(from, to);
+        if (current.equals(replacement)) {
+            return false;
+        }
+
+        int start = from, end = to;
+        String prefix = "", suffix = "";
+
+        Map.Entry<Integer, Piece> lower = pieces.lowerEntry(from);
+        if (lower != null && lower.getValue().end > from) {
+            Piece piece = remove(lower.getValue());
+            start = piece.start;
+            prefix = piece.text.substring(0, Math.min(from - piece.start, piece.text.length()));
+            if (piece.end > to) {
+                end = piece.end;
+                suffix = piece.tail(piece.end - to);
+            }
+        }
+        for (Piece piece : new ArrayList<>(pieces.subMap(from, true, to, true).values())) {
+            if (piece.start == to && piece.end > to) {
+                if (from < to) {
+                    // the replacement starts right after the range
+                    break;
+                }
+                // an insertion right before a replacement is merged into it
+                end = piece.end;
+                suffix = piece.text;
+            } else if (piece.start == from && piece.end == from && to > from) {
+                // an insertion right before the range is kept in front of the replacement
+                prefix = prefix + piece.text;
+            } else if (piece.end > to) {
+                end = piece.end;
+                suffix = piece.tail(piece.end - to);
+            }
+            remove(piece);
+        }
+
+        add(new Piece(start, end, prefix + replacement + suffix));
+        return true;
+    }
+
+    private Piece remove(Piece piece) {
+        pieces.remove(piece.start);
+        ends = null;
+        text = null;
+        return piece;
+    }
+
+    private void add(Piece piece) {
+        pieces.put(piece.start, piece);
+        ends = null;
+        text = null;
+    }
+
+    /**
+     * Materializes the current text. The result is cached until the next replacement.
+     *
+     * @return current text
+     */
+    @Override
+    public String toString() {
+        if (text == null) {
+            StringBuilder result = new StringBuilder(toCurrentOffset(original.length()));
+            int pos = 0;
+            for (Piece piece : pieces.values()) {
+                result.append(original, pos, piece.start).append(piece.text);
+                pos = piece.end;
+            }
+            text = result.append(original, pos, original.length()).toString();
+        }
+        return text;
+    }
+
+    /**
+     * Replacement of the range {@code [start, end)} of the original text
+     */
+    private static final class Piece {
+        private final int start;
+
+        private final int end;
+
+        private final String text;
+
+        Piece(int start, int end, String text) {
+            this.start = start;
+            this.end = end;
+            this.text = text;
+        }
+
+        int delta() {
+            return text.length() - (end - start);
+        }
+
+        String tail(int originalLength) {
+            return text.substring(Math.max(0, text.length() - originalLength));
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package org.codehaus.mojo.versions.rewriting;
+
+/*
+ * Copyright MojoHaus and Contributors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+import javax.xml.stream.XMLStreamException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.codehaus.mojo.versions.utils.SessionDataUtils;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+/**
+ * Store of POM documents shared by all mojos executed within the same {@link MavenSession}, so that
+ * every POM file is only read, decoded and parsed once per build.
+ * <p>
+ * Documents are keyed by their canonical path and validated against the modification time and size
+ * of the file on every access, so that changes made to the file by other means are picked up.
+ * For each document, the store keeps the decoded source, its encoding, and the raw model (parsed on
+ * first use). Callers get their own {@link MutableXMLStreamReader} and {@link Model} instances,
+ * created from the stored document without accessing the file, and may modify them freely.
+ * Writers of POM files must {@link #invalidate(Path)} the written file. A document is only stored if neither
+ * its file has changed while it was read, nor the store has been invalidated in the meantime, so that
+ * a reader started before a write never stores the content it read before the write.
+ *
+ * @since 2.20.0
+ */
+public class PomDocumentStore {
+    private final Map<Path, Document> documents = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented by every invalidation, guarded by {@link #documents}
+     */
+    private long generation;
+
+    PomDocumentStore() {}
+
+    /**
+     * Returns the store shared within the given session, creating it if it does not exist yet.
+     *
+     * @param session Maven session; if {@code null} or stubbed, a new store is returned
+     * @return the shared store
+     */
+    public static PomDocumentStore forSession(MavenSession session) {
+        return SessionDataUtils.computeIfAbsent(session, PomDocumentStore.class, PomDocumentStore::new);
+    }
+
+    /**
+     * Creates a new {@link MutableXMLStreamReader} positioned at the start of the given file.
+     *
+     * @param path POM file
+     * @return new reader
+     * @throws IOException        thrown if the file cannot be read
+     * @throws XMLStreamException thrown if the file cannot be parsed
+     */
+    public MutableXMLStreamReader newReader(Path path) throws IOException, XMLStreamException {
+        Document document = getDocument(path);
+        return new MutableXMLStreamReader(document.source, document.encoding, path);
+    }
+
+    /**
+     * Returns the raw model of the given file, before any interpolation what-so-ever.
+     *
+     * @param pomFile POM file
+     * @return new raw model instance, with its {@link Model#getPomFile() pom file} set to the given file
+     * @throws IOException if the file cannot be read or does not parse
+     */
+    public Model getRawModel(File pomFile) throws IOException {
+        Model model;
+        try {
+            model = getDocument(pomFile.toPath()).getModel().clone();
+        } catch (XMLStreamException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        model.setPomFile(pomFile);
+        return model;
+    }
+
+    /**
+     * Removes the given file from the store. Must be called after the file has been written.
+     *
+     * @param path POM file
+     */
+    public void invalidate(Path path) {
+        Path key = canonicalPath(path);
+        synchronized (documents) {
+            generation++;
+            documents.remove(key);
+        }
+    }
+
+    private Document getDocument(Path path) throws IOException, XMLStreamException {
+        Path key = canonicalPath(path);
+        long readGeneration;
+        synchronized (documents) {
+            readGeneration = generation;
+        }
+        BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        long size = attributes.size();
+
+        Document document = documents.get(key);
+        if (document == null || document.lastModified != lastModified || document.size != size) {
+            document = readDocument(key, lastModified, size);
+            // the file may have been written while it was read, in which case the document is not kept
+            BasicFileAttributes after = Files.readAttributes(key, BasicFileAttributes.class);
+            if (after.lastModifiedTime().toMillis() == lastModified && after.size() == size) {
+                synchronized (documents) {
+                    if (generation == readGeneration) {
+                        documents.put(key, document);
+                    }
+                }
+            }
+        }
+        return document;
+    }
+
+    /**
+     * Reads the given file
+     *
+     * @param path canonical path of the POM file
+     * @param lastModified modification time of the file, as read before its content
+     * @param size size of the file, as read before its content
+     * @return new document
+     * @throws IOException        thrown if the file cannot be read
+     * @throws XMLStreamException thrown if the file cannot be parsed
+     */
+    Document readDocument(Path path, long lastModified, long size) throws IOException, XMLStreamException {
+        try (MutableXMLStreamReader reader = new MutableXMLStreamReader(path)) {
+            return new Document(lastModified, size, reader.getSource(), reader.getSourceEncoding());
+        }
+    }
+
+    private static Path canonicalPath(Path path) {
+        try {
+            return path.toRealPath();
+        } catch (IOException e) {
+            return path.toAbsolutePath().normalize();
+        }
+    }
+
+    static final class Document {
+        private final long lastModified;
+
+        private final long size;
+
+        private final String source;
+
+        private final Charset encoding;
+
+        private Model model;
+
+        Document(long lastModified, long size, String source, Charset encoding) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.source = source;
+            this.encoding = encoding;
+        }
+
+        synchronized Model getModel() throws IOException {
+            if (model == null) {
+                try (StringReader reader = new StringReader(source)) {
+                    model = new MavenXpp3Reader().read(reader);
+                } catch (XmlPullParserException e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+            }
+            return model;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package org.codehaus.mojo.versions.rule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.codehaus.mojo.versions.model.Rule;
+import org.codehaus.mojo.versions.utils.RegexUtils;
+
+/**
+ * Precompiled index of the rules of a {@link org.codehaus.mojo.versions.model.RuleSet}, used by
+ * {@link RuleService#getBestFitRule(String, String)}.
+ * <p>
+ * Wildcard expressions are compiled once, when the index is built. Literal expressions (without
+ * {@code ?} or {@code *}) are not compiled at all and are matched using plain string comparison.
+ * Rules are additionally stored in a trie keyed by the literal prefix of their group id (the part before
+ * the first wildcard), so that looking up the rules for a given group id only needs to consider the rules
+ * whose literal prefix is a prefix of that group id, instead of scanning the whole rule set.
+ */
+final class RuleIndex {
+    private final Node root = new Node();
+
+    RuleIndex(List<Rule> rules) {
+        int index = 0;
+        for (Rule rule : rules) {
+            IndexedRule indexedRule = new IndexedRule(index++, rule);
+            Node node = root;
+            for (char c : indexedRule.groupId.getLiteralPrefix().toCharArray()) {
+                node = node.children.computeIfAbsent(c, k -> new Node());
+            }
+            node.rules.add(indexedRule);
+        }
+    }
+
+    /**
+     * Find the rule, if any, which best fits the artifact details given.
+     *
+     * @param groupId    Group id of the artifact
+     * @param artifactId Artifact id of the artifact
+     * @return rule which best describes the given artifact, or {@code null} if none
+     */
+    Rule getBestFitRule(String groupId, String artifactId) {
+        Rule bestFit = null;
+        int bestGroupIdScore = Integer.MAX_VALUE;
+        int bestArtifactIdScore = Integer.MAX_VALUE;
+        boolean exactGroupId = false;
+        boolean exactArtifactId = false;
+        for (IndexedRule rule : getCandidates(groupId)) {
+            int groupIdScore = rule.groupId.getScore();
+            if (groupIdScore > bestGroupIdScore) {
+                continue;
+            }
+            boolean exactMatch = rule.groupId.exactMatch(groupId);
+            boolean match = exactMatch || rule.groupId.match(groupId);
+            if (!match || (exactGroupId && !exactMatch)) {
+                continue;
+            }
+            if (bestGroupIdScore > groupIdScore) {
+                bestArtifactIdScore = Integer.MAX_VALUE;
+                exactArtifactId = false;
+            }
+            bestGroupIdScore = groupIdScore;
+            if (exactMatch && !exactGroupId) {
+                exactGroupId = true;
+                bestArtifactIdScore = Integer.MAX_VALUE;
+                exactArtifactId = false;
+            }
+            int artifactIdScore = rule.artifactId.getScore();
+            if (artifactIdScore > bestArtifactIdScore) {
+                continue;
+            }
+            exactMatch = rule.artifactId.exactMatch(artifactId);
+            match = exactMatch || rule.artifactId.match(artifactId);
+            if (!match || (exactArtifactId && !exactMatch)) {
+                continue;
+            }
+            bestArtifactIdScore = artifactIdScore;
+            if (exactMatch && !exactArtifactId) {
+                exactArtifactId = true;
+            }
+            bestFit = rule.rule;
+        }
+        return bestFit;
+    }
+
+    /**
+     * Returns the rules which may match the given group id, in the order of the rule set: since rules
+     * which do not match are skipped without affecting the outcome, this yields the same result as
+     * evaluating all rules.
+     */
+    private List<IndexedRule> getCandidates(String groupId) {
+        List<IndexedRule> candidates = new ArrayList<>(root.rules);
+        Node node = root;
+        for (int i = 0; i < groupId.length() && node != null; i++) {
+            node = node.children.get(groupId.charAt(i));
+            if (node != null) {
+                candidates.addAll(node.rules);
+            }
+        }
+        candidates.sort((r1, r2) -> Integer.compare(r1.index, r2.index));
+        return candidates;
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+
+        private final List<IndexedRule> rules = new ArrayList<>(1);
+    }
+
+    private static final class IndexedRule {
+        private final int index;
+
+        private final Rule rule;
+
+        private final WildcardMatcher groupId;
+
+        private final WildcardMatcher artifactId;
+
+        IndexedRule(int index, Rule rule) {
+            this.index = index;
+            this.rule = rule;
+            this.groupId = new WildcardMatcher(rule.getGroupId());
+            this.artifactId = new WildcardMatcher(rule.getArtifactId());
+        }
+    }
+
+    /**
+     * Compiled form of a wildcard expression, as used by rules, matching the semantics
+     * of {@link RegexUtils#convertWildcardsToRegex(String, boolean)}
+     */
+    static final class WildcardMatcher {
+        private final String expression;
+
+        private final String literalPrefix;
+
+        private final int score;
+
+        private final Pattern exactPattern;
+
+        private final Pattern prefixPattern;
+
+        WildcardMatcher(String wildcardRule) {
+            expression = wildcardRule == null ? "" : wildcardRule;
+            score = RegexUtils.getWildcardScore(wildcardRule);
+            int firstWildcard = indexOfWildcard(expression);
+            if (firstWildcard < 0) {
+                literalPrefix = expression;
+                exactPattern = null;
+                prefixPattern = null;
+            } else {
+                literalPrefix = expression.substring(0, firstWildcard);
+                exactPattern = Pattern.compile(RegexUtils.convertWildcardsToRegex(expression, true));
+                prefixPattern = Pattern.compile(RegexUtils.convertWildcardsToRegex(expression, false));
+            }
+        }
+
+        private static int indexOfWildcard(String expression) {
+            for (int i = 0; i < expression.length(); i++) {
+                char c = expression.charAt(i);
+                if (c == '?' || c == '*') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * @return the part of the expression preceding the first wildcard
+         */
+        String getLiteralPrefix() {
+            return literalPrefix;
+        }
+
+        /**
+         * @return wildcard score of the expression, as per {@link RegexUtils#getWildcardScore(String)}
+         */
+        int getScore() {
+            return score;
+        }
+
+        /**
+         * @param value value to test
+         * @return {@code true} if the expression matches the whole value
+         */
+        boolean exactMatch(String value) {
+            return exactPattern == null
+                    ? expression.equals(value)
+                    : exactPattern.matcher(value).matches();
+        }
+
+        /**
+         * @param value value to test
+         * @return {@code true} if the expression matches the start of the value
+         */
+        boolean match(String value) {
+            return prefixPattern == null
+                    ? value.startsWith(expression)
+                    : prefixPattern.matcher(value).matches();
+        }
+    }
+}
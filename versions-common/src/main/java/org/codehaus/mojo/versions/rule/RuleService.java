@@ -5,32 +5,42 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.logging.Log;
 import org.codehaus.mojo.versions.api.IgnoreVersionHelper;
+import org.codehaus.mojo.versions.api.IgnoreVersionMatcher;
 import org.codehaus.mojo.versions.model.IgnoreVersion;
 import org.codehaus.mojo.versions.model.Rule;
 import org.codehaus.mojo.versions.model.RuleSet;
-import org.codehaus.mojo.versions.utils.RegexUtils;
 
 /**
  * Service providing access to rules and ignore-version handling.
  * <p>
  * The service is constructed with a {@link Log} and a {@link RuleSet} and offers
  * methods to find the best-fitting {@link Rule} for a given artifact and to
- * collect the ignored versions for an artifact.
+ * collect the ignored versions for an artifact. The rules are compiled into an index when the service is
+ * created, and the best fitting rule is cached per artifact, including the absence of one.
  */
 public class RuleService {
     Log log;
 
-    private final Map<String, Rule> bestFitRuleCache = new ConcurrentHashMap<>();
+    /**
+     * Best fitting rules per {@code groupId:artifactId}, also caching the absence of a fitting rule
+     */
+    private final Map<String, Optional<Rule>> bestFitRuleCache = new ConcurrentHashMap<>();
+
+    /**
+     * Compiled ignored versions per best fitting rule, the empty key denoting artifacts without a fitting rule
+     */
+    private final Map<Optional<Rule>, IgnoreVersionMatcher> ignoredVersionsMatchers = new ConcurrentHashMap<>();
 
     private final RuleSet ruleSet;
 
+    private final RuleIndex ruleIndex;
+
     /**
      * Creates a new {@code RuleService}.
      *
@@ -38,8 +48,31 @@ public class RuleService {
      * @param ruleSet the rules to apply; may be {@code null}
      */
     public RuleService(Log log, RuleSet ruleSet) {
+        this(log, ruleSet, index(ruleSet));
+    }
+
+    /**
+     * Creates a new {@code RuleService} using an index of the rules of the given rule set which has already
+     * been built, e.g. for another service with the same rules.
+     *
+     * @param log the Maven log to use; may be {@code null}
+     * @param ruleSet the rules to apply; may be {@code null}
+     * @param ruleIndex index of the rules of {@code ruleSet}, as returned by {@link #index(RuleSet)}
+     */
+    RuleService(Log log, RuleSet ruleSet, RuleIndex ruleIndex) {
         this.log = log;
         this.ruleSet = ruleSet;
+        this.ruleIndex = ruleIndex;
+    }
+
+    /**
+     * Compiles the rules of the given rule set into an index.
+     *
+     * @param ruleSet rule set; may be {@code null}
+     * @return index of the rules, or {@code null} if there are none
+     */
+    static RuleIndex index(RuleSet ruleSet) {
+        return ruleSet != null && ruleSet.getRules() != null ? new RuleIndex(ruleSet.getRules()) : null;
     }
 
     /**
@@ -50,57 +83,14 @@ public class RuleService {
      * @return rule which best describes the given artifact, or {@code null} if none
      */
     public Rule getBestFitRule(String groupId, String artifactId) {
-        String groupArtifactId = groupId + ':' + artifactId;
-        if (bestFitRuleCache.containsKey(groupArtifactId)) {
-            return bestFitRuleCache.get(groupArtifactId);
-        }
-
-        Rule bestFit = null;
-        final List<Rule> rules = getRuleSet().getRules();
-        int bestGroupIdScore = Integer.MAX_VALUE;
-        int bestArtifactIdScore = Integer.MAX_VALUE;
-        boolean exactGroupId = false;
-        boolean exactArtifactId = false;
-        for (Rule rule : rules) {
-            int groupIdScore = RegexUtils.getWildcardScore(rule.getGroupId());
-            if (groupIdScore > bestGroupIdScore) {
-                continue;
-            }
-            boolean exactMatch = exactMatch(rule.getGroupId(), groupId);
-            boolean match = exactMatch || match(rule.getGroupId(), groupId);
-            if (!match || (exactGroupId && !exactMatch)) {
-                continue;
-            }
-            if (bestGroupIdScore > groupIdScore) {
-                bestArtifactIdScore = Integer.MAX_VALUE;
-                exactArtifactId = false;
-            }
-            bestGroupIdScore = groupIdScore;
-            if (exactMatch && !exactGroupId) {
-                exactGroupId = true;
-                bestArtifactIdScore = Integer.MAX_VALUE;
-                exactArtifactId = false;
-            }
-            int artifactIdScore = RegexUtils.getWildcardScore(rule.getArtifactId());
-            if (artifactIdScore > bestArtifactIdScore) {
-                continue;
-            }
-            exactMatch = exactMatch(rule.getArtifactId(), artifactId);
-            match = exactMatch || match(rule.getArtifactId(), artifactId);
-            if (!match || (exactArtifactId && !exactMatch)) {
-                continue;
-            }
-            bestArtifactIdScore = artifactIdScore;
-            if (exactMatch && !exactArtifactId) {
-                exactArtifactId = true;
-            }
-            bestFit = rule;
+        if (ruleIndex == null) {
+            return null;
         }
-
-        if (bestFit != null) {
-            bestFitRuleCache.put(groupArtifactId, bestFit);
-        }
-        return bestFit;
+        return bestFitRuleCache
+                .computeIfAbsent(
+                        groupId + ':' + artifactId,
+                        k -> Optional.ofNullable(ruleIndex.getBestFitRule(groupId, artifactId)))
+                .orElse(null);
     }
 
     /**
@@ -129,6 +119,21 @@ public class RuleService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns a compiled matcher of the versions which should not be considered when looking for updates,
+     * as returned by {@link #getIgnoredVersions(Artifact)}. Matchers are shared between all artifacts
+     * with the same best fitting rule.
+     *
+     * @param artifact the artifact to evaluate
+     * @return compiled matcher of the ignored versions (never {@code null})
+     * @since 2.20.0
+     */
+    public IgnoreVersionMatcher getIgnoredVersionsMatcher(Artifact artifact) {
+        return ignoredVersionsMatchers.computeIfAbsent(
+                Optional.ofNullable(getBestFitRule(artifact.getGroupId(), artifact.getArtifactId())),
+                rule -> IgnoreVersionMatcher.of(getIgnoredVersions(artifact)));
+    }
+
     /**
      * Returns the configured {@link RuleSet}.
      *
@@ -137,14 +142,4 @@ public class RuleService {
     public RuleSet getRuleSet() {
         return ruleSet;
     }
-
-    static boolean exactMatch(String wildcardRule, String value) {
-        Pattern p = Pattern.compile(RegexUtils.convertWildcardsToRegex(wildcardRule, true));
-        return p.matcher(value).matches();
-    }
-
-    static boolean match(String wildcardRule, String value) {
-        Pattern p = Pattern.compile(RegexUtils.convertWildcardsToRegex(wildcardRule, false));
-        return p.matcher(value).matches();
-    }
 }
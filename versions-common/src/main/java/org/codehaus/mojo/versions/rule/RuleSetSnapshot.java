@@ -0,0 +1,319 @@
+package org.codehaus.mojo.versions.rule;
+
+/*
+ * Copyright MojoHaus and Contributors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.codehaus.mojo.versions.model.IgnoreVersion;
+import org.codehaus.mojo.versions.model.Rule;
+import org.codehaus.mojo.versions.model.RuleSet;
+
+/**
+ * Compact binary form of a {@link RuleSet}, which loads much faster than the XML document it was created from.
+ * <p>
+ * A snapshot consists of a header, a table of the distinct strings of the rule set, and the global ignored versions
+ * and the rules in their original order, referring to strings by their index in the table. Loading a snapshot
+ * only reads the file once and decodes each distinct string once; the rules are then indexed as usual.
+ * <p>
+ * Snapshots are stored next to the XML document, with the {@link #SUFFIX} appended to its name. The header holds
+ * the SHA-256 {@link #digest(byte[]) digest} of the XML document the snapshot was created from, and a snapshot
+ * is only used while the document has that digest. Modification times are not relied upon, as e.g. reproducible
+ * builds give the same one to every entry of a JAR file.
+ *
+ * @since 2.20.0
+ */
+public final class RuleSetSnapshot {
+    /**
+     * Suffix appended to the name of the XML document to get the name of its snapshot
+     */
+    public static final String SUFFIX = ".bin";
+
+    private static final int MAGIC = 0x56525331; // VRS1
+
+    private static final int FORMAT_VERSION = 2;
+
+    private static final int DIGEST_LENGTH = 32;
+
+    private static final int NULL = -1;
+
+    private RuleSetSnapshot() {
+        // prevent instantiation
+    }
+
+    /**
+     * Returns the path of the snapshot of the given XML document.
+     *
+     * @param rulesFile XML document
+     * @return path of the snapshot
+     */
+    public static Path snapshotOf(Path rulesFile) {
+        return rulesFile.resolveSibling(rulesFile.getFileName() + SUFFIX);
+    }
+
+    /**
+     * Returns the digest of the given XML document, identifying the snapshots created from it.
+     *
+     * @param document content of the XML document
+     * @return SHA-256 digest of the document
+     */
+    public static byte[] digest(byte[] document) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(document);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Says whether the given snapshot exists and was created from the current content of the given XML document.
+     *
+     * @param snapshot snapshot file
+     * @param rulesFile XML document
+     * @return {@code true} if the snapshot may be used instead of the XML document
+     * @throws IOException if either file cannot be read
+     */
+    public static boolean isUpToDate(Path snapshot, Path rulesFile) throws IOException {
+        return readIfUpToDate(snapshot, rulesFile).isPresent();
+    }
+
+    /**
+     * Reads the given snapshot if it exists and was created from the current content of the given XML document.
+     *
+     * @param snapshot snapshot file
+     * @param rulesFile XML document
+     * @return the rule set, empty if the snapshot does not exist or has been created from another document
+     * @throws IOException if either file cannot be read, or the snapshot is not a valid snapshot
+     */
+    public static Optional<RuleSet> readIfUpToDate(Path snapshot, Path rulesFile) throws IOException {
+        if (!Files.isRegularFile(snapshot)) {
+            return Optional.empty();
+        }
+        return read(ByteBuffer.wrap(Files.readAllBytes(snapshot)), digest(Files.readAllBytes(rulesFile)));
+    }
+
+    /**
+     * Reads a snapshot from the given stream if it was created from the XML document with the given digest.
+     *
+     * @param is input stream, not closed by this method
+     * @param sourceDigest {@link #digest(byte[]) digest} of the XML document
+     * @return the rule set, empty if the snapshot has been created from another document
+     * @throws IOException if the snapshot cannot be read or is not a valid snapshot
+     */
+    public static Optional<RuleSet> readIfCreatedFrom(InputStream is, byte[] sourceDigest) throws IOException {
+        return read(ByteBuffer.wrap(readAllBytes(is)), sourceDigest);
+    }
+
+    /**
+     * Writes the snapshot of the given rule set. The file is replaced at once, so that concurrent readers never
+     * see a partially written snapshot.
+     *
+     * @param ruleSet rule set
+     * @param sourceDigest {@link #digest(byte[]) digest} of the XML document the rule set has been read from
+     * @param snapshot snapshot file
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(RuleSet ruleSet, byte[] sourceDigest, Path snapshot) throws IOException {
+        Path dir = snapshot.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tempFile = Files.createTempFile(dir, snapshot.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                write(ruleSet, sourceDigest, os);
+            }
+            Files.move(tempFile, snapshot, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Writes the snapshot of the given rule set to the given stream.
+     *
+     * @param ruleSet rule set
+     * @param sourceDigest {@link #digest(byte[]) digest} of the XML document the rule set has been read from
+     * @param os output stream, not closed by this method
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(RuleSet ruleSet, byte[] sourceDigest, OutputStream os) throws IOException {
+        if (sourceDigest.length != DIGEST_LENGTH) {
+            throw new IllegalArgumentException("Invalid digest length: " + sourceDigest.length);
+        }
+        Map<String, Integer> strings = new HashMap<>();
+        List<String> table = new ArrayList<>();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(body);
+        writeIgnoreVersions(ruleSet.getIgnoreVersions(), out, strings, table);
+        out.writeInt(ruleSet.getRules().size());
+        for (Rule rule : ruleSet.getRules()) {
+            out.writeInt(index(rule.getGroupId(), strings, table));
+            out.writeInt(index(rule.getArtifactId(), strings, table));
+            writeIgnoreVersions(rule.getIgnoreVersions(), out, strings, table);
+        }
+        out.flush();
+
+        DataOutputStream header = new DataOutputStream(os);
+        header.writeInt(MAGIC);
+        header.writeInt(FORMAT_VERSION);
+        header.write(sourceDigest);
+        header.writeInt(table.size());
+        for (String string : table) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            header.writeInt(bytes.length);
+            header.write(bytes);
+        }
+        body.writeTo(header);
+        header.flush();
+    }
+
+    private static void writeIgnoreVersions(
+            List<IgnoreVersion> ignoreVersions, DataOutputStream out, Map<String, Integer> strings, List<String> table)
+            throws IOException {
+        out.writeInt(ignoreVersions.size());
+        for (IgnoreVersion ignoreVersion : ignoreVersions) {
+            out.writeInt(index(ignoreVersion.getVersion(), strings, table));
+            out.writeInt(index(ignoreVersion.getType(), strings, table));
+        }
+    }
+
+    private static int index(String string, Map<String, Integer> strings, List<String> table) {
+        if (string == null) {
+            return NULL;
+        }
+        return strings.computeIfAbsent(string, s -> {
+            table.add(s);
+            return table.size() - 1;
+        });
+    }
+
+    /**
+     * Reads a snapshot file, whichever XML document it has been created from.
+     *
+     * @param snapshot snapshot file
+     * @return the rule set
+     * @throws IOException if the snapshot cannot be read or is not a valid snapshot
+     */
+    public static RuleSet read(Path snapshot) throws IOException {
+        return read(ByteBuffer.wrap(Files.readAllBytes(snapshot)), null).get();
+    }
+
+    /**
+     * Reads a snapshot from the given stream, whichever XML document it has been created from.
+     *
+     * @param is input stream, not closed by this method
+     * @return the rule set
+     * @throws IOException if the snapshot cannot be read or is not a valid snapshot
+     */
+    public static RuleSet read(InputStream is) throws IOException {
+        return read(ByteBuffer.wrap(readAllBytes(is)), null).get();
+    }
+
+    private static byte[] readAllBytes(InputStream is) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        for (int n = is.read(buffer); n >= 0; n = is.read(buffer)) {
+            bytes.write(buffer, 0, n);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a snapshot, or returns an empty result if {@code sourceDigest} is not {@code null} and differs from
+     * the digest of the XML document the snapshot has been created from.
+     */
+    private static Optional<RuleSet> read(ByteBuffer buffer, byte[] sourceDigest) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Not a rule set snapshot, or unsupported snapshot version");
+            }
+            byte[] digest = new byte[DIGEST_LENGTH];
+            buffer.get(digest);
+            if (sourceDigest != null && !MessageDigest.isEqual(digest, sourceDigest)) {
+                return Optional.empty();
+            }
+            // every count is checked against the remaining bytes before allocating anything
+            String[] table = new String[readCount(buffer, Integer.BYTES)];
+            for (int i = 0; i < table.length; i++) {
+                int length = readCount(buffer, 1);
+                table[i] = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+            }
+
+            RuleSet ruleSet = new RuleSet();
+            ruleSet.setIgnoreVersions(readIgnoreVersions(buffer, table));
+            int count = readCount(buffer, 3 * Integer.BYTES);
+            List<Rule> rules = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Rule rule = new Rule();
+                rule.setGroupId(string(buffer, table));
+                rule.setArtifactId(string(buffer, table));
+                rule.setIgnoreVersions(readIgnoreVersions(buffer, table));
+                rules.add(rule);
+            }
+            ruleSet.setRules(rules);
+            return Optional.of(ruleSet);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Corrupt rule set snapshot", e);
+        }
+    }
+
+    /**
+     * Reads a count of entries, or a length in bytes, and checks that the remaining bytes can hold as many
+     * entries of the given minimum size.
+     */
+    private static int readCount(ByteBuffer buffer, int minEntrySize) throws IOException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / minEntrySize) {
+            throw new IOException("Corrupt rule set snapshot: invalid count " + count);
+        }
+        return count;
+    }
+
+    private static List<IgnoreVersion> readIgnoreVersions(ByteBuffer buffer, String[] table) throws IOException {
+        int count = readCount(buffer, 2 * Integer.BYTES);
+        List<IgnoreVersion> ignoreVersions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            IgnoreVersion ignoreVersion = new IgnoreVersion();
+            ignoreVersion.setVersion(string(buffer, table));
+            ignoreVersion.setType(string(buffer, table));
+            ignoreVersions.add(ignoreVersion);
+        }
+        return ignoreVersions;
+    }
+
+    private static String string(ByteBuffer buffer, String[] table) {
+        int index = buffer.getInt();
+        return index == NULL ? null : table[index];
+    }
+}
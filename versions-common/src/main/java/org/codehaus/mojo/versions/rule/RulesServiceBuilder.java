@@ -2,22 +2,31 @@ package org.codehaus.mojo.versions.rule;
 
 import javax.xml.stream.XMLStreamException;
 
-import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.shared.utils.io.IOUtil;
 import org.apache.maven.wagon.Wagon;
 import org.apache.maven.wagon.authentication.AuthenticationInfo;
 import org.apache.maven.wagon.observers.Debug;
@@ -26,9 +35,11 @@ import org.codehaus.mojo.versions.api.DefaultVersionsHelper;
 import org.codehaus.mojo.versions.model.IgnoreVersion;
 import org.codehaus.mojo.versions.model.RuleSet;
 import org.codehaus.mojo.versions.model.io.stax.RuleStaxReader;
+import org.codehaus.mojo.versions.utils.SessionDataUtils;
 import org.eclipse.aether.repository.AuthenticationContext;
 import org.eclipse.aether.repository.RemoteRepository;
 
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -39,6 +50,16 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  * The builder allows configuring the source of rules (inline {@link org.codehaus.mojo.versions.model.RuleSet},
  * a URI, or a classpath resource), the server id for remote access, ignored versions and other
  * optional runtime elements such as the {@link Log} and {@link MavenSession}.
+ * <p>
+ * Rules loaded from a URI are parsed and indexed once per {@link MavenSession}, URI, server id and
+ * {@link #withRulesCacheTtl(long) time to live of the local copy}, and shared by all services built within
+ * the session with the same configuration. Rules loaded through Wagon may additionally be kept
+ * in the local repository (under {@code .cache/versions-maven-plugin/rules}), see {@link #withRulesCacheTtl(long)}.
+ * <p>
+ * Rules read from a local file, a classpath resource or the local copy of remote rules are read from their
+ * {@link RuleSetSnapshot snapshot} instead if it is present and has been created from the current content
+ * of the XML document.
+ * Snapshots of local copies are created automatically.
  */
 public class RulesServiceBuilder {
     private static final String CLASSPATH_PROTOCOL = "classpath";
@@ -62,6 +83,8 @@ public class RulesServiceBuilder {
 
     private Map<String, Wagon> wagonMap;
 
+    private long rulesCacheTtl = -1;
+
     /**
      * Configure an additional collection of ignored versions to be merged into the resulting rules.
      *
@@ -140,6 +163,23 @@ public class RulesServiceBuilder {
         return this;
     }
 
+    /**
+     * Configure the local copy of rules loaded through Wagon. With a negative value (the default), no local copy
+     * is kept and the rules are downloaded once per session. Otherwise, the local copy is used without contacting
+     * the server for the given number of seconds; after that, the remote document is only downloaded again
+     * if it is newer than the local copy (which requires the server to report its modification time).
+     * With {@code 0}, this check is made once per session. Executions configured with different values
+     * load the rules independently.
+     *
+     * @param rulesCacheTtl time to live of the local copy of the rules, in seconds
+     * @return this builder
+     * @since 2.20.0
+     */
+    public RulesServiceBuilder withRulesCacheTtl(long rulesCacheTtl) {
+        this.rulesCacheTtl = rulesCacheTtl;
+        return this;
+    }
+
     /**
      * Creates a new {@link RuleService} instance using the configured inputs.
      * @return a new {@link RuleService} instance
@@ -150,22 +190,33 @@ public class RulesServiceBuilder {
         assert log != null;
 
         RuleSet ruleSet;
+        RuleIndex ruleIndex = null;
         if (this.ruleSet != null) {
             if (!isBlank(rulesUri)) {
                 log.warn("rulesUri is ignored if rules are specified in pom or as parameters");
             }
             ruleSet = this.ruleSet;
+        } else if (isBlank(rulesUri)) {
+            ruleSet = new RuleSet();
         } else {
-            ruleSet = isBlank(rulesUri)
-                    ? new RuleSet()
-                    : rulesUri.startsWith(CLASSPATH_PROTOCOL + ":")
-                            ? getRulesFromClasspath(rulesUri, log)
-                            : getRulesUsingWagon(rulesUri);
+            LoadedRules loadedRules = SessionDataUtils.computeIfAbsent(
+                            mavenSession,
+                            Arrays.asList(RulesServiceBuilder.class, rulesUri, serverId, rulesCacheTtl),
+                            SharedRules::new)
+                    .get(() -> {
+                        RuleSet rules = rulesUri.startsWith(CLASSPATH_PROTOCOL + ":")
+                                ? getRulesFromClasspath(rulesUri, log)
+                                : getRulesUsingWagon(rulesUri);
+                        return new LoadedRules(rules, RuleService.index(rules));
+                    });
+            ruleSet = loadedRules.ruleSet;
+            ruleIndex = loadedRules.ruleIndex;
         }
         if (ignoredVersions != null && !ignoredVersions.isEmpty()) {
             ruleSet = enrichRuleSet(ignoredVersions, ruleSet);
         }
-        return new RuleService(log, ruleSet);
+        // enriching only adds ignored versions, so the index of the loaded rules remains valid
+        return new RuleService(log, ruleSet, ruleIndex != null ? ruleIndex : RuleService.index(ruleSet));
     }
 
     /**
@@ -181,6 +232,39 @@ public class RulesServiceBuilder {
      */
     // document the constructor warning in javadoc generation
 
+    /**
+     * Rules loaded from a URI, together with their index
+     */
+    private static final class LoadedRules {
+        private final RuleSet ruleSet;
+
+        private final RuleIndex ruleIndex;
+
+        LoadedRules(RuleSet ruleSet, RuleIndex ruleIndex) {
+            this.ruleSet = ruleSet;
+            this.ruleIndex = ruleIndex;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RulesLoader {
+        LoadedRules load() throws MojoExecutionException;
+    }
+
+    /**
+     * Rules shared within a session, loaded by the first build needing them
+     */
+    private static final class SharedRules {
+        private LoadedRules rules;
+
+        synchronized LoadedRules get(RulesLoader loader) throws MojoExecutionException {
+            if (rules == null) {
+                rules = loader.load();
+            }
+            return rules;
+        }
+    }
+
     private static class RulesUri {
         String basePath;
         String resource;
@@ -208,8 +292,26 @@ public class RulesServiceBuilder {
             throw new MojoExecutionException("Resource \"" + uri + "\" not found in classpath.");
         }
 
-        try (BufferedInputStream bis = new BufferedInputStream(url.openStream())) {
-            RuleSet result = new RuleStaxReader().read(bis);
+        try {
+            byte[] document;
+            try (InputStream is = url.openStream()) {
+                document = IOUtil.toByteArray(is);
+            }
+            URL snapshot = DefaultVersionsHelper.class.getResource(choppedUrl + RuleSetSnapshot.SUFFIX);
+            if (snapshot != null) {
+                try (InputStream is = snapshot.openStream()) {
+                    Optional<RuleSet> result = RuleSetSnapshot.readIfCreatedFrom(is, RuleSetSnapshot.digest(document));
+                    if (result.isPresent()) {
+                        logger.debug("Loaded rules from snapshot \"" + snapshot + "\" successfully");
+                        return result.get();
+                    }
+                    logger.warn("Ignoring rules snapshot " + snapshot + ", which has been compiled from another"
+                            + " version of the rules: run the compile-rules goal again");
+                } catch (IOException e) {
+                    logger.warn("Ignoring rules snapshot " + snapshot + ": " + e.getMessage());
+                }
+            }
+            RuleSet result = new RuleStaxReader().read(new ByteArrayInputStream(document));
             logger.debug("Loaded rules from \"" + uri + "\" successfully");
             return result;
         } catch (IOException | XMLStreamException e) {
@@ -226,48 +328,172 @@ public class RulesServiceBuilder {
             return null;
         }
 
-        RemoteRepository repository = remoteRepository(uri);
-        return ofNullable(wagonMap.get(repository.getProtocol()))
-                .map(wagon -> {
-                    if (log.isDebugEnabled()) {
-                        Debug debug = new Debug();
-                        wagon.addSessionListener(debug);
-                        wagon.addTransferListener(debug);
+        if (rulesUri.startsWith("file:")) {
+            try {
+                Path rulesFile = Paths.get(new URI(rulesUri));
+                Path snapshot = RuleSetSnapshot.snapshotOf(rulesFile);
+                if (Files.exists(rulesFile)) {
+                    Optional<RuleSet> result = RuleSetSnapshot.readIfUpToDate(snapshot, rulesFile);
+                    if (result.isPresent()) {
+                        log.debug("Loaded rules from snapshot " + snapshot);
+                        return result.get();
                     }
+                }
+            } catch (URISyntaxException | IllegalArgumentException | IOException e) {
+                log.warn("Ignoring rules snapshot for " + rulesUri + ": " + e.getMessage());
+            }
+        }
 
+        RemoteRepository repository = remoteRepository(uri);
+        Wagon wagon = wagonMap.get(repository.getProtocol());
+        if (wagon == null) {
+            throw new MojoExecutionException("Could not load specified rules from " + rulesUri);
+        }
+
+        try {
+            Path cachedRules = getCachedRulesFile(rulesUri);
+            if (cachedRules != null && isFresh(cachedRules)) {
+                log.debug("Using cached rules " + cachedRules + " for \"" + rulesUri + "\"");
+                return readCachedRules(cachedRules);
+            }
+
+            if (log.isDebugEnabled()) {
+                Debug debug = new Debug();
+                wagon.addSessionListener(debug);
+                wagon.addTransferListener(debug);
+            }
+
+            Optional<ProxyInfo> proxyInfo = getProxyInfo(repository);
+            Optional<AuthenticationInfo> authenticationInfo = getAuthenticationInfo(repository);
+            if (log.isDebugEnabled()) {
+                log.debug("Connecting to remote repository \"" + repository.getId() + "\""
+                        + proxyInfo
+                                .map(pi -> " using proxy " + pi.getHost() + ":" + pi.getPort())
+                                .orElse("")
+                        + authenticationInfo
+                                .map(ai -> " as " + ai.getUserName())
+                                .orElse(""));
+            }
+            wagon.connect(wagonRepository(repository), authenticationInfo.orElse(null), proxyInfo.orElse(null));
+            try {
+                if (cachedRules == null) {
+                    Path tempFile = Files.createTempFile("rules-", ".xml");
                     try {
-                        Optional<ProxyInfo> proxyInfo = getProxyInfo(repository);
-                        Optional<AuthenticationInfo> authenticationInfo = getAuthenticationInfo(repository);
-                        if (log.isDebugEnabled()) {
-                            log.debug("Connecting to remote repository \"" + repository.getId() + "\""
-                                    + proxyInfo
-                                            .map(pi -> " using proxy " + pi.getHost() + ":" + pi.getPort())
-                                            .orElse("")
-                                    + authenticationInfo
-                                            .map(ai -> " as " + ai.getUserName())
-                                            .orElse(""));
-                        }
-                        wagon.connect(
-                                wagonRepository(repository),
-                                getAuthenticationInfo(repository).orElse(null),
-                                getProxyInfo(repository).orElse(null));
-                        try {
-                            Path tempFile = Files.createTempFile("rules-", ".xml");
-                            wagon.get(uri.resource, tempFile.toFile());
-                            try (InputStream is = Files.newInputStream(tempFile)) {
-                                return new RuleStaxReader().read(is);
-                            } finally {
-                                Files.deleteIfExists(tempFile);
-                            }
-
-                        } finally {
-                            wagon.disconnect();
-                        }
-                    } catch (Exception e) {
-                        throw new RuntimeException(e);
+                        wagon.get(uri.resource, tempFile.toFile());
+                        return readRules(tempFile);
+                    } finally {
+                        Files.deleteIfExists(tempFile);
                     }
-                })
-                .orElseThrow(() -> new MojoExecutionException("Could not load specified rules from " + rulesUri));
+                }
+                return readCachedRules(updateCachedRules(wagon, uri.resource, cachedRules));
+            } finally {
+                wagon.disconnect();
+            }
+        } catch (Exception e) {
+            throw new MojoExecutionException("Could not load specified rules from " + rulesUri, e);
+        }
+    }
+
+    private static RuleSet readRules(Path rules) throws IOException, XMLStreamException {
+        try (InputStream is = Files.newInputStream(rules)) {
+            return new RuleStaxReader().read(is);
+        }
+    }
+
+    /**
+     * Reads the local copy of remote rules from its snapshot, creating the snapshot if it is not up to date.
+     */
+    private RuleSet readCachedRules(Path cachedRules) throws IOException, XMLStreamException {
+        Path snapshot = RuleSetSnapshot.snapshotOf(cachedRules);
+        byte[] document = Files.readAllBytes(cachedRules);
+        byte[] digest = RuleSetSnapshot.digest(document);
+        if (Files.isRegularFile(snapshot)) {
+            try (InputStream is = Files.newInputStream(snapshot)) {
+                Optional<RuleSet> result = RuleSetSnapshot.readIfCreatedFrom(is, digest);
+                if (result.isPresent()) {
+                    return result.get();
+                }
+            } catch (IOException e) {
+                log.warn("Ignoring rules snapshot " + snapshot + ": " + e.getMessage());
+            }
+        }
+        RuleSet ruleSet = new RuleStaxReader().read(new ByteArrayInputStream(document));
+        try {
+            RuleSetSnapshot.write(ruleSet, digest, snapshot);
+        } catch (IOException e) {
+            log.debug("Could not write rules snapshot " + snapshot + ": " + e.getMessage());
+        }
+        return ruleSet;
+    }
+
+    /**
+     * Returns the local copy of the rules document with the given URI, or {@code null} if no local copy
+     * is to be kept.
+     */
+    private Path getCachedRulesFile(String rulesUri) throws NoSuchAlgorithmException {
+        if (rulesCacheTtl < 0
+                || mavenSession.getRepositorySession() == null
+                || mavenSession.getRepositorySession().getLocalRepositoryManager() == null) {
+            return null;
+        }
+        StringBuilder name = new StringBuilder();
+        for (byte b : MessageDigest.getInstance("SHA-1")
+                .digest((serverId + '|' + rulesUri).getBytes(StandardCharsets.UTF_8))) {
+            name.append(String.format("%02x", b));
+        }
+        return mavenSession
+                .getRepositorySession()
+                .getLocalRepository()
+                .getBasedir()
+                .toPath()
+                .resolve(".cache")
+                .resolve("versions-maven-plugin")
+                .resolve("rules")
+                .resolve(name.append(".xml").toString());
+    }
+
+    /**
+     * The local copy is fresh if it has been checked against the remote document less than
+     * {@link #rulesCacheTtl} seconds ago: the modification time of the local copy is the time of the last check.
+     */
+    private boolean isFresh(Path cachedRules) throws IOException {
+        return rulesCacheTtl > 0
+                && Files.exists(cachedRules)
+                && System.currentTimeMillis()
+                                - Files.getLastModifiedTime(cachedRules).toMillis()
+                        < TimeUnit.SECONDS.toMillis(rulesCacheTtl);
+    }
+
+    /**
+     * Downloads the rules document to the local copy if it does not exist or if the remote document is newer.
+     */
+    private Path updateCachedRules(Wagon wagon, String resource, Path cachedRules) throws Exception {
+        Files.createDirectories(cachedRules.getParent());
+        long now = System.currentTimeMillis();
+        // download next to the local copy, which is then replaced at once
+        Path tempFile = Files.createTempFile(cachedRules.getParent(), "rules-", ".tmp");
+        try {
+            boolean downloaded;
+            if (Files.exists(cachedRules)) {
+                downloaded = wagon.getIfNewer(
+                        resource,
+                        tempFile.toFile(),
+                        Files.getLastModifiedTime(cachedRules).toMillis());
+            } else {
+                wagon.get(resource, tempFile.toFile());
+                downloaded = true;
+            }
+            if (downloaded) {
+                Files.move(tempFile, cachedRules, REPLACE_EXISTING);
+                Files.deleteIfExists(RuleSetSnapshot.snapshotOf(cachedRules));
+            } else {
+                log.debug("Cached rules " + cachedRules + " are up to date");
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        Files.setLastModifiedTime(cachedRules, FileTime.fromMillis(now));
+        return cachedRules;
     }
 
     private Optional<AuthenticationInfo> getAuthenticationInfo(RemoteRepository repository) {
@@ -0,0 +1,123 @@
+package org.codehaus.mojo.versions.utils;
+
+/*
+ * Copyright MojoHaus and Contributors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Hash index of the reactor projects and of the resolved dependency artifacts of the projects of a build,
+ * shared by all mojos executed within the same {@link MavenSession}, replacing linear scans with lookups.
+ * <p>
+ * Reactor projects are keyed by {@code groupId:artifactId}, dependency artifacts additionally by type
+ * and classifier. The reactor projects are indexed once, when the index is created. The dependency
+ * artifacts of a project are indexed on first use, and indexed again if the project's set of
+ * {@link MavenProject#getDependencyArtifacts() dependency artifacts} is replaced.
+ *
+ * @since 2.20.0
+ */
+public class ArtifactIndex {
+    private final Map<List<String>, MavenProject> reactorProjects = new HashMap<>();
+
+    private final Map<MavenProject, DependencyArtifacts> dependencyArtifacts = new IdentityHashMap<>();
+
+    ArtifactIndex(Collection<MavenProject> reactorProjects) {
+        if (reactorProjects != null) {
+            reactorProjects.forEach(project ->
+                    this.reactorProjects.putIfAbsent(key(project.getGroupId(), project.getArtifactId()), project));
+        }
+    }
+
+    /**
+     * Returns the index shared within the given session, creating it from the given reactor projects
+     * if it does not exist yet.
+     *
+     * @param session Maven session; if {@code null} or stubbed, a new index is returned
+     * @param reactorProjects reactor projects of the build, may be {@code null}
+     * @return the shared index
+     */
+    public static ArtifactIndex forSession(MavenSession session, Collection<MavenProject> reactorProjects) {
+        return SessionDataUtils.computeIfAbsent(session, ArtifactIndex.class, () -> new ArtifactIndex(reactorProjects));
+    }
+
+    /**
+     * Returns the reactor project with the given groupId and artifactId.
+     *
+     * @param groupId groupId of the project
+     * @param artifactId artifactId of the project
+     * @return the reactor project, or {@link Optional#empty()} if the reactor does not produce it
+     */
+    public Optional<MavenProject> findReactorProject(String groupId, String artifactId) {
+        return Optional.ofNullable(reactorProjects.get(key(groupId, artifactId)));
+    }
+
+    /**
+     * Returns the resolved dependency artifact of the given project which has the same groupId, artifactId,
+     * type, and classifier as the given dependency.
+     *
+     * @param project project whose dependency artifacts are searched
+     * @param dependency dependency to look for
+     * @return the dependency artifact, or {@link Optional#empty()} if the project has no such artifact
+     */
+    public Optional<Artifact> findDependencyArtifact(MavenProject project, Dependency dependency) {
+        Set<Artifact> artifacts = project.getDependencyArtifacts();
+        if (artifacts == null) {
+            return Optional.empty();
+        }
+        DependencyArtifacts index;
+        synchronized (dependencyArtifacts) {
+            index = dependencyArtifacts.get(project);
+            if (index == null || index.source != artifacts) {
+                index = new DependencyArtifacts(artifacts);
+                dependencyArtifacts.put(project, index);
+            }
+        }
+        return Optional.ofNullable(index.artifacts.get(key(
+                dependency.getGroupId(),
+                dependency.getArtifactId(),
+                dependency.getType(),
+                dependency.getClassifier())));
+    }
+
+    private static List<String> key(String... coordinates) {
+        return Collections.unmodifiableList(Arrays.asList(coordinates));
+    }
+
+    private static final class DependencyArtifacts {
+        private final Set<Artifact> source;
+
+        private final Map<List<String>, Artifact> artifacts = new HashMap<>();
+
+        DependencyArtifacts(Set<Artifact> source) {
+            this.source = source;
+            source.forEach(artifact -> artifacts.putIfAbsent(
+                    key(artifact.getGroupId(), artifact.getArtifactId(), artifact.getType(), artifact.getClassifier()),
+                    artifact));
+        }
+    }
+}
@@ -18,20 +18,56 @@ package org.codehaus.mojo.versions.utils;
  * under the License.
  */
 
-import java.util.Map;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
-import org.apache.commons.collections4.map.LRUMap;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
 
 /**
  * Simple cache for {@link org.apache.maven.artifact.versioning.ArtifactVersion}
+ * <p>
+ * Lookups of cached versions are lock-free. The cache is bounded by a maximum number of entries,
+ * evicting entries which have not been used since the last eviction sweep first (second-chance eviction).
+ * Alternatively, the cache can be configured to intern parsed versions, in which case every version string
+ * maps to a single {@link DefaultArtifactVersion} instance for the lifetime of the cache and no entries
+ * are ever evicted.
+ * <p>
+ * The cache is configured using the {@value #CACHE_SIZE_PROPERTY} and {@value #INTERN_PROPERTY} system
+ * properties, or using {@link #configure(int, boolean)}.
  */
 public class ArtifactVersionService {
-    private static final int MAX_CACHE_SIZE = 512;
-    private static final Map<String, DefaultArtifactVersion> CACHE = new LRUMap<>(MAX_CACHE_SIZE);
-    private static final ReentrantReadWriteLock CACHE_LOCK = new ReentrantReadWriteLock();
+    /**
+     * System property holding the maximum number of cached versions
+     *
+     * @since 2.20.0
+     */
+    public static final String CACHE_SIZE_PROPERTY = "versions.artifactVersionCache.size";
+
+    /**
+     * System property which, if {@code true}, makes the cache intern all parsed versions
+     *
+     * @since 2.20.0
+     */
+    public static final String INTERN_PROPERTY = "versions.artifactVersionCache.intern";
+
+    /**
+     * Default maximum number of cached versions
+     *
+     * @since 2.20.0
+     */
+    public static final int DEFAULT_CACHE_SIZE = 8192;
+
+    private static final AtomicReference<String> CONFIGURATION_WARNING = new AtomicReference<>();
+
+    private static volatile VersionCache cache = new VersionCache(
+            parseCacheSize(System.getProperty(CACHE_SIZE_PROPERTY)), Boolean.getBoolean(INTERN_PROPERTY));
 
     private ArtifactVersionService() {
         // prevent instantiation
@@ -45,20 +81,228 @@ public class ArtifactVersionService {
      * @return the corresponding {@link ArtifactVersion} instance
      */
     public static ArtifactVersion getArtifactVersion(String version) {
+        return cache.get(version);
+    }
+
+    /**
+     * Reconfigures the cache. If the configuration differs from the current one, the cache is replaced
+     * with an empty one, resetting its statistics.
+     *
+     * @param maximumSize maximum number of cached versions, ignored if {@code intern} is {@code true}
+     * @param intern      if {@code true}, parsed versions are interned and never evicted
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     * @since 2.20.0
+     */
+    public static synchronized void configure(int maximumSize, boolean intern) {
+        VersionCache current = cache;
+        if (current.maximumSize != maximumSize || current.intern != intern) {
+            cache = new VersionCache(maximumSize, intern);
+        }
+    }
+
+    /**
+     * Parses the value of the {@value #CACHE_SIZE_PROPERTY} system property. An invalid value must not make
+     * this class unusable, so it is replaced with {@link #DEFAULT_CACHE_SIZE} and reported by
+     * {@link #pollConfigurationWarning()}.
+     *
+     * @param value value of the property, may be {@code null}
+     * @return the maximum number of cached versions
+     */
+    static int parseCacheSize(String value) {
+        if (value == null) {
+            return DEFAULT_CACHE_SIZE;
+        }
         try {
-            CACHE_LOCK.readLock().lock();
-            DefaultArtifactVersion result = CACHE.get(version);
-            if (result != null) {
-                return result;
+            int size = Integer.parseInt(value.trim());
+            if (size > 0) {
+                return size;
             }
-        } finally {
-            CACHE_LOCK.readLock().unlock();
+        } catch (NumberFormatException e) {
+            // reported below
         }
-        try {
-            CACHE_LOCK.writeLock().lock();
-            return CACHE.computeIfAbsent(version, DefaultArtifactVersion::new);
-        } finally {
-            CACHE_LOCK.writeLock().unlock();
+        CONFIGURATION_WARNING.set("Invalid value \"" + value + "\" of the " + CACHE_SIZE_PROPERTY
+                + " system property, it must be a positive number; using " + DEFAULT_CACHE_SIZE + " instead");
+        return DEFAULT_CACHE_SIZE;
+    }
+
+    /**
+     * Returns the warning about an invalid configuration of the cache, if any, once.
+     *
+     * @return the warning, if it has not been returned yet
+     * @since 2.20.0
+     */
+    public static Optional<String> pollConfigurationWarning() {
+        return Optional.ofNullable(CONFIGURATION_WARNING.getAndSet(null));
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the cache.
+     *
+     * @return statistics of the cache
+     * @since 2.20.0
+     */
+    public static Statistics getStatistics() {
+        return cache.getStatistics();
+    }
+
+    /**
+     * Snapshot of the cache statistics
+     *
+     * @since 2.20.0
+     */
+    public static final class Statistics {
+        private final long hits;
+
+        private final long misses;
+
+        private final long evictions;
+
+        private final int size;
+
+        Statistics(long hits, long misses, long evictions, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        /**
+         * @return number of lookups answered from the cache
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * @return number of lookups which needed to parse the version
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * @return number of entries evicted from the cache
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * @return number of entries currently held by the cache
+         */
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            long lookups = hits + misses;
+            return "hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ", size=" + size
+                    + (lookups > 0 ? String.format(", hit rate=%.1f%%", 100.0 * hits / lookups) : "");
+        }
+    }
+
+    /**
+     * The cache implementation: a {@link ConcurrentHashMap} of entries and a queue of the same entries
+     * in insertion order, acting as the clock of the second-chance eviction. Hits only mark the entry
+     * as referenced; eviction sweeps are run by at most one thread at a time, by the thread whose
+     * insertion has exceeded the maximum size.
+     */
+    static final class VersionCache {
+        private final int maximumSize;
+
+        private final boolean intern;
+
+        private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+        private final Queue<Entry> clock = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger size = new AtomicInteger();
+
+        private final ReentrantLock evictionLock = new ReentrantLock();
+
+        private final LongAdder hits = new LongAdder();
+
+        private final LongAdder misses = new LongAdder();
+
+        private final LongAdder evictions = new LongAdder();
+
+        VersionCache(int maximumSize, boolean intern) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("The maximum size of the cache must be positive: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            this.intern = intern;
+        }
+
+        ArtifactVersion get(String version) {
+            Entry entry = entries.get(version);
+            if (entry != null) {
+                if (!entry.referenced) {
+                    entry.referenced = true;
+                }
+                hits.increment();
+                return entry.version;
+            }
+            misses.increment();
+            Entry created = new Entry(version);
+            entry = entries.putIfAbsent(version, created);
+            if (entry != null) {
+                // parsed concurrently by another thread
+                return entry.version;
+            }
+            if (intern) {
+                size.incrementAndGet();
+            } else {
+                clock.add(created);
+                if (size.incrementAndGet() > maximumSize) {
+                    evict();
+                }
+            }
+            return created.version;
+        }
+
+        private void evict() {
+            do {
+                if (!evictionLock.tryLock()) {
+                    // the sweeping thread re-checks the size after releasing the lock
+                    return;
+                }
+                try {
+                    while (size.get() > maximumSize) {
+                        Entry entry = clock.poll();
+                        if (entry == null) {
+                            break;
+                        }
+                        if (entry.referenced) {
+                            entry.referenced = false;
+                            clock.add(entry);
+                        } else if (entries.remove(entry.key, entry)) {
+                            size.decrementAndGet();
+                            evictions.increment();
+                        }
+                    }
+                } finally {
+                    evictionLock.unlock();
+                }
+            } while (size.get() > maximumSize);
+        }
+
+        Statistics getStatistics() {
+            return new Statistics(hits.sum(), misses.sum(), evictions.sum(), size.get());
+        }
+    }
+
+    private static final class Entry {
+        private final String key;
+
+        private final DefaultArtifactVersion version;
+
+        private volatile boolean referenced;
+
+        Entry(String key) {
+            this.key = key;
+            this.version = new DefaultArtifactVersion(key);
         }
     }
 }
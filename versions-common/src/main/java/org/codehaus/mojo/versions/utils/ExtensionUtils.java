@@ -40,6 +40,7 @@ import org.apache.maven.project.MavenProject;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.model.io.stax.CoreExtensionsStaxReader;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+import org.codehaus.mojo.versions.rewriting.PomDocumentStore;
 
 import static java.util.Optional.ofNullable;
 
@@ -90,10 +91,34 @@ public final class ExtensionUtils {
      */
     public static Stream<Extension> getBuildExtensions(MavenProject project, Log log, boolean interpolateProperties)
             throws XMLStreamException, IOException, TransformerException {
+        return getBuildExtensions(project, log, interpolateProperties, null, null);
+    }
+
+    /**
+     * Returns a stream of build extensions configured for the given project
+     * @param project {@link MavenProject} instance
+     * @param log {@link Log} instance
+     * @param interpolateProperties when {@code false}, will return extensions based on raw model, otherwise will
+     *                              process the interpolated model
+     * @param executor executor to parse the module POMs on, or {@code null} to parse them sequentially
+     * @param documents store to read the POMs from, or {@code null} to read them from disk
+     * @return stream of build extensions
+     * @throws IOException if the model file can't be read
+     * @throws XMLStreamException if the model file can't be parsed
+     * @throws TransformerException if the model file can't be parsed
+     * @since 2.20.0
+     */
+    public static Stream<Extension> getBuildExtensions(
+            MavenProject project,
+            Log log,
+            boolean interpolateProperties,
+            SharedExecutor executor,
+            PomDocumentStore documents)
+            throws XMLStreamException, IOException, TransformerException {
         if (interpolateProperties) {
-            return getInterpolatedBuildExtensions(project, log);
+            return getInterpolatedBuildExtensions(project, log, executor, documents);
         } else {
-            return PomHelper.getChildModels(project, log).values().stream()
+            return PomHelper.getChildModels(project, log, executor, documents).values().stream()
                     .map(Model::getBuild)
                     .filter(Objects::nonNull)
                     .map(Build::getExtensions)
@@ -103,12 +128,20 @@ public final class ExtensionUtils {
         }
     }
 
-    private static Stream<Extension> getInterpolatedBuildExtensions(MavenProject project, Log log)
+    private static Stream<Extension> getInterpolatedBuildExtensions(
+            MavenProject project, Log log, SharedExecutor executor, PomDocumentStore documents)
             throws IOException, XMLStreamException, TransformerException {
-        MutableXMLStreamReader pomReader =
-                new MutableXMLStreamReader(project.getFile().toPath());
-        ModelNode rootNode = new ModelNode(PomHelper.getRawModel(pomReader.getSource(), project.getFile()), pomReader);
-        List<ModelNode> rawModels = PomHelper.getRawModelTree(rootNode, log);
+        ModelNode rootNode;
+        if (documents != null) {
+            rootNode = new ModelNode(
+                    documents.getRawModel(project.getFile()),
+                    documents.newReader(project.getFile().toPath()));
+        } else {
+            MutableXMLStreamReader pomReader =
+                    new MutableXMLStreamReader(project.getFile().toPath());
+            rootNode = new ModelNode(PomHelper.getRawModel(pomReader.getSource(), project.getFile()), pomReader);
+        }
+        List<ModelNode> rawModels = PomHelper.getRawModelTree(rootNode, log, executor, documents);
         return rawModels.stream()
                 .filter(node -> Objects.nonNull(node.getModel()))
                 .filter(node -> ofNullable(node.getModel().getBuild())
@@ -0,0 +1,77 @@
+package org.codehaus.mojo.versions.utils;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.function.Supplier;
+
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Utilities for keeping objects in the scope of a single build, i.e. shared by all mojos executed
+ * within the same {@link MavenSession}.
+ * <p>
+ * The objects are stored in the {@link SessionData} of the repository session. Callers should use
+ * keys which are unique to the class realm they are loaded in (e.g. a {@link Class} instance),
+ * so that objects are never shared between incompatible class loaders.
+ *
+ * @since 2.20.0
+ */
+public class SessionDataUtils {
+
+    private SessionDataUtils() {
+        // prevent instantiation
+    }
+
+    /**
+     * Returns the object stored under the given key in the session, creating and storing it
+     * using the provided supplier if it does not exist yet. If no session data is available,
+     * e.g. with a stubbed session, a new unshared object is returned.
+     *
+     * @param session Maven session; may be {@code null}
+     * @param key key of the object
+     * @param supplier supplier creating a new object
+     * @param <T> type of the object
+     * @return the object stored in the session under the given key
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T computeIfAbsent(MavenSession session, Object key, Supplier<T> supplier) {
+        SessionData data = ofNullable(session)
+                .map(MavenSession::getRepositorySession)
+                .map(RepositorySystemSession::getData)
+                .orElse(null);
+        if (data == null) {
+            return supplier.get();
+        }
+
+        Object value = data.get(key);
+        while (value == null) {
+            T created = supplier.get();
+            if (data.set(key, null, created)) {
+                return created;
+            }
+            value = data.get(key);
+        }
+        return (T) value;
+    }
+}
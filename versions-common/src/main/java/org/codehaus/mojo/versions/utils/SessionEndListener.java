@@ -0,0 +1,221 @@
+package org.codehaus.mojo.versions.utils;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.ExecutionListener;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * {@link ExecutionListener} running actions once the {@link MavenSession} has ended, i.e. once the goals of
+ * all projects of the reactor have been executed, whether they succeeded or not. Unlike counting goal executions,
+ * this does not depend on the goal being executed for every project, nor on the order projects are built in.
+ * <p>
+ * The listener is chained to the one of the {@link MavenExecutionRequest}, which it forwards all events to.
+ * Maven reads the listener from the request each time it fires an event, so it is installed by the first goal
+ * execution registering an action, and stays installed for the rest of the session.
+ *
+ * @since 2.20.0
+ */
+public class SessionEndListener implements ExecutionListener {
+    private final ExecutionListener delegate;
+
+    private final Map<Object, Runnable> actions = new LinkedHashMap<>();
+
+    private boolean installed;
+
+    private SessionEndListener(ExecutionListener delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Registers an action to be run once the given session has ended. Actions are run in the order they have
+     * been registered, only the first action registered under a given key being kept.
+     *
+     * @param session Maven session
+     * @param key key of the action, e.g. the class performing it
+     * @param action action to run; it should not throw any exception
+     * @return {@code false} if the action cannot be run at the end of the session, e.g. with a stubbed session,
+     *         in which case the caller needs to run it by other means
+     */
+    public static boolean onSessionEnd(MavenSession session, Object key, Runnable action) {
+        MavenExecutionRequest request = session != null ? session.getRequest() : null;
+        if (request == null
+                || session.getRepositorySession() == null
+                || session.getRepositorySession().getData() == null) {
+            return false;
+        }
+        SessionEndListener listener = SessionDataUtils.computeIfAbsent(
+                session,
+                Arrays.asList(SessionEndListener.class),
+                () -> new SessionEndListener(request.getExecutionListener()));
+        listener.install(request);
+        listener.register(key, action);
+        return true;
+    }
+
+    private void install(MavenExecutionRequest request) {
+        synchronized (request) {
+            if (!installed) {
+                request.setExecutionListener(this);
+                installed = true;
+            }
+        }
+    }
+
+    private synchronized void register(Object key, Runnable action) {
+        actions.putIfAbsent(key, action);
+    }
+
+    @Override
+    public void sessionEnded(ExecutionEvent event) {
+        try {
+            if (delegate != null) {
+                delegate.sessionEnded(event);
+            }
+        } finally {
+            Runnable[] pending;
+            synchronized (this) {
+                pending = actions.values().toArray(new Runnable[0]);
+                actions.clear();
+            }
+            for (Runnable action : pending) {
+                action.run();
+            }
+        }
+    }
+
+    @Override
+    public void projectDiscoveryStarted(ExecutionEvent event) {
+        if (delegate != null) {
+            delegate.projectDiscoveryStarted(event);
+        }
+    }
+
+    @Override
+    public void sessionStarted(ExecutionEvent event) {
+        if (delegate != null) {
+            delegate.sessionStarted(event);
+        }
+    }
+
+    @Override
+    public void projectSkipped(ExecutionEvent event) {
+        if (delegate != null) {
+            delegate.projectSkipped(event);
+        }
+    }
+
+    @Override
+    public void projectStarted(ExecutionEvent event) {
+        if (delegate != null) {
+            delegate.projectStarted(event);
+        }
+    }
+
+    @Override
+    public void projectSucceeded(ExecutionEvent event) {
+        if (delegate != null) {
+            delegate.projectSucceeded(event);
+        }
+    }
+
+    @Override
+    public void projectFailed(ExecutionEvent event) {
+        if (delegate != null) {
+            delegate.projectFailed(event);
+        }
+    }
+
+    @Override
+    public void mojoSkipped(ExecutionEvent event) {
+        if (delegate != null) {
+            delegate.mojoSkipped(event);
+        }
+    }
+
+    @Override
+    public void mojoStarted(ExecutionEvent event) {
+        if (delegate != null) {
+            delegate.mojoStarted(event);
+        }
+    }
+
+    @Override
+    public void mojoSucceeded(ExecutionEvent event) {
+        if (delegate != null) {
+            delegate.mojoSucceeded(event);
+        }
+    }
+
+    @Override
+    public void mojoFailed(ExecutionEvent event) {
+        if (delegate != null) {
+            delegate.mojoFailed(event);
+        }
+    }
+
+    @Override
+    public void forkStarted(ExecutionEvent event) {
+        if (delegate != null) {
+            delegate.forkStarted(event);
+        }
+    }
+
+    @Override
+    public void forkSucceeded(ExecutionEvent event) {
+        if (delegate != null) {
+            delegate.forkSucceeded(event);
+        }
+    }
+
+    @Override
+    public void forkFailed(ExecutionEvent event) {
+        if (delegate != null) {
+            delegate.forkFailed(event);
+        }
+    }
+
+    @Override
+    public void forkedProjectStarted(ExecutionEvent event) {
+        if (delegate != null) {
+            delegate.forkedProjectStarted(event);
+        }
+    }
+
+    @Override
+    public void forkedProjectSucceeded(ExecutionEvent event) {
+        if (delegate != null) {
+            delegate.forkedProjectSucceeded(event);
+        }
+    }
+
+    @Override
+    public void forkedProjectFailed(ExecutionEvent event) {
+        if (delegate != null) {
+            delegate.forkedProjectFailed(event);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package org.codehaus.mojo.versions.utils;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * Executor shared by all helpers and mojos running within the same {@link MavenSession},
+ * used to run version lookups and other independent tasks in parallel.
+ * <p>
+ * By default, tasks are run on a {@link ForkJoinPool} of the configured parallelism. Tasks may
+ * submit and wait for subtasks (e.g. plugin dependency lookups nested in a plugin lookup):
+ * waiting within the pool is compensated, so nested lookups never starve the pool.
+ * Alternatively, on JDK 21 and newer, tasks can be run on virtual threads.
+ * <p>
+ * Worker threads are daemon threads which are released once the pool becomes idle, so the executor
+ * does not need to be shut down explicitly. To release them deterministically, goal executions
+ * {@link #acquire(MavenSession) acquire} the executors of their session for the time they run: once the last
+ * concurrent goal execution has released them, they are {@link #shutdown(MavenSession) shut down}. Tasks already
+ * submitted still complete, and a new pool is created if further tasks are submitted afterwards.
+ *
+ * @since 2.20.0
+ */
+public class SharedExecutor {
+
+    /**
+     * Default number of parallel lookups
+     */
+    public static final int DEFAULT_PARALLELISM = 5;
+
+    private ExecutorService executor;
+
+    private final int parallelism;
+
+    private final boolean virtualThreads;
+
+    SharedExecutor(int parallelism, boolean virtualThreads) {
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        ExecutorService virtualThreadExecutor = virtualThreads ? newVirtualThreadPerTaskExecutor() : null;
+        this.virtualThreads = virtualThreadExecutor != null;
+        this.executor = virtualThreadExecutor != null ? virtualThreadExecutor : newForkJoinPool(this.parallelism);
+    }
+
+    /**
+     * Returns the executor shared within the given session, creating it if it does not exist yet.
+     * Executors with different configurations are kept separately.
+     *
+     * @param session Maven session; if {@code null} or stubbed, a new executor is returned
+     * @param parallelism maximum number of tasks run in parallel; {@code 0} or less means
+     *                    the number of available processors. Ignored if virtual threads are used.
+     * @param virtualThreads if {@code true}, tasks will be run on virtual threads, provided the JDK supports them
+     * @return the shared executor
+     */
+    public static SharedExecutor forSession(MavenSession session, int parallelism, boolean virtualThreads) {
+        List<SharedExecutor> created = new ArrayList<>(1);
+        SharedExecutor shared = SessionDataUtils.computeIfAbsent(
+                session, Arrays.asList(SharedExecutor.class, parallelism, virtualThreads), () -> {
+                    SharedExecutor executor = new SharedExecutor(parallelism, virtualThreads);
+                    created.add(executor);
+                    return executor;
+                });
+        // only the executor stored in the session is registered, those which lost a race are released at once
+        for (SharedExecutor executor : created) {
+            if (executor == shared) {
+                getSessionExecutors(session).add(executor);
+            } else {
+                executor.shutdown();
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Acquires the executors shared within the given session for the duration of a goal execution.
+     * Once every goal execution which has acquired them has closed its lease, the executors of the session
+     * are {@link #shutdown(MavenSession) shut down}, so that their threads are released while no goal
+     * execution needs them.
+     *
+     * @param session Maven session; if {@code null} or stubbed, closing the lease shuts nothing down
+     * @return lease to close once the goal execution has completed
+     */
+    public static Lease acquire(MavenSession session) {
+        Lease lease = new Lease(session);
+        synchronized (lease.count) {
+            lease.count.incrementAndGet();
+        }
+        return lease;
+    }
+
+    /**
+     * Shuts down all executors shared within the given session, releasing their threads once the tasks
+     * already submitted have completed. The executors remain usable: tasks submitted afterwards are run
+     * on a newly created pool.
+     *
+     * @param session Maven session; if {@code null} or stubbed, nothing is shut down
+     */
+    public static void shutdown(MavenSession session) {
+        getSessionExecutors(session).forEach(SharedExecutor::shutdown);
+    }
+
+    static Set<SharedExecutor> getSessionExecutors(MavenSession session) {
+        return SessionDataUtils.computeIfAbsent(
+                session,
+                Arrays.asList(SharedExecutor.class, Set.class),
+                () -> Collections.newSetFromMap(new ConcurrentHashMap<>()));
+    }
+
+    /**
+     * Lease on the executors shared within a session, returned by {@link #acquire(MavenSession)}
+     */
+    public static final class Lease implements AutoCloseable {
+        private final MavenSession session;
+
+        private final AtomicInteger count;
+
+        private boolean closed;
+
+        private Lease(MavenSession session) {
+            this.session = session;
+            this.count = SessionDataUtils.computeIfAbsent(
+                    session, Arrays.asList(SharedExecutor.class, Lease.class), AtomicInteger::new);
+        }
+
+        /**
+         * Releases the lease, shutting down the executors of the session if no other lease is held on them.
+         * Closing a lease more than once has no further effect.
+         */
+        @Override
+        public void close() {
+            // acquiring is synchronized on the counter as well, so no lease can be acquired during the shutdown
+            synchronized (count) {
+                if (!closed) {
+                    closed = true;
+                    if (count.decrementAndGet() == 0) {
+                        shutdown(session);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Shuts down the executor, releasing its threads once the tasks already submitted have completed.
+     * Tasks submitted afterwards are run on a newly created pool.
+     */
+    public synchronized void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Returns {@code true} if the executor has been shut down and no task has been submitted since
+     *
+     * @return {@code true} if the executor is shut down
+     */
+    public synchronized boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * Schedules the given task for execution
+     *
+     * @param task task to run
+     * @param <T> type of the result
+     * @return future completing with the result of the task, or exceptionally with the exception it threw
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable runnable = () -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        };
+        while (true) {
+            ExecutorService current = getExecutor();
+            try {
+                current.execute(runnable);
+                return result;
+            } catch (RejectedExecutionException e) {
+                if (!current.isShutdown()) {
+                    throw e;
+                }
+                // shut down concurrently, retrying on a new pool
+            }
+        }
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor.isShutdown()) {
+            executor = virtualThreads ? newVirtualThreadPerTaskExecutor() : newForkJoinPool(parallelism);
+        }
+        return executor;
+    }
+
+    /**
+     * Returns the maximum number of tasks run in parallel
+     *
+     * @return maximum number of tasks run in parallel
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns {@code true} if the tasks are run on virtual threads
+     *
+     * @return {@code true} if the tasks are run on virtual threads
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    private static ForkJoinPool newForkJoinPool(int parallelism) {
+        // workers need to see the same classes as the thread creating the pool, e.g. the plugin realm
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return new ForkJoinPool(
+                parallelism,
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("versions-lookup-" + thread.getPoolIndex());
+                    thread.setContextClassLoader(contextClassLoader);
+                    return thread;
+                },
+                null,
+                false);
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService)
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // virtual threads not supported by the current JDK
+            return null;
+        }
+    }
+}
@@ -22,18 +22,26 @@ package org.codehaus.mojo.versions.api;
 import java.io.File;
 import java.net.URI;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.handler.DefaultArtifactHandler;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Plugin;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.wagon.ConnectionException;
@@ -44,8 +52,11 @@ import org.apache.maven.wagon.authentication.AuthenticationException;
 import org.apache.maven.wagon.authentication.AuthenticationInfo;
 import org.apache.maven.wagon.authorization.AuthorizationException;
 import org.apache.maven.wagon.proxy.ProxyInfo;
+import org.codehaus.mojo.versions.model.RuleSet;
+import org.codehaus.mojo.versions.rule.RuleService;
 import org.codehaus.mojo.versions.rule.RulesServiceBuilder;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
+import org.codehaus.mojo.versions.utils.DependencyBuilder;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.repository.RemoteRepository;
@@ -57,17 +68,21 @@ import org.eclipse.aether.version.InvalidVersionSpecificationException;
 import org.eclipse.aether.version.Version;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.IsIterableContaining.hasItems;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -76,6 +91,8 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -174,6 +191,339 @@ class DefaultVersionsHelperTest {
         assertThat(actual, hasItems(one, two, three, illegal));
     }
 
+    @Test
+    void testMetadataCacheSkipsResolution(@TempDir Path cacheDir) throws Exception {
+        when(artifact.getGroupId()).thenReturn("other.company");
+        when(artifact.getArtifactId()).thenReturn("artifact-two");
+        when(artifact.getType()).thenReturn("jar");
+        when(artifact.getArtifactHandler()).thenReturn(new DefaultArtifactHandler("default"));
+        when(repositorySystem.resolveVersionRange(any(), any(VersionRangeRequest.class)))
+                .then(i -> new VersionRangeResult(i.getArgument(1))
+                        .setVersions(Arrays.asList(parseVersion("1.0"), parseVersion("2.0"))));
+
+        for (int i = 0; i < 2; i++) {
+            VersionsHelper helper = new DefaultVersionsHelper.Builder()
+                    .withArtifactFactory(artifactFactory)
+                    .withPomHelper(pomHelper)
+                    .withRepositorySystem(repositorySystem)
+                    .withLog(log)
+                    .withMavenSession(mavenSession)
+                    .withRuleService(new RuleService(log, new RuleSet()))
+                    .withMetadataCacheTtl(3600)
+                    .withMetadataCacheDirectory(cacheDir.toFile())
+                    .build();
+            assertThat(
+                    Arrays.stream(helper.lookupArtifactVersions(artifact, false).getVersions(true))
+                            .map(ArtifactVersion::toString)
+                            .collect(Collectors.toList()),
+                    hasItems("1.0", "2.0"));
+        }
+        verify(repositorySystem, times(1)).resolveVersionRange(any(), any(VersionRangeRequest.class));
+    }
+
+    @Test
+    void testMetadataCacheIsRefreshedWhenUpdatesAreForced(@TempDir Path cacheDir) throws Exception {
+        when(artifact.getGroupId()).thenReturn("other.company");
+        when(artifact.getArtifactId()).thenReturn("artifact-two");
+        when(artifact.getType()).thenReturn("jar");
+        when(artifact.getArtifactHandler()).thenReturn(new DefaultArtifactHandler("default"));
+        when(repositorySystem.resolveVersionRange(any(), any(VersionRangeRequest.class)))
+                .thenReturn(new VersionRangeResult(new VersionRangeRequest())
+                        .setVersions(singletonList(parseVersion("1.0"))))
+                .thenReturn(new VersionRangeResult(new VersionRangeRequest())
+                        .setVersions(Arrays.asList(parseVersion("1.0"), parseVersion("2.0"))));
+        DefaultVersionsHelper.Builder builder = new DefaultVersionsHelper.Builder()
+                .withArtifactFactory(artifactFactory)
+                .withPomHelper(pomHelper)
+                .withRepositorySystem(repositorySystem)
+                .withLog(log)
+                .withMavenSession(mavenSession)
+                .withRuleService(new RuleService(log, new RuleSet()))
+                .withMetadataCacheTtl(3600)
+                .withMetadataCacheDirectory(cacheDir.toFile());
+        assertThat(builder.build().lookupArtifactVersions(artifact, false).getVersions(true).length, is(1));
+
+        // -U: the cache is not read, but refreshed
+        DefaultRepositorySystemSession forcedUpdates = new DefaultRepositorySystemSession();
+        forcedUpdates.setUpdatePolicy(RepositoryPolicy.UPDATE_POLICY_ALWAYS);
+        when(mavenSession.getRepositorySession()).thenReturn(forcedUpdates);
+        assertThat(builder.build().lookupArtifactVersions(artifact, false).getVersions(true).length, is(2));
+        verify(repositorySystem, times(2)).resolveVersionRange(any(), any(VersionRangeRequest.class));
+
+        when(mavenSession.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+        assertThat(builder.build().lookupArtifactVersions(artifact, false).getVersions(true).length, is(2));
+        verify(repositorySystem, times(2)).resolveVersionRange(any(), any(VersionRangeRequest.class));
+    }
+
+    @Test
+    void testMetadataCacheIsNotUsedOffline(@TempDir Path cacheDir) throws Exception {
+        when(artifact.getGroupId()).thenReturn("other.company");
+        when(artifact.getArtifactId()).thenReturn("artifact-two");
+        when(artifact.getType()).thenReturn("jar");
+        when(artifact.getArtifactHandler()).thenReturn(new DefaultArtifactHandler("default"));
+        when(repositorySystem.resolveVersionRange(any(), any(VersionRangeRequest.class)))
+                .then(i -> new VersionRangeResult(i.getArgument(1)).setVersions(singletonList(parseVersion("1.0"))));
+        when(mavenSession.isOffline()).thenReturn(true);
+        DefaultVersionsHelper.Builder builder = new DefaultVersionsHelper.Builder()
+                .withArtifactFactory(artifactFactory)
+                .withPomHelper(pomHelper)
+                .withRepositorySystem(repositorySystem)
+                .withLog(log)
+                .withMavenSession(mavenSession)
+                .withRuleService(new RuleService(log, new RuleSet()))
+                .withMetadataCacheTtl(3600)
+                .withMetadataCacheDirectory(cacheDir.toFile());
+
+        builder.build().lookupArtifactVersions(artifact, false);
+        builder.build().lookupArtifactVersions(artifact, false);
+        verify(repositorySystem, times(2)).resolveVersionRange(any(), any(VersionRangeRequest.class));
+        try (Stream<Path> entries = Files.list(cacheDir)) {
+            assertThat(entries.count(), is(0L));
+        }
+    }
+
+    @Test
+    void testPrefetchedVersionsAreKeptUntilTheNextBatch() throws Exception {
+        when(artifact.getGroupId()).thenReturn("other.company");
+        when(artifact.getArtifactId()).thenReturn("plugin");
+        when(artifact.getType()).thenReturn("maven-plugin");
+        when(artifact.getArtifactHandler()).thenReturn(new DefaultArtifactHandler("maven-plugin"));
+        when(artifactFactory.createMavenPluginArtifact(anyString(), anyString(), anyString()))
+                .thenReturn(artifact);
+        when(repositorySystem.resolveVersionRange(any(), any(VersionRangeRequest.class)))
+                .then(i -> new VersionRangeResult(i.getArgument(1))
+                        .setVersions(Arrays.asList(parseVersion("1.0"), parseVersion("2.0"))));
+        VersionsHelper helper = new DefaultVersionsHelper.Builder()
+                .withArtifactFactory(artifactFactory)
+                .withPomHelper(pomHelper)
+                .withRepositorySystem(repositorySystem)
+                .withLog(log)
+                .withMavenSession(mavenSession)
+                .withRuleService(new RuleService(log, new RuleSet()))
+                .build();
+        Plugin plugin = new Plugin();
+        plugin.setGroupId("other.company");
+        plugin.setArtifactId("plugin");
+        plugin.setVersion("1.0");
+
+        helper.prefetchPluginsVersions(Stream.of(plugin));
+        assertThat(helper.lookupArtifactVersions(artifact, true).getVersions(true).length, is(2));
+        verify(repositorySystem, times(1)).resolveVersionRange(any(), any(VersionRangeRequest.class));
+
+        // a new batch replaces the versions of the previous one, lookups outside of batches are not memoized
+        helper.prefetchPluginsVersions(Stream.empty());
+        helper.lookupArtifactVersions(artifact, true);
+        helper.lookupArtifactVersions(artifact, true);
+        verify(repositorySystem, times(3)).resolveVersionRange(any(), any(VersionRangeRequest.class));
+    }
+
+    @Test
+    void testConcurrentLookupsAreCoalesced() throws Exception {
+        when(artifact.getGroupId()).thenReturn("other.company");
+        when(artifact.getArtifactId()).thenReturn("artifact-two");
+        when(artifact.getType()).thenReturn("jar");
+        when(artifact.getArtifactHandler()).thenReturn(new DefaultArtifactHandler("default"));
+        CountDownLatch resolving = new CountDownLatch(1);
+        CountDownLatch attached = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // the second lookup logs that it waits for the pending resolution before waiting for it
+        when(log.isDebugEnabled()).thenReturn(true);
+        doAnswer(i -> {
+                    if (i.getArgument(0).toString().startsWith("Waiting for pending resolution")) {
+                        attached.countDown();
+                    }
+                    return null;
+                })
+                .when(log)
+                .debug(any(CharSequence.class));
+        when(repositorySystem.resolveVersionRange(any(), any(VersionRangeRequest.class)))
+                .then(i -> {
+                    resolving.countDown();
+                    assertTrue(release.await(30, TimeUnit.SECONDS));
+                    return new VersionRangeResult(i.getArgument(1))
+                            .setVersions(Arrays.asList(parseVersion("1.0"), parseVersion("2.0")));
+                });
+        VersionsHelper helper = new DefaultVersionsHelper.Builder()
+                .withArtifactFactory(artifactFactory)
+                .withPomHelper(pomHelper)
+                .withRepositorySystem(repositorySystem)
+                .withLog(log)
+                .withMavenSession(mavenSession)
+                .withRuleService(new RuleService(log, new RuleSet()))
+                .build();
+
+        CompletableFuture<ArtifactVersions> first = new CompletableFuture<>();
+        CompletableFuture<ArtifactVersions> second = new CompletableFuture<>();
+        Thread firstThread = lookupThread(helper, first);
+        firstThread.start();
+        assertTrue(resolving.await(30, TimeUnit.SECONDS));
+        Thread secondThread = lookupThread(helper, second);
+        secondThread.start();
+        assertTrue(attached.await(30, TimeUnit.SECONDS));
+        release.countDown();
+
+        assertThat(first.get(30, TimeUnit.SECONDS).getVersions(true).length, is(2));
+        assertThat(second.get(30, TimeUnit.SECONDS).getVersions(true).length, is(2));
+        verify(repositorySystem, times(1)).resolveVersionRange(any(), any(VersionRangeRequest.class));
+    }
+
+    @Test
+    void testGroupedLookupSharesDependencies() throws Exception {
+        when(artifact.getGroupId()).thenReturn("other.company");
+        when(artifact.getArtifactId()).thenReturn("artifact-two");
+        when(artifact.getVersion()).thenReturn("1.0");
+        when(artifact.getType()).thenReturn("jar");
+        when(artifact.getArtifactHandler()).thenReturn(new DefaultArtifactHandler("default"));
+        when(artifactFactory.createArtifact(any(Dependency.class))).thenReturn(artifact);
+        when(repositorySystem.resolveVersionRange(any(), any(VersionRangeRequest.class)))
+                .then(i -> new VersionRangeResult(i.getArgument(1))
+                        .setVersions(Arrays.asList(parseVersion("1.0"), parseVersion("2.0"))));
+        VersionsHelper helper = new DefaultVersionsHelper.Builder()
+                .withArtifactFactory(artifactFactory)
+                .withPomHelper(pomHelper)
+                .withRepositorySystem(repositorySystem)
+                .withLog(log)
+                .withMavenSession(mavenSession)
+                .withRuleService(new RuleService(log, new RuleSet()))
+                .build();
+
+        Dependency dependency = DependencyBuilder.newBuilder()
+                .withGroupId("other.company")
+                .withArtifactId("artifact-two")
+                .withVersion("1.0")
+                .build();
+        Dependency managedDependency = DependencyBuilder.newBuilder()
+                .withGroupId("other.company")
+                .withArtifactId("artifact-two")
+                .withVersion("1.0")
+                .build();
+        Map<String, List<Dependency>> groups = new LinkedHashMap<>();
+        groups.put("dependencyManagement", singletonList(managedDependency));
+        groups.put("dependencies", singletonList(dependency));
+
+        Map<String, Map<Dependency, ArtifactVersions>> updates = helper.lookupDependenciesUpdatesAsync(
+                        groups, false, true, false)
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(updates.keySet(), contains("dependencyManagement", "dependencies"));
+        ArtifactVersions managedVersions = updates.get("dependencyManagement").get(managedDependency);
+        ArtifactVersions versions = updates.get("dependencies").get(dependency);
+        assertThat(
+                Arrays.stream(versions.getVersions(true))
+                        .map(ArtifactVersion::toString)
+                        .collect(Collectors.toList()),
+                contains("2.0"));
+        assertThat(managedVersions, equalTo(versions));
+        // each group gets its own instance
+        assertThat(managedVersions, not(sameInstance(versions)));
+        // the lookup is shared
+        verify(artifactFactory, times(1)).createArtifact(any(Dependency.class));
+        verify(repositorySystem, times(1)).resolveVersionRange(any(), any(VersionRangeRequest.class));
+    }
+
+    @Test
+    void testGroupedLookupResolvesEachArtifactOnce() throws Exception {
+        when(artifactFactory.createArtifact(any(Dependency.class))).then(i -> {
+            Dependency dependency = i.getArgument(0);
+            Artifact artifact = mock(Artifact.class);
+            when(artifact.getGroupId()).thenReturn(dependency.getGroupId());
+            when(artifact.getArtifactId()).thenReturn(dependency.getArtifactId());
+            when(artifact.getVersion()).thenReturn(dependency.getVersion());
+            when(artifact.getType()).thenReturn("jar");
+            when(artifact.getArtifactHandler()).thenReturn(new DefaultArtifactHandler("default"));
+            return artifact;
+        });
+        when(repositorySystem.resolveVersionRange(any(), any(VersionRangeRequest.class)))
+                .then(i -> new VersionRangeResult(i.getArgument(1))
+                        .setVersions(Arrays.asList(parseVersion("1.0"), parseVersion("2.0"))));
+        VersionsHelper helper = new DefaultVersionsHelper.Builder()
+                .withArtifactFactory(artifactFactory)
+                .withPomHelper(pomHelper)
+                .withRepositorySystem(repositorySystem)
+                .withLog(log)
+                .withMavenSession(mavenSession)
+                .withRuleService(new RuleService(log, new RuleSet()))
+                .build();
+
+        // e.g. the same artifact used with different versions by two modules of an aggregate report
+        Dependency first = DependencyBuilder.newBuilder()
+                .withGroupId("other.company")
+                .withArtifactId("artifact-two")
+                .withVersion("1.0")
+                .build();
+        Dependency second = DependencyBuilder.newBuilder()
+                .withGroupId("other.company")
+                .withArtifactId("artifact-two")
+                .withVersion("2.0")
+                .build();
+        Map<String, List<Dependency>> groups = new LinkedHashMap<>();
+        groups.put("first", singletonList(first));
+        groups.put("second", singletonList(second));
+
+        Map<String, Map<Dependency, ArtifactVersions>> updates = helper.lookupDependenciesUpdatesAsync(
+                        groups, false, true, false)
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(
+                Arrays.stream(updates.get("first").get(first).getVersions(true))
+                        .map(ArtifactVersion::toString)
+                        .collect(Collectors.toList()),
+                contains("2.0"));
+        assertThat(updates.get("second").get(second).getVersions(true).length, is(0));
+        verify(repositorySystem, times(1)).resolveVersionRange(any(), any(VersionRangeRequest.class));
+    }
+
+    private Thread lookupThread(VersionsHelper helper, CompletableFuture<ArtifactVersions> result) {
+        return new Thread(() -> {
+            try {
+                result.complete(helper.lookupArtifactVersions(artifact, false));
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    @Test
+    void testPropertiesSharingAnArtifactResolveItOnce() throws Exception {
+        when(artifact.getGroupId()).thenReturn("other.company");
+        when(artifact.getArtifactId()).thenReturn("artifact-two");
+        when(artifact.getType()).thenReturn("jar");
+        when(artifact.getArtifactHandler()).thenReturn(new DefaultArtifactHandler("default"));
+        when(artifactFactory.createArtifact(any(Dependency.class))).thenReturn(artifact);
+        when(repositorySystem.resolveVersionRange(any(), any(VersionRangeRequest.class)))
+                .then(i -> new VersionRangeResult(i.getArgument(1))
+                        .setVersions(Arrays.asList(parseVersion("1.0"), parseVersion("2.0"))));
+        VersionsHelper helper = new DefaultVersionsHelper.Builder()
+                .withArtifactFactory(artifactFactory)
+                .withPomHelper(pomHelper)
+                .withRepositorySystem(repositorySystem)
+                .withLog(log)
+                .withMavenSession(mavenSession)
+                .withRuleService(new RuleService(log, new RuleSet()))
+                .build();
+
+        Dependency dependency = DependencyBuilder.newBuilder()
+                .withGroupId("other.company")
+                .withArtifactId("artifact-two")
+                .withVersion("1.0")
+                .build();
+        Property first = new Property("first.version");
+        first.setDependencies(new Dependency[] {dependency});
+        Property second = new Property("second.version");
+        second.setDependencies(new Dependency[] {dependency});
+
+        Map<Property, PropertyVersions> result =
+                helper.getVersionPropertiesMap(VersionsHelper.VersionPropertiesMapRequest.builder()
+                        .withMavenProject(new MavenProject())
+                        .withPropertyDefinitions(new Property[] {first, second})
+                        .withIncludeParent(false)
+                        .withAutoLinkItems(false)
+                        .build());
+        assertThat(result.keySet(), hasSize(2));
+        result.values().forEach(versions -> assertThat(versions.getVersions(true).length, is(2)));
+        verify(repositorySystem, times(1)).resolveVersionRange(any(), any(VersionRangeRequest.class));
+    }
+
     @Test
     void testMVERSIONS159ExcludedAndNotIncluded() throws Exception {
         VersionsHelper helper = createHelper();
@@ -0,0 +1,111 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Copyright MojoHaus and Contributors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.codehaus.mojo.versions.model.IgnoreVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IgnoreVersionMatcherTest {
+
+    private static final List<IgnoreVersion> IGNORE_VERSIONS = Arrays.asList(
+            aIgnoreVersion("1.0.1", IgnoreVersion.TYPE_EXACT),
+            aIgnoreVersion(".*-SNAPSHOT", IgnoreVersion.TYPE_REGEX),
+            aIgnoreVersion("(?i).*-alpha\\d*", IgnoreVersion.TYPE_REGEX),
+            aIgnoreVersion("(\\d+)\\.\\1", IgnoreVersion.TYPE_REGEX),
+            aIgnoreVersion("\\Q3.0-rc", IgnoreVersion.TYPE_REGEX),
+            aIgnoreVersion("[2.0,2.1)", IgnoreVersion.TYPE_RANGE),
+            aIgnoreVersion("4.0", IgnoreVersion.TYPE_RANGE));
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "1.0.0",
+                "1.0.1",
+                "1.0.2-SNAPSHOT",
+                "1.1-ALPHA1",
+                "1.1-alpha",
+                "5.5",
+                "5.6",
+                "3.0-rc",
+                "3.0-rc1",
+                "2.0.5",
+                "2.1",
+                "4.0",
+                "4.0.1"
+            })
+    void isIgnoredMatchesHelper(String version) {
+        IgnoreVersionMatcher matcher = IgnoreVersionMatcher.of(IGNORE_VERSIONS);
+        boolean expected = IGNORE_VERSIONS.stream().anyMatch(i -> IgnoreVersionHelper.isVersionIgnored(version, i));
+
+        assertEquals(expected, matcher.isIgnored(version));
+        assertEquals(expected, matcher.findIgnoringRule(version).isPresent());
+    }
+
+    @Test
+    void findIgnoringRuleReturnsFirstMatchingRule() {
+        IgnoreVersionMatcher matcher = IgnoreVersionMatcher.of(IGNORE_VERSIONS);
+
+        assertEquals(IGNORE_VERSIONS.get(5), matcher.findIgnoringRule("2.0.1").orElse(null));
+        assertEquals(IGNORE_VERSIONS.get(3), matcher.findIgnoringRule("7.7").orElse(null));
+    }
+
+    @Test
+    void emptyMatcherIgnoresNothing() {
+        IgnoreVersionMatcher matcher = IgnoreVersionMatcher.of(Collections.emptyList());
+
+        assertTrue(matcher.isEmpty());
+        assertFalse(matcher.isIgnored("1.0.0"));
+    }
+
+    @Test
+    void regularExpressionsWithDuplicateGroupNamesAreMatchedSeparately() {
+        IgnoreVersionMatcher matcher = IgnoreVersionMatcher.of(Stream.of("(?<q>alpha)", "(?<q>beta)")
+                .map(v -> aIgnoreVersion(".*-" + v, IgnoreVersion.TYPE_REGEX))
+                .collect(Collectors.toList()));
+
+        assertTrue(matcher.isIgnored("1.0-alpha"));
+        assertTrue(matcher.isIgnored("1.0-beta"));
+        assertFalse(matcher.isIgnored("1.0"));
+    }
+
+    @Test
+    void invalidRangeShouldThrowException() {
+        List<IgnoreVersion> ignoreVersions =
+                Collections.singletonList(aIgnoreVersion("[1,,", IgnoreVersion.TYPE_RANGE));
+
+        assertThrows(IgnoreVersionHelper.IgnoreVersionException.class, () -> IgnoreVersionMatcher.of(ignoreVersions));
+    }
+
+    private static IgnoreVersion aIgnoreVersion(String version, String type) {
+        IgnoreVersion ignoreVersion = new IgnoreVersion();
+        ignoreVersion.setVersion(version);
+        ignoreVersion.setType(type);
+        return ignoreVersion;
+    }
+}
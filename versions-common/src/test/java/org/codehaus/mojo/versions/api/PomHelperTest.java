@@ -29,6 +29,7 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -45,7 +46,9 @@ import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugin.logging.SystemStreamLog;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+import org.codehaus.mojo.versions.rewriting.PomDocumentStore;
 import org.codehaus.mojo.versions.utils.ModelNode;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Test;
@@ -61,6 +64,7 @@ import static org.apache.commons.io.IOUtils.toInputStream;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.containsStringIgnoringCase;
 import static org.hamcrest.Matchers.hasEntry;
@@ -270,6 +274,78 @@ class PomHelperTest {
         }
     }
 
+    @Test
+    void testApplyEditsInOnePass()
+            throws XMLStreamException, IOException, TransformerException, XmlPullParserException {
+        URL url = getClass().getResource("PomHelperTest.implicitProperties.pom.xml");
+        assert url != null;
+        File file = new File(url.getPath());
+        String input = PomHelper.readXml(file).getLeft();
+        Model model = new MavenXpp3Reader().read(new StringReader(input));
+        PomEdits.Edit dependencyA = PomEdits.dependency("propertyAValue", "artifactA", "version", "newVersionA");
+        PomEdits.Edit dependencyB = PomEdits.dependency("groupB", "artifactB", "versionB", "newVersionB");
+        PomEdits.Edit dependencyC = PomEdits.dependency("groupC", "artifactC", "versionC", "newVersionC");
+        PomEdits.Edit missing = PomEdits.dependency("groupX", "artifactX", "versionX", "newVersionX");
+        try (MutableXMLStreamReader pom = new MutableXMLStreamReader(file.toPath())) {
+            assertThat(
+                    PomHelper.applyEdits(
+                            pom,
+                            PomEdits.builder()
+                                    .withEdit(dependencyA)
+                                    .withEdit(missing)
+                                    .withEdit(dependencyB)
+                                    .withEdit(dependencyC)
+                                    .build(),
+                            model,
+                            log),
+                    containsInAnyOrder(dependencyA, dependencyB, dependencyC));
+            Model newModel = new MavenXpp3Reader().read(new StringReader(pom.getSource()));
+            assertThat(
+                    newModel.getDependencies(),
+                    hasItem(allOf(
+                            hasProperty("artifactId", is("artifactA")), hasProperty("version", is("newVersionA")))));
+            assertThat(
+                    newModel.getDependencyManagement().getDependencies(),
+                    hasItem(allOf(
+                            hasProperty("artifactId", is("artifactB")), hasProperty("version", is("newVersionB")))));
+            assertThat(
+                    newModel.getProfiles().get(0).getDependencies(),
+                    hasItem(allOf(
+                            hasProperty("artifactId", is("artifactC")), hasProperty("version", is("newVersionC")))));
+        }
+    }
+
+    @Test
+    void testApplyPropertyEditsInOnePass() throws Exception {
+        URL url = getClass().getResource("PomHelperTest.profiles.pom.xml");
+        assert url != null;
+        try (MutableXMLStreamReader pom = new MutableXMLStreamReader(Paths.get(url.toURI()))) {
+            assertThat(
+                    PomHelper.applyEdits(
+                                    pom,
+                                    PomEdits.builder()
+                                            .withPropertyValue(null, "propertyB", "newValueB")
+                                            .withPropertyValue("profileB", "profileBPropertyA", "newValueBA")
+                                            .withPropertyValue("profileA", "profileAPropertyB", "newValueAB")
+                                            .withPropertyValue("profileA", "profileBPropertyA", "notApplied")
+                                            .build(),
+                                    null,
+                                    log)
+                            .size(),
+                    is(3));
+            String pomString = pom.getSource();
+            assertThat(
+                    pomString,
+                    allOf(
+                            containsString("<propertyA>propertyAValue</propertyA>"),
+                            containsString("<propertyB>newValueB</propertyB>"),
+                            containsString("<profileAPropertyA>profileAPropertyAValue</profileAPropertyA>"),
+                            containsString("<profileAPropertyB>newValueAB</profileAPropertyB>"),
+                            containsString("<profileBPropertyA>newValueBA</profileBPropertyA>"),
+                            containsString("<profileBPropertyB>profileBPropertyBValue</profileBPropertyB>")));
+        }
+    }
+
     @Test
     void testGroupIdNotOnChildPom() throws Exception {
         URL url = getClass().getResource("PomHelperTest.noGroupIdOnChild.pom.xml");
@@ -398,6 +474,15 @@ class PomHelperTest {
                 is("<super-parent><parent><child>value</child></parent></super-parent>"));
     }
 
+    @Test
+    void testGetPropertyReferences() {
+        assertThat(PomHelper.getPropertyReferences("1.0"), hasSize(0));
+        assertThat(PomHelper.getPropertyReferences("${b.version}-${a.version}"), contains("a.version", "b.version"));
+        assertThat(PomHelper.getPropertyReferences("[${lower},${upper})"), contains("lower", "upper"));
+        assertThat(PomHelper.getPropertyReferences("${outer${inner}}"), contains("inner"));
+        assertThat(PomHelper.getPropertyReferences("${unterminated"), hasSize(0));
+    }
+
     @Test
     void testIssue505ChildModules() throws Exception {
         MavenProject project = new MavenProject();
@@ -435,8 +520,13 @@ class PomHelperTest {
             MavenProject project = new MavenProject();
             project.setFile(tempDirectory.resolve("pom.xml").toFile());
 
+            Map<File, Model> childModels = PomHelper.getChildModels(project, new SystemStreamLog());
+            assertThat(childModels.entrySet(), hasSize(createdModels.size()));
             assertThat(
-                    PomHelper.getChildModels(project, new SystemStreamLog()).entrySet(), hasSize(createdModels.size()));
+                    new ArrayList<>(PomHelper.getChildModels(
+                                    project, new SystemStreamLog(), SharedExecutor.forSession(null, 4, false), null)
+                            .keySet()),
+                    is(new ArrayList<>(childModels.keySet())));
         } finally {
             FileUtils.deleteDirectory(tempDirectory.toFile());
         }
@@ -467,6 +557,25 @@ class PomHelperTest {
                 is("grandparent childA grandchild childB"));
     }
 
+    @Test
+    void testGetRawModelTreeInParallel() throws Exception {
+        Log log = mock(Log.class);
+        Path path = Paths.get("src/test/resources/org/codehaus/mojo/versions/api/getRawModelTree/pom.xml");
+        MutableXMLStreamReader pomReader = new MutableXMLStreamReader(path);
+        List<ModelNode> rawModelTree = PomHelper.getRawModelTree(
+                new ModelNode(PomHelper.getRawModel(pomReader.getSource(), path.toFile()), pomReader),
+                log,
+                SharedExecutor.forSession(null, 4, false),
+                PomDocumentStore.forSession(null));
+        assertThat(
+                rawModelTree.stream()
+                        .map(ModelNode::getModel)
+                        .map(Model::getArtifactId)
+                        .collect(Collectors.joining(" ")),
+                is("grandparent childA grandchild childB"));
+        assertThat(rawModelTree.get(2).getParent().get(), is(rawModelTree.get(1)));
+    }
+
     @Test
     void testFindProperty() throws Exception {
         Log log = mock(Log.class);
@@ -0,0 +1,120 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.artifact.versioning.Restriction;
+import org.codehaus.mojo.versions.ordering.BoundArtifactVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.codehaus.mojo.versions.api.Segment.INCREMENTAL;
+import static org.codehaus.mojo.versions.api.Segment.MINOR;
+import static org.codehaus.mojo.versions.utils.ArtifactVersionUtils.version;
+import static org.codehaus.mojo.versions.utils.ArtifactVersionUtils.versions;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.hasToString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class VersionIndexTest {
+
+    private static final ArtifactVersion[] VERSIONS = versions(
+            "2.0", "1.0", "1.1-SNAPSHOT", "1.1", "1.1.1", "1.2-rc1", "1.2", "2.0-SNAPSHOT", "1.0.0", "3.0-SNAPSHOT");
+
+    private static final VersionIndex INDEX = VersionIndex.of(VERSIONS);
+
+    static Stream<Arguments> restrictions() {
+        return Stream.of(
+                        Restriction.EVERYTHING,
+                        new Restriction(version("1.1"), true, null, false),
+                        new Restriction(version("1.1"), false, null, false),
+                        new Restriction(null, false, version("1.2"), true),
+                        new Restriction(null, false, version("1.2"), false),
+                        new Restriction(version("1.0"), false, version("2.0"), false),
+                        new Restriction(version("1.0"), true, version("2.0"), true),
+                        new Restriction(version("0.1"), true, version("0.9"), true),
+                        new Restriction(version("2.0"), false, version("1.0"), false),
+                        new Restriction(version("1.1"), false, new BoundArtifactVersion("1.1", MINOR), false),
+                        new Restriction(new BoundArtifactVersion("1.1", INCREMENTAL), false, null, false))
+                .flatMap(r -> Stream.of(arguments(r, true), arguments(r, false)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("restrictions")
+    void selectMatchesLinearScan(Restriction restriction, boolean includeSnapshots) {
+        ArtifactVersion[] expected = Arrays.stream(INDEX.toArray(true))
+                .filter(v -> restriction.containsVersion(v))
+                .filter(v -> includeSnapshots || !v.toString().endsWith("-SNAPSHOT"))
+                .toArray(ArtifactVersion[]::new);
+
+        assertThat(INDEX.select(restriction, includeSnapshots, null), is(expected));
+        assertThat(
+                INDEX.newest(restriction, includeSnapshots, null),
+                is(expected.length > 0 ? expected[expected.length - 1] : null));
+    }
+
+    @Test
+    void versionsAreSortedWithoutDuplicates() {
+        assertThat(
+                INDEX.toArray(true),
+                arrayContaining(versions(
+                        "1.0",
+                        "1.1-SNAPSHOT",
+                        "1.1",
+                        "1.1.1",
+                        "1.2-rc1",
+                        "1.2",
+                        "2.0-SNAPSHOT",
+                        "2.0",
+                        "3.0-SNAPSHOT")));
+        assertThat(INDEX.toArray(false), arrayContaining(versions("1.0", "1.1", "1.1.1", "1.2-rc1", "1.2", "2.0")));
+    }
+
+    @Test
+    void containsComparesVersionStrings() {
+        assertThat(INDEX.contains("1.1.1"), is(true));
+        assertThat(INDEX.contains("1.0"), is(true));
+        // equal to 1.0, but not present verbatim
+        assertThat(INDEX.contains("1.0.0"), is(false));
+        assertThat(INDEX.contains("4.0"), is(false));
+    }
+
+    @Test
+    void newestAppliesFilterFromLatest() {
+        assertThat(INDEX.newest(null, true, v -> v.getMinorVersion() == 1), hasToString("1.1.1"));
+        assertThat(INDEX.newest(null, false, v -> v.getMajorVersion() == 3), nullValue());
+    }
+
+    @Test
+    void emptyIndex() {
+        VersionIndex empty = VersionIndex.of(new ArtifactVersion[0]);
+        assertThat(empty.isEmpty(true), is(true));
+        assertThat(empty.newest(null, true, null), nullValue());
+        assertThat(VersionIndex.of(versions("1.0-SNAPSHOT")).isEmpty(false), is(true));
+    }
+}
@@ -0,0 +1,121 @@
+package org.codehaus.mojo.versions.api;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Tests {@link VersionMetadataCache}
+ */
+class VersionMetadataCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final Artifact ARTIFACT = new DefaultArtifact(
+            "group",
+            "artifact",
+            VersionRange.createFromVersion("1.0"),
+            null,
+            "jar",
+            null,
+            new DefaultArtifactHandler());
+
+    @Test
+    void testRoundTrip() {
+        VersionMetadataCache cache = new VersionMetadataCache(tempDir, Duration.ofHours(1), new SystemStreamLog());
+        String key = VersionMetadataCache.key(ARTIFACT, "(,)", emptyList());
+        cache.put(key, Arrays.asList("1.0", "1.1", "2.0-SNAPSHOT"));
+
+        assertThat(
+                new VersionMetadataCache(tempDir, Duration.ofHours(1), new SystemStreamLog()).get(key),
+                is(Optional.of(Arrays.asList("1.0", "1.1", "2.0-SNAPSHOT"))));
+    }
+
+    @Test
+    void testExpiredEntryIsDiscarded() throws Exception {
+        Instant now = Instant.now();
+        String key = VersionMetadataCache.key(ARTIFACT, "(,)", emptyList());
+        new VersionMetadataCache(
+                        tempDir, Duration.ofMinutes(5), new SystemStreamLog(), Clock.fixed(now, ZoneOffset.UTC))
+                .put(key, singletonList("1.0"));
+
+        VersionMetadataCache later = new VersionMetadataCache(
+                tempDir,
+                Duration.ofMinutes(5),
+                new SystemStreamLog(),
+                Clock.fixed(now.plus(Duration.ofMinutes(6)), ZoneOffset.UTC));
+        assertThat(later.get(key), is(Optional.empty()));
+        try (Stream<Path> entries = Files.list(tempDir)) {
+            assertThat(entries.count(), is(0L));
+        }
+    }
+
+    @Test
+    void testInvalidate() {
+        VersionMetadataCache cache = new VersionMetadataCache(tempDir, Duration.ofHours(1), new SystemStreamLog());
+        String key1 = VersionMetadataCache.key(ARTIFACT, "(,)", emptyList());
+        String key2 = VersionMetadataCache.key(ARTIFACT, "[1.0,)", emptyList());
+        cache.put(key1, singletonList("1.0"));
+        cache.put(key2, singletonList("1.1"));
+
+        cache.invalidate(key1);
+
+        assertThat(cache.get(key1), is(Optional.empty()));
+        assertThat(cache.get(key2).orElse(emptyList()), contains("1.1"));
+    }
+
+    @Test
+    void testKeyDependsOnRepositories() {
+        RemoteRepository central = new RemoteRepository.Builder("central", "default", "https://repo1").build();
+        RemoteRepository other = new RemoteRepository.Builder("other", "default", "https://repo2").build();
+
+        assertThat(
+                VersionMetadataCache.key(ARTIFACT, "(,)", singletonList(central)),
+                not(VersionMetadataCache.key(ARTIFACT, "(,)", Arrays.asList(central, other))));
+        assertThat(
+                VersionMetadataCache.key(ARTIFACT, "(,)", Arrays.asList(other, central)),
+                is(VersionMetadataCache.key(ARTIFACT, "(,)", Arrays.asList(central, other))));
+    }
+}
@@ -21,10 +21,13 @@ package org.codehaus.mojo.versions.filtering;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Dependency;
 import org.codehaus.mojo.versions.utils.DependencyBuilder;
+import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Nested;
@@ -33,9 +36,73 @@ import org.junit.jupiter.api.Test;
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class DependencyFilterTest {
 
+    @Test
+    void matchesLikeTokenizedMatcher() {
+        List<String> patterns = asList(
+                null,
+                "",
+                "*",
+                "localhost",
+                "localhost:my-api",
+                "localhost:my-api:*:jar",
+                "localhost:my-*",
+                "*:*-api",
+                "*host:*y-i*:2",
+                "local*:my-api::jar",
+                "localhost:my-api:[1,3)",
+                "localhost:my-api:[1,,3)",
+                "localhost:my-api:*:*:null",
+                "localhost:my-api:*:*:tests",
+                "localhost:my-api:*:jar:*:null",
+                "localhost:my-api:*:jar:*:compile",
+                "localhost:my*api:2");
+        List<Dependency> dependencies = asList(
+                DependencyBuilder.newBuilder()
+                        .withGroupId("localhost")
+                        .withArtifactId("my-api")
+                        .withVersion("2")
+                        .build(),
+                DependencyBuilder.newBuilder()
+                        .withGroupId("localhost")
+                        .withArtifactId("my-api")
+                        .withVersion("3")
+                        .withClassifier("tests")
+                        .withScope("compile")
+                        .build(),
+                DependencyBuilder.newBuilder()
+                        .withGroupId("localhost")
+                        .withArtifactId("my-impl")
+                        .build(),
+                DependencyBuilder.newBuilder().withArtifactId("my-api").build());
+
+        for (String pattern : patterns) {
+            DependencyFilter filter = DependencyFilter.parseFrom(Collections.singletonList(pattern));
+            TokenizedMatcher matcher = TokenizedMatcher.parse(pattern);
+            for (Dependency dependency : dependencies) {
+                assertThat(
+                        pattern + " -> " + dependency, filter.matchersMatch(dependency), is(matcher.test(dependency)));
+            }
+        }
+    }
+
+    @Test
+    void sharedWithinSession() {
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+
+        DependencyFilter filter = DependencyFilter.parseFrom(session, asList("localhost:*", "foo:bar"));
+        assertThat(DependencyFilter.parseFrom(session, asList("localhost:*", "foo:bar")), sameInstance(filter));
+        assertThat(DependencyFilter.parseFrom(session, asList("foo:bar", "localhost:*")), not(sameInstance(filter)));
+    }
+
     @Nested
     class RemoveFromTest {
         private final Set<Dependency> input = new HashSet<>(asList(
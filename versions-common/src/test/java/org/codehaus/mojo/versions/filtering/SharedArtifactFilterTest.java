@@ -0,0 +1,71 @@
+package org.codehaus.mojo.versions.filtering;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Collections;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link SharedArtifactFilter}
+ */
+class SharedArtifactFilterTest {
+
+    private static Artifact artifact(String artifactId) {
+        return new DefaultArtifact(
+                "localhost", artifactId, "1.0", "compile", "jar", null, new DefaultArtifactHandler("jar"));
+    }
+
+    @Test
+    void testDelegateIsEvaluatedOncePerArtifact() {
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+        ArtifactFilter delegate = mock(ArtifactFilter.class);
+        when(delegate.include(any()))
+                .thenAnswer(i -> "my-api".equals(i.<Artifact>getArgument(0).getArtifactId()));
+
+        SharedArtifactFilter filter =
+                SharedArtifactFilter.forSession(session, Collections.singletonList("my-api"), () -> delegate);
+        assertThat(
+                SharedArtifactFilter.forSession(session, Collections.singletonList("my-api"), () -> delegate),
+                sameInstance(filter));
+
+        assertThat(filter.include(artifact("my-api")), is(true));
+        assertThat(filter.include(artifact("my-api")), is(true));
+        assertThat(filter.include(artifact("my-impl")), is(false));
+        assertThat(filter.include(artifact("my-impl")), is(false));
+        verify(delegate, times(2)).include(any());
+    }
+}
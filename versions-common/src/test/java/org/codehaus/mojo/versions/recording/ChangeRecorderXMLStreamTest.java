@@ -0,0 +1,188 @@
+package org.codehaus.mojo.versions.recording;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.ctc.wstx.stax.WstxOutputFactory;
+import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
+import org.codehaus.mojo.versions.api.recording.DependencyChangeRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import static org.codehaus.mojo.versions.recording.ChangeRecorderXML.CHANGES_NAMESPACE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Unit tests for {@link ChangeRecorderXMLStream}
+ */
+class ChangeRecorderXMLStreamTest {
+    @TempDir
+    Path tempDir;
+
+    private static Document parseXML(Path path) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(path.toFile());
+    }
+
+    private static DependencyChangeRecord dependencyChange(String artifactId, String oldVersion, String newVersion) {
+        return DefaultDependencyChangeRecord.builder()
+                .withKind(DependencyChangeRecord.ChangeKind.DEPENDENCY)
+                .withGroupId("org.codehaus")
+                .withArtifactId(artifactId)
+                .withOldVersion(oldVersion)
+                .withNewVersion(newVersion)
+                .build();
+    }
+
+    @Test
+    void testChanges() throws Exception {
+        Path output = tempDir.resolve("subDirectory").resolve("versions-changes.xml");
+
+        ChangeRecorder recorder = new ChangeRecorderXMLStream();
+        recorder.recordChange(dependencyChange("example0", "0.0.1", "0.0.2"));
+        recorder.recordChange(DefaultPropertyChangeRecord.builder()
+                .withProperty("revision")
+                .withOldValue("1 < 2")
+                .withNewValue("\"3\" & 4")
+                .build());
+        recorder.writeReport(output);
+
+        Document document = parseXML(output);
+        assertThat(document.getDocumentElement().getNamespaceURI(), is(CHANGES_NAMESPACE));
+        assertThat(document.getDocumentElement().getLocalName(), is("updates"));
+
+        NodeList dependencies = document.getElementsByTagNameNS(CHANGES_NAMESPACE, "dependencyUpdate");
+        assertThat(dependencies.getLength(), is(1));
+        Element dependency = (Element) dependencies.item(0);
+        assertThat(dependency.getAttribute("kind"), is("dependency-update"));
+        assertThat(dependency.getAttribute("groupId"), is("org.codehaus"));
+        assertThat(dependency.getAttribute("artifactId"), is("example0"));
+        assertThat(dependency.getAttribute("oldVersion"), is("0.0.1"));
+        assertThat(dependency.getAttribute("newVersion"), is("0.0.2"));
+
+        NodeList properties = document.getElementsByTagNameNS(CHANGES_NAMESPACE, "propertyUpdate");
+        assertThat(properties.getLength(), is(1));
+        Element property = (Element) properties.item(0);
+        assertThat(property.getAttribute("property"), is("revision"));
+        assertThat(property.getAttribute("oldValue"), is("1 < 2"));
+        assertThat(property.getAttribute("newValue"), is("\"3\" & 4"));
+    }
+
+    @Test
+    void testReportsContainAllChangesRecordedSoFar() throws Exception {
+        Path output = tempDir.resolve("versions-changes.xml");
+
+        ChangeRecorder recorder = new ChangeRecorderXMLStream();
+        recorder.recordChange(dependencyChange("example0", "0.0.1", "0.0.2"));
+        recorder.writeReport(output);
+        assertThat(
+                parseXML(output)
+                        .getElementsByTagNameNS(CHANGES_NAMESPACE, "dependencyUpdate")
+                        .getLength(),
+                is(1));
+
+        recorder.recordChange(dependencyChange("example1", "1.0.0", "2.0.0"));
+        recorder.writeReport(output);
+        NodeList dependencies = parseXML(output).getElementsByTagNameNS(CHANGES_NAMESPACE, "dependencyUpdate");
+        assertThat(dependencies.getLength(), is(2));
+        assertThat(((Element) dependencies.item(1)).getAttribute("artifactId"), is("example1"));
+    }
+
+    @Test
+    void testCloseDeletesSpoolFileAndKeepsTheChangeLog() throws Exception {
+        Path output = tempDir.resolve("versions-changes.xml");
+
+        ChangeRecorderXMLStream recorder = new ChangeRecorderXMLStream();
+        recorder.recordChange(dependencyChange("example0", "0.0.1", "0.0.2"));
+        recorder.writeReport(output);
+        Path spoolFile = recorder.getSpoolFile();
+        assertThat(Files.isRegularFile(spoolFile), is(true));
+
+        recorder.close();
+        assertThat(Files.exists(spoolFile), is(false));
+        assertThat(recorder.getSpoolFile(), nullValue());
+
+        // changes recorded after closing are added to the last report
+        recorder.recordChange(dependencyChange("example1", "1.0.0", "2.0.0"));
+        recorder.writeReport(output);
+        recorder.close();
+        NodeList dependencies = parseXML(output).getElementsByTagNameNS(CHANGES_NAMESPACE, "dependencyUpdate");
+        assertThat(dependencies.getLength(), is(2));
+        assertThat(((Element) dependencies.item(0)).getAttribute("artifactId"), is("example0"));
+        assertThat(((Element) dependencies.item(1)).getAttribute("artifactId"), is("example1"));
+    }
+
+    @Test
+    void testSeveralChangesAfterCloseWithWoodstox() throws Exception {
+        Path output = tempDir.resolve("versions-changes.xml");
+
+        // Woodstox checks the structure of the document, e.g. rejects a second root element
+        ChangeRecorderXMLStream recorder = new ChangeRecorderXMLStream(new WstxOutputFactory());
+        recorder.recordChange(dependencyChange("example0", "0.0.1", "0.0.2"));
+        recorder.writeReport(output);
+        recorder.close();
+
+        recorder.recordChange(dependencyChange("example1", "1.0.0", "2.0.0"));
+        recorder.recordChange(dependencyChange("example2", "2.0.0", "3.0.0"));
+        recorder.recordChange(DefaultPropertyChangeRecord.builder()
+                .withProperty("revision")
+                .withOldValue("1")
+                .withNewValue("2")
+                .build());
+        recorder.writeReport(output);
+        recorder.close();
+
+        recorder.recordChange(dependencyChange("example3", "3.0.0", "4.0.0"));
+        recorder.recordChange(dependencyChange("example4", "4.0.0", "5.0.0"));
+        recorder.writeReport(output);
+        recorder.close();
+
+        Document document = parseXML(output);
+        assertThat(document.getDocumentElement().getNamespaceURI(), is(CHANGES_NAMESPACE));
+        NodeList dependencies = document.getElementsByTagNameNS(CHANGES_NAMESPACE, "dependencyUpdate");
+        assertThat(dependencies.getLength(), is(5));
+        for (int i = 0; i < dependencies.getLength(); i++) {
+            assertThat(((Element) dependencies.item(i)).getAttribute("artifactId"), is("example" + i));
+        }
+        assertThat(
+                document.getElementsByTagNameNS(CHANGES_NAMESPACE, "propertyUpdate")
+                        .getLength(),
+                is(1));
+    }
+
+    @Test
+    void emptyResultShouldNotGenerateReports() throws Exception {
+        Path output = tempDir.resolve("versions-changes.xml");
+
+        new ChangeRecorderXMLStream().writeReport(output);
+
+        assertThat(Files.isRegularFile(output), is(false));
+    }
+}
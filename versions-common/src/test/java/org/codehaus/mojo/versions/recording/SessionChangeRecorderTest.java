@@ -0,0 +1,143 @@
+package org.codehaus.mojo.versions.recording;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.apache.maven.execution.MavenSession;
+import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
+import org.codehaus.mojo.versions.api.recording.PropertyChangeRecord;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Unit tests for {@link SessionChangeRecorder}
+ */
+class SessionChangeRecorderTest {
+    private static final Path OUTPUT = Paths.get("target", "versions-changes.xml");
+
+    private static final PropertyChangeRecord CHANGE = DefaultPropertyChangeRecord.builder()
+            .withProperty("revision")
+            .withOldValue("1.0")
+            .withNewValue("2.0")
+            .build();
+
+    @Test
+    void testZeroIntervalWritesOnEveryFlushWithChanges() throws Exception {
+        ChangeRecorder delegate = mock(ChangeRecorder.class);
+        SessionChangeRecorder recorder = new SessionChangeRecorder(delegate, OUTPUT);
+
+        recorder.flush(OUTPUT, 0, false);
+        verify(delegate, never()).writeReport(any());
+
+        recorder.recordChange(CHANGE);
+        recorder.flush(OUTPUT, 0, false);
+        verify(delegate, times(1)).writeReport(OUTPUT);
+
+        // nothing new to write
+        recorder.flush(OUTPUT, 0, false);
+        verify(delegate, times(1)).writeReport(OUTPUT);
+    }
+
+    @Test
+    void testNegativeIntervalOnlyWritesAtTheEndOfTheReactor() throws Exception {
+        ChangeRecorder delegate = mock(ChangeRecorder.class);
+        SessionChangeRecorder recorder = new SessionChangeRecorder(delegate, OUTPUT);
+
+        recorder.recordChange(CHANGE);
+        recorder.flush(OUTPUT, -1, false);
+        recorder.recordChange(CHANGE);
+        recorder.flush(OUTPUT, -1, false);
+        verify(delegate, never()).writeReport(any());
+
+        recorder.flush(OUTPUT, -1, true);
+        verify(delegate, times(1)).writeReport(OUTPUT);
+
+        // changes recorded by executions finishing after the end of the reactor are written immediately
+        recorder.recordChange(CHANGE);
+        recorder.flush(OUTPUT, -1, false);
+        verify(delegate, times(2)).writeReport(OUTPUT);
+    }
+
+    @Test
+    void testIntervalDefersWrites() throws Exception {
+        ChangeRecorder delegate = mock(ChangeRecorder.class);
+        SessionChangeRecorder recorder = new SessionChangeRecorder(delegate, OUTPUT);
+
+        recorder.recordChange(CHANGE);
+        recorder.flush(OUTPUT, 3600, false);
+        verify(delegate, never()).writeReport(any());
+
+        recorder.flush(OUTPUT, 3600, true);
+        verify(delegate, times(1)).writeReport(OUTPUT);
+    }
+
+    @Test
+    void testFlushAllWritesEveryRecorderOfTheSession() throws Exception {
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+        Path otherOutput = Paths.get("other", "versions-changes.xml");
+        ChangeRecorder delegate = mock(ChangeRecorder.class);
+        ChangeRecorder otherDelegate = mock(ChangeRecorder.class, withSettings().extraInterfaces(Closeable.class));
+        SessionChangeRecorder recorder = SessionChangeRecorder.forSession(session, "xml", OUTPUT, () -> delegate);
+        SessionChangeRecorder other =
+                SessionChangeRecorder.forSession(session, "xml", otherOutput, () -> otherDelegate);
+
+        recorder.recordChange(CHANGE);
+        recorder.flush(OUTPUT, -1, false);
+        other.recordChange(CHANGE);
+        other.flush(otherOutput, -1, false);
+        verify(delegate, never()).writeReport(any());
+        verify(otherDelegate, never()).writeReport(any());
+
+        SessionChangeRecorder.flushAll(session, false);
+        verify(delegate, times(1)).writeReport(OUTPUT);
+        verify(otherDelegate, times(1)).writeReport(otherOutput);
+        verify((Closeable) otherDelegate, never()).close();
+
+        // closed once written at the end of the reactor
+        other.recordChange(CHANGE);
+        SessionChangeRecorder.flushAll(session, true);
+        verify(delegate, times(1)).writeReport(OUTPUT);
+        verify(otherDelegate, times(2)).writeReport(otherOutput);
+        verify((Closeable) otherDelegate, times(1)).close();
+    }
+
+    @Test
+    void testRecordersAreNotSharedWithoutSession() {
+        ChangeRecorder delegate = mock(ChangeRecorder.class);
+        assertThat(
+                SessionChangeRecorder.forSession(null, "xml", OUTPUT, () -> delegate),
+                not(sameInstance(SessionChangeRecorder.forSession(null, "xml", OUTPUT, () -> delegate))));
+    }
+}
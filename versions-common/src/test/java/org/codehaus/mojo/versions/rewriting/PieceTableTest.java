@@ -0,0 +1,92 @@
+package org.codehaus.mojo.versions.rewriting;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Unit tests for {@link PieceTable}
+ */
+class PieceTableTest {
+
+    @Test
+    void testReplacementsDoNotShiftOriginalOffsets() {
+        // offsets:       0123456789012345678901234
+        String original = "<a>1.0</a><b>2.0</b><c/>";
+        PieceTable table = new PieceTable(original);
+
+        assertThat(table.replace(3, 6, "1.0.1-SNAPSHOT"), is(true));
+        assertThat(table.replace(13, 16, "3"), is(true));
+
+        assertThat(table.toString(), is("<a>1.0.1-SNAPSHOT</a><b>3</b><c/>"));
+        assertThat(table.substring(3, 6), is("1.0.1-SNAPSHOT"));
+        assertThat(table.substring(13, 16), is("3"));
+        assertThat(table.substring(0, 20), is("<a>1.0.1-SNAPSHOT</a><b>3</b>"));
+
+        // offsets past the replacements are translated into the current text
+        assertThat(table.toCurrentOffset(3), is(3));
+        assertThat(table.toCurrentOffset(6), is(17));
+        assertThat(table.toCurrentOffset(20), is(29));
+        assertThat(table.toString().substring(table.toCurrentOffset(20)), is("<c/>"));
+    }
+
+    @Test
+    void testReplacingTheSameRangeOverwrites() {
+        PieceTable table = new PieceTable("<a>1.0</a>");
+        table.replace(3, 6, "2.0");
+        table.replace(3, 6, "3.0");
+        assertThat(table.toString(), is("<a>3.0</a>"));
+        assertThat(table.replace(3, 6, "3.0"), is(false));
+    }
+
+    @Test
+    void testUnchangedReplacementIsNotRecorded() {
+        PieceTable table = new PieceTable("<a>1.0</a>");
+        assertThat(table.replace(3, 6, "1.0"), is(false));
+        assertThat(table.isModified(), is(false));
+    }
+
+    @Test
+    void testEnclosingReplacementAbsorbsInnerOnes() {
+        PieceTable table = new PieceTable("<p><a>1</a><b>2</b></p>");
+        table.replace(6, 7, "10");
+        table.replace(14, 15, "20");
+        table.replace(3, 19, "<c/>");
+        assertThat(table.toString(), is("<p><c/></p>"));
+        assertThat(table.toCurrentOffset(23), is(11));
+    }
+
+    @Test
+    void testInsertions() {
+        PieceTable table = new PieceTable("<a></a>");
+        assertThat(table.replace(3, 3, "1"), is(true));
+        assertThat(table.toString(), is("<a>1</a>"));
+        assertThat(table.replace(3, 3, "2"), is(true));
+        assertThat(table.toString(), is("<a>2</a>"));
+        // a replacement starting at the insertion point keeps the insertion in front of it
+        table.replace(3, 7, "</a>");
+        assertThat(table.toString(), is("<a>2</a>"));
+        assertThat(table.replace(3, 7, "</b>"), is(true));
+        assertThat(table.toString(), is("<a>2</b>"));
+    }
+}
@@ -0,0 +1,138 @@
+package org.codehaus.mojo.versions.rewriting;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import javax.xml.stream.XMLStreamException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.apache.maven.model.Model;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Unit tests for {@link PomDocumentStore}
+ */
+class PomDocumentStoreTest {
+    private static final String POM = "<project><artifactId>%s</artifactId></project>";
+
+    @TempDir
+    Path tempDir;
+
+    private Path writePom(String artifactId) throws IOException {
+        return writePom(tempDir.resolve("pom.xml"), artifactId);
+    }
+
+    private static Path writePom(Path pom, String artifactId) throws IOException {
+        Files.write(pom, String.format(POM, artifactId).getBytes(StandardCharsets.UTF_8));
+        return pom;
+    }
+
+    @Test
+    void testReadersAndModelsAreNotShared() throws Exception {
+        Path pom = writePom("artifact");
+        PomDocumentStore store = new PomDocumentStore();
+
+        Model model = store.getRawModel(pom.toFile());
+        assertThat(model.getArtifactId(), is("artifact"));
+        assertThat(model.getPomFile(), is(pom.toFile()));
+        model.setArtifactId("modified");
+        assertThat(store.getRawModel(pom.toFile()), not(sameInstance(model)));
+        assertThat(store.getRawModel(pom.toFile()).getArtifactId(), is("artifact"));
+
+        try (MutableXMLStreamReader reader = store.newReader(pom)) {
+            assertThat(reader.getFileName(), is(pom));
+            while (reader.hasNext()) {
+                if (reader.next() == START_ELEMENT && "artifactId".equals(reader.getLocalName())) {
+                    reader.next();
+                    reader.replace("modified");
+                }
+            }
+            assertThat(reader.isModified(), is(true));
+        }
+        try (MutableXMLStreamReader reader = store.newReader(pom)) {
+            assertThat(reader.isModified(), is(false));
+            assertThat(reader.getSource(), is(String.format(POM, "artifact")));
+        }
+    }
+
+    @Test
+    void testChangedFilesAreReloaded() throws Exception {
+        Path pom = writePom("artifact");
+        PomDocumentStore store = new PomDocumentStore();
+        assertThat(store.getRawModel(pom.toFile()).getArtifactId(), is("artifact"));
+
+        FileTime lastModified = Files.getLastModifiedTime(pom);
+        writePom("other-artifact");
+        Files.setLastModifiedTime(pom, FileTime.fromMillis(lastModified.toMillis() + 1000));
+        assertThat(store.getRawModel(pom.toFile()).getArtifactId(), is("other-artifact"));
+    }
+
+    @Test
+    void testInvalidatedFilesAreReloaded() throws Exception {
+        Path pom = writePom("artifact");
+        PomDocumentStore store = new PomDocumentStore();
+        assertThat(store.getRawModel(pom.toFile()).getArtifactId(), is("artifact"));
+
+        // same size and modification time
+        FileTime lastModified = Files.getLastModifiedTime(pom);
+        writePom("artifacT");
+        Files.setLastModifiedTime(pom, lastModified);
+        assertThat(store.getRawModel(pom.toFile()).getArtifactId(), is("artifact"));
+
+        store.invalidate(pom);
+        assertThat(store.getRawModel(pom.toFile()).getArtifactId(), is("artifacT"));
+    }
+
+    @Test
+    void testDocumentsReadBeforeAnInvalidationAreNotStored() throws Exception {
+        Path pom = writePom("artifact");
+        FileTime lastModified = Files.getLastModifiedTime(pom);
+        PomDocumentStore store = new PomDocumentStore() {
+            private boolean written;
+
+            @Override
+            Document readDocument(Path path, long lastModified, long size) throws IOException, XMLStreamException {
+                Document document = super.readDocument(path, lastModified, size);
+                if (!written) {
+                    // the file is written, with the same size and modification time, while it is being read
+                    written = true;
+                    writePom(path, "artifacT");
+                    Files.setLastModifiedTime(path, FileTime.fromMillis(lastModified));
+                    invalidate(path);
+                }
+                return document;
+            }
+        };
+        assertThat(store.getRawModel(pom.toFile()).getArtifactId(), is("artifact"));
+        assertThat(Files.getLastModifiedTime(pom).toMillis(), is(lastModified.toMillis()));
+        assertThat(store.getRawModel(pom.toFile()).getArtifactId(), is("artifacT"));
+    }
+}
@@ -3,10 +3,12 @@ package org.codehaus.mojo.versions.rule;
 import java.io.File;
 import java.net.URI;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -22,21 +24,33 @@ import org.apache.maven.wagon.proxy.ProxyInfo;
 import org.codehaus.mojo.versions.model.IgnoreVersion;
 import org.codehaus.mojo.versions.model.Rule;
 import org.codehaus.mojo.versions.model.RuleSet;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class RuleServiceTest {
     @Mock
@@ -103,6 +117,45 @@ public class RuleServiceTest {
                 containsInAnyOrder(".*-M.", ".*-SNAPSHOT"));
     }
 
+    private static Rule rule(String groupId, String artifactId) {
+        Rule rule = new Rule();
+        rule.setGroupId(groupId);
+        rule.setArtifactId(artifactId);
+        return rule;
+    }
+
+    @Test
+    void testBestFitRule() {
+        Rule orgWildcard = rule("org.*", null);
+        Rule apachePrefix = rule("org.apache", "*");
+        Rule mavenCore = rule("org.apache.maven", "maven-core");
+        Rule anyFoo = rule("*", "foo?");
+        RuleSet ruleSet = new RuleSet();
+        ruleSet.setRules(Arrays.asList(orgWildcard, apachePrefix, mavenCore, anyFoo));
+        RuleService service = new RuleService(log, ruleSet);
+
+        assertThat(service.getBestFitRule("org.apache.maven", "maven-core"), is(mavenCore));
+        assertThat(service.getBestFitRule("org.apache.commons", "commons-lang3"), is(orgWildcard));
+        assertThat(service.getBestFitRule("com.example", "foo1"), is(anyFoo));
+        assertThat(service.getBestFitRule("com.example", "bar"), nullValue());
+        // cached, also when there was no fitting rule
+        assertThat(service.getBestFitRule("org.apache.maven", "maven-core"), is(mavenCore));
+        assertThat(service.getBestFitRule("com.example", "bar"), nullValue());
+    }
+
+    @Test
+    void testBestFitRuleLiteralGroupIdIsAPrefix() {
+        Rule apache = rule("org.apache", null);
+        Rule codehaus = rule("org.codehaus", null);
+        RuleSet ruleSet = new RuleSet();
+        ruleSet.setRules(Arrays.asList(codehaus, apache));
+        RuleService service = new RuleService(log, ruleSet);
+
+        assertThat(service.getBestFitRule("org.apache.maven", "maven-core"), is(apache));
+        assertThat(service.getBestFitRule("org.codehaus.mojo", "versions"), is(codehaus));
+        assertThat(service.getBestFitRule("org.apach", "x"), nullValue());
+    }
+
     private static Wagon mockFileWagon(URI rulesUri)
             throws AuthenticationException, ConnectionException, AuthorizationException, TransferFailedException,
                     ResourceDoesNotExistException {
@@ -122,4 +175,107 @@ public class RuleServiceTest {
                 .get(anyString(), any(File.class));
         return wagon;
     }
+
+    private RulesServiceBuilder remoteRulesBuilder(Wagon wagon, URI rulesUri) {
+        return new RulesServiceBuilder()
+                .withMavenSession(mavenSession)
+                .withLog(log)
+                .withWagonMap(singletonMap("file", wagon))
+                .withServerId("")
+                .withRulesUri(rulesUri.toString());
+    }
+
+    @Test
+    void testRemoteRulesAreLoadedOncePerSession() throws Exception {
+        URI rulesUri = getClass()
+                .getResource("/org/codehaus/mojo/versions/api/rules.xml")
+                .toURI();
+        Wagon wagon = mockFileWagon(rulesUri);
+        when(mavenSession.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+
+        RuleService first = remoteRulesBuilder(wagon, rulesUri).build();
+        RuleService second = remoteRulesBuilder(wagon, rulesUri)
+                .withIgnoredVersions(singletonList(".*-SNAPSHOT"))
+                .build();
+
+        verify(wagon, times(1)).get(anyString(), any(File.class));
+        assertThat(second.getRuleSet().getRules(), is(first.getRuleSet().getRules()));
+        Rule rule = first.getBestFitRule("com.mycompany.maven", "maven-core");
+        assertThat(rule.getGroupId(), is("com.mycompany.maven"));
+        assertThat(second.getBestFitRule("com.mycompany.maven", "maven-core"), sameInstance(rule));
+    }
+
+    @Test
+    void testRulesAreSharedPerTimeToLive(@TempDir Path localRepository) throws Exception {
+        URI rulesUri = getClass()
+                .getResource("/org/codehaus/mojo/versions/api/rules.xml")
+                .toURI();
+        Wagon wagon = mockFileWagon(rulesUri);
+        LocalRepositoryManager localRepositoryManager = mock(LocalRepositoryManager.class);
+        when(localRepositoryManager.getRepository()).thenReturn(new LocalRepository(localRepository.toFile()));
+        DefaultRepositorySystemSession repositorySession = new DefaultRepositorySystemSession();
+        repositorySession.setLocalRepositoryManager(localRepositoryManager);
+        when(mavenSession.getRepositorySession()).thenReturn(repositorySession);
+
+        remoteRulesBuilder(wagon, rulesUri).withRulesCacheTtl(-1).build();
+        verify(wagon, times(1)).get(anyString(), any(File.class));
+
+        // a later execution keeping a local copy does not reuse the rules loaded without one
+        remoteRulesBuilder(wagon, rulesUri).withRulesCacheTtl(3600).build();
+        verify(wagon, times(2)).get(anyString(), any(File.class));
+        try (Stream<Path> localCopies = Files.list(localRepository.resolve(".cache/versions-maven-plugin/rules"))) {
+            assertThat(localCopies.anyMatch(p -> p.toString().endsWith(".xml")), is(true));
+        }
+
+        remoteRulesBuilder(wagon, rulesUri).withRulesCacheTtl(3600).build();
+        remoteRulesBuilder(wagon, rulesUri).withRulesCacheTtl(-1).build();
+        verify(wagon, times(2)).get(anyString(), any(File.class));
+    }
+
+    @Test
+    void testLocalCopyOfRemoteRules(@TempDir Path localRepository) throws Exception {
+        URI rulesUri = getClass()
+                .getResource("/org/codehaus/mojo/versions/api/rules.xml")
+                .toURI();
+        Wagon wagon = mockFileWagon(rulesUri);
+        LocalRepositoryManager localRepositoryManager = mock(LocalRepositoryManager.class);
+        when(localRepositoryManager.getRepository()).thenReturn(new LocalRepository(localRepository.toFile()));
+        when(mavenSession.getRepositorySession()).thenAnswer(i -> {
+            DefaultRepositorySystemSession repositorySession = new DefaultRepositorySystemSession();
+            repositorySession.setLocalRepositoryManager(localRepositoryManager);
+            return repositorySession;
+        });
+
+        RuleSet downloaded = remoteRulesBuilder(wagon, rulesUri)
+                .withRulesCacheTtl(3600)
+                .build()
+                .getRuleSet();
+        verify(wagon, times(1)).get(anyString(), any(File.class));
+
+        // used without connecting within its time to live
+        assertThat(
+                remoteRulesBuilder(wagon, rulesUri)
+                        .withRulesCacheTtl(3600)
+                        .build()
+                        .getRuleSet()
+                        .getRules(),
+                hasSize(downloaded.getRules().size()));
+        verify(wagon, times(1)).disconnect();
+
+        // revalidated otherwise
+        assertThat(
+                remoteRulesBuilder(wagon, rulesUri)
+                        .withRulesCacheTtl(0)
+                        .build()
+                        .getRuleSet()
+                        .getRules(),
+                hasSize(downloaded.getRules().size()));
+        verify(wagon, times(1)).getIfNewer(anyString(), any(File.class), anyLong());
+        verify(wagon, times(1)).get(anyString(), any(File.class));
+
+        // not used if disabled
+        remoteRulesBuilder(wagon, rulesUri).withRulesCacheTtl(-1).build();
+        verify(wagon, times(2)).get(anyString(), any(File.class));
+        verify(wagon, times(1)).getIfNewer(anyString(), any(File.class), anyLong());
+    }
 }
@@ -0,0 +1,232 @@
+package org.codehaus.mojo.versions.rule;
+
+/*
+ * Copyright MojoHaus and Contributors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.wagon.Wagon;
+import org.codehaus.mojo.versions.model.IgnoreVersion;
+import org.codehaus.mojo.versions.model.Rule;
+import org.codehaus.mojo.versions.model.RuleSet;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests {@link RuleSetSnapshot}
+ */
+class RuleSetSnapshotTest {
+    private static final byte[] DIGEST = RuleSetSnapshot.digest(new byte[0]);
+
+    private static IgnoreVersion ignoreVersion(String version, String type) {
+        IgnoreVersion ignoreVersion = new IgnoreVersion();
+        ignoreVersion.setVersion(version);
+        ignoreVersion.setType(type);
+        return ignoreVersion;
+    }
+
+    private static Rule rule(String groupId, String artifactId, IgnoreVersion... ignoreVersions) {
+        Rule rule = new Rule();
+        rule.setGroupId(groupId);
+        rule.setArtifactId(artifactId);
+        rule.setIgnoreVersions(Arrays.asList(ignoreVersions));
+        return rule;
+    }
+
+    private static RuleSet ruleSet() {
+        RuleSet ruleSet = new RuleSet();
+        ruleSet.setIgnoreVersions(Arrays.asList(ignoreVersion(".*-SNAPSHOT", "regex"), ignoreVersion("1.0", null)));
+        ruleSet.setRules(Arrays.asList(
+                rule("org.example", "*", ignoreVersion("1.0", "exact")),
+                rule("org.example", "api"),
+                rule(null, "zß€", ignoreVersion(".*-alpha.*", "regex"))));
+        return ruleSet;
+    }
+
+    private static String describe(RuleSet ruleSet) {
+        return ruleSet.getIgnoreVersions().stream()
+                        .map(RuleSetSnapshotTest::describe)
+                        .collect(Collectors.joining(",", "[", "]"))
+                + ruleSet.getRules().stream()
+                        .map(r -> r.getGroupId() + ":" + r.getArtifactId()
+                                + r.getIgnoreVersions().stream()
+                                        .map(RuleSetSnapshotTest::describe)
+                                        .collect(Collectors.joining(",", "[", "]")))
+                        .collect(Collectors.joining(";"));
+    }
+
+    private static String describe(IgnoreVersion ignoreVersion) {
+        return ignoreVersion.getVersion() + "/" + ignoreVersion.getType();
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        RuleSet ruleSet = ruleSet();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RuleSetSnapshot.write(ruleSet, DIGEST, bytes);
+
+        RuleSet read = RuleSetSnapshot.read(new ByteArrayInputStream(bytes.toByteArray()));
+        assertThat(describe(read), is(describe(ruleSet)));
+        assertThat(read.getIgnoreVersions().get(1).getType(), nullValue());
+        assertThat(read.getRules().get(2).getGroupId(), nullValue());
+    }
+
+    @Test
+    void testCorruptSnapshotIsRejected() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RuleSetSnapshot.write(ruleSet(), DIGEST, bytes);
+        byte[] truncated = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 3);
+
+        assertThrows(IOException.class, () -> RuleSetSnapshot.read(new ByteArrayInputStream(truncated)));
+        assertThrows(IOException.class, () -> RuleSetSnapshot.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4})));
+    }
+
+    @Test
+    void testCorruptCountsAreRejectedBeforeAllocating() throws IOException {
+        byte[] valid;
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream()) {
+            RuleSetSnapshot.write(new RuleSet(), DIGEST, bytes);
+            valid = bytes.toByteArray();
+        }
+        // header (magic, version, digest), then a huge string table size
+        int header = 2 * Integer.BYTES + DIGEST.length;
+        ByteBuffer hugeTable = ByteBuffer.wrap(Arrays.copyOf(valid, valid.length));
+        hugeTable.putInt(header, Integer.MAX_VALUE);
+        assertThrows(IOException.class, () -> RuleSetSnapshot.read(new ByteArrayInputStream(hugeTable.array())));
+
+        // empty string table, then a huge number of global ignored versions
+        ByteBuffer hugeIgnoreVersions = ByteBuffer.wrap(Arrays.copyOf(valid, valid.length));
+        hugeIgnoreVersions.putInt(header + Integer.BYTES, Integer.MAX_VALUE);
+        assertThrows(
+                IOException.class, () -> RuleSetSnapshot.read(new ByteArrayInputStream(hugeIgnoreVersions.array())));
+
+        ByteBuffer negativeRules = ByteBuffer.wrap(Arrays.copyOf(valid, valid.length));
+        negativeRules.putInt(header + 2 * Integer.BYTES, -1);
+        assertThrows(IOException.class, () -> RuleSetSnapshot.read(new ByteArrayInputStream(negativeRules.array())));
+    }
+
+    @Test
+    void testIsUpToDate(@TempDir Path dir) throws IOException {
+        Path rulesFile = Files.write(dir.resolve("rules.xml"), new byte[] {1});
+        Path snapshot = RuleSetSnapshot.snapshotOf(rulesFile);
+        assertThat(snapshot.getFileName().toString(), is("rules.xml.bin"));
+        assertThat(RuleSetSnapshot.isUpToDate(snapshot, rulesFile), is(false));
+
+        RuleSetSnapshot.write(ruleSet(), RuleSetSnapshot.digest(Files.readAllBytes(rulesFile)), snapshot);
+        assertThat(RuleSetSnapshot.isUpToDate(snapshot, rulesFile), is(true));
+
+        // modification times are irrelevant, only the content of the document counts
+        Files.setLastModifiedTime(snapshot, FileTime.fromMillis(1_000_000L));
+        Files.setLastModifiedTime(rulesFile, FileTime.fromMillis(2_000_000L));
+        assertThat(RuleSetSnapshot.isUpToDate(snapshot, rulesFile), is(true));
+
+        Files.write(rulesFile, new byte[] {2});
+        Files.setLastModifiedTime(rulesFile, FileTime.fromMillis(1_000_000L));
+        assertThat(RuleSetSnapshot.isUpToDate(snapshot, rulesFile), is(false));
+    }
+
+    @Test
+    void testSnapshotOfAnotherDocumentIsNotRead() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RuleSetSnapshot.write(ruleSet(), DIGEST, bytes);
+
+        assertThat(
+                RuleSetSnapshot.readIfCreatedFrom(new ByteArrayInputStream(bytes.toByteArray()), DIGEST)
+                        .isPresent(),
+                is(true));
+        assertThat(
+                RuleSetSnapshot.readIfCreatedFrom(
+                                new ByteArrayInputStream(bytes.toByteArray()), RuleSetSnapshot.digest(new byte[] {1}))
+                        .isPresent(),
+                is(false));
+    }
+
+    @Test
+    void testBuilderUsesSnapshotOfLocalRules(@TempDir Path dir) throws Exception {
+        Path rulesFile = dir.resolve("rules.xml");
+        Files.copy(
+                Paths.get(getClass()
+                        .getResource("/org/codehaus/mojo/versions/api/rules.xml")
+                        .toURI()),
+                rulesFile);
+        Path snapshot = RuleSetSnapshot.snapshotOf(rulesFile);
+        RuleSet ruleSet = new RuleSet();
+        ruleSet.setRules(Arrays.asList(rule("org.example", "from-snapshot")));
+        RuleSetSnapshot.write(ruleSet, RuleSetSnapshot.digest(Files.readAllBytes(rulesFile)), snapshot);
+
+        Wagon wagon = mock(Wagon.class);
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenAnswer(i -> new DefaultRepositorySystemSession());
+        RulesServiceBuilder builder = new RulesServiceBuilder()
+                .withMavenSession(session)
+                .withLog(mock(Log.class))
+                .withWagonMap(singletonMap("file", wagon))
+                .withServerId("")
+                .withRulesUri(rulesFile.toUri().toString());
+
+        RuleSet loaded = builder.build().getRuleSet();
+        assertThat(loaded.getRules(), hasSize(1));
+        assertThat(
+                loaded.getRules().stream().map(Rule::getArtifactId).collect(Collectors.toList()),
+                contains("from-snapshot"));
+        verifyNoInteractions(wagon);
+
+        // the XML document is read again once it has changed, even if its modification time has not
+        doAnswer(i -> {
+                    Files.copy(rulesFile, i.<File>getArgument(1).toPath(), REPLACE_EXISTING);
+                    return null;
+                })
+                .when(wagon)
+                .get(anyString(), any(File.class));
+        FileTime lastModified = Files.getLastModifiedTime(rulesFile);
+        Files.write(rulesFile, "<!-- changed -->".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        Files.setLastModifiedTime(rulesFile, lastModified);
+        assertThat(
+                builder.build().getRuleSet().getRules().stream()
+                        .map(Rule::getArtifactId)
+                        .anyMatch("from-snapshot"::equals),
+                is(false));
+    }
+}
@@ -0,0 +1,131 @@
+package org.codehaus.mojo.versions.utils;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests {@link ArtifactIndex}
+ */
+class ArtifactIndexTest {
+
+    private static MavenProject project(String groupId, String artifactId, String version) {
+        MavenProject project = new MavenProject();
+        project.setGroupId(groupId);
+        project.setArtifactId(artifactId);
+        project.setVersion(version);
+        return project;
+    }
+
+    @Test
+    void testSharedWithinSession() {
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+
+        ArtifactIndex index = ArtifactIndex.forSession(session, Collections.emptyList());
+        assertThat(ArtifactIndex.forSession(session, Collections.emptyList()), sameInstance(index));
+        assertThat(
+                ArtifactIndex.forSession(null, Collections.emptyList()),
+                not(sameInstance(ArtifactIndex.forSession(null, Collections.emptyList()))));
+    }
+
+    @Test
+    void testFindReactorProject() {
+        MavenProject api = project("group", "api", "1.0");
+        MavenProject impl = project("group", "impl", "1.0");
+        ArtifactIndex index = new ArtifactIndex(Arrays.asList(api, impl));
+
+        assertThat(index.findReactorProject("group", "api"), is(Optional.of(api)));
+        assertThat(index.findReactorProject("group", "impl"), is(Optional.of(impl)));
+        assertThat(index.findReactorProject("other", "api").isPresent(), is(false));
+    }
+
+    @Test
+    void testFindDependencyArtifact() {
+        Artifact jar = new DefaultArtifact(
+                "group", "artifact", "1.0", "compile", "jar", null, new DefaultArtifactHandler("jar"));
+        Artifact tests = new DefaultArtifact(
+                "group", "artifact", "1.0", "test", "jar", "tests", new DefaultArtifactHandler("jar"));
+        MavenProject project = project("group", "project", "1.0");
+        project.setDependencyArtifacts(new HashSet<>(Arrays.asList(jar, tests)));
+        ArtifactIndex index = new ArtifactIndex(Collections.emptyList());
+
+        assertThat(
+                index.findDependencyArtifact(
+                        project,
+                        DependencyBuilder.newBuilder()
+                                .withGroupId("group")
+                                .withArtifactId("artifact")
+                                .withType("jar")
+                                .build()),
+                is(Optional.of(jar)));
+        assertThat(
+                index.findDependencyArtifact(
+                        project,
+                        DependencyBuilder.newBuilder()
+                                .withGroupId("group")
+                                .withArtifactId("artifact")
+                                .withType("jar")
+                                .withClassifier("tests")
+                                .build()),
+                is(Optional.of(tests)));
+        assertThat(
+                index.findDependencyArtifact(
+                                project,
+                                DependencyBuilder.newBuilder()
+                                        .withGroupId("group")
+                                        .withArtifactId("artifact")
+                                        .withType("pom")
+                                        .build())
+                        .isPresent(),
+                is(false));
+
+        // replaced dependency artifacts are indexed again
+        project.setDependencyArtifacts(Collections.singleton(tests));
+        assertThat(
+                index.findDependencyArtifact(
+                                project,
+                                DependencyBuilder.newBuilder()
+                                        .withGroupId("group")
+                                        .withArtifactId("artifact")
+                                        .withType("jar")
+                                        .build())
+                        .isPresent(),
+                is(false));
+    }
+}
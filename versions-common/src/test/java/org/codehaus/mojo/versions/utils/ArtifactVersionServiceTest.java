@@ -0,0 +1,131 @@
+package org.codehaus.mojo.versions.utils;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.codehaus.mojo.versions.utils.ArtifactVersionService.VersionCache;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArtifactVersionServiceTest {
+
+    @Test
+    void cachedVersionsAreReused() {
+        VersionCache cache = new VersionCache(16, false);
+        ArtifactVersion version = cache.get("1.0.0");
+
+        assertThat(version.toString(), is("1.0.0"));
+        assertThat(cache.get("1.0.0"), sameInstance(version));
+        assertThat(cache.getStatistics().getHits(), is(1L));
+        assertThat(cache.getStatistics().getMisses(), is(1L));
+    }
+
+    @Test
+    void cacheIsBounded() {
+        VersionCache cache = new VersionCache(4, false);
+        IntStream.range(0, 10).forEach(i -> cache.get("1." + i));
+
+        assertThat(cache.getStatistics().getSize(), is(4));
+        assertThat(cache.getStatistics().getEvictions(), is(6L));
+        assertThat(cache.getStatistics().getMisses(), is(10L));
+    }
+
+    @Test
+    void recentlyUsedVersionsGetASecondChance() {
+        VersionCache cache = new VersionCache(2, false);
+        ArtifactVersion first = cache.get("1.0");
+        cache.get("2.0");
+        cache.get("1.0");
+        cache.get("3.0");
+
+        assertThat(cache.get("1.0"), sameInstance(first));
+        assertThat(cache.getStatistics().getEvictions(), is(1L));
+    }
+
+    @Test
+    void internedVersionsAreNeverEvicted() {
+        VersionCache cache = new VersionCache(2, true);
+        ArtifactVersion first = cache.get("1.0");
+        IntStream.range(0, 10).forEach(i -> cache.get("2." + i));
+
+        assertThat(cache.get("1.0"), sameInstance(first));
+        assertThat(cache.getStatistics().getSize(), is(11));
+        assertThat(cache.getStatistics().getEvictions(), is(0L));
+    }
+
+    @Test
+    void concurrentLookupsStayBounded() throws Exception {
+        VersionCache cache = new VersionCache(64, false);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Void>> futures = IntStream.range(0, 8)
+                    .mapToObj(t -> CompletableFuture.runAsync(
+                            () -> IntStream.range(0, 10_000).forEach(i -> {
+                                String version = "1." + (i % 200);
+                                assertThat(cache.get(version).toString(), is(version));
+                            }),
+                            executor))
+                    .collect(Collectors.toList());
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        ArtifactVersionService.Statistics statistics = cache.getStatistics();
+        assertThat(statistics.getSize(), lessThanOrEqualTo(64));
+        assertThat(statistics.getHits() + statistics.getMisses(), is(80_000L));
+        assertThat(statistics.getEvictions(), not(is(0L)));
+    }
+
+    @Test
+    void maximumSizeMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionCache(0, false));
+    }
+
+    @Test
+    void invalidCacheSizePropertyFallsBackToTheDefault() {
+        ArtifactVersionService.pollConfigurationWarning();
+        for (String value : new String[] {"0", "-1", "many"}) {
+            assertThat(ArtifactVersionService.parseCacheSize(value), is(ArtifactVersionService.DEFAULT_CACHE_SIZE));
+            assertThat(
+                    ArtifactVersionService.pollConfigurationWarning()
+                            .filter(warning -> warning.contains(ArtifactVersionService.CACHE_SIZE_PROPERTY))
+                            .isPresent(),
+                    is(true));
+        }
+
+        assertThat(ArtifactVersionService.parseCacheSize(null), is(ArtifactVersionService.DEFAULT_CACHE_SIZE));
+        assertThat(ArtifactVersionService.parseCacheSize(" 100 "), is(100));
+        assertThat(ArtifactVersionService.pollConfigurationWarning().isPresent(), is(false));
+    }
+}
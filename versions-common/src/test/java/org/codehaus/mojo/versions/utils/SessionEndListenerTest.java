@@ -0,0 +1,73 @@
+package org.codehaus.mojo.versions.utils;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.ExecutionListener;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests {@link SessionEndListener}
+ */
+class SessionEndListenerTest {
+
+    @Test
+    void testActionsAreRunOnceTheSessionHasEnded() {
+        ExecutionListener delegate = mock(ExecutionListener.class);
+        MavenExecutionRequest request = new DefaultMavenExecutionRequest();
+        request.setExecutionListener(delegate);
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+        when(session.getRequest()).thenReturn(request);
+        List<String> actions = new ArrayList<>();
+
+        assertThat(SessionEndListener.onSessionEnd(session, "first", () -> actions.add("first")), is(true));
+        assertThat(SessionEndListener.onSessionEnd(session, "second", () -> actions.add("second")), is(true));
+        assertThat(SessionEndListener.onSessionEnd(session, "first", () -> actions.add("duplicate")), is(true));
+
+        request.getExecutionListener().projectStarted(null);
+        verify(delegate).projectStarted(null);
+        assertThat(actions.isEmpty(), is(true));
+
+        request.getExecutionListener().sessionEnded(null);
+        verify(delegate).sessionEnded(null);
+        assertThat(actions, contains("first", "second"));
+    }
+
+    @Test
+    void testActionsCannotBeRegisteredWithAStubbedSession() {
+        MavenSession session = mock(MavenSession.class);
+        assertThat(SessionEndListener.onSessionEnd(session, "first", () -> {}), is(false));
+        assertThat(SessionEndListener.onSessionEnd(null, "first", () -> {}), is(false));
+    }
+}
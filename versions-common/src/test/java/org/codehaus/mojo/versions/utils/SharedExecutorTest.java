@@ -0,0 +1,154 @@
+package org.codehaus.mojo.versions.utils;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.DefaultSessionData;
+import org.eclipse.aether.SessionData;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests {@link SharedExecutor}
+ */
+class SharedExecutorTest {
+
+    @Test
+    void testSharedWithinSession() {
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+
+        SharedExecutor executor = SharedExecutor.forSession(session, 2, false);
+        assertThat(SharedExecutor.forSession(session, 2, false), sameInstance(executor));
+        assertThat(SharedExecutor.forSession(session, 3, false), not(sameInstance(executor)));
+    }
+
+    @Test
+    void testNestedTasksDoNotStarvePool() throws Exception {
+        SharedExecutor executor = new SharedExecutor(1, false);
+        List<Future<Integer>> futures = IntStream.range(0, 4)
+                .mapToObj(
+                        i -> executor.submit(() -> executor.submit(() -> i * 2).get() + 1))
+                .collect(Collectors.toList());
+        int sum = 0;
+        for (Future<Integer> future : futures) {
+            sum += future.get(30, TimeUnit.SECONDS);
+        }
+        assertThat(sum, is(16));
+    }
+
+    @Test
+    void testCheckedExceptionIsPropagated() {
+        SharedExecutor executor = new SharedExecutor(1, false);
+        ExecutionException e = assertThrows(ExecutionException.class, () -> executor.submit(() -> {
+                    throw new IOException("failed");
+                })
+                .get());
+        assertThat(e.getCause(), instanceOf(IOException.class));
+    }
+
+    @Test
+    void testShutdownReleasesThreadsAndExecutorRemainsUsable() throws Exception {
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+        SharedExecutor executor = SharedExecutor.forSession(session, 2, false);
+        Thread first = executor.submit(Thread::currentThread).get(30, TimeUnit.SECONDS);
+
+        SharedExecutor.shutdown(session);
+        first.join(TimeUnit.SECONDS.toMillis(30));
+        assertThat(first.isAlive(), is(false));
+
+        assertThat(executor.submit(() -> 42).get(30, TimeUnit.SECONDS), is(42));
+        assertThat(SharedExecutor.forSession(session, 2, false), sameInstance(executor));
+    }
+
+    @Test
+    void testExecutorsAreShutDownOnceTheLastLeaseIsClosed() {
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+        SharedExecutor.Lease first = SharedExecutor.acquire(session);
+        SharedExecutor executor = SharedExecutor.forSession(session, 2, false);
+
+        try (SharedExecutor.Lease second = SharedExecutor.acquire(session)) {
+            first.close();
+            first.close();
+            assertThat(executor.isShutdown(), is(false));
+        }
+        assertThat(executor.isShutdown(), is(true));
+    }
+
+    @Test
+    void testExecutorLosingARaceIsReleased() {
+        SharedExecutor winner = new SharedExecutor(2, false);
+        List<SharedExecutor> losers = new ArrayList<>();
+        DefaultRepositorySystemSession repositorySession = new DefaultRepositorySystemSession();
+        SessionData data = new DefaultSessionData();
+        // another thread stores its executor right before this one
+        repositorySession.setData(new SessionData() {
+            @Override
+            public void set(Object key, Object value) {
+                data.set(key, value);
+            }
+
+            @Override
+            public boolean set(Object key, Object oldValue, Object newValue) {
+                if (newValue instanceof SharedExecutor && newValue != winner) {
+                    losers.add((SharedExecutor) newValue);
+                    data.set(key, oldValue, winner);
+                    return false;
+                }
+                return data.set(key, oldValue, newValue);
+            }
+
+            @Override
+            public Object get(Object key) {
+                return data.get(key);
+            }
+        });
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(repositorySession);
+
+        assertThat(SharedExecutor.forSession(session, 2, false), sameInstance(winner));
+        assertThat(losers, hasSize(1));
+        assertThat(losers.get(0).isShutdown(), is(true));
+        assertThat(SharedExecutor.getSessionExecutors(session), not(hasItem(losers.get(0))));
+        winner.shutdown();
+    }
+}
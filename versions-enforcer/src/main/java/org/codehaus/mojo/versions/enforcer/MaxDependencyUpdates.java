@@ -21,6 +21,7 @@ package org.codehaus.mojo.versions.enforcer;
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import java.io.File;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +53,7 @@ import org.codehaus.mojo.versions.rule.RuleService;
 import org.codehaus.mojo.versions.rule.RulesServiceBuilder;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
 import org.codehaus.mojo.versions.utils.DependencyComparator;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.codehaus.mojo.versions.utils.VersionsExpressionEvaluator;
 import org.eclipse.aether.RepositorySystem;
 
@@ -269,6 +271,41 @@ public class MaxDependencyUpdates extends AbstractEnforcerRule {
      */
     protected boolean allowSnapshots;
 
+    /**
+     * <p>Time-to-live, in seconds, of the entries of the persistent version metadata cache.
+     * When greater than {@code 0}, the versions retrieved for an artifact from a given set of repositories
+     * are stored on disk and reused by subsequent lookups, also by subsequent builds, until they expire.</p>
+     * <p>The default value of {@code 0} disables the cache.</p>
+     *
+     * @since 2.20.0
+     */
+    protected long metadataCacheTtl;
+
+    /**
+     * Directory of the persistent version metadata cache, see {@link #metadataCacheTtl}.
+     * If not set, the cache is kept in {@code .cache/versions-maven-plugin/metadata} in the local repository.
+     *
+     * @since 2.20.0
+     */
+    protected File metadataCacheDirectory;
+
+    /**
+     * Maximum number of version lookups run in parallel. The lookups are run on an executor shared
+     * by all versions goals with the same configuration, executed within the same build.
+     * A value of {@code 0} means the number of available processors.
+     *
+     * @since 2.20.0
+     */
+    protected int lookupThreads = SharedExecutor.DEFAULT_PARALLELISM;
+
+    /**
+     * If {@code true}, version lookups are run on virtual threads instead of a bounded thread pool,
+     * see {@link #lookupThreads}. Only effective on JDK 21 or newer; ignored otherwise.
+     *
+     * @since 2.20.0
+     */
+    protected boolean lookupVirtualThreads;
+
     private final MavenProject project;
 
     private final RepositorySystem repositorySystem;
@@ -339,6 +376,10 @@ public class MaxDependencyUpdates extends AbstractEnforcerRule {
                     .withMavenSession(mavenSession)
                     .withPomHelper(pomHelper)
                     .withRuleService(ruleService)
+                    .withMetadataCacheTtl(metadataCacheTtl)
+                    .withMetadataCacheDirectory(metadataCacheDirectory)
+                    .withLookupThreads(lookupThreads)
+                    .withLookupVirtualThreads(lookupVirtualThreads)
                     .build();
         } catch (MojoExecutionException e) {
             throw new EnforcerRuleError("Cannot resolve dependency", e);
@@ -352,71 +393,81 @@ public class MaxDependencyUpdates extends AbstractEnforcerRule {
      */
     @Override
     public void execute() throws EnforcerRuleException {
-
-        PluginLogWrapper pluginLog = new PluginLogWrapper(getLog());
-
-        VersionsHelper versionsHelper =
-                createVersionsHelper(serverId != null ? serverId : "serverId", rulesUri, ruleSet);
-
-        Set<Dependency> dependencies = new TreeSet<>(DependencyComparator.INSTANCE);
-        if (processDependencyManagement) {
-            try {
+        try (SharedExecutor.Lease lease = SharedExecutor.acquire(mavenSession)) {
+            PluginLogWrapper pluginLog = new PluginLogWrapper(getLog());
+
+            VersionsHelper versionsHelper =
+                    createVersionsHelper(serverId != null ? serverId : "serverId", rulesUri, ruleSet);
+
+            Set<Dependency> dependencies = new TreeSet<>(DependencyComparator.INSTANCE);
+            if (processDependencyManagement) {
+                try {
+                    dependencies.addAll(filterDependencies(
+                            mavenSession,
+                            extractDependenciesFromDependencyManagement(
+                                    project, processDependencyManagementTransitive, pluginLog),
+                            dependencyManagementIncludes,
+                            dependencyManagementExcludes,
+                            "Dependency Management",
+                            pluginLog));
+                } catch (VersionRetrievalException e) {
+                    throw new EnforcerRuleError(e.getMessage());
+                }
+            }
+            if (processPluginDependencies) {
                 dependencies.addAll(filterDependencies(
-                        extractDependenciesFromDependencyManagement(
-                                project, processDependencyManagementTransitive, pluginLog),
-                        dependencyManagementIncludes,
-                        dependencyManagementExcludes,
-                        "Dependency Management",
+                        mavenSession,
+                        extractDependenciesFromPlugins(project),
+                        pluginDependencyIncludes,
+                        pluginDependencyExcludes,
+                        "Plugin Dependencies",
                         pluginLog));
-            } catch (VersionRetrievalException e) {
-                throw new EnforcerRuleError(e.getMessage());
             }
-        }
-        if (processPluginDependencies) {
-            dependencies.addAll(filterDependencies(
-                    extractDependenciesFromPlugins(project),
-                    pluginDependencyIncludes,
-                    pluginDependencyExcludes,
-                    "Plugin Dependencies",
-                    pluginLog));
-        }
-        if (processPluginDependenciesInPluginManagement) {
-            dependencies.addAll(filterDependencies(
-                    extractPluginDependenciesFromPluginsInPluginManagement(project),
-                    pluginManagementDependencyIncludes,
-                    pluginManagementDependencyExcludes,
-                    "Plugin Management Dependencies",
-                    pluginLog));
-        }
-        if (processDependencies) {
-            dependencies.addAll(filterDependencies(
-                    project.getDependencies(), dependencyIncludes, dependencyExcludes, "Dependencies", pluginLog));
-        }
-        try {
-            Optional<Segment> ignoredSegment = ignoreSubIncrementalUpdates
-                    ? of(SUBINCREMENTAL)
-                    : ignoreIncrementalUpdates ? of(INCREMENTAL) : ignoreMinorUpdates ? of(MINOR) : empty();
-            List<ArtifactVersions> upgradable = versionsHelper
-                    .lookupDependenciesUpdates(
-                            dependencies.stream().filter(d -> d.getVersion() != null), false, allowSnapshots)
-                    .values()
-                    .stream()
-                    .filter(v -> v.getVersions(v.restrictionForIgnoreScope(v.getCurrentVersion(), ignoredSegment), true)
-                                    .length
-                            > 0)
-                    .collect(Collectors.toList());
-            if (upgradable.size() > maxUpdates) {
-                throw new EnforcerRuleException("More than " + maxUpdates + " upgradable artifacts detected: "
-                        + upgradable.stream()
-                                .map(av -> av.getArtifact() + " -> ["
-                                        + Arrays.stream(av.getVersions(allowSnapshots))
-                                                .map(ArtifactVersion::toString)
-                                                .collect(Collectors.joining(", "))
-                                        + "]")
-                                .collect(Collectors.joining(", ")));
+            if (processPluginDependenciesInPluginManagement) {
+                dependencies.addAll(filterDependencies(
+                        mavenSession,
+                        extractPluginDependenciesFromPluginsInPluginManagement(project),
+                        pluginManagementDependencyIncludes,
+                        pluginManagementDependencyExcludes,
+                        "Plugin Management Dependencies",
+                        pluginLog));
+            }
+            if (processDependencies) {
+                dependencies.addAll(filterDependencies(
+                        mavenSession,
+                        project.getDependencies(),
+                        dependencyIncludes,
+                        dependencyExcludes,
+                        "Dependencies",
+                        pluginLog));
+            }
+            try {
+                Optional<Segment> ignoredSegment = ignoreSubIncrementalUpdates
+                        ? of(SUBINCREMENTAL)
+                        : ignoreIncrementalUpdates ? of(INCREMENTAL) : ignoreMinorUpdates ? of(MINOR) : empty();
+                List<ArtifactVersions> upgradable = versionsHelper
+                        .lookupDependenciesUpdates(
+                                dependencies.stream().filter(d -> d.getVersion() != null), false, allowSnapshots)
+                        .values()
+                        .stream()
+                        .filter(v ->
+                                v.getVersions(v.restrictionForIgnoreScope(v.getCurrentVersion(), ignoredSegment), true)
+                                                .length
+                                        > 0)
+                        .collect(Collectors.toList());
+                if (upgradable.size() > maxUpdates) {
+                    throw new EnforcerRuleException("More than " + maxUpdates + " upgradable artifacts detected: "
+                            + upgradable.stream()
+                                    .map(av -> av.getArtifact() + " -> ["
+                                            + Arrays.stream(av.getVersions(allowSnapshots))
+                                                    .map(ArtifactVersion::toString)
+                                                    .collect(Collectors.joining(", "))
+                                            + "]")
+                                    .collect(Collectors.joining(", ")));
+                }
+            } catch (VersionRetrievalException e) {
+                throw new EnforcerRuleError(e);
             }
-        } catch (VersionRetrievalException e) {
-            throw new EnforcerRuleError(e);
         }
     }
 }
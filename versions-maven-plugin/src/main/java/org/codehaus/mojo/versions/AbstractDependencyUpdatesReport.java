@@ -23,6 +23,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -43,6 +45,7 @@ import org.codehaus.mojo.versions.reporting.model.DependencyUpdatesModel;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
 import org.codehaus.mojo.versions.utils.DependencyComparator;
 import org.codehaus.mojo.versions.utils.MavenProjectUtils;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.codehaus.mojo.versions.xml.DependencyUpdatesXmlReportRenderer;
 import org.codehaus.plexus.i18n.I18N;
 import org.eclipse.aether.RepositorySystem;
@@ -166,23 +169,28 @@ public abstract class AbstractDependencyUpdatesReport extends AbstractVersionsRe
             dependencyManagement = Collections.emptySet();
         }
 
+        List<Dependency> dependenciesToProcess = dependencies.stream()
+                .filter(d -> d.getVersion() != null)
+                .filter(d -> showVersionless || MavenProjectUtils.dependencyVersionLocalToReactor(d))
+                .collect(Collectors.toList());
+        List<Dependency> dependencyManagementToProcess = dependencyManagement.stream()
+                .filter(d -> d.getVersion() != null)
+                .collect(Collectors.toList());
+
         try {
-            Map<Dependency, ArtifactVersions> dependencyUpdates = getHelper()
-                    .lookupDependenciesUpdates(
-                            dependencies.stream()
-                                    .filter(d -> d.getVersion() != null)
-                                    .filter(d ->
-                                            showVersionless || MavenProjectUtils.dependencyVersionLocalToReactor(d)),
-                            false,
-                            allowSnapshots);
-
-            Map<Dependency, ArtifactVersions> dependencyManagementUpdates = processDependencyManagement
-                    ? getHelper()
-                            .lookupDependenciesUpdates(
-                                    dependencyManagement.stream().filter(d -> d.getVersion() != null),
-                                    false,
-                                    allowSnapshots)
-                    : emptyMap();
+            // look up dependencies and dependency management in one batch, so that artifacts shared by both
+            // (or, for aggregate reports, by several modules) are only resolved once
+            Map<String, List<Dependency>> dependencyGroups = new LinkedHashMap<>();
+            dependencyGroups.put("dependencies", dependenciesToProcess);
+            if (processDependencyManagement) {
+                dependencyGroups.put("dependencyManagement", dependencyManagementToProcess);
+            }
+            Map<String, Map<Dependency, ArtifactVersions>> updates =
+                    getHelper().lookupDependenciesUpdates(dependencyGroups, false, true, allowSnapshots);
+
+            Map<Dependency, ArtifactVersions> dependencyUpdates = updates.get("dependencies");
+            Map<Dependency, ArtifactVersions> dependencyManagementUpdates =
+                    updates.getOrDefault("dependencyManagement", emptyMap());
 
             if (onlyUpgradable) {
                 dependencyUpdates = filter(dependencyUpdates, e -> !e.isEmpty(allowSnapshots));
@@ -204,6 +212,8 @@ public abstract class AbstractDependencyUpdatesReport extends AbstractVersionsRe
             }
 
             DependencyUpdatesModel model = new DependencyUpdatesModel(dependencyUpdates, dependencyManagementUpdates);
+            // computed once, in parallel, and shared by all output formats
+            model.computeView(allowSnapshots, SharedExecutor.forSession(session, lookupThreads, lookupVirtualThreads));
 
             renderReport(locale, sink, model);
         } catch (VersionRetrievalException e) {
@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
 
 import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.model.Plugin;
@@ -149,6 +150,9 @@ public abstract class AbstractPluginUpdatesReport extends AbstractVersionsReport
         handleOnlyProjectPlugins(pluginManagement, plugins);
 
         try {
+            // resolve all artifacts at once, so that artifacts shared by plugins and plugin management
+            // (or, for aggregate reports, by several modules) are only resolved once
+            getHelper().prefetchPluginsVersions(Stream.concat(plugins.stream(), pluginManagement.stream()));
 
             Map<Plugin, PluginUpdatesDetails> pluginUpdates =
                     getHelper().lookupPluginsUpdates(plugins.stream(), getAllowSnapshots());
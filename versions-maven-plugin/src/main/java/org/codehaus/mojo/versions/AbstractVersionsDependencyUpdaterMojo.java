@@ -26,7 +26,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
 import org.apache.maven.model.Dependency;
@@ -41,9 +40,11 @@ import org.apache.maven.wagon.Wagon;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
 import org.codehaus.mojo.versions.api.recording.DependencyChangeRecord;
+import org.codehaus.mojo.versions.filtering.SharedArtifactFilter;
 import org.codehaus.mojo.versions.recording.DefaultDependencyChangeRecord;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
+import org.codehaus.mojo.versions.utils.ArtifactIndex;
 import org.codehaus.mojo.versions.utils.DependencyBuilder;
 import org.codehaus.mojo.versions.utils.DependencyComparator;
 import org.eclipse.aether.RepositorySystem;
@@ -118,14 +119,14 @@ public abstract class AbstractVersionsDependencyUpdaterMojo extends AbstractVers
      *
      * @since 1.0-alpha-3
      */
-    private PatternIncludesArtifactFilter includesFilter;
+    private ArtifactFilter includesFilter;
 
     /**
      * Artifact filter to determine if artifact should be excluded
      *
      * @since 1.0-alpha-3
      */
-    private PatternExcludesArtifactFilter excludesFilter;
+    private ArtifactFilter excludesFilter;
 
     /**
      * Whether to skip processing dependencies that are produced as part of the current reactor.
@@ -135,6 +136,13 @@ public abstract class AbstractVersionsDependencyUpdaterMojo extends AbstractVers
     @Parameter(property = "excludeReactor", defaultValue = "true")
     private boolean excludeReactor = true;
 
+    /**
+     * Index of the reactor projects and dependency artifacts, shared within the session
+     *
+     * @since 2.20.0
+     */
+    private ArtifactIndex artifactIndex;
+
     /**
      * The reactor projects for the current build.
      * @param artifactFactory {@link ArtifactFactory} bean instance
@@ -208,11 +216,20 @@ public abstract class AbstractVersionsDependencyUpdaterMojo extends AbstractVers
      * @since 1.0-alpha-3
      */
     protected Optional<Artifact> findArtifact(Dependency dependency) {
-        return Optional.ofNullable(getProject().getDependencyArtifacts())
-                // no mutation, so parallelStream is safe
-                .flatMap(artifacts -> artifacts.parallelStream()
-                        .filter(artifact -> compare(artifact, dependency))
-                        .findAny());
+        return getArtifactIndex().findDependencyArtifact(getProject(), dependency);
+    }
+
+    /**
+     * Returns the index of the reactor projects and dependency artifacts shared within the session.
+     *
+     * @return the artifact index
+     * @since 2.20.0
+     */
+    protected synchronized ArtifactIndex getArtifactIndex() {
+        if (artifactIndex == null) {
+            artifactIndex = ArtifactIndex.forSession(session, reactorProjects);
+        }
+        return artifactIndex;
     }
 
     /**
@@ -315,42 +332,9 @@ public abstract class AbstractVersionsDependencyUpdaterMojo extends AbstractVers
      * @since 1.0-alpha-3
      */
     protected boolean isProducedByReactor(Dependency dependency) {
-        return reactorProjects.stream().anyMatch(reactorProject -> compare(reactorProject, dependency));
-    }
-
-    /**
-     * Compare a project to a dependency. Returns true only if the groupId and artifactId are all equal.
-     *
-     * @param project the project
-     * @param dep     the dependency
-     * @return true if project and dep refer to the same artifact
-     */
-    private boolean compare(MavenProject project, Dependency dep) {
-        if (!StringUtils.equals(project.getGroupId(), dep.getGroupId())) {
-            return false;
-        }
-        return project.getArtifactId().equals(dep.getArtifactId());
-    }
-
-    /**
-     * Compare and artifact to a dependency. Returns true only if the groupId, artifactId, type, and classifier are all
-     * equal.
-     *
-     * @param artifact Artifact
-     * @param dep      Dependency
-     * @return true if artifact and dep refer to the same artifact
-     */
-    private boolean compare(Artifact artifact, Dependency dep) {
-        if (!StringUtils.equals(artifact.getGroupId(), dep.getGroupId())) {
-            return false;
-        }
-        if (!StringUtils.equals(artifact.getArtifactId(), dep.getArtifactId())) {
-            return false;
-        }
-        if (!StringUtils.equals(artifact.getType(), dep.getType())) {
-            return false;
-        }
-        return StringUtils.equals(artifact.getClassifier(), dep.getClassifier());
+        return getArtifactIndex()
+                .findReactorProject(dependency.getGroupId(), dependency.getArtifactId())
+                .isPresent();
     }
 
     /**
@@ -400,7 +384,10 @@ public abstract class AbstractVersionsDependencyUpdaterMojo extends AbstractVers
             } else {
                 patterns.addAll(Arrays.asList(includes));
             }
-            includesFilter = new PatternIncludesArtifactFilter(patterns);
+            includesFilter = SharedArtifactFilter.forSession(
+                    session,
+                    Arrays.asList(PatternIncludesArtifactFilter.class, patterns),
+                    () -> new PatternIncludesArtifactFilter(patterns));
         }
         return includesFilter;
     }
@@ -413,7 +400,10 @@ public abstract class AbstractVersionsDependencyUpdaterMojo extends AbstractVers
             } else {
                 patterns.addAll(Arrays.asList(excludes));
             }
-            excludesFilter = new PatternExcludesArtifactFilter(patterns);
+            excludesFilter = SharedArtifactFilter.forSession(
+                    session,
+                    Arrays.asList(PatternExcludesArtifactFilter.class, patterns),
+                    () -> new PatternExcludesArtifactFilter(patterns));
         }
         return excludesFilter;
     }
@@ -498,7 +488,48 @@ public abstract class AbstractVersionsDependencyUpdaterMojo extends AbstractVers
             MutableXMLStreamReader pom, Dependency dep, String newVersion, DependencyChangeRecord.ChangeKind changeKind)
             throws XMLStreamException, MojoExecutionException {
         boolean updated = false;
-        if (getProcessParent()
+        if (isParentDependency(dep)) {
+            if (PomHelper.setProjectParentVersion(pom, newVersion)) {
+                if (getLog().isDebugEnabled()) {
+                    getLog().debug("Made parent update from " + dep.getVersion() + " to " + newVersion);
+                }
+                getChangeRecorder()
+                        .recordChange(DefaultDependencyChangeRecord.builder()
+                                .withKind(changeKind)
+                                .withDependency(dep)
+                                .withNewVersion(newVersion)
+                                .build());
+                updated = true;
+            } else {
+                getLog().warn("Could not update parent: " + dep.toString() + " to " + newVersion);
+            }
+        }
+
+        if (PomHelper.setDependencyVersion(
+                pom,
+                dep.getGroupId(),
+                dep.getArtifactId(),
+                dep.getVersion(),
+                newVersion,
+                getProject().getModel(),
+                getLog())) {
+            recordDependencyUpdate(dep, newVersion, changeKind);
+            updated = true;
+        }
+
+        return updated;
+    }
+
+    /**
+     * Returns {@code true} if the given dependency denotes the parent of the current project
+     * and parent processing is enabled.
+     *
+     * @param dep dependency to check
+     * @return {@code true} if the dependency is the parent project
+     * @since 2.20.0
+     */
+    protected boolean isParentDependency(Dependency dep) {
+        return getProcessParent()
                 && getProject().getParent() != null
                 && (DependencyComparator.INSTANCE.compare(
                                         dep,
@@ -528,44 +559,30 @@ public abstract class AbstractVersionsDependencyUpdaterMojo extends AbstractVers
                                                                 .getParentArtifact()
                                                                 .getBaseVersion())
                                                         .build())
-                                        == 0)) {
-            if (PomHelper.setProjectParentVersion(pom, newVersion)) {
-                if (getLog().isDebugEnabled()) {
-                    getLog().debug("Made parent update from " + dep.getVersion() + " to " + newVersion);
-                }
-                getChangeRecorder()
-                        .recordChange(DefaultDependencyChangeRecord.builder()
-                                .withKind(changeKind)
-                                .withDependency(dep)
-                                .withNewVersion(newVersion)
-                                .build());
-                updated = true;
-            } else {
-                getLog().warn("Could not update parent: " + dep.toString() + " to " + newVersion);
-            }
-        }
+                                        == 0);
+    }
 
-        if (PomHelper.setDependencyVersion(
-                pom,
-                dep.getGroupId(),
-                dep.getArtifactId(),
-                dep.getVersion(),
-                newVersion,
-                getProject().getModel(),
-                getLog())) {
-            if (getLog().isInfoEnabled()) {
-                getLog().info("Updated " + toString(dep) + " to version " + newVersion);
-            }
-            getChangeRecorder()
-                    .recordChange(DefaultDependencyChangeRecord.builder()
-                            .withKind(changeKind)
-                            .withDependency(dep)
-                            .withNewVersion(newVersion)
-                            .build());
-            updated = true;
+    /**
+     * Logs and records a dependency update made to the POM document.
+     *
+     * @param dep dependency which has been updated
+     * @param newVersion new version of the dependency
+     * @param changeKind title for the {@link ChangeRecorder} log
+     * @throws MojoExecutionException thrown if the change recorder cannot be created
+     * @since 2.20.0
+     */
+    protected void recordDependencyUpdate(
+            Dependency dep, String newVersion, DependencyChangeRecord.ChangeKind changeKind)
+            throws MojoExecutionException {
+        if (getLog().isInfoEnabled()) {
+            getLog().info("Updated " + toString(dep) + " to version " + newVersion);
         }
-
-        return updated;
+        getChangeRecorder()
+                .recordChange(DefaultDependencyChangeRecord.builder()
+                        .withKind(changeKind)
+                        .withDependency(dep)
+                        .withNewVersion(newVersion)
+                        .build());
     }
 
     // TODO: add an updatePropertyVersion as well??? (like in CompareDependenciesMojo)
@@ -19,6 +19,7 @@ package org.codehaus.mojo.versions;
  * under the License.
  */
 
+import java.io.File;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -38,6 +39,8 @@ import org.codehaus.mojo.versions.reporting.ReportRendererFactory;
 import org.codehaus.mojo.versions.rule.RuleService;
 import org.codehaus.mojo.versions.rule.RulesServiceBuilder;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
+import org.codehaus.mojo.versions.utils.ArtifactVersionService;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.codehaus.mojo.versions.utils.VersionsExpressionEvaluator;
 import org.codehaus.plexus.i18n.I18N;
 import org.eclipse.aether.RepositorySystem;
@@ -88,6 +91,17 @@ public abstract class AbstractVersionsReport<T> extends AbstractMavenReport {
     @Parameter(property = "maven.version.rules")
     private String rulesUri;
 
+    /**
+     * Number of seconds a local copy of the {@link #rulesUri} document, kept in the local repository, may be used
+     * without contacting the server; once expired, the document is only downloaded again if the server reports
+     * it as modified. {@code 0} checks the document once per build. A negative value disables the local copy,
+     * in which case the document is downloaded once per build. Does not apply to classpath URIs.
+     *
+     * @since 2.20.0
+     */
+    @Parameter(property = "maven.version.rules.cacheTtl", defaultValue = "-1")
+    private long rulesCacheTtl = -1;
+
     /**
      * Whether to allow snapshots when searching for the latest version of an artifact.
      *
@@ -136,6 +150,47 @@ public abstract class AbstractVersionsReport<T> extends AbstractMavenReport {
     @Parameter(property = "maven.version.ignore")
     protected Set<String> ignoredVersions;
 
+    /**
+     * <p>Time-to-live, in seconds, of the entries of the persistent version metadata cache.
+     * When greater than {@code 0}, the versions retrieved for an artifact from a given set of repositories
+     * are stored on disk and reused by subsequent lookups, also by subsequent builds, until they expire.</p>
+     * <p>The cache is not used by offline builds, and is refreshed rather than read when updates are forced,
+     * e.g. using {@code -U}.</p>
+     * <p>The default value of {@code 0} disables the cache.</p>
+     *
+     * @since 2.20.0
+     */
+    @Parameter(property = "versions.metadataCacheTtl", defaultValue = "0")
+    protected long metadataCacheTtl;
+
+    /**
+     * Directory of the persistent version metadata cache, see {@link #metadataCacheTtl}.
+     * If not set, the cache is kept in {@code .cache/versions-maven-plugin/metadata} in the local repository.
+     *
+     * @since 2.20.0
+     */
+    @Parameter(property = "versions.metadataCacheDirectory")
+    protected File metadataCacheDirectory;
+
+    /**
+     * Maximum number of version lookups run in parallel. The lookups are run on an executor shared
+     * by all versions goals with the same configuration, executed within the same build.
+     * A value of {@code 0} means the number of available processors.
+     *
+     * @since 2.20.0
+     */
+    @Parameter(property = "versions.lookupThreads", defaultValue = "5")
+    protected int lookupThreads = SharedExecutor.DEFAULT_PARALLELISM;
+
+    /**
+     * If {@code true}, version lookups are run on virtual threads instead of a bounded thread pool,
+     * see {@link #lookupThreads}. Only effective on JDK 21 or newer; ignored otherwise.
+     *
+     * @since 2.20.0
+     */
+    @Parameter(property = "versions.lookupVirtualThreads", defaultValue = "false")
+    protected boolean lookupVirtualThreads;
+
     /**
      * Renderer factory
      *
@@ -188,6 +243,7 @@ public abstract class AbstractVersionsReport<T> extends AbstractMavenReport {
                         .withWagonMap(wagonMap)
                         .withServerId(serverId)
                         .withRulesUri(rulesUri)
+                        .withRulesCacheTtl(rulesCacheTtl)
                         .withRuleSet(ruleSet)
                         .withIgnoredVersions(ignoredVersions)
                         .withLog(getLog())
@@ -202,6 +258,10 @@ public abstract class AbstractVersionsReport<T> extends AbstractMavenReport {
                         .withMavenSession(session)
                         .withPomHelper(pomHelper)
                         .withRuleService(ruleService)
+                        .withMetadataCacheTtl(metadataCacheTtl)
+                        .withMetadataCacheDirectory(metadataCacheDirectory)
+                        .withLookupThreads(lookupThreads)
+                        .withLookupVirtualThreads(lookupVirtualThreads)
                         .build();
             } catch (MojoExecutionException e) {
                 throw new MavenReportException(e.getMessage(), e);
@@ -214,11 +274,15 @@ public abstract class AbstractVersionsReport<T> extends AbstractMavenReport {
      */
     protected void executeReport(Locale locale) throws MavenReportException {
         if (!skip) {
-            try {
+            try (SharedExecutor.Lease lease = SharedExecutor.acquire(session)) {
                 doGenerateReport(locale, getSink());
             } catch (MojoExecutionException e) {
                 throw new MavenReportException(e.getMessage(), e);
             }
+            ArtifactVersionService.pollConfigurationWarning().ifPresent(getLog()::warn);
+            if (getLog().isDebugEnabled()) {
+                getLog().debug("Artifact version cache: " + ArtifactVersionService.getStatistics());
+            }
         }
     }
 
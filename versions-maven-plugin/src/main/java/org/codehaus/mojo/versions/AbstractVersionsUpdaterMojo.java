@@ -27,10 +27,18 @@ import java.io.IOException;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.resolver.ArtifactResolutionException;
@@ -42,6 +50,7 @@ import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.wagon.Wagon;
@@ -56,10 +65,16 @@ import org.codehaus.mojo.versions.api.VersionsHelper;
 import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
 import org.codehaus.mojo.versions.model.RuleSet;
 import org.codehaus.mojo.versions.ordering.InvalidSegmentException;
+import org.codehaus.mojo.versions.recording.SessionChangeRecorder;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+import org.codehaus.mojo.versions.rewriting.PomDocumentStore;
 import org.codehaus.mojo.versions.rule.RuleService;
 import org.codehaus.mojo.versions.rule.RulesServiceBuilder;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
+import org.codehaus.mojo.versions.utils.ArtifactVersionService;
+import org.codehaus.mojo.versions.utils.SessionDataUtils;
+import org.codehaus.mojo.versions.utils.SessionEndListener;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.codehaus.mojo.versions.utils.VersionsExpressionEvaluator;
 import org.eclipse.aether.RepositorySystem;
 
@@ -110,6 +125,17 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
     @Parameter(property = "maven.version.rules")
     private String rulesUri;
 
+    /**
+     * Number of seconds a local copy of the {@link #rulesUri} document, kept in the local repository, may be used
+     * without contacting the server; once expired, the document is only downloaded again if the server reports
+     * it as modified. {@code 0} checks the document once per build. A negative value disables the local copy,
+     * in which case the document is downloaded once per build. Does not apply to classpath URIs.
+     *
+     * @since 2.20.0
+     */
+    @Parameter(property = "maven.version.rules.cacheTtl", defaultValue = "-1")
+    private long rulesCacheTtl = -1;
+
     /**
      * Controls whether a backup pom should be created.
      *
@@ -139,24 +165,41 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
 
     /**
      * The format used to record changes. If "none" is specified, no changes are recorded.
+     * Other supported formats are "xml" and "xml-stream".
      *
      * @since 2.11
      */
     @Parameter(property = "changeRecorderFormat", defaultValue = "none")
     private String changeRecorderFormat = "none";
     /**
-     * The output file used to record changes.
+     * The output file used to record changes. By default, every module writes its own change log; all modules
+     * of the reactor recording changes in the same format to the same file share one consolidated change log,
+     * so a consolidated change log requires setting this to a file shared by all modules.
      *
      * @since 2.11
      */
     @Parameter(property = "changeRecorderOutputFile", defaultValue = "${project.build.directory}/versions-changes.xml")
     private File changeRecorderOutputFile;
 
+    /**
+     * Minimum number of seconds between two writes of the change log before the end of the reactor.
+     * With {@code 0}, the change log is written at the end of every goal execution; with a negative value,
+     * it is only written once, at the end of the reactor. The change logs of all modules are always written at
+     * the end of the reactor, and when a goal execution fails. With a parallel build in which the goal is not
+     * executed for every module, the end of the reactor is only known once the build session has ended.
+     *
+     * @since 2.20.0
+     */
+    @Parameter(property = "versions.changeRecorderFlushInterval", defaultValue = "0")
+    protected long changeRecorderFlushInterval;
+
     /**
      * The change recorders implementation.
      */
     private Map<String, ChangeRecorder> changeRecorders;
 
+    private Boolean endOfReactor;
+
     /**
      * <p>Allows specifying the {@linkplain RuleSet} object describing rules
      * on artifact versions to ignore when considering updates.</p>
@@ -184,6 +227,47 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
     @Parameter(property = "maven.version.ignore")
     protected Set<String> ignoredVersions;
 
+    /**
+     * <p>Time-to-live, in seconds, of the entries of the persistent version metadata cache.
+     * When greater than {@code 0}, the versions retrieved for an artifact from a given set of repositories
+     * are stored on disk and reused by subsequent lookups, also by subsequent builds, until they expire.</p>
+     * <p>The cache is not used by offline builds, and is refreshed rather than read when updates are forced,
+     * e.g. using {@code -U}.</p>
+     * <p>The default value of {@code 0} disables the cache.</p>
+     *
+     * @since 2.20.0
+     */
+    @Parameter(property = "versions.metadataCacheTtl", defaultValue = "0")
+    protected long metadataCacheTtl;
+
+    /**
+     * Directory of the persistent version metadata cache, see {@link #metadataCacheTtl}.
+     * If not set, the cache is kept in {@code .cache/versions-maven-plugin/metadata} in the local repository.
+     *
+     * @since 2.20.0
+     */
+    @Parameter(property = "versions.metadataCacheDirectory")
+    protected File metadataCacheDirectory;
+
+    /**
+     * Maximum number of version lookups run in parallel. The lookups are run on an executor shared
+     * by all versions goals with the same configuration, executed within the same build.
+     * A value of {@code 0} means the number of available processors.
+     *
+     * @since 2.20.0
+     */
+    @Parameter(property = "versions.lookupThreads", defaultValue = "5")
+    protected int lookupThreads = SharedExecutor.DEFAULT_PARALLELISM;
+
+    /**
+     * If {@code true}, version lookups are run on virtual threads instead of a bounded thread pool,
+     * see {@link #lookupThreads}. Only effective on JDK 21 or newer; ignored otherwise.
+     *
+     * @since 2.20.0
+     */
+    @Parameter(property = "versions.lookupVirtualThreads", defaultValue = "false")
+    protected boolean lookupVirtualThreads;
+
     /**
      * (injected) map of {@link Wagon} instances per protocol
      *
@@ -246,6 +330,7 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
                     .withWagonMap(wagonMap)
                     .withServerId(serverId)
                     .withRulesUri(rulesUri)
+                    .withRulesCacheTtl(rulesCacheTtl)
                     .withRuleSet(ruleSet)
                     .withIgnoredVersions(ignoredVersions)
                     .withLog(getLog())
@@ -259,6 +344,10 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
                     .withMavenSession(session)
                     .withPomHelper(pomHelper)
                     .withRuleService(ruleService)
+                    .withMetadataCacheTtl(metadataCacheTtl)
+                    .withMetadataCacheDirectory(metadataCacheDirectory)
+                    .withLookupThreads(lookupThreads)
+                    .withLookupVirtualThreads(lookupVirtualThreads)
                     .build();
         }
         return helper;
@@ -306,7 +395,66 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
     public void execute() throws MojoExecutionException, MojoFailureException {
         validateInput();
         File outFile = project.getFile();
-        process(outFile);
+        boolean completed = false;
+        try (SharedExecutor.Lease lease = SharedExecutor.acquire(session)) {
+            try {
+                process(outFile);
+                try {
+                    saveChangeRecorderResults();
+                } catch (IOException e) {
+                    getLog().error(e);
+                }
+                logArtifactVersionCacheStatistics();
+                completed = true;
+            } finally {
+                flushSessionChangeRecorders(!completed);
+            }
+        }
+    }
+
+    /**
+     * Writes the change logs of all modules of the reactor at the end of the reactor, or once a goal execution
+     * has failed, so that changes deferred by {@link #changeRecorderFlushInterval} are never lost.
+     * Errors are logged rather than thrown, so that they do not hide the failure of the goal execution.
+     * <p>
+     * The end of the reactor cannot always be told from the goal executions, e.g. with a parallel build in which
+     * the goal is not executed for every project, so the change logs are written, and the recorders closed,
+     * once the session has ended as well.
+     *
+     * @param failed {@code true} if the current goal execution has failed
+     * @since 2.20.0
+     */
+    protected void flushSessionChangeRecorders(boolean failed) {
+        MavenSession mavenSession = session;
+        Log log = getLog();
+        SessionEndListener.onSessionEnd(mavenSession, SessionChangeRecorder.class, () -> {
+            try {
+                SessionChangeRecorder.flushAll(mavenSession, true);
+            } catch (IOException e) {
+                log.error("Cannot save the change recorder results", e);
+            }
+        });
+        boolean endOfReactor = isEndOfReactor();
+        if (failed || endOfReactor) {
+            try {
+                SessionChangeRecorder.flushAll(session, endOfReactor);
+            } catch (IOException e) {
+                getLog().error("Cannot save the change recorder results", e);
+            }
+        }
+    }
+
+    /**
+     * Logs the statistics of the {@link ArtifactVersionService} cache at debug level,
+     * and the warning about its configuration, if any.
+     *
+     * @since 2.20.0
+     */
+    protected void logArtifactVersionCacheStatistics() {
+        ArtifactVersionService.pollConfigurationWarning().ifPresent(getLog()::warn);
+        if (getLog().isDebugEnabled()) {
+            getLog().debug("Artifact version cache: " + ArtifactVersionService.getStatistics());
+        }
     }
 
     // -------------------------- OTHER METHODS --------------------------
@@ -339,6 +487,53 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
         return artifactVersions.getNewestVersion(versionRange, null, includeSnapshots, false);
     }
 
+    /**
+     * Processes the given files as per {@link #process(File)}. Independent files are parsed, updated and written
+     * concurrently on the {@link SharedExecutor} of the session, using at most {@link #lookupThreads} threads;
+     * implementations of {@link #update(MutableXMLStreamReader)} must therefore be thread-safe.
+     * If processing several files fails, the failure of the first of them, in iteration order, is reported.
+     *
+     * @param files files to process
+     * @throws MojoExecutionException If things go wrong.
+     * @throws MojoFailureException   If things go wrong.
+     * @since 2.20.0
+     */
+    protected void process(Collection<File> files) throws MojoExecutionException, MojoFailureException {
+        if (files.size() <= 1) {
+            for (File file : files) {
+                process(file);
+            }
+            return;
+        }
+        SharedExecutor executor = SharedExecutor.forSession(session, lookupThreads, lookupVirtualThreads);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(files.size());
+        for (File file : files) {
+            futures.add(executor.submit(() -> {
+                process(file);
+                return null;
+            }));
+        }
+        Throwable failure = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+        if (failure instanceof MojoExecutionException) {
+            throw (MojoExecutionException) failure;
+        } else if (failure instanceof MojoFailureException) {
+            throw (MojoFailureException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure != null) {
+            throw new MojoExecutionException(failure.getMessage(), failure);
+        }
+    }
+
     /**
      * Processes the specified file. This is an extension point to allow updating a file external to the reactor.
      *
@@ -349,7 +544,8 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
      */
     protected void process(File outFile) throws MojoExecutionException, MojoFailureException {
         try {
-            MutableXMLStreamReader newPom = new MutableXMLStreamReader(outFile.toPath());
+            PomDocumentStore documents = PomDocumentStore.forSession(session);
+            MutableXMLStreamReader newPom = documents.newReader(outFile.toPath());
 
             update(newPom);
 
@@ -369,9 +565,10 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
                         outFile.toPath(),
                         ofNullable(newPom.getEncoding()).map(Charset::forName).orElse(Charset.defaultCharset()))) {
                     writer.write(newPom.getSource());
+                } finally {
+                    documents.invalidate(outFile.toPath());
                 }
             }
-            saveChangeRecorderResults();
         } catch (IOException e) {
             getLog().error(e);
         } catch (VersionRetrievalException | XMLStreamException e) {
@@ -491,16 +688,26 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
      * @throws MojoExecutionException if something goes wrong.
      */
     protected ChangeRecorder getChangeRecorder() throws MojoExecutionException {
+        return getSessionChangeRecorder();
+    }
+
+    private SessionChangeRecorder getSessionChangeRecorder() throws MojoExecutionException {
         ChangeRecorder changeRecorder = changeRecorders.get(changeRecorderFormat);
         if (changeRecorder == null) {
             throw new MojoExecutionException(
                     "Only " + changeRecorders.keySet() + " formats are supported for change recordings");
         }
-        return changeRecorder;
+        return SessionChangeRecorder.forSession(
+                session, changeRecorderFormat, getChangeRecorderOutputPath(), () -> changeRecorder);
+    }
+
+    private Path getChangeRecorderOutputPath() {
+        return ofNullable(changeRecorderOutputFile).map(File::toPath).orElse(null);
     }
 
     /**
-     * Save all of the changes recorded by the change recorder.
+     * Save all of the changes recorded by the change recorder, as per {@link #changeRecorderFlushInterval}.
+     * Meant to be called once at the end of the goal execution.
      *
      * @throws IOException On I/O errors
      * @throws MojoExecutionException if something goes wrong.
@@ -508,8 +715,49 @@ public abstract class AbstractVersionsUpdaterMojo extends AbstractMojo {
     protected void saveChangeRecorderResults() throws IOException, MojoExecutionException {
 
         this.getLog().debug("writing change record to " + this.changeRecorderOutputFile);
-        getChangeRecorder()
-                .writeReport(
-                        ofNullable(changeRecorderOutputFile).map(File::toPath).orElse(null));
+        getSessionChangeRecorder().flush(getChangeRecorderOutputPath(), changeRecorderFlushInterval, isEndOfReactor());
+    }
+
+    /**
+     * Returns {@code true} if no more goal executions of this mojo are expected within the reactor,
+     * i.e. if the mojo is an aggregator, or if this goal execution has been performed for every project of
+     * the reactor. The projects are counted in the session, as with a parallel build, the last project
+     * of the reactor is not necessarily the last one to be processed. With a sequential build, the last
+     * project of the reactor also ends it, even if the goal is not executed for every project.
+     * <p>
+     * Meant to be called once the changes of the goal execution have been recorded;
+     * the result is computed once per goal execution.
+     *
+     * @return {@code true} if the end of the reactor has been reached
+     */
+    private synchronized boolean isEndOfReactor() {
+        if (endOfReactor == null) {
+            endOfReactor = computeEndOfReactor();
+        }
+        return endOfReactor;
+    }
+
+    private boolean computeEndOfReactor() {
+        if (mojoExecution == null
+                || mojoExecution.getMojoDescriptor() == null
+                || mojoExecution.getMojoDescriptor().isAggregator()) {
+            return true;
+        }
+        List<MavenProject> projects = session != null ? session.getProjects() : null;
+        if (projects == null || projects.isEmpty()) {
+            return true;
+        }
+        Set<MavenProject> processed = SessionDataUtils.computeIfAbsent(
+                session,
+                Arrays.asList(
+                        AbstractVersionsUpdaterMojo.class,
+                        mojoExecution.getMojoDescriptor().getGoal(),
+                        mojoExecution.getExecutionId()),
+                () -> Collections.newSetFromMap(new ConcurrentHashMap<>()));
+        // only the goal execution completing the set ends the reactor
+        if (processed.add(project) && processed.size() == projects.size()) {
+            return true;
+        }
+        return !session.isParallel() && projects.get(projects.size() - 1) == project;
     }
 }
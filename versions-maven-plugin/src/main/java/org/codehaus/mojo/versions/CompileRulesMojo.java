@@ -0,0 +1,91 @@
+package org.codehaus.mojo.versions;
+
+/*
+ * Copyright MojoHaus and Contributors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+import javax.xml.stream.XMLStreamException;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.codehaus.mojo.versions.model.RuleSet;
+import org.codehaus.mojo.versions.model.io.stax.RuleStaxReader;
+import org.codehaus.mojo.versions.rule.RuleSetSnapshot;
+
+/**
+ * Compiles a rules XML document into a binary snapshot, which is stored next to the document and loaded
+ * instead of it by the other goals when the document is referenced by a {@code file:} or {@code classpath:}
+ * {@code rulesUri}, as long as the document has not changed since: the snapshot records the digest of the document
+ * it was compiled from. A snapshot packaged with its document, e.g. for a {@code classpath:} {@code rulesUri},
+ * must be compiled again whenever the document changes, otherwise the document is parsed instead.
+ * Useful for large rule sets, which take a noticeable time to parse in every module.
+ *
+ * @since 2.20.0
+ */
+@Mojo(name = "compile-rules", requiresProject = false, threadSafe = true)
+public class CompileRulesMojo extends AbstractMojo {
+    /**
+     * The rules XML document to compile.
+     *
+     * @since 2.20.0
+     */
+    @Parameter(property = "maven.version.rules.file", required = true)
+    private File rulesFile;
+
+    /**
+     * The snapshot file to write. Defaults to the rules document with {@code .bin} appended to its name,
+     * which is where the snapshot is looked up.
+     *
+     * @since 2.20.0
+     */
+    @Parameter(property = "maven.version.rules.snapshot")
+    private File snapshotFile;
+
+    /**
+     * Creates a new instance.
+     */
+    public CompileRulesMojo() {}
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        Path rules = rulesFile.toPath();
+        Path snapshot = snapshotFile != null ? snapshotFile.toPath() : RuleSetSnapshot.snapshotOf(rules);
+
+        byte[] document;
+        RuleSet ruleSet;
+        try {
+            document = Files.readAllBytes(rules);
+            ruleSet = new RuleStaxReader().read(new ByteArrayInputStream(document));
+        } catch (IOException | XMLStreamException e) {
+            throw new MojoExecutionException("Could not read rules from " + rules + ": " + e.getMessage(), e);
+        }
+
+        try {
+            RuleSetSnapshot.write(ruleSet, RuleSetSnapshot.digest(document), snapshot);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Could not write " + snapshot + ": " + e.getMessage(), e);
+        }
+        getLog().info("Compiled " + ruleSet.getRules().size() + " rules and "
+                + ruleSet.getIgnoreVersions().size() + " ignored versions from " + rules + " into " + snapshot);
+    }
+}
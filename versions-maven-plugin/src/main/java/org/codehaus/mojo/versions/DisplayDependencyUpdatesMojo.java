@@ -21,12 +21,14 @@ package org.codehaus.mojo.versions;
 
 import javax.inject.Inject;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.model.Dependency;
@@ -47,6 +49,7 @@ import org.codehaus.mojo.versions.utils.ArtifactFactory;
 import org.codehaus.mojo.versions.utils.DependencyComparator;
 import org.codehaus.mojo.versions.utils.MavenProjectUtils;
 import org.codehaus.mojo.versions.utils.SegmentUtils;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.eclipse.aether.RepositorySystem;
 
 import static java.util.Collections.emptySet;
@@ -387,92 +390,80 @@ public class DisplayDependencyUpdatesMojo extends AbstractVersionsDisplayMojo {
      */
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
-        logInit();
-        validateInput();
-
-        Set<Dependency> dependencyManagement;
-        try {
-            if (processDependencyManagement) {
-                dependencyManagement = filterDependencies(
-                        extractDependenciesFromDependencyManagement(
-                                getProject(), processDependencyManagementTransitive, getLog()),
-                        dependencyManagementIncludes,
-                        dependencyManagementExcludes,
-                        "Dependecy Management",
-                        getLog());
-
-                logUpdates(
-                        getHelper()
-                                .lookupDependenciesUpdates(
-                                        dependencyManagement.stream().filter(d -> d.getVersion() != null),
-                                        false,
-                                        allowSnapshots),
-                        "Dependency Management");
-            } else {
-                dependencyManagement = emptySet();
-            }
-            if (processDependencies) {
-                logUpdates(
-                        getHelper()
-                                .lookupDependenciesUpdates(
-                                        filterDependencies(
-                                                        getProject().getDependencies().stream()
-                                                                .filter(dep -> dependencyManagement.stream()
-                                                                        .noneMatch(depMan ->
-                                                                                dependenciesMatch(dep, depMan)))
-                                                                .filter(dep -> showVersionless
-                                                                        || MavenProjectUtils
-                                                                                .dependencyVersionLocalToReactor(dep))
-                                                                .collect(
-                                                                        () -> new TreeSet<>(
-                                                                                DependencyComparator.INSTANCE),
-                                                                        Set::add,
-                                                                        Set::addAll),
-                                                        dependencyIncludes,
-                                                        dependencyExcludes,
-                                                        "Dependencies",
-                                                        getLog())
-                                                .stream()
-                                                .filter(d -> d.getVersion() != null),
-                                        false,
-                                        allowSnapshots),
-                        "Dependencies");
-            }
-            if (processPluginDependenciesInPluginManagement) {
-                logUpdates(
-                        getHelper()
-                                .lookupDependenciesUpdates(
-                                        filterDependencies(
-                                                        extractPluginDependenciesFromPluginsInPluginManagement(
-                                                                getProject()),
-                                                        pluginManagementDependencyIncludes,
-                                                        pluginManagementDependencyExcludes,
-                                                        "Plugin Management Dependencies",
-                                                        getLog())
-                                                .stream()
-                                                .filter(d -> d.getVersion() != null),
-                                        false,
-                                        allowSnapshots),
-                        "pluginManagement of plugins");
-            }
-            if (processPluginDependencies) {
-                logUpdates(
-                        getHelper()
-                                .lookupDependenciesUpdates(
-                                        filterDependencies(
-                                                        extractDependenciesFromPlugins(getProject()),
-                                                        pluginDependencyIncludes,
-                                                        pluginDependencyExcludes,
-                                                        "Plugin Dependencies",
-                                                        getLog())
-                                                .stream()
-                                                .filter(d -> d.getVersion() != null),
-                                        false,
-                                        allowSnapshots),
-                        "Plugin Dependencies");
+        try (SharedExecutor.Lease lease = SharedExecutor.acquire(session)) {
+            logInit();
+            validateInput();
+
+            // all sections are looked up in one batch, so that dependencies shared by several sections
+            // are only looked up once; the updates are then logged per section, in this order
+            Map<String, Set<Dependency>> sections = new LinkedHashMap<>();
+            try {
+                Set<Dependency> dependencyManagement;
+                if (processDependencyManagement) {
+                    dependencyManagement = filterDependencies(
+                            session,
+                            extractDependenciesFromDependencyManagement(
+                                    getProject(), processDependencyManagementTransitive, getLog()),
+                            dependencyManagementIncludes,
+                            dependencyManagementExcludes,
+                            "Dependecy Management",
+                            getLog());
+                    sections.put("Dependency Management", dependencyManagement);
+                } else {
+                    dependencyManagement = emptySet();
+                }
+                if (processDependencies) {
+                    sections.put(
+                            "Dependencies",
+                            filterDependencies(
+                                    session,
+                                    getProject().getDependencies().stream()
+                                            .filter(dep -> dependencyManagement.stream()
+                                                    .noneMatch(depMan -> dependenciesMatch(dep, depMan)))
+                                            .filter(dep -> showVersionless
+                                                    || MavenProjectUtils.dependencyVersionLocalToReactor(dep))
+                                            .collect(
+                                                    () -> new TreeSet<>(DependencyComparator.INSTANCE),
+                                                    Set::add,
+                                                    Set::addAll),
+                                    dependencyIncludes,
+                                    dependencyExcludes,
+                                    "Dependencies",
+                                    getLog()));
+                }
+                if (processPluginDependenciesInPluginManagement) {
+                    sections.put(
+                            "pluginManagement of plugins",
+                            filterDependencies(
+                                    session,
+                                    extractPluginDependenciesFromPluginsInPluginManagement(getProject()),
+                                    pluginManagementDependencyIncludes,
+                                    pluginManagementDependencyExcludes,
+                                    "Plugin Management Dependencies",
+                                    getLog()));
+                }
+                if (processPluginDependencies) {
+                    sections.put(
+                            "Plugin Dependencies",
+                            filterDependencies(
+                                    session,
+                                    extractDependenciesFromPlugins(getProject()),
+                                    pluginDependencyIncludes,
+                                    pluginDependencyExcludes,
+                                    "Plugin Dependencies",
+                                    getLog()));
+                }
+                sections.replaceAll((section, dependencies) -> dependencies.stream()
+                        .filter(d -> d.getVersion() != null)
+                        .collect(Collectors.toCollection(() -> new TreeSet<>(DependencyComparator.INSTANCE))));
+
+                getHelper()
+                        .lookupDependenciesUpdates(sections, false, true, allowSnapshots)
+                        .forEach((section, updates) -> logUpdates(updates, section));
+            } catch (VersionRetrievalException e) {
+                throw new MojoExecutionException(e.getMessage(), e);
             }
-        } catch (VersionRetrievalException e) {
-            throw new MojoExecutionException(e.getMessage(), e);
+            logArtifactVersionCacheStatistics();
         }
     }
 
@@ -42,10 +42,12 @@ import org.codehaus.mojo.versions.filtering.DependencyFilter;
 import org.codehaus.mojo.versions.filtering.WildcardMatcher;
 import org.codehaus.mojo.versions.internal.DependencyUpdatesLoggingHelper;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+import org.codehaus.mojo.versions.rewriting.PomDocumentStore;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
 import org.codehaus.mojo.versions.utils.DependencyBuilder;
 import org.codehaus.mojo.versions.utils.ExtensionUtils;
 import org.codehaus.mojo.versions.utils.SegmentUtils;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.eclipse.aether.RepositorySystem;
 
 /**
@@ -179,44 +181,52 @@ public class DisplayExtensionUpdatesMojo extends AbstractVersionsDisplayMojo {
 
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
-        logInit();
-        validateInput();
+        try (SharedExecutor.Lease lease = SharedExecutor.acquire(session)) {
+            logInit();
+            validateInput();
 
-        if (!processCoreExtensions && !processBuildExtensions) {
-            getLog().info("Neither core nor build extensions are to be processed. Nothing to do.");
-            return;
-        }
+            if (!processCoreExtensions && !processBuildExtensions) {
+                getLog().info("Neither core nor build extensions are to be processed. Nothing to do.");
+                return;
+            }
 
-        DependencyFilter includeFilter = DependencyFilter.parseFrom(extensionIncludes);
-        DependencyFilter excludeFilter = DependencyFilter.parseFrom(extensionExcludes);
+            DependencyFilter includeFilter = DependencyFilter.parseFrom(session, extensionIncludes);
+            DependencyFilter excludeFilter = DependencyFilter.parseFrom(session, extensionExcludes);
 
-        try {
-            Stream<Extension> coreExtensions =
-                    processCoreExtensions ? ExtensionUtils.getCoreExtensions(project) : Stream.empty();
-            Stream<Extension> buildExtensions = processBuildExtensions
-                    ? ExtensionUtils.getBuildExtensions(getProject(), getLog(), interpolateProperties)
-                    : Stream.empty();
+            try {
+                Stream<Extension> coreExtensions =
+                        processCoreExtensions ? ExtensionUtils.getCoreExtensions(project) : Stream.empty();
+                Stream<Extension> buildExtensions = processBuildExtensions
+                        ? ExtensionUtils.getBuildExtensions(
+                                getProject(),
+                                getLog(),
+                                interpolateProperties,
+                                SharedExecutor.forSession(session, lookupThreads, lookupVirtualThreads),
+                                PomDocumentStore.forSession(session))
+                        : Stream.empty();
 
-            Collection<Dependency> dependencies = Stream.concat(coreExtensions, buildExtensions)
-                    .map(e -> DependencyBuilder.newBuilder()
-                            .withGroupId(e.getGroupId())
-                            .withArtifactId(e.getArtifactId())
-                            .withVersion(e.getVersion())
-                            .build())
-                    .filter(includeFilter::matchersMatch)
-                    .filter(dependency -> !excludeFilter.matchersMatch(dependency))
-                    .collect(Collectors.toSet());
+                Collection<Dependency> dependencies = Stream.concat(coreExtensions, buildExtensions)
+                        .map(e -> DependencyBuilder.newBuilder()
+                                .withGroupId(e.getGroupId())
+                                .withArtifactId(e.getArtifactId())
+                                .withVersion(e.getVersion())
+                                .build())
+                        .filter(includeFilter::matchersMatch)
+                        .filter(dependency -> !excludeFilter.matchersMatch(dependency))
+                        .collect(Collectors.toSet());
 
-            if (dependencies.isEmpty()) {
-                getLog().info("Extensions set filtered by include- and exclude-filters is empty. Nothing to do.");
-                return;
-            }
+                if (dependencies.isEmpty()) {
+                    getLog().info("Extensions set filtered by include- and exclude-filters is empty. Nothing to do.");
+                    return;
+                }
 
-            logUpdates(getHelper().lookupDependenciesUpdates(dependencies.stream(), true, true, allowSnapshots));
-        } catch (IOException | XMLStreamException | TransformerException e) {
-            throw new MojoExecutionException(e.getMessage());
-        } catch (VersionRetrievalException e) {
-            throw new MojoExecutionException(e.getMessage(), e);
+                logUpdates(getHelper().lookupDependenciesUpdates(dependencies.stream(), true, true, allowSnapshots));
+            } catch (IOException | XMLStreamException | TransformerException e) {
+                throw new MojoExecutionException(e.getMessage());
+            } catch (VersionRetrievalException e) {
+                throw new MojoExecutionException(e.getMessage(), e);
+            }
+            logArtifactVersionCacheStatistics();
         }
     }
 
@@ -46,6 +46,7 @@ import org.codehaus.mojo.versions.utils.ArtifactFactory;
 import org.codehaus.mojo.versions.utils.ArtifactVersionService;
 import org.codehaus.mojo.versions.utils.DependencyBuilder;
 import org.codehaus.mojo.versions.utils.SegmentUtils;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.eclipse.aether.RepositorySystem;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -170,66 +171,69 @@ public class DisplayParentUpdatesMojo extends AbstractVersionsDisplayMojo {
 
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
-        logInit();
-        if (getProject().getParent() == null) {
-            logLine(false, "Project does not have a parent.");
-            return;
-        }
-
-        if (reactorProjects.contains(getProject().getParent())) {
-            logLine(false, "Parent project is part of the reactor.");
-            return;
-        }
+        try (SharedExecutor.Lease lease = SharedExecutor.acquire(session)) {
+            logInit();
+            if (getProject().getParent() == null) {
+                logLine(false, "Project does not have a parent.");
+                return;
+            }
 
-        if (skipResolution && isBlank(parentVersion)) {
-            throw new MojoExecutionException("skipResolution is only valid if parentVersion is set");
-        }
-        String initialVersion = Optional.ofNullable(parentVersion)
-                .orElse(getProject().getParent().getVersion());
-        ArtifactVersion artifactVersion;
-        try {
-            artifactVersion = skipResolution
-                    ? ArtifactVersionService.getArtifactVersion(parentVersion)
-                    : resolveTargetVersion(initialVersion);
-        } catch (VersionRetrievalException | InvalidVersionSpecificationException | InvalidSegmentException e) {
-            throw new MojoExecutionException(e.getMessage(), e);
-        }
+            if (reactorProjects.contains(getProject().getParent())) {
+                logLine(false, "Parent project is part of the reactor.");
+                return;
+            }
 
-        if (artifactVersion == null || initialVersion.equals(artifactVersion.toString())) {
-            logLine(false, "The parent project is the latest version:");
-            StringBuilder buf = new StringBuilder(MESSAGE_LENGTH);
-            buf.append("  ");
-            buf.append(getProject().getParent().getGroupId());
-            buf.append(':');
-            buf.append(getProject().getParent().getArtifactId());
-            buf.append(' ');
-            int padding = MESSAGE_LENGTH - initialVersion.length();
-            while (buf.length() < padding) {
-                buf.append('.');
+            if (skipResolution && isBlank(parentVersion)) {
+                throw new MojoExecutionException("skipResolution is only valid if parentVersion is set");
             }
-            buf.append(' ');
-            buf.append(initialVersion);
-            logLine(false, buf.toString());
-        } else {
-            logLine(false, "The parent project has a newer version:");
-            StringBuilder buf = new StringBuilder(MESSAGE_LENGTH);
-            buf.append("  ");
-            buf.append(getProject().getParent().getGroupId());
-            buf.append(':');
-            buf.append(getProject().getParent().getArtifactId());
-            buf.append(' ');
-            int padding = MESSAGE_LENGTH
-                    - initialVersion.length()
-                    - artifactVersion.toString().length()
-                    - " -> ".length();
-            while (buf.length() < padding) {
-                buf.append('.');
+            String initialVersion = Optional.ofNullable(parentVersion)
+                    .orElse(getProject().getParent().getVersion());
+            ArtifactVersion artifactVersion;
+            try {
+                artifactVersion = skipResolution
+                        ? ArtifactVersionService.getArtifactVersion(parentVersion)
+                        : resolveTargetVersion(initialVersion);
+            } catch (VersionRetrievalException | InvalidVersionSpecificationException | InvalidSegmentException e) {
+                throw new MojoExecutionException(e.getMessage(), e);
+            }
+
+            if (artifactVersion == null || initialVersion.equals(artifactVersion.toString())) {
+                logLine(false, "The parent project is the latest version:");
+                StringBuilder buf = new StringBuilder(MESSAGE_LENGTH);
+                buf.append("  ");
+                buf.append(getProject().getParent().getGroupId());
+                buf.append(':');
+                buf.append(getProject().getParent().getArtifactId());
+                buf.append(' ');
+                int padding = MESSAGE_LENGTH - initialVersion.length();
+                while (buf.length() < padding) {
+                    buf.append('.');
+                }
+                buf.append(' ');
+                buf.append(initialVersion);
+                logLine(false, buf.toString());
+            } else {
+                logLine(false, "The parent project has a newer version:");
+                StringBuilder buf = new StringBuilder(MESSAGE_LENGTH);
+                buf.append("  ");
+                buf.append(getProject().getParent().getGroupId());
+                buf.append(':');
+                buf.append(getProject().getParent().getArtifactId());
+                buf.append(' ');
+                int padding = MESSAGE_LENGTH
+                        - initialVersion.length()
+                        - artifactVersion.toString().length()
+                        - " -> ".length();
+                while (buf.length() < padding) {
+                    buf.append('.');
+                }
+                buf.append(' ');
+                buf.append(initialVersion);
+                buf.append(" -> ");
+                buf.append(artifactVersion);
+                logLine(false, buf.toString());
             }
-            buf.append(' ');
-            buf.append(initialVersion);
-            buf.append(" -> ");
-            buf.append(artifactVersion);
-            logLine(false, buf.toString());
+            logArtifactVersionCacheStatistics();
         }
     }
 
@@ -54,7 +54,6 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.ArtifactUtils;
-import org.apache.maven.artifact.resolver.ArtifactResolutionException;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.lifecycle.LifecycleExecutor;
 import org.apache.maven.model.BuildBase;
@@ -62,7 +61,6 @@ import org.apache.maven.model.Extension;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.model.PluginManagement;
-import org.apache.maven.model.Prerequisites;
 import org.apache.maven.model.Profile;
 import org.apache.maven.model.ReportPlugin;
 import org.apache.maven.model.Reporting;
@@ -78,22 +76,23 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuilder;
-import org.apache.maven.project.ProjectBuildingException;
-import org.apache.maven.project.ProjectBuildingResult;
 import org.apache.maven.rtinfo.RuntimeInformation;
 import org.apache.maven.wagon.Wagon;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.VersionRetrievalException;
 import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+import org.codehaus.mojo.versions.rewriting.PomDocumentStore;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
 import org.codehaus.mojo.versions.utils.ArtifactVersionService;
-import org.codehaus.mojo.versions.utils.DependencyBuilder;
 import org.codehaus.mojo.versions.utils.ExtensionUtils;
 import org.codehaus.mojo.versions.utils.PluginComparator;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.repository.LocalRepository;
 
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toMap;
 import static javax.xml.stream.XMLStreamConstants.END_DOCUMENT;
@@ -141,6 +140,11 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
      */
     public static final String SUPERPOM_PATH = "org/apache/maven/model/pom-4.0.0.xml";
 
+    /**
+     * Location of the memoized plugin prerequisites, relative to the local repository
+     */
+    private static final String PREREQUISITES_CACHE_PATH = ".cache/versions-maven-plugin/prerequisites";
+
     /**
      * @since 1.0-alpha-1
      */
@@ -184,6 +188,8 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
     @Parameter(property = "allowSnapshots", defaultValue = "false")
     protected boolean allowSnapshots;
 
+    private PluginPrerequisitesResolver prerequisitesResolver;
+
     // --------------------- GETTER / SETTER METHODS ---------------------
 
     /**
@@ -348,233 +354,238 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
      */
     @SuppressWarnings("checkstyle:MethodLength")
     public void execute() throws MojoExecutionException, MojoFailureException {
-        logInit();
-        Set<String> pluginsWithVersionsSpecified;
-        try (MutableXMLStreamReader pomReader =
-                new MutableXMLStreamReader(getProject().getFile().toPath())) {
-            pluginsWithVersionsSpecified = findPluginsWithVersionsSpecified(pomReader);
-        } catch (XMLStreamException | IOException | TransformerException e) {
-            throw new MojoExecutionException(e.getMessage(), e);
-        }
-
-        Map<String, String> superPomPluginManagement = getSuperPomPluginManagement();
-        getLog().debug("superPom plugins = " + superPomPluginManagement);
+        try (SharedExecutor.Lease lease = SharedExecutor.acquire(session)) {
+            logInit();
+            Set<String> pluginsWithVersionsSpecified;
+            try (MutableXMLStreamReader pomReader = PomDocumentStore.forSession(session)
+                    .newReader(getProject().getFile().toPath())) {
+                pluginsWithVersionsSpecified = findPluginsWithVersionsSpecified(pomReader);
+            } catch (XMLStreamException | IOException | TransformerException e) {
+                throw new MojoExecutionException(e.getMessage(), e);
+            }
 
-        List<MavenProject> parents = getParentProjects(getProject());
-        Map<String, String> parentPlugins = getParentsPlugins(parents);
-        // TODO remove, not used any more (found while extracting getParentsPlugins method and
-        //      renaming parentPluginManagement to parentPlugins)
-        // NOTICE: getPluginManagementPlugins() takes profiles while getParentPlugins does not
-        //         there is probably a little inconsistency (if plugins configured in profiles of parents)
-        Map<String, String> parentBuildPlugins = new HashMap<>();
-        Map<String, String> parentReportPlugins = new HashMap<>();
+            Map<String, String> superPomPluginManagement = getSuperPomPluginManagement();
+            getLog().debug("superPom plugins = " + superPomPluginManagement);
 
-        Set<Plugin> plugins;
-        try {
-            plugins = getPluginManagementPlugins(
-                    superPomPluginManagement,
-                    parentPlugins,
-                    parentBuildPlugins,
-                    parentReportPlugins,
-                    pluginsWithVersionsSpecified);
-        } catch (XMLStreamException | TransformerException | IOException e) {
-            throw new MojoFailureException(e.getMessage(), e);
-        }
+            List<MavenProject> parents = getParentProjects(getProject());
+            Map<String, String> parentPlugins = getParentsPlugins(parents);
+            // TODO remove, not used any more (found while extracting getParentsPlugins method and
+            //      renaming parentPluginManagement to parentPlugins)
+            // NOTICE: getPluginManagementPlugins() takes profiles while getParentPlugins does not
+            //         there is probably a little inconsistency (if plugins configured in profiles of parents)
+            Map<String, String> parentBuildPlugins = new HashMap<>();
+            Map<String, String> parentReportPlugins = new HashMap<>();
 
-        List<String> pluginUpdates = new ArrayList<>();
-        List<String> pluginLockdowns = new ArrayList<>();
-        ArtifactVersion curMavenVersion =
-                ArtifactVersionService.getArtifactVersion(runtimeInformation.getMavenVersion());
-        ArtifactVersion specMavenVersion = MinimalMavenBuildVersionFinder.find(getProject(), getLog());
-        ArtifactVersion minMavenVersion = null;
-        boolean superPomDrivingMinVersion = false;
-        // if Maven prerequisite upgraded to a version, Map<plugin compact key, latest compatible plugin vesion>
-        Map<ArtifactVersion, Map<String, String>> mavenUpgrades = new TreeMap<>();
-
-        for (Plugin plugin : plugins) {
-            String coords = ArtifactUtils.versionlessKey(plugin.getGroupId(), plugin.getArtifactId());
-            String version = ofNullable(plugin.getVersion()).orElse(parentPlugins.get(coords));
-
-            boolean versionSpecifiedInCurrentPom = pluginsWithVersionsSpecified.contains(coords);
-            if (!versionSpecifiedInCurrentPom && !processUnboundPlugins && parentPlugins.containsKey(coords)) {
-                getLog().debug("Skip " + coords + ", version " + version + " is defined in parent POM.");
-                getLog().debug("Use the \"processUnboundPlugins\" parameter to see these updates.");
-                continue;
+            Set<Plugin> plugins;
+            try {
+                plugins = getPluginManagementPlugins(
+                        superPomPluginManagement,
+                        parentPlugins,
+                        parentBuildPlugins,
+                        parentReportPlugins,
+                        pluginsWithVersionsSpecified);
+            } catch (XMLStreamException | TransformerException | IOException e) {
+                throw new MojoFailureException(e.getMessage(), e);
             }
 
-            getLog().debug("Checking " + coords + " for updates newer than " + version);
-            String effectiveVersion;
-            ArtifactVersion artifactVersion;
-            try {
-                // now we want to find the newest versions and check their Maven version prerequisite
-                Pair<ArtifactVersion, String> effectiveVersionPair =
-                        getEffectivePluginVersion(plugin, version, specMavenVersion, curMavenVersion, mavenUpgrades);
-                effectiveVersion = effectiveVersionPair.getRight();
-                artifactVersion = effectiveVersionPair.getLeft();
-                if (effectiveVersion != null) {
-                    try {
-                        ArtifactVersion requires = getPrerequisitesMavenVersion(
-                                getPluginProject(plugin.getGroupId(), plugin.getArtifactId(), effectiveVersion));
-                        if (minMavenVersion == null || compare(minMavenVersion, requires) < 0) {
-                            minMavenVersion = requires;
+            List<String> pluginUpdates = new ArrayList<>();
+            List<String> pluginLockdowns = new ArrayList<>();
+            ArtifactVersion curMavenVersion =
+                    ArtifactVersionService.getArtifactVersion(runtimeInformation.getMavenVersion());
+            ArtifactVersion specMavenVersion = MinimalMavenBuildVersionFinder.find(getProject(), getLog());
+            ArtifactVersion minMavenVersion = null;
+            boolean superPomDrivingMinVersion = false;
+            // if Maven prerequisite upgraded to a version, Map<plugin compact key, latest compatible plugin vesion>
+            Map<ArtifactVersion, Map<String, String>> mavenUpgrades = new TreeMap<>();
+
+            for (Plugin plugin : plugins) {
+                String coords = ArtifactUtils.versionlessKey(plugin.getGroupId(), plugin.getArtifactId());
+                String version = ofNullable(plugin.getVersion()).orElse(parentPlugins.get(coords));
+
+                boolean versionSpecifiedInCurrentPom = pluginsWithVersionsSpecified.contains(coords);
+                if (!versionSpecifiedInCurrentPom && !processUnboundPlugins && parentPlugins.containsKey(coords)) {
+                    getLog().debug("Skip " + coords + ", version " + version + " is defined in parent POM.");
+                    getLog().debug("Use the \"processUnboundPlugins\" parameter to see these updates.");
+                    continue;
+                }
+
+                getLog().debug("Checking " + coords + " for updates newer than " + version);
+                String effectiveVersion;
+                ArtifactVersion artifactVersion;
+                try {
+                    // now we want to find the newest versions and check their Maven version prerequisite
+                    Pair<ArtifactVersion, String> effectiveVersionPair = getEffectivePluginVersion(
+                            plugin, version, specMavenVersion, curMavenVersion, mavenUpgrades);
+                    effectiveVersion = effectiveVersionPair.getRight();
+                    artifactVersion = effectiveVersionPair.getLeft();
+                    if (effectiveVersion != null) {
+                        Optional<ArtifactVersion> requires = getPrerequisitesResolver()
+                                .getRequiredMavenVersions(
+                                        plugin.getGroupId(), plugin.getArtifactId(), singletonList(effectiveVersion))
+                                .get(effectiveVersion);
+                        // a missing entry means a bad version, which is ignored
+                        if (requires != null
+                                && (minMavenVersion == null || compare(minMavenVersion, requires.orElse(null)) < 0)) {
+                            minMavenVersion = requires.orElse(null);
                         }
-                    } catch (ArtifactResolutionException | ProjectBuildingException e) {
-                        // ignore bad version
                     }
+                } catch (VersionRetrievalException e) {
+                    throw new MojoExecutionException(e.getMessage(), e);
                 }
-            } catch (VersionRetrievalException e) {
-                throw new MojoExecutionException(e.getMessage(), e);
-            }
 
-            String newVersion;
-
-            if (version == null && versionSpecifiedInCurrentPom) {
-                // Hack ALERT!
-                //
-                // All this should be re-written in a less "pom is xml" way... but it'll
-                // work for now :-(
-                //
-                // we have removed the version information, as it was the same as from
-                // the super-pom... but it actually was specified.
-                version = artifactVersion != null ? artifactVersion.toString() : null;
-            }
+                String newVersion;
+
+                if (version == null && versionSpecifiedInCurrentPom) {
+                    // Hack ALERT!
+                    //
+                    // All this should be re-written in a less "pom is xml" way... but it'll
+                    // work for now :-(
+                    //
+                    // we have removed the version information, as it was the same as from
+                    // the super-pom... but it actually was specified.
+                    version = artifactVersion != null ? artifactVersion.toString() : null;
+                }
 
-            if (getLog().isDebugEnabled()) {
-                getLog().debug("[" + coords + "].version=" + version);
-                getLog().debug("[" + coords + "].artifactVersion=" + artifactVersion);
-                getLog().debug("[" + coords + "].effectiveVersion=" + effectiveVersion);
-                getLog().debug("[" + coords + "].specified=" + versionSpecifiedInCurrentPom);
-            }
-            if (version == null || !processUnboundPlugins && !versionSpecifiedInCurrentPom) {
-                version = superPomPluginManagement.get(coords);
                 if (getLog().isDebugEnabled()) {
-                    getLog().debug("[" + coords + "].superPom.version=" + version);
+                    getLog().debug("[" + coords + "].version=" + version);
+                    getLog().debug("[" + coords + "].artifactVersion=" + artifactVersion);
+                    getLog().debug("[" + coords + "].effectiveVersion=" + effectiveVersion);
+                    getLog().debug("[" + coords + "].specified=" + versionSpecifiedInCurrentPom);
                 }
+                if (version == null || !processUnboundPlugins && !versionSpecifiedInCurrentPom) {
+                    version = superPomPluginManagement.get(coords);
+                    if (getLog().isDebugEnabled()) {
+                        getLog().debug("[" + coords + "].superPom.version=" + version);
+                    }
 
-                newVersion = artifactVersion != null
-                        ? artifactVersion.toString()
-                        : (version != null ? version : (effectiveVersion != null ? effectiveVersion : "(unknown)"));
-                if (version != null) {
-                    superPomDrivingMinVersion = true;
+                    newVersion = artifactVersion != null
+                            ? artifactVersion.toString()
+                            : (version != null ? version : (effectiveVersion != null ? effectiveVersion : "(unknown)"));
+                    if (version != null) {
+                        superPomDrivingMinVersion = true;
+                    }
+
+                    pluginLockdowns.add(pad(
+                            compactKey(plugin.getGroupId(), plugin.getArtifactId()),
+                            WARN_PAD_SIZE + getOutputLineWidthOffset(),
+                            superPomDrivingMinVersion ? FROM_SUPER_POM : "",
+                            newVersion));
+                } else if (artifactVersion != null) {
+                    newVersion = artifactVersion.toString();
+                } else {
+                    newVersion = null;
+                }
+                if (version != null
+                        && artifactVersion != null
+                        && newVersion != null
+                        && effectiveVersion != null
+                        && ArtifactVersionService.getArtifactVersion(effectiveVersion)
+                                        .compareTo(ArtifactVersionService.getArtifactVersion(newVersion))
+                                < 0) {
+                    pluginUpdates.add(pad(
+                            compactKey(plugin.getGroupId(), plugin.getArtifactId()),
+                            INFO_PAD_SIZE + getOutputLineWidthOffset(),
+                            effectiveVersion,
+                            " -> ",
+                            newVersion));
                 }
+            }
+
+            // info on each plugin gathered: now it's time to display the result!
+            //
+            logLine(false, "");
 
-                pluginLockdowns.add(pad(
-                        compactKey(plugin.getGroupId(), plugin.getArtifactId()),
-                        WARN_PAD_SIZE + getOutputLineWidthOffset(),
-                        superPomDrivingMinVersion ? FROM_SUPER_POM : "",
-                        newVersion));
-            } else if (artifactVersion != null) {
-                newVersion = artifactVersion.toString();
+            // updates keeping currently defined Maven version minimum
+            if (pluginUpdates.isEmpty()) {
+                logLine(false, "All plugins with a version specified are using the latest versions.");
             } else {
-                newVersion = null;
-            }
-            if (version != null
-                    && artifactVersion != null
-                    && newVersion != null
-                    && effectiveVersion != null
-                    && ArtifactVersionService.getArtifactVersion(effectiveVersion)
-                                    .compareTo(ArtifactVersionService.getArtifactVersion(newVersion))
-                            < 0) {
-                pluginUpdates.add(pad(
-                        compactKey(plugin.getGroupId(), plugin.getArtifactId()),
-                        INFO_PAD_SIZE + getOutputLineWidthOffset(),
-                        effectiveVersion,
-                        " -> ",
-                        newVersion));
+                logLine(false, "The following plugin updates are available:");
+                for (String update : new TreeSet<>(pluginUpdates)) {
+                    logLine(false, update);
+                }
             }
-        }
+            logLine(false, "");
 
-        // info on each plugin gathered: now it's time to display the result!
-        //
-        logLine(false, "");
-
-        // updates keeping currently defined Maven version minimum
-        if (pluginUpdates.isEmpty()) {
-            logLine(false, "All plugins with a version specified are using the latest versions.");
-        } else {
-            logLine(false, "The following plugin updates are available:");
-            for (String update : new TreeSet<>(pluginUpdates)) {
-                logLine(false, update);
-            }
-        }
-        logLine(false, "");
-
-        // has every plugin a specified version?
-        if (pluginLockdowns.isEmpty()) {
-            logLine(false, "All plugins have a version specified.");
-        } else {
-            getLog().warn("The following plugins do not have their version specified:");
-            for (String lockdown : new TreeSet<>(pluginLockdowns)) {
-                getLog().warn(lockdown);
+            // has every plugin a specified version?
+            if (pluginLockdowns.isEmpty()) {
+                logLine(false, "All plugins have a version specified.");
+            } else {
+                getLog().warn("The following plugins do not have their version specified:");
+                for (String lockdown : new TreeSet<>(pluginLockdowns)) {
+                    getLog().warn(lockdown);
+                }
             }
-        }
-        logLine(false, "");
-
-        // information on minimum Maven version
-        if (specMavenVersion == null) {
-            getLog().warn("Project does not define minimum Maven version required for build");
-        } else {
-            logLine(false, "Project requires minimum Maven version for build of: " + specMavenVersion);
-        }
-        logLine(false, "Plugins require minimum Maven version of: " + minMavenVersion);
-        if (superPomDrivingMinVersion) {
-            logLine(false, "Note: the super-pom from Maven " + curMavenVersion + " defines some of the plugin");
-            logLine(false, "      versions and may be influencing the plugins required minimum Maven");
-            logLine(false, "      version.");
-        }
-        logLine(false, "");
+            logLine(false, "");
 
-        if (isMavenPluginProject()) {
+            // information on minimum Maven version
             if (specMavenVersion == null) {
-                getLog().warn("Project (which is a Maven plugin) does not define required minimum version of Maven.");
-                getLog().warn("Update the pom.xml to contain");
-                getLog().warn("    <prerequisites>");
-                getLog().warn("      <maven><!-- minimum version of Maven that the plugin works with --></maven>");
-                getLog().warn("    </prerequisites>");
-                getLog().warn("To build this plugin you need at least Maven " + minMavenVersion);
-                getLog().warn("A Maven Enforcer rule can be used to enforce this if you have not already set one up");
-                getLog().warn("See https://maven.apache.org/enforcer/enforcer-rules/requireMavenVersion.html");
-            } else if (minMavenVersion != null && compare(specMavenVersion, minMavenVersion) < 0) {
-                getLog().warn("Project (which is a Maven plugin) targets Maven " + specMavenVersion + " or newer");
-                getLog().warn("but requires Maven " + minMavenVersion + " or newer to build.");
-                getLog().warn("This may or may not be a problem. A Maven Enforcer rule can help ");
-                getLog().warn("enforce that the correct version of Maven is used to build this plugin.");
-                getLog().warn("See https://maven.apache.org/enforcer/enforcer-rules/requireMavenVersion.html");
+                getLog().warn("Project does not define minimum Maven version required for build");
             } else {
-                logLine(false, "No plugins require a newer version of Maven than specified by the pom.");
+                logLine(false, "Project requires minimum Maven version for build of: " + specMavenVersion);
             }
-        } else {
-            if (specMavenVersion == null) {
-                logLine(true, "Project does not define required minimum version of Maven.");
-                logLine(true, "Update the pom.xml to contain maven-enforcer-plugin to");
-                logLine(true, "force the Maven version which is needed to build this project.");
-                logLine(true, "See https://maven.apache.org/enforcer/enforcer-rules/requireMavenVersion.html");
-                logLine(true, "Using the minimum version of Maven: " + minMavenVersion);
-            } else if (minMavenVersion != null && compare(specMavenVersion, minMavenVersion) < 0) {
-                logLine(true, "Project requires an incorrect minimum version of Maven.");
-                logLine(true, "Update the pom.xml to contain maven-enforcer-plugin to");
-                logLine(true, "force the Maven version which is needed to build this project.");
-                logLine(true, "See https://maven.apache.org/enforcer/enforcer-rules/requireMavenVersion.html");
-                logLine(true, "Using the minimum version of Maven: " + specMavenVersion);
+            logLine(false, "Plugins require minimum Maven version of: " + minMavenVersion);
+            if (superPomDrivingMinVersion) {
+                logLine(false, "Note: the super-pom from Maven " + curMavenVersion + " defines some of the plugin");
+                logLine(false, "      versions and may be influencing the plugins required minimum Maven");
+                logLine(false, "      version.");
+            }
+            logLine(false, "");
+
+            if (isMavenPluginProject()) {
+                if (specMavenVersion == null) {
+                    getLog().warn(
+                                    "Project (which is a Maven plugin) does not define required minimum version of Maven.");
+                    getLog().warn("Update the pom.xml to contain");
+                    getLog().warn("    <prerequisites>");
+                    getLog().warn("      <maven><!-- minimum version of Maven that the plugin works with --></maven>");
+                    getLog().warn("    </prerequisites>");
+                    getLog().warn("To build this plugin you need at least Maven " + minMavenVersion);
+                    getLog().warn(
+                                    "A Maven Enforcer rule can be used to enforce this if you have not already set one up");
+                    getLog().warn("See https://maven.apache.org/enforcer/enforcer-rules/requireMavenVersion.html");
+                } else if (minMavenVersion != null && compare(specMavenVersion, minMavenVersion) < 0) {
+                    getLog().warn("Project (which is a Maven plugin) targets Maven " + specMavenVersion + " or newer");
+                    getLog().warn("but requires Maven " + minMavenVersion + " or newer to build.");
+                    getLog().warn("This may or may not be a problem. A Maven Enforcer rule can help ");
+                    getLog().warn("enforce that the correct version of Maven is used to build this plugin.");
+                    getLog().warn("See https://maven.apache.org/enforcer/enforcer-rules/requireMavenVersion.html");
+                } else {
+                    logLine(false, "No plugins require a newer version of Maven than specified by the pom.");
+                }
             } else {
-                logLine(false, "No plugins require a newer version of Maven than specified by the pom.");
+                if (specMavenVersion == null) {
+                    logLine(true, "Project does not define required minimum version of Maven.");
+                    logLine(true, "Update the pom.xml to contain maven-enforcer-plugin to");
+                    logLine(true, "force the Maven version which is needed to build this project.");
+                    logLine(true, "See https://maven.apache.org/enforcer/enforcer-rules/requireMavenVersion.html");
+                    logLine(true, "Using the minimum version of Maven: " + minMavenVersion);
+                } else if (minMavenVersion != null && compare(specMavenVersion, minMavenVersion) < 0) {
+                    logLine(true, "Project requires an incorrect minimum version of Maven.");
+                    logLine(true, "Update the pom.xml to contain maven-enforcer-plugin to");
+                    logLine(true, "force the Maven version which is needed to build this project.");
+                    logLine(true, "See https://maven.apache.org/enforcer/enforcer-rules/requireMavenVersion.html");
+                    logLine(true, "Using the minimum version of Maven: " + specMavenVersion);
+                } else {
+                    logLine(false, "No plugins require a newer version of Maven than specified by the pom.");
+                }
             }
-        }
 
-        // updates if minimum Maven version is changed
-        for (Map.Entry<ArtifactVersion, Map<String, String>> mavenUpgrade : mavenUpgrades.entrySet()) {
-            ArtifactVersion mavenUpgradeVersion = mavenUpgrade.getKey();
-            Map<String, String> upgradePlugins = mavenUpgrade.getValue();
-            if (upgradePlugins.isEmpty() || compare(mavenUpgradeVersion, specMavenVersion) < 0) {
-                continue;
+            // updates if minimum Maven version is changed
+            for (Map.Entry<ArtifactVersion, Map<String, String>> mavenUpgrade : mavenUpgrades.entrySet()) {
+                ArtifactVersion mavenUpgradeVersion = mavenUpgrade.getKey();
+                Map<String, String> upgradePlugins = mavenUpgrade.getValue();
+                if (upgradePlugins.isEmpty() || compare(mavenUpgradeVersion, specMavenVersion) < 0) {
+                    continue;
+                }
+                logLine(false, "");
+                logLine(false, "Require Maven " + mavenUpgradeVersion + " to use the following plugin updates:");
+                for (Map.Entry<String, String> entry : upgradePlugins.entrySet()) {
+                    logLine(false, entry.getValue());
+                }
             }
             logLine(false, "");
-            logLine(false, "Require Maven " + mavenUpgradeVersion + " to use the following plugin updates:");
-            for (Map.Entry<String, String> entry : upgradePlugins.entrySet()) {
-                logLine(false, entry.getValue());
-            }
+            logArtifactVersionCacheStatistics();
         }
-        logLine(false, "");
     }
 
     private Pair<ArtifactVersion, String> getEffectivePluginVersion(
@@ -590,92 +601,94 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
                 getHelper().lookupArtifactVersions(artifactRange, true).getVersions(this.allowSnapshots);
         ArtifactVersion minRequires = null;
         ArtifactVersion artifactVersion = null;
+        PluginPrerequisitesResolver prerequisitesResolver = getPrerequisitesResolver();
+        // prerequisites are resolved in parallel batches, newest versions first,
+        // since the search usually stops at one of the newest versions
+        Map<String, Optional<ArtifactVersion>> prerequisites = emptyMap();
+        int resolvedFrom = newerVersions.length;
         for (int j = newerVersions.length - 1; j >= 0; j--) {
-            try {
-                ArtifactVersion pluginRequires = getPrerequisitesMavenVersion(
-                        getPluginProject(plugin.getGroupId(), plugin.getArtifactId(), newerVersions[j].toString()));
-                if (artifactVersion == null && compare(specMavenVersion, pluginRequires) >= 0) {
-                    // ok, newer version compatible with current specMavenVersion
-                    artifactVersion = newerVersions[j];
-                }
-                if (effectiveVersion == null && compare(curMavenVersion, pluginRequires) >= 0) {
-                    // version was unspecified, current version of maven thinks it should use this
-                    effectiveVersion = newerVersions[j].toString();
-                }
-                if (artifactVersion != null && effectiveVersion != null) {
-                    // no need to look at any older versions: latest compatible found
-                    break;
-                }
-                // newer version not compatible with current specMavenVersion: track opportunity if Maven spec
-                // upgrade
-                if (minRequires == null || compare(minRequires, pluginRequires) > 0) {
-                    Map<String, String> upgradePlugins =
-                            mavenUpgrades.computeIfAbsent(pluginRequires, k -> new LinkedHashMap<>());
-
-                    String upgradePluginKey = compactKey(plugin.getGroupId(), plugin.getArtifactId());
-                    if (!upgradePlugins.containsKey(upgradePluginKey)) {
-                        String newer = newerVersions[j].toString();
-                        if (newer.equals(effectiveVersion)) {
-                            // plugin version configured that require a Maven version higher than spec
-                            upgradePlugins.put(
-                                    upgradePluginKey,
-                                    pad(upgradePluginKey, INFO_PAD_SIZE + getOutputLineWidthOffset(), newer));
-                        } else {
-                            // plugin that can be upgraded
-                            upgradePlugins.put(
-                                    upgradePluginKey,
-                                    pad(
-                                            upgradePluginKey,
-                                            INFO_PAD_SIZE + getOutputLineWidthOffset(),
-                                            effectiveVersion,
-                                            " -> ",
-                                            newer));
-                        }
+            if (j < resolvedFrom) {
+                resolvedFrom = Math.max(0, j + 1 - prerequisitesResolver.getParallelism());
+                prerequisites = prerequisitesResolver.getRequiredMavenVersions(
+                        plugin.getGroupId(),
+                        plugin.getArtifactId(),
+                        Arrays.stream(newerVersions, resolvedFrom, j + 1)
+                                .map(ArtifactVersion::toString)
+                                .collect(Collectors.toList()));
+            }
+            Optional<ArtifactVersion> requires = prerequisites.get(newerVersions[j].toString());
+            if (requires == null) {
+                // ignore bad version
+                continue;
+            }
+            ArtifactVersion pluginRequires = requires.orElse(null);
+            if (artifactVersion == null && compare(specMavenVersion, pluginRequires) >= 0) {
+                // ok, newer version compatible with current specMavenVersion
+                artifactVersion = newerVersions[j];
+            }
+            if (effectiveVersion == null && compare(curMavenVersion, pluginRequires) >= 0) {
+                // version was unspecified, current version of maven thinks it should use this
+                effectiveVersion = newerVersions[j].toString();
+            }
+            if (artifactVersion != null && effectiveVersion != null) {
+                // no need to look at any older versions: latest compatible found
+                break;
+            }
+            // newer version not compatible with current specMavenVersion: track opportunity if Maven spec
+            // upgrade
+            if (minRequires == null || compare(minRequires, pluginRequires) > 0) {
+                Map<String, String> upgradePlugins =
+                        mavenUpgrades.computeIfAbsent(pluginRequires, k -> new LinkedHashMap<>());
+
+                String upgradePluginKey = compactKey(plugin.getGroupId(), plugin.getArtifactId());
+                if (!upgradePlugins.containsKey(upgradePluginKey)) {
+                    String newer = newerVersions[j].toString();
+                    if (newer.equals(effectiveVersion)) {
+                        // plugin version configured that require a Maven version higher than spec
+                        upgradePlugins.put(
+                                upgradePluginKey,
+                                pad(upgradePluginKey, INFO_PAD_SIZE + getOutputLineWidthOffset(), newer));
+                    } else {
+                        // plugin that can be upgraded
+                        upgradePlugins.put(
+                                upgradePluginKey,
+                                pad(
+                                        upgradePluginKey,
+                                        INFO_PAD_SIZE + getOutputLineWidthOffset(),
+                                        effectiveVersion,
+                                        " -> ",
+                                        newer));
                     }
-                    minRequires = pluginRequires;
                 }
-            } catch (ArtifactResolutionException | ProjectBuildingException e) {
-                // ignore bad version
+                minRequires = pluginRequires;
             }
         }
         return new ImmutablePair<>(artifactVersion, effectiveVersion);
     }
 
     /**
-     * Builds a {@link MavenProject} instance for the plugin with a given {@code groupId},
-     * {@code artifactId}, and {@code version}.
+     * Creates a {@link PluginPrerequisitesResolver} resolving plugin POMs on the shared lookup executor,
+     * memoizing the prerequisites in the local repository.
      *
-     * @param groupId    {@code groupId} of the plugin
-     * @param artifactId {@code artifactId} of the plugin
-     * @param version    {@code version} of the plugin
-     * @return retrieved {@link MavenProject} instance for the given plugin
-     * @throws MojoExecutionException   thrown if the artifact for the plugin could not be constructed
-     * @throws ProjectBuildingException thrown if the {@link MavenProject} instance could not be constructed
+     * @return new {@link PluginPrerequisitesResolver} instance
+     * @throws MojoExecutionException thrown if the {@link org.codehaus.mojo.versions.api.VersionsHelper}
+     *                                could not be created
      */
-    private MavenProject getPluginProject(String groupId, String artifactId, String version)
-            throws MojoExecutionException, ProjectBuildingException, ArtifactResolutionException {
-        Artifact probe = artifactFactory.createArtifact(DependencyBuilder.newBuilder()
-                .withGroupId(groupId)
-                .withArtifactId(artifactId)
-                .withVersion(version)
-                .withType("pom")
-                .withScope(Artifact.SCOPE_RUNTIME)
-                .build());
-        getHelper().resolveArtifact(probe, true);
-        ProjectBuildingResult result = projectBuilder.build(
-                probe,
-                true,
-                PomHelper.createProjectBuilderRequest(
-                        session,
-                        r -> r.setProcessPlugins(false),
-                        r -> r.setRemoteRepositories(session.getCurrentProject().getRemoteArtifactRepositories()),
-                        r -> r.setPluginArtifactRepositories(
-                                session.getCurrentProject().getPluginArtifactRepositories())));
-        if (!result.getProblems().isEmpty()) {
-            getLog().warn("Problems encountered during construction of the plugin POM for " + probe.toString());
-            result.getProblems().forEach(p -> getLog().warn("\t" + p.getMessage()));
+    private PluginPrerequisitesResolver getPrerequisitesResolver() throws MojoExecutionException {
+        if (prerequisitesResolver == null) {
+            prerequisitesResolver = new PluginPrerequisitesResolver(
+                    getHelper(),
+                    artifactFactory,
+                    projectBuilder,
+                    session,
+                    SharedExecutor.forSession(session, lookupThreads, lookupVirtualThreads),
+                    ofNullable(session.getRepositorySession().getLocalRepository())
+                            .map(LocalRepository::getBasedir)
+                            .map(dir -> dir.toPath().resolve(PREREQUISITES_CACHE_PATH))
+                            .orElse(null),
+                    getLog());
         }
-        return result.getProject();
+        return prerequisitesResolver;
     }
 
     private static String pad(String start, int len, String... ends) {
@@ -838,22 +851,6 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
 
     // -------------------------- OTHER METHODS --------------------------
 
-    /**
-     * Get the minimum required Maven version of the given plugin
-     * Same logic as in
-     *
-     * @param pluginProject the plugin for which to retrieve the minimum Maven version which is required
-     * @return The minimally required Maven version (never {@code null})
-     * @see <a
-     *         href="https://github.com/apache/maven-plugin-tools/blob/c8ddcdcb10d342a5a5e2f38245bb569af5730c7c/maven-plugin-plugin/src/main/java/org/apache/maven/plugin/plugin/PluginReport.java#L711">PluginReport</a>
-     */
-    private ArtifactVersion getPrerequisitesMavenVersion(MavenProject pluginProject) {
-        return ofNullable(pluginProject.getPrerequisites())
-                .map(Prerequisites::getMaven)
-                .map(ArtifactVersionService::getArtifactVersion)
-                .orElse(null);
-    }
-
     /**
      * Retrieves plugins from the given model
      *
@@ -973,7 +970,12 @@ public class DisplayPluginUpdatesMojo extends AbstractVersionsDisplayMojo {
 
         Set<Extension> extensions = Stream.concat(
                         ExtensionUtils.getCoreExtensions(getProject()),
-                        ExtensionUtils.getBuildExtensions(getProject(), getLog(), false))
+                        ExtensionUtils.getBuildExtensions(
+                                getProject(),
+                                getLog(),
+                                false,
+                                SharedExecutor.forSession(session, lookupThreads, lookupVirtualThreads),
+                                PomDocumentStore.forSession(session)))
                 .collect(Collectors.toSet());
         if (getLog().isDebugEnabled()) {
             getLog().debug("Extensions:"
@@ -43,6 +43,7 @@ import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
 import org.codehaus.mojo.versions.ordering.InvalidSegmentException;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.eclipse.aether.RepositorySystem;
 
 import static java.util.Optional.empty;
@@ -176,111 +177,119 @@ public class DisplayPropertyUpdatesMojo extends AbstractVersionsDisplayMojo {
     }
 
     public void execute() throws MojoExecutionException, MojoFailureException {
-        logInit();
-        List<String> current = new ArrayList<>();
-        List<String> updates = new ArrayList<>();
+        try (SharedExecutor.Lease lease = SharedExecutor.acquire(session)) {
+            logInit();
+            List<String> current = new ArrayList<>();
+            List<String> updates = new ArrayList<>();
 
-        Map<Property, PropertyVersions> propertyVersions = this.getHelper()
-                .getVersionPropertiesMap(VersionsHelper.VersionPropertiesMapRequest.builder()
-                        .withMavenProject(getProject())
-                        .withPropertyDefinitions(properties)
-                        .withIncludeProperties(includeProperties)
-                        .withExcludeProperties(excludeProperties)
-                        .withIncludeParent(includeParent)
-                        .withAutoLinkItems(autoLinkItems)
-                        .build());
-        for (Map.Entry<Property, PropertyVersions> entry : propertyVersions.entrySet()) {
-            Property property = entry.getKey();
-            PropertyVersions version = entry.getValue();
+            Map<Property, PropertyVersions> propertyVersions = this.getHelper()
+                    .getVersionPropertiesMap(VersionsHelper.VersionPropertiesMapRequest.builder()
+                            .withMavenProject(getProject())
+                            .withPropertyDefinitions(properties)
+                            .withIncludeProperties(includeProperties)
+                            .withExcludeProperties(excludeProperties)
+                            .withIncludeParent(includeParent)
+                            .withAutoLinkItems(autoLinkItems)
+                            .build());
+            for (Map.Entry<Property, PropertyVersions> entry : propertyVersions.entrySet()) {
+                Property property = entry.getKey();
+                PropertyVersions version = entry.getValue();
 
-            final String currentVersion = getProject().getProperties().getProperty(property.getName());
-            if (currentVersion == null) {
-                continue;
-            }
+                final String currentVersion = getProject().getProperties().getProperty(property.getName());
+                if (currentVersion == null) {
+                    continue;
+                }
 
-            Log log = getLog();
-            if (log != null && !allowIncrementalUpdates) {
-                log.info("Assuming allowMinorUpdates false because allowIncrementalUpdates is false.");
-            }
+                Log log = getLog();
+                if (log != null && !allowIncrementalUpdates) {
+                    log.info("Assuming allowMinorUpdates false because allowIncrementalUpdates is false.");
+                }
 
-            if (log != null && !allowMinorUpdates) {
-                log.info("Assuming allowMajorUpdates false because allowMinorUpdates is false.");
-            }
+                if (log != null && !allowMinorUpdates) {
+                    log.info("Assuming allowMajorUpdates false because allowMinorUpdates is false.");
+                }
 
-            Optional<Segment> unchangedSegment1 = allowMajorUpdates && allowMinorUpdates && allowIncrementalUpdates
-                    ? empty()
-                    : allowMinorUpdates && allowIncrementalUpdates
-                            ? of(MAJOR)
-                            : allowIncrementalUpdates ? of(MINOR) : of(INCREMENTAL);
-            if (log != null && log.isDebugEnabled()) {
-                log.debug(unchangedSegment1
-                                .map(Segment::minorTo)
-                                .map(Segment::toString)
-                                .orElse("ALL") + " version changes allowed");
-            }
-            Optional<Segment> unchangedSegment = unchangedSegment1;
-            try {
-                ArtifactVersion winner = version.getNewestVersion(
-                        currentVersion, property, this.allowSnapshots, this.reactorProjects, false, unchangedSegment);
-                if (winner != null && !currentVersion.equals(winner.toString())) {
-                    StringBuilder buf = new StringBuilder();
-                    buf.append("${");
-                    buf.append(property.getName());
-                    buf.append("} ");
-                    final String newVersion = winner.toString();
-                    int padding = INFO_PAD_SIZE
-                            - currentVersion.length()
-                            - newVersion.length()
-                            - 4
-                            + getOutputLineWidthOffset();
-                    while (buf.length() < padding) {
-                        buf.append('.');
-                    }
-                    buf.append(' ');
-                    buf.append(currentVersion);
-                    buf.append(" -> ");
-                    buf.append(newVersion);
-                    updates.add(buf.toString());
-                } else {
-                    StringBuilder buf = new StringBuilder();
-                    buf.append("${");
-                    buf.append(property.getName());
-                    buf.append("} ");
-                    int padding = INFO_PAD_SIZE - currentVersion.length() + getOutputLineWidthOffset();
-                    while (buf.length() < padding) {
-                        buf.append('.');
+                Optional<Segment> unchangedSegment1 = allowMajorUpdates && allowMinorUpdates && allowIncrementalUpdates
+                        ? empty()
+                        : allowMinorUpdates && allowIncrementalUpdates
+                                ? of(MAJOR)
+                                : allowIncrementalUpdates ? of(MINOR) : of(INCREMENTAL);
+                if (log != null && log.isDebugEnabled()) {
+                    log.debug(unchangedSegment1
+                                    .map(Segment::minorTo)
+                                    .map(Segment::toString)
+                                    .orElse("ALL") + " version changes allowed");
+                }
+                Optional<Segment> unchangedSegment = unchangedSegment1;
+                try {
+                    ArtifactVersion winner = version.getNewestVersion(
+                            currentVersion,
+                            property,
+                            this.allowSnapshots,
+                            this.reactorProjects,
+                            false,
+                            unchangedSegment);
+                    if (winner != null && !currentVersion.equals(winner.toString())) {
+                        StringBuilder buf = new StringBuilder();
+                        buf.append("${");
+                        buf.append(property.getName());
+                        buf.append("} ");
+                        final String newVersion = winner.toString();
+                        int padding = INFO_PAD_SIZE
+                                - currentVersion.length()
+                                - newVersion.length()
+                                - 4
+                                + getOutputLineWidthOffset();
+                        while (buf.length() < padding) {
+                            buf.append('.');
+                        }
+                        buf.append(' ');
+                        buf.append(currentVersion);
+                        buf.append(" -> ");
+                        buf.append(newVersion);
+                        updates.add(buf.toString());
+                    } else {
+                        StringBuilder buf = new StringBuilder();
+                        buf.append("${");
+                        buf.append(property.getName());
+                        buf.append("} ");
+                        int padding = INFO_PAD_SIZE - currentVersion.length() + getOutputLineWidthOffset();
+                        while (buf.length() < padding) {
+                            buf.append('.');
+                        }
+                        buf.append(' ');
+                        buf.append(currentVersion);
+                        current.add(buf.toString());
                     }
-                    buf.append(' ');
-                    buf.append(currentVersion);
-                    current.add(buf.toString());
+                } catch (InvalidSegmentException | InvalidVersionSpecificationException e) {
+                    getLog().warn(String.format(
+                            "Skipping the processing of %s:%s due to: %s",
+                            property.getName(), property.getVersion(), e.getMessage()));
                 }
-            } catch (InvalidSegmentException | InvalidVersionSpecificationException e) {
-                getLog().warn(String.format(
-                        "Skipping the processing of %s:%s due to: %s",
-                        property.getName(), property.getVersion(), e.getMessage()));
             }
-        }
 
-        logLine(false, "");
-        if (!current.isEmpty()) {
-            logLine(false, "The following version properties are referencing the newest available version:");
-            for (String s : new TreeSet<>(current)) {
-                logLine(false, "  " + s);
+            logLine(false, "");
+            if (!current.isEmpty()) {
+                logLine(false, "The following version properties are referencing the newest available version:");
+                for (String s : new TreeSet<>(current)) {
+                    logLine(false, "  " + s);
+                }
+            }
+            if (updates.isEmpty() && current.isEmpty()) {
+                logLine(false, "This project does not have any properties associated with versions.");
+            } else if (updates.isEmpty()) {
+                logLine(false, "All version properties are referencing the newest version available.");
             }
-        }
-        if (updates.isEmpty() && current.isEmpty()) {
-            logLine(false, "This project does not have any properties associated with versions.");
-        } else if (updates.isEmpty()) {
-            logLine(false, "All version properties are referencing the newest version available.");
-        }
 
-        if (!updates.isEmpty()) {
-            logLine(false, "The following version property updates are available:");
-            for (String update : new TreeSet<>(updates)) {
-                logLine(false, "  " + update);
+            if (!updates.isEmpty()) {
+                logLine(false, "The following version property updates are available:");
+                for (String update : new TreeSet<>(updates)) {
+                    logLine(false, "  " + update);
+                }
             }
+            logLine(false, "");
+            logArtifactVersionCacheStatistics();
         }
-        logLine(false, "");
     }
 
     @Override
@@ -0,0 +1,387 @@
+package org.codehaus.mojo.versions;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.artifact.resolver.ArtifactResolutionException;
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Prerequisites;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.ProjectBuilder;
+import org.apache.maven.project.ProjectBuildingException;
+import org.apache.maven.project.ProjectBuildingResult;
+import org.codehaus.mojo.versions.api.PomHelper;
+import org.codehaus.mojo.versions.api.VersionsHelper;
+import org.codehaus.mojo.versions.utils.ArtifactFactory;
+import org.codehaus.mojo.versions.utils.ArtifactVersionService;
+import org.codehaus.mojo.versions.utils.DependencyBuilder;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
+import org.codehaus.stax2.XMLInputFactory2;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Optional.ofNullable;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * Resolves the Maven version required by plugin versions, as declared in the {@code prerequisites}
+ * section of their POMs.
+ * <p>
+ * The POMs of the requested versions are fetched in parallel. Only the prerequisites (and, if needed to
+ * interpolate them, the properties) are read from the raw POM; the full project model is only built
+ * if the prerequisite cannot be determined from the POM alone, e.g. if it refers to a property defined
+ * in a parent POM. Prerequisites are not inherited, so the raw POM is sufficient otherwise.
+ * <p>
+ * Released POMs are immutable, so the results for release versions are memoized on disk, in one
+ * properties file per plugin, and reused across builds.
+ */
+class PluginPrerequisitesResolver {
+
+    private static final XMLInputFactory FACTORY = XMLInputFactory2.newInstance();
+
+    private static final Pattern EXPRESSION = Pattern.compile("\\$\\{([^}]+)}");
+
+    /**
+     * Value stored in the memo for versions not declaring any prerequisites
+     */
+    private static final String NONE = "";
+
+    private final VersionsHelper helper;
+
+    private final ArtifactFactory artifactFactory;
+
+    private final ProjectBuilder projectBuilder;
+
+    private final MavenSession session;
+
+    private final SharedExecutor executor;
+
+    private final Path cacheDirectory;
+
+    private final Log log;
+
+    /**
+     * Memoized prerequisites (version &rarr; required Maven version, {@link #NONE} if none) per plugin
+     */
+    private final Map<String, Properties> memo = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance
+     *
+     * @param helper {@link VersionsHelper} instance used to resolve the plugin POMs
+     * @param artifactFactory {@link ArtifactFactory} instance
+     * @param projectBuilder {@link ProjectBuilder} instance, used if the raw POM is not sufficient
+     * @param session current Maven session
+     * @param executor executor on which the POMs are resolved
+     * @param cacheDirectory directory holding the memoized prerequisites; may be {@code null},
+     *                       in which case results are only kept in memory
+     * @param log {@link Log} instance
+     */
+    PluginPrerequisitesResolver(
+            VersionsHelper helper,
+            ArtifactFactory artifactFactory,
+            ProjectBuilder projectBuilder,
+            MavenSession session,
+            SharedExecutor executor,
+            Path cacheDirectory,
+            Log log) {
+        this.helper = helper;
+        this.artifactFactory = artifactFactory;
+        this.projectBuilder = projectBuilder;
+        this.session = session;
+        this.executor = executor;
+        this.cacheDirectory = cacheDirectory;
+        this.log = log;
+    }
+
+    /**
+     * Returns the number of POMs resolved in parallel
+     *
+     * @return number of POMs resolved in parallel
+     */
+    int getParallelism() {
+        return executor.getParallelism();
+    }
+
+    /**
+     * Returns the Maven versions required by the given versions of a plugin. Versions whose POM can not be
+     * resolved or built are absent from the resulting map.
+     *
+     * @param groupId {@code groupId} of the plugin
+     * @param artifactId {@code artifactId} of the plugin
+     * @param versions versions of the plugin
+     * @return map of the required Maven version per plugin version, {@link Optional#empty()}
+     *         if the given version does not declare any prerequisites
+     * @throws MojoExecutionException thrown if the artifact of a plugin POM can not be created
+     */
+    Map<String, Optional<ArtifactVersion>> getRequiredMavenVersions(
+            String groupId, String artifactId, List<String> versions) throws MojoExecutionException {
+        Properties pluginMemo =
+                memo.computeIfAbsent(ArtifactUtils.versionlessKey(groupId, artifactId), k -> load(groupId, artifactId));
+        Map<String, CompletableFuture<Optional<String>>> pending = new LinkedHashMap<>();
+        for (String version : versions) {
+            String memoized = pluginMemo.getProperty(version);
+            pending.put(
+                    version,
+                    memoized != null
+                            ? CompletableFuture.completedFuture(Optional.of(memoized))
+                            : executor.submit(() -> resolve(groupId, artifactId, version)));
+        }
+
+        Map<String, Optional<ArtifactVersion>> result = new LinkedHashMap<>();
+        boolean modified = false;
+        for (Map.Entry<String, CompletableFuture<Optional<String>>> entry : pending.entrySet()) {
+            String version = entry.getKey();
+            try {
+                Optional<String> requires = entry.getValue().get();
+                if (!requires.isPresent()) {
+                    continue;
+                }
+                if (!ArtifactUtils.isSnapshot(version) && pluginMemo.putIfAbsent(version, requires.get()) == null) {
+                    modified = true;
+                }
+                result.put(
+                        version,
+                        Optional.of(requires.get())
+                                .filter(s -> !NONE.equals(s))
+                                .map(ArtifactVersionService::getArtifactVersion));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MojoExecutionException("Interrupted while resolving plugin prerequisites", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof MojoExecutionException) {
+                    throw (MojoExecutionException) e.getCause();
+                }
+                throw new MojoExecutionException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+        if (modified) {
+            store(groupId, artifactId, pluginMemo);
+        }
+        return result;
+    }
+
+    /**
+     * Resolves the prerequisite of a single plugin version
+     *
+     * @return required Maven version, {@link #NONE} if none, or {@link Optional#empty()}
+     *         if the POM could not be resolved or built
+     */
+    private Optional<String> resolve(String groupId, String artifactId, String version) throws MojoExecutionException {
+        Artifact probe = artifactFactory.createArtifact(DependencyBuilder.newBuilder()
+                .withGroupId(groupId)
+                .withArtifactId(artifactId)
+                .withVersion(version)
+                .withType("pom")
+                .withScope(Artifact.SCOPE_RUNTIME)
+                .build());
+        try {
+            helper.resolveArtifact(probe, true);
+            String requires = readPrerequisite(probe.getFile());
+            if (requires == null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Building the plugin POM for " + probe + " to determine its prerequisites");
+                }
+                requires = buildPrerequisite(probe);
+            }
+            return Optional.of(requires);
+        } catch (ArtifactResolutionException | ProjectBuildingException e) {
+            // ignore bad version
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the Maven prerequisite from the raw POM
+     *
+     * @return required Maven version, {@link #NONE} if none,
+     *         or {@code null} if it can not be determined from the raw POM alone
+     */
+    private String readPrerequisite(File pomFile) {
+        if (pomFile == null || !pomFile.isFile()) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(pomFile.toPath())) {
+            XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+            try {
+                String projectVersion = null;
+                String maven = null;
+                Map<String, String> properties = new HashMap<>();
+                List<String> path = new ArrayList<>();
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == END_ELEMENT) {
+                        path.remove(path.size() - 1);
+                    } else if (event == START_ELEMENT) {
+                        path.add(reader.getLocalName());
+                        String elementPath = String.join("/", path);
+                        if ("project/version".equals(elementPath)) {
+                            projectVersion = reader.getElementText().trim();
+                        } else if ("project/prerequisites/maven".equals(elementPath)) {
+                            maven = reader.getElementText().trim();
+                        } else if (path.size() == 3 && elementPath.startsWith("project/properties/")) {
+                            properties.put(
+                                    reader.getLocalName(),
+                                    reader.getElementText().trim());
+                        } else {
+                            continue;
+                        }
+                        // getElementText() has consumed the end element
+                        path.remove(path.size() - 1);
+                    }
+                }
+                if (maven == null || maven.isEmpty()) {
+                    return NONE;
+                }
+                if (projectVersion != null) {
+                    properties.putIfAbsent("project.version", projectVersion);
+                    properties.putIfAbsent("pom.version", projectVersion);
+                    properties.putIfAbsent("version", projectVersion);
+                }
+                return interpolate(maven, properties);
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException e) {
+            log.debug("Unable to read the prerequisites of " + pomFile + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Interpolates the given value using the given properties
+     *
+     * @return interpolated value, or {@code null} if not all expressions could be resolved
+     */
+    private static String interpolate(String value, Map<String, String> properties) {
+        String result = value;
+        // bounded, to guard against cyclic references
+        for (int i = 0; i < 10 && result.contains("${"); i++) {
+            Matcher matcher = EXPRESSION.matcher(result);
+            StringBuffer interpolated = new StringBuffer();
+            while (matcher.find()) {
+                String replacement = properties.get(matcher.group(1));
+                if (replacement == null) {
+                    return null;
+                }
+                matcher.appendReplacement(interpolated, Matcher.quoteReplacement(replacement));
+            }
+            matcher.appendTail(interpolated);
+            result = interpolated.toString();
+        }
+        return result.contains("${") ? null : result;
+    }
+
+    private String buildPrerequisite(Artifact probe) throws ProjectBuildingException {
+        ProjectBuildingResult result = projectBuilder.build(
+                probe,
+                true,
+                PomHelper.createProjectBuilderRequest(
+                        session,
+                        r -> r.setProcessPlugins(false),
+                        r -> r.setRemoteRepositories(session.getCurrentProject().getRemoteArtifactRepositories()),
+                        r -> r.setPluginArtifactRepositories(
+                                session.getCurrentProject().getPluginArtifactRepositories())));
+        if (!result.getProblems().isEmpty()) {
+            log.warn("Problems encountered during construction of the plugin POM for " + probe.toString());
+            result.getProblems().forEach(p -> log.warn("\t" + p.getMessage()));
+        }
+        return ofNullable(result.getProject().getPrerequisites())
+                .map(Prerequisites::getMaven)
+                .orElse(NONE);
+    }
+
+    private Path memoFile(String groupId, String artifactId) {
+        return cacheDirectory.resolve(groupId).resolve(artifactId + ".properties");
+    }
+
+    private Properties load(String groupId, String artifactId) {
+        Properties properties = new Properties();
+        if (cacheDirectory != null) {
+            try (InputStream in = Files.newInputStream(memoFile(groupId, artifactId))) {
+                properties.load(in);
+            } catch (NoSuchFileException e) {
+                // nothing memoized yet
+            } catch (IOException e) {
+                log.debug("Unable to read memoized prerequisites of " + groupId + ":" + artifactId + ": "
+                        + e.getMessage());
+            }
+        }
+        return properties;
+    }
+
+    private void store(String groupId, String artifactId, Properties properties) {
+        if (cacheDirectory == null) {
+            return;
+        }
+        Path file = memoFile(groupId, artifactId);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(file.getParent());
+            tempFile = Files.createTempFile(file.getParent(), artifactId, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                properties.store(out, "Maven prerequisites of " + groupId + ":" + artifactId);
+            }
+            try {
+                Files.move(tempFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.debug("Unable to memoize prerequisites of " + groupId + ":" + artifactId + ": " + e.getMessage());
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // best effort
+                }
+            }
+        }
+    }
+}
@@ -54,10 +54,12 @@ import org.codehaus.mojo.versions.change.VersionChanger;
 import org.codehaus.mojo.versions.change.VersionChangerFactory;
 import org.codehaus.mojo.versions.ordering.ReactorDepthComparator;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+import org.codehaus.mojo.versions.rewriting.PomDocumentStore;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
 import org.codehaus.mojo.versions.utils.ContextualLog;
 import org.codehaus.mojo.versions.utils.DelegatingContextualLog;
 import org.codehaus.mojo.versions.utils.RegexUtils;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.codehaus.plexus.components.interactivity.Prompter;
 import org.codehaus.plexus.components.interactivity.PrompterException;
 import org.eclipse.aether.RepositorySystem;
@@ -304,133 +306,140 @@ public class SetMojo extends AbstractVersionsUpdaterMojo {
      * @throws org.apache.maven.plugin.MojoFailureException   when things go wrong.
      */
     public void execute() throws MojoExecutionException, MojoFailureException {
-        if (getProject().getOriginalModel().getVersion() == null) {
-            throw new MojoExecutionException("Project version is inherited from parent.");
-        }
-
-        if (removeSnapshot && !nextSnapshot) {
-            String version = getVersion();
-            if (version.endsWith(SNAPSHOT)) {
-                newVersion = version.substring(0, version.indexOf(SNAPSHOT));
-                getLog().info("SNAPSHOT found.  BEFORE " + version + "  --> AFTER: " + newVersion);
+        try (SharedExecutor.Lease lease = SharedExecutor.acquire(session)) {
+            if (getProject().getOriginalModel().getVersion() == null) {
+                throw new MojoExecutionException("Project version is inherited from parent.");
             }
-        }
-
-        if (!nextSnapshot && nextSnapshotIndexToIncrement != null) {
-            throw new MojoExecutionException("nextSnapshotIndexToIncrement is not valid when nextSnapshot is false");
-        }
-
-        if (!removeSnapshot && nextSnapshot) {
-            String version = getVersion();
-            newVersion = getIncrementedVersion(version, nextSnapshotIndexToIncrement);
-            getLog().info("SNAPSHOT found.  BEFORE " + version + "  --> AFTER: " + newVersion);
-        }
 
-        if (isEmpty(newVersion)) {
-            if (removeSnapshot) {
-                getLog().info("removeSnapshot enabled whilst the version is not a snapshot: nothing to do.");
-                return;
-            }
-            if (session.getSettings().isInteractiveMode()) {
-                try {
-                    newVersion = prompter.prompt(
-                            "Enter the new version to set",
-                            getProject().getOriginalModel().getVersion());
-                } catch (PrompterException e) {
-                    throw new MojoExecutionException(e.getMessage(), e);
+            if (removeSnapshot && !nextSnapshot) {
+                String version = getVersion();
+                if (version.endsWith(SNAPSHOT)) {
+                    newVersion = version.substring(0, version.indexOf(SNAPSHOT));
+                    getLog().info("SNAPSHOT found.  BEFORE " + version + "  --> AFTER: " + newVersion);
                 }
-            } else {
-                throw new MojoExecutionException("You must specify the new version, either by using the newVersion "
-                        + "property (that is -DnewVersion=... on the command line) "
-                        + "or run in interactive mode");
             }
-        }
-
-        if (!"onchange".equals(updateBuildOutputTimestampPolicy)
-                && !"always".equals(updateBuildOutputTimestampPolicy)
-                && !"never".equals(updateBuildOutputTimestampPolicy)) {
-            throw new MojoExecutionException(
-                    "updateBuildOutputTimestampPolicy should be one of: " + "\"onchange\", \"always\", \"never\".");
-        }
 
-        try {
-            final MavenProject project = processFromLocalAggregationRoot
-                    ? PomHelper.getLocalRoot(projectBuilder, session, getLog())
-                    : getProject();
-
-            getLog().info("Local aggregation root: " + project.getBasedir());
-            Map<File, Model> reactorModels = PomHelper.getChildModels(project, getLog());
-            final SortedMap<File, Model> reactor = new TreeMap<>(new ReactorDepthComparator(reactorModels));
-            reactor.putAll(reactorModels);
-
-            // set of files to update
-            final Set<File> files = new LinkedHashSet<>();
-
-            // groupId, artifactId, oldVersion are matched against every module of the project to see if the module
-            // needs to be changed as well
-            // setting them to the main project coordinates in case they are not set by the user,
-            // so that the main project can be selected
-            Model rootModel = reactorModels.get(session.getCurrentProject().getFile());
-            if (groupId == null) {
-                groupId = PomHelper.getGroupId(rootModel);
+            if (!nextSnapshot && nextSnapshotIndexToIncrement != null) {
+                throw new MojoExecutionException(
+                        "nextSnapshotIndexToIncrement is not valid when nextSnapshot is false");
             }
-            if (artifactId == null) {
-                artifactId = rootModel.getArtifactId();
-            }
-            if (oldVersion == null) {
-                oldVersion = rootModel.getVersion();
+
+            if (!removeSnapshot && nextSnapshot) {
+                String version = getVersion();
+                newVersion = getIncrementedVersion(version, nextSnapshotIndexToIncrement);
+                getLog().info("SNAPSHOT found.  BEFORE " + version + "  --> AFTER: " + newVersion);
             }
 
-            getLog().info(String.format(
-                    "Processing change of %s:%s:%s -> %s", groupId, artifactId, oldVersion, newVersion));
-
-            Pattern groupIdRegex = processAllModules || StringUtils.isBlank(groupId) || "*".equals(groupId)
-                    ? null
-                    : Pattern.compile(RegexUtils.convertWildcardsToRegex(groupId, true));
-            Pattern artifactIdRegex = processAllModules || StringUtils.isBlank(artifactId) || "*".equals(artifactId)
-                    ? null
-                    : Pattern.compile(RegexUtils.convertWildcardsToRegex(artifactId, true));
-            Pattern oldVersionIdRegex = processAllModules || StringUtils.isBlank(oldVersion) || "*".equals(oldVersion)
-                    ? null
-                    : Pattern.compile(RegexUtils.convertWildcardsToRegex(oldVersion, true));
-
-            for (Model m : reactor.values()) {
-                String mGroupId = PomHelper.getGroupId(m);
-                String mArtifactId = PomHelper.getArtifactId(m);
-                String mVersion = PomHelper.getVersion(m);
-
-                if ((groupIdRegex == null || groupIdRegex.matcher(mGroupId).matches())
-                        && (artifactIdRegex == null
-                                || artifactIdRegex.matcher(mArtifactId).matches())
-                        && (mVersion == null
-                                || oldVersionIdRegex == null
-                                || oldVersionIdRegex.matcher(mVersion).matches())
-                        && !newVersion.equals(mVersion)) {
-                    applyChange(
-                            reactor,
-                            files,
-                            mGroupId,
-                            m.getArtifactId(),
-                            StringUtils.isBlank(oldVersion) || "*".equals(oldVersion) ? "" : mVersion);
+            if (isEmpty(newVersion)) {
+                if (removeSnapshot) {
+                    getLog().info("removeSnapshot enabled whilst the version is not a snapshot: nothing to do.");
+                    return;
+                }
+                if (session.getSettings().isInteractiveMode()) {
+                    try {
+                        newVersion = prompter.prompt(
+                                "Enter the new version to set",
+                                getProject().getOriginalModel().getVersion());
+                    } catch (PrompterException e) {
+                        throw new MojoExecutionException(e.getMessage(), e);
+                    }
+                } else {
+                    throw new MojoExecutionException("You must specify the new version, either by using the newVersion "
+                            + "property (that is -DnewVersion=... on the command line) "
+                            + "or run in interactive mode");
                 }
             }
 
-            if ("always".equals(updateBuildOutputTimestampPolicy)) {
-                reactor.values().stream()
-                        .map(m -> PomHelper.getModelEntry(reactor, PomHelper.getGroupId(m), PomHelper.getArtifactId(m)))
-                        .filter(Objects::nonNull)
-                        .map(Map.Entry::getValue)
-                        .map(Model::getPomFile)
-                        .forEach(files::add);
+            if (!"onchange".equals(updateBuildOutputTimestampPolicy)
+                    && !"always".equals(updateBuildOutputTimestampPolicy)
+                    && !"never".equals(updateBuildOutputTimestampPolicy)) {
+                throw new MojoExecutionException(
+                        "updateBuildOutputTimestampPolicy should be one of: " + "\"onchange\", \"always\", \"never\".");
             }
 
-            // now process all the updates
-            for (File file : files) {
-                process(file);
-            }
+            try {
+                final MavenProject project = processFromLocalAggregationRoot
+                        ? PomHelper.getLocalRoot(projectBuilder, session, getLog())
+                        : getProject();
+
+                getLog().info("Local aggregation root: " + project.getBasedir());
+                Map<File, Model> reactorModels = PomHelper.getChildModels(
+                        project,
+                        getLog(),
+                        SharedExecutor.forSession(session, lookupThreads, lookupVirtualThreads),
+                        PomDocumentStore.forSession(session));
+                final SortedMap<File, Model> reactor = new TreeMap<>(new ReactorDepthComparator(reactorModels));
+                reactor.putAll(reactorModels);
+
+                // set of files to update
+                final Set<File> files = new LinkedHashSet<>();
+
+                // groupId, artifactId, oldVersion are matched against every module of the project to see if the module
+                // needs to be changed as well
+                // setting them to the main project coordinates in case they are not set by the user,
+                // so that the main project can be selected
+                Model rootModel = reactorModels.get(session.getCurrentProject().getFile());
+                if (groupId == null) {
+                    groupId = PomHelper.getGroupId(rootModel);
+                }
+                if (artifactId == null) {
+                    artifactId = rootModel.getArtifactId();
+                }
+                if (oldVersion == null) {
+                    oldVersion = rootModel.getVersion();
+                }
 
-        } catch (IOException e) {
-            throw new MojoExecutionException(e.getMessage(), e);
+                getLog().info(String.format(
+                        "Processing change of %s:%s:%s -> %s", groupId, artifactId, oldVersion, newVersion));
+
+                Pattern groupIdRegex = processAllModules || StringUtils.isBlank(groupId) || "*".equals(groupId)
+                        ? null
+                        : Pattern.compile(RegexUtils.convertWildcardsToRegex(groupId, true));
+                Pattern artifactIdRegex = processAllModules || StringUtils.isBlank(artifactId) || "*".equals(artifactId)
+                        ? null
+                        : Pattern.compile(RegexUtils.convertWildcardsToRegex(artifactId, true));
+                Pattern oldVersionIdRegex =
+                        processAllModules || StringUtils.isBlank(oldVersion) || "*".equals(oldVersion)
+                                ? null
+                                : Pattern.compile(RegexUtils.convertWildcardsToRegex(oldVersion, true));
+
+                for (Model m : reactor.values()) {
+                    String mGroupId = PomHelper.getGroupId(m);
+                    String mArtifactId = PomHelper.getArtifactId(m);
+                    String mVersion = PomHelper.getVersion(m);
+
+                    if ((groupIdRegex == null || groupIdRegex.matcher(mGroupId).matches())
+                            && (artifactIdRegex == null
+                                    || artifactIdRegex.matcher(mArtifactId).matches())
+                            && (mVersion == null
+                                    || oldVersionIdRegex == null
+                                    || oldVersionIdRegex.matcher(mVersion).matches())
+                            && !newVersion.equals(mVersion)) {
+                        applyChange(
+                                reactor,
+                                files,
+                                mGroupId,
+                                m.getArtifactId(),
+                                StringUtils.isBlank(oldVersion) || "*".equals(oldVersion) ? "" : mVersion);
+                    }
+                }
+
+                if ("always".equals(updateBuildOutputTimestampPolicy)) {
+                    reactor.values().stream()
+                            .map(m -> PomHelper.getModelEntry(
+                                    reactor, PomHelper.getGroupId(m), PomHelper.getArtifactId(m)))
+                            .filter(Objects::nonNull)
+                            .map(Map.Entry::getValue)
+                            .map(Model::getPomFile)
+                            .forEach(files::add);
+                }
+
+                // now process all the updates; the changes have all been computed, so files are independent
+                process(files);
+
+            } catch (IOException e) {
+                throw new MojoExecutionException(e.getMessage(), e);
+            }
         }
     }
 
@@ -571,14 +580,14 @@ public class SetMojo extends AbstractVersionsUpdaterMojo {
     }
 
     /**
-     * Updates the pom file.
+     * Updates the pom file. May be called concurrently for different files, once all changes have been computed.
      *
      * @param pom The pom file to update.
      * @throws org.apache.maven.plugin.MojoExecutionException when things go wrong.
      * @throws org.apache.maven.plugin.MojoFailureException   when things go wrong.
      * @throws javax.xml.stream.XMLStreamException            when things go wrong.
      */
-    protected synchronized void update(MutableXMLStreamReader pom)
+    protected void update(MutableXMLStreamReader pom)
             throws MojoExecutionException, MojoFailureException, XMLStreamException {
         ContextualLog log = new DelegatingContextualLog(getLog());
         try {
@@ -25,6 +25,8 @@ import javax.xml.stream.XMLStreamException;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -39,7 +41,9 @@ import org.apache.maven.wagon.Wagon;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+import org.codehaus.mojo.versions.rewriting.PomDocumentStore;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.eclipse.aether.RepositorySystem;
 
 /**
@@ -52,19 +56,9 @@ import org.eclipse.aether.RepositorySystem;
 @Mojo(name = "update-child-modules", aggregator = true, threadSafe = true)
 public class UpdateChildModulesMojo extends AbstractVersionsUpdaterMojo {
     /**
-     * The groupId that we are updating. Guarded by this.
+     * The new parent version per module file to update, computed before any file is processed.
      */
-    private transient String sourceGroupId = null;
-
-    /**
-     * The artifactId that we are updating. Guarded by this.
-     */
-    private transient String sourceArtifactId = null;
-
-    /**
-     * The version that we are updating to. Guarded by this.
-     */
-    private transient String sourceVersion = null;
+    private transient Map<File, String> parentVersions = Collections.emptyMap();
 
     /**
      * Whether to allow snapshots when searching for the latest version of an artifact.
@@ -105,45 +99,48 @@ public class UpdateChildModulesMojo extends AbstractVersionsUpdaterMojo {
      * @throws MojoFailureException   when things go wrong.
      */
     public void execute() throws MojoExecutionException, MojoFailureException {
+        try (SharedExecutor.Lease lease = SharedExecutor.acquire(session)) {
+            try {
+                final Map<File, Model> reactor = PomHelper.getChildModels(
+                        getProject(),
+                        getLog(),
+                        SharedExecutor.forSession(session, lookupThreads, lookupVirtualThreads),
+                        PomDocumentStore.forSession(session));
+                List<File> order = new ArrayList<>(reactor.keySet());
+                order.sort((o1, o2) -> {
+                    Model m1 = reactor.get(o1);
+                    Model m2 = reactor.get(o2);
+                    int d1 = PomHelper.getReactorParentCount(reactor, m1);
+                    int d2 = PomHelper.getReactorParentCount(reactor, m2);
+                    if (d1 < d2) {
+                        return -1;
+                    } else if (d1 > d2) {
+                        return 1;
+                    }
+                    return 0;
+                });
 
-        boolean didSomething = false;
-
-        try {
-            final Map<File, Model> reactor = PomHelper.getChildModels(getProject(), getLog());
-            List<File> order = new ArrayList<>(reactor.keySet());
-            order.sort((o1, o2) -> {
-                Model m1 = reactor.get(o1);
-                Model m2 = reactor.get(o2);
-                int d1 = PomHelper.getReactorParentCount(reactor, m1);
-                int d2 = PomHelper.getReactorParentCount(reactor, m2);
-                if (d1 < d2) {
-                    return -1;
-                } else if (d1 > d2) {
-                    return 1;
-                }
-                return 0;
-            });
-
-            for (File sourcePath : order) {
-                Model sourceModel = reactor.get(sourcePath);
+                // compute the parent version of all modules up front, so that the files can be processed independently
+                Map<File, String> plan = new LinkedHashMap<>();
+                for (File sourcePath : order) {
+                    Model sourceModel = reactor.get(sourcePath);
 
-                getLog().debug(
-                                sourcePath.length() == 0
-                                        ? "Processing root module as parent"
-                                        : "Processing " + sourcePath + " as a parent.");
+                    getLog().debug(
+                                    sourcePath.length() == 0
+                                            ? "Processing root module as parent"
+                                            : "Processing " + sourcePath + " as a parent.");
 
-                synchronized (this) {
-                    sourceGroupId = PomHelper.getGroupId(sourceModel);
+                    String sourceGroupId = PomHelper.getGroupId(sourceModel);
                     if (sourceGroupId == null) {
                         getLog().warn("Module " + sourcePath + " is missing a groupId.");
                         continue;
                     }
-                    sourceArtifactId = PomHelper.getArtifactId(sourceModel);
+                    String sourceArtifactId = PomHelper.getArtifactId(sourceModel);
                     if (sourceArtifactId == null) {
                         getLog().warn("Module " + sourcePath + " is missing an artifactId.");
                         continue;
                     }
-                    sourceVersion = PomHelper.getVersion(sourceModel);
+                    String sourceVersion = PomHelper.getVersion(sourceModel);
                     if (sourceVersion == null) {
                         getLog().warn("Module " + sourcePath + " is missing a version.");
                         continue;
@@ -173,35 +170,40 @@ public class UpdateChildModulesMojo extends AbstractVersionsUpdaterMojo {
                             getLog().info("    updated to "
                                     + ArtifactUtils.versionlessKey(sourceGroupId, sourceArtifactId) + ":"
                                     + sourceVersion);
-                            process(moduleProjectFile);
-                            didSomething = true;
+                            plan.put(moduleProjectFile, sourceVersion);
                         }
                     }
                 }
-            }
 
-        } catch (IOException e) {
-            throw new MojoExecutionException(e.getMessage(), e);
-        }
-        if (!didSomething) {
-            getLog().info("All child modules are up to date.");
+                parentVersions = plan;
+                process(plan.keySet());
+                if (plan.isEmpty()) {
+                    getLog().info("All child modules are up to date.");
+                }
+            } catch (IOException e) {
+                throw new MojoExecutionException(e.getMessage(), e);
+            }
         }
     }
 
     /**
-     * Updates the pom file.
+     * Updates the pom file. May be called concurrently for different files.
      *
      * @param pom The pom file to update.
      * @throws MojoExecutionException when things go wrong.
      * @throws MojoFailureException   when things go wrong.
      * @throws XMLStreamException     when things go wrong.
      */
-    protected synchronized void update(MutableXMLStreamReader pom)
+    protected void update(MutableXMLStreamReader pom)
             throws MojoExecutionException, MojoFailureException, XMLStreamException {
-        getLog().debug("Updating parent to " + sourceVersion);
+        String parentVersion = parentVersions.get(pom.getFileName().toFile());
+        if (parentVersion == null) {
+            return;
+        }
+        getLog().debug("Updating parent to " + parentVersion);
 
-        if (PomHelper.setProjectParentVersion(pom, sourceVersion)) {
-            getLog().debug("Made an update to " + sourceVersion);
+        if (PomHelper.setProjectParentVersion(pom, parentVersion)) {
+            getLog().debug("Made an update to " + parentVersion);
         }
     }
 }
@@ -55,9 +55,11 @@ import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
 import org.codehaus.mojo.versions.api.recording.DependencyChangeRecord.ChangeKind;
 import org.codehaus.mojo.versions.recording.DefaultPropertyChangeRecord;
 import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+import org.codehaus.mojo.versions.rewriting.PomDocumentStore;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
 import org.codehaus.mojo.versions.utils.DependencyComparator;
 import org.codehaus.mojo.versions.utils.ModelNode;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.eclipse.aether.RepositorySystem;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
@@ -199,15 +201,32 @@ public class UseDepVersionMojo extends AbstractVersionsDependencyUpdaterMojo {
 
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
-        validateInput();
+        try (SharedExecutor.Lease lease = SharedExecutor.acquire(session)) {
+            validateInput();
+            boolean completed = false;
+            try {
+                processModels();
+                completed = true;
+            } finally {
+                flushSessionChangeRecorders(!completed);
+            }
+        }
+    }
+
+    private void processModels() throws MojoExecutionException, MojoFailureException {
         List<ModelNode> rawModels;
 
         try {
+            PomDocumentStore documents = PomDocumentStore.forSession(session);
             MutableXMLStreamReader pomReader =
-                    new MutableXMLStreamReader(getProject().getFile().toPath());
-            ModelNode rootNode = new ModelNode(
-                    PomHelper.getRawModel(pomReader.getSource(), getProject().getFile()), pomReader);
-            rawModels = PomHelper.getRawModelTree(rootNode, getLog());
+                    documents.newReader(getProject().getFile().toPath());
+            ModelNode rootNode =
+                    new ModelNode(documents.getRawModel(getProject().getFile()), pomReader);
+            rawModels = PomHelper.getRawModelTree(
+                    rootNode,
+                    getLog(),
+                    SharedExecutor.forSession(session, lookupThreads, lookupVirtualThreads),
+                    PomDocumentStore.forSession(session));
             // reversing to process depth-first
             Collections.reverse(rawModels);
 
@@ -233,6 +252,12 @@ public class UseDepVersionMojo extends AbstractVersionsDependencyUpdaterMojo {
             }
             throw e;
         }
+
+        try {
+            saveChangeRecorderResults();
+        } catch (IOException e) {
+            getLog().warn("Cannot save the change recorder result", e);
+        }
     }
 
     /**
@@ -332,18 +357,12 @@ public class UseDepVersionMojo extends AbstractVersionsDependencyUpdaterMojo {
             } catch (IOException e) {
                 throw new MojoFailureException(
                         "Unable to write the changed file " + node.getModel().getPomFile(), e);
+            } finally {
+                PomDocumentStore.forSession(session)
+                        .invalidate(node.getModel().getPomFile().toPath());
             }
         }
 
-        try {
-            saveChangeRecorderResults();
-        } catch (IOException e) {
-            getLog().warn(
-                            "Cannot save the change recorder result for file "
-                                    + node.getModel().getPomFile(),
-                            e);
-        }
-
         return node.getMutableXMLStreamReader().isModified();
     }
 
@@ -21,13 +21,13 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 import org.apache.maven.artifact.Artifact;
@@ -39,6 +39,7 @@ import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.wagon.Wagon;
 import org.codehaus.mojo.versions.api.ArtifactVersions;
+import org.codehaus.mojo.versions.api.PomEdits;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.Segment;
 import org.codehaus.mojo.versions.api.VersionRetrievalException;
@@ -49,6 +50,7 @@ import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
 import org.codehaus.mojo.versions.utils.ArtifactVersionService;
 import org.codehaus.mojo.versions.utils.SegmentUtils;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.eclipse.aether.RepositorySystem;
 
 import static java.util.Collections.singletonList;
@@ -60,12 +62,14 @@ import static java.util.Collections.singletonList;
 public abstract class UseLatestVersionsMojoBase extends AbstractVersionsDependencyUpdaterMojo {
 
     /**
-     * Number of executor threads for update retrieval.
+     * Number of executor threads for update retrieval. {@code 0} or less means the number of available processors.
+     * The lookups are run on an executor shared with all goals using the same number of threads within the build,
+     * whose threads are released at the end of the reactor.
      *
      * @since 2.19.0
      */
     @Parameter(property = "numThreads", defaultValue = "5")
-    private int numThreads = 5;
+    private int numThreads = SharedExecutor.DEFAULT_PARALLELISM;
 
     /**
      * Whether snapshots should be allowed when searching for newer versions
@@ -120,8 +124,6 @@ public abstract class UseLatestVersionsMojoBase extends AbstractVersionsDependen
      */
     protected abstract Optional<ArtifactVersion> versionProducer(Stream<ArtifactVersion> stream);
 
-    private final ExecutorService executor = Executors.newFixedThreadPool(numThreads);
-
     /**
      * Creates a new instance
      *
@@ -216,6 +218,7 @@ public abstract class UseLatestVersionsMojoBase extends AbstractVersionsDependen
 
         Optional<Segment> unchangedSegment = SegmentUtils.determineUnchangedSegment(
                 getAllowMajorUpdates(), getAllowMinorUpdates(), getAllowIncrementalUpdates(), getLog());
+        SharedExecutor executor = SharedExecutor.forSession(session, numThreads, lookupVirtualThreads);
         ConcurrentLinkedQueue<DependencyVersionChange> versionChanges = new ConcurrentLinkedQueue<>();
         Collection<CompletableFuture<Void>> versionChangeFutures = new ArrayList<>();
         try {
@@ -224,6 +227,7 @@ public abstract class UseLatestVersionsMojoBase extends AbstractVersionsDependen
                         PomHelper.getRawModel(getProject()).getDependencyManagement();
                 if (dependencyManagement != null) {
                     versionChangeFutures.add(getUpdates(
+                            executor,
                             versionChanges,
                             dependencyManagement.getDependencies(),
                             DependencyChangeRecord.ChangeKind.DEPENDENCY_MANAGEMENT,
@@ -232,6 +236,7 @@ public abstract class UseLatestVersionsMojoBase extends AbstractVersionsDependen
             }
             if (getProject().getDependencies() != null && getProcessDependencies()) {
                 versionChangeFutures.add(getUpdates(
+                        executor,
                         versionChanges,
                         getProject().getDependencies(),
                         DependencyChangeRecord.ChangeKind.DEPENDENCY,
@@ -239,6 +244,7 @@ public abstract class UseLatestVersionsMojoBase extends AbstractVersionsDependen
             }
             if (getProject().getParent() != null && getProcessParent()) {
                 versionChangeFutures.add(getUpdates(
+                        executor,
                         versionChanges,
                         singletonList(getParentDependency()),
                         DependencyChangeRecord.ChangeKind.PARENT,
@@ -247,8 +253,30 @@ public abstract class UseLatestVersionsMojoBase extends AbstractVersionsDependen
 
             CompletableFuture.allOf(versionChangeFutures.toArray(new CompletableFuture[0]))
                     .join();
+
+            // apply all dependency changes in one pass over the document; the parent needs separate handling
+            PomEdits.Builder edits = PomEdits.builder();
+            Map<PomEdits.Edit, DependencyVersionChange> changesByEdit = new LinkedHashMap<>();
             for (DependencyVersionChange change : versionChanges) {
-                updateDependencyVersion(pom, change.getDependency(), change.getNewVersion(), change.getChangeKind());
+                Dependency dep = change.getDependency();
+                if (isParentDependency(dep)) {
+                    updateDependencyVersion(pom, dep, change.getNewVersion(), change.getChangeKind());
+                } else {
+                    PomEdits.Edit edit = PomEdits.dependency(
+                            dep.getGroupId(), dep.getArtifactId(), dep.getVersion(), change.getNewVersion());
+                    edits.withEdit(edit);
+                    changesByEdit.put(edit, change);
+                }
+            }
+            if (!changesByEdit.isEmpty()) {
+                Set<PomEdits.Edit> applied =
+                        PomHelper.applyEdits(pom, edits.build(), getProject().getModel(), getLog());
+                for (Map.Entry<PomEdits.Edit, DependencyVersionChange> e : changesByEdit.entrySet()) {
+                    if (applied.contains(e.getKey())) {
+                        DependencyVersionChange change = e.getValue();
+                        recordDependencyUpdate(change.getDependency(), change.getNewVersion(), change.getChangeKind());
+                    }
+                }
             }
         } catch (IOException e) {
             throw new MojoExecutionException(e.getMessage(), e);
@@ -267,48 +295,46 @@ public abstract class UseLatestVersionsMojoBase extends AbstractVersionsDependen
     }
 
     private CompletableFuture<Void> getUpdates(
+            SharedExecutor executor,
             ConcurrentLinkedQueue<DependencyVersionChange> updates,
             Collection<Dependency> dependencies,
             DependencyChangeRecord.ChangeKind changeKind,
             Optional<Segment> unchangedSegment) {
         return CompletableFuture.allOf(dependencies.stream()
-                .map(dep -> CompletableFuture.runAsync(
-                        () -> {
-                            if (!updateFilter(dep)) {
-                                return;
-                            } else if (getExcludeReactor() && isProducedByReactor(dep)) {
-                                getLog().info("Ignoring reactor dependency: " + toString(dep));
-                            } else if (isHandledByProperty(dep)) {
-                                getLog().debug("Ignoring dependency with property as version: " + toString(dep));
-                            } else {
-                                try {
-                                    Artifact artifact = toArtifact(dep);
-                                    if (!isIncluded(artifact)) {
-                                        return;
-                                    } else if (getLog().isDebugEnabled()) {
-                                        ArtifactVersion selectedVersion =
-                                                ArtifactVersionService.getArtifactVersion(dep.getVersion());
-                                        getLog().debug("Selected version:" + selectedVersion);
-                                        getLog().debug("Looking for newer versions of " + toString(dep));
-                                    }
-
-                                    ArtifactVersions versions = getHelper().lookupArtifactVersions(artifact, false);
-                                    versionProducer(Arrays.stream(versions.getNewerVersions(
-                                                            dep.getVersion(),
-                                                            unchangedSegment,
-                                                            getAllowSnapshots(),
-                                                            getAllowDowngrade()))
-                                                    .filter(this::artifactVersionsFilter))
-                                            .ifPresent(ver -> updates.add(
-                                                    new DependencyVersionChange(changeKind, dep, ver.toString())));
-                                } catch (VersionRetrievalException
-                                        | InvalidSegmentException
-                                        | MojoExecutionException e) {
-                                    throw new IllegalStateException(e);
-                                }
+                .map(dep -> executor.submit(() -> {
+                    if (!updateFilter(dep)) {
+                        return null;
+                    } else if (getExcludeReactor() && isProducedByReactor(dep)) {
+                        getLog().info("Ignoring reactor dependency: " + toString(dep));
+                    } else if (isHandledByProperty(dep)) {
+                        getLog().debug("Ignoring dependency with property as version: " + toString(dep));
+                    } else {
+                        try {
+                            Artifact artifact = toArtifact(dep);
+                            if (!isIncluded(artifact)) {
+                                return null;
+                            } else if (getLog().isDebugEnabled()) {
+                                ArtifactVersion selectedVersion =
+                                        ArtifactVersionService.getArtifactVersion(dep.getVersion());
+                                getLog().debug("Selected version:" + selectedVersion);
+                                getLog().debug("Looking for newer versions of " + toString(dep));
                             }
-                        },
-                        executor))
+
+                            ArtifactVersions versions = getHelper().lookupArtifactVersions(artifact, false);
+                            versionProducer(Arrays.stream(versions.getNewerVersions(
+                                                    dep.getVersion(),
+                                                    unchangedSegment,
+                                                    getAllowSnapshots(),
+                                                    getAllowDowngrade()))
+                                            .filter(this::artifactVersionsFilter))
+                                    .ifPresent(ver ->
+                                            updates.add(new DependencyVersionChange(changeKind, dep, ver.toString())));
+                        } catch (VersionRetrievalException | InvalidSegmentException | MojoExecutionException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }
+                    return null;
+                }))
                 .toArray(CompletableFuture[]::new));
     }
 }
@@ -25,6 +25,7 @@ import javax.xml.stream.XMLStreamException;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.artifact.Artifact;
@@ -162,21 +163,20 @@ public class UseReactorMojo extends AbstractVersionsDependencyUpdaterMojo {
                 continue;
             }
 
-            for (MavenProject reactorProject : reactorProjects) {
-                if (StringUtils.equals(reactorProject.getGroupId(), dep.getGroupId())
-                        && StringUtils.equals(reactorProject.getArtifactId(), dep.getArtifactId())
-                        && !StringUtils.equals(reactorProject.getVersion(), dep.getVersion())) {
-                    if (PomHelper.setDependencyVersion(
-                            pom,
-                            dep.getGroupId(),
-                            dep.getArtifactId(),
-                            dep.getVersion(),
-                            reactorProject.getVersion(),
-                            getProject().getModel(),
-                            getLog())) {
-                        getLog().info("Updated " + toString(dep) + " to version " + reactorProject.getVersion());
-                    }
-                    break;
+            Optional<MavenProject> reactorProject =
+                    getArtifactIndex().findReactorProject(dep.getGroupId(), dep.getArtifactId());
+            if (reactorProject.isPresent()
+                    && !StringUtils.equals(reactorProject.get().getVersion(), dep.getVersion())) {
+                String newVersion = reactorProject.get().getVersion();
+                if (PomHelper.setDependencyVersion(
+                        pom,
+                        dep.getGroupId(),
+                        dep.getArtifactId(),
+                        dep.getVersion(),
+                        newVersion,
+                        getProject().getModel(),
+                        getLog())) {
+                    getLog().info("Updated " + toString(dep) + " to version " + newVersion);
                 }
             }
         }
@@ -184,13 +184,12 @@ public class UseReactorMojo extends AbstractVersionsDependencyUpdaterMojo {
 
     private void useReactor(MutableXMLStreamReader pom, MavenProject parent)
             throws XMLStreamException, VersionRetrievalException {
-        for (MavenProject project : reactorProjects) {
-            if (StringUtils.equals(project.getGroupId(), parent.getGroupId())
-                    && StringUtils.equals(project.getArtifactId(), parent.getArtifactId())
-                    && !StringUtils.equals(project.getVersion(), parent.getVersion())) {
-                if (PomHelper.setProjectParentVersion(pom, project.getVersion())) {
-                    getLog().info("Updated parent " + toString(parent) + " to version " + project.getVersion());
-                }
+        Optional<MavenProject> project =
+                getArtifactIndex().findReactorProject(parent.getGroupId(), parent.getArtifactId());
+        if (project.isPresent() && !StringUtils.equals(project.get().getVersion(), parent.getVersion())) {
+            if (PomHelper.setProjectParentVersion(pom, project.get().getVersion())) {
+                getLog().info("Updated parent " + toString(parent) + " to version "
+                        + project.get().getVersion());
             }
         }
     }
@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 
 import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
@@ -35,6 +36,7 @@ import org.apache.maven.model.Dependency;
 import org.codehaus.mojo.versions.api.AbstractVersionDetails;
 import org.codehaus.mojo.versions.api.ArtifactVersions;
 import org.codehaus.mojo.versions.api.ArtifactVersionsCache;
+import org.codehaus.mojo.versions.api.Segment;
 import org.codehaus.mojo.versions.reporting.util.ReportRenderer;
 import org.codehaus.plexus.i18n.I18N;
 
@@ -116,6 +118,30 @@ public abstract class AbstractVersionsReportRenderer<T> extends VersionsReportRe
         endSection();
     }
 
+    /**
+     * Returns the newest update of the given artifact or property within the given segment,
+     * used by the summary, status and version labels
+     *
+     * @param details the versions details for the given artifact or property
+     * @param updateScope segment, or empty for the newest update overall
+     * @return newest update or {@code null} if there is none
+     * @since 2.20.0
+     */
+    protected ArtifactVersion getNewestUpdate(AbstractVersionDetails details, Optional<Segment> updateScope) {
+        return newestUpdateCache.get(details, updateScope, isAllowSnapshots());
+    }
+
+    /**
+     * Returns the updates of the given artifact or property listed in the details table
+     *
+     * @param details the versions details for the given artifact or property
+     * @return updates of the artifact or property
+     * @since 2.20.0
+     */
+    protected ArtifactVersion[] getReportUpdates(AbstractVersionDetails details) {
+        return allUpdatesCache.get(details, empty(), isAllowSnapshots());
+    }
+
     /**
      * Renders the "Overview" table
      */
@@ -240,7 +266,7 @@ public abstract class AbstractVersionsReportRenderer<T> extends VersionsReportRe
      */
     protected void renderSummaryTableRow(Dependency artifact, ArtifactVersions details, boolean includeScope) {
         details.setCurrentVersion(artifact.getVersion());
-        ArtifactVersion[] allUpdates = allUpdatesCache.get(details, empty(), isAllowSnapshots());
+        ArtifactVersion[] allUpdates = getReportUpdates(details);
         boolean upToDate = allUpdates == null || allUpdates.length == 0;
 
         sink.tableRow();
@@ -266,10 +292,10 @@ public abstract class AbstractVersionsReportRenderer<T> extends VersionsReportRe
      * @param details the artifact for which to render the newest versions.
      */
     protected void renderNewestVersions(AbstractVersionDetails details) {
-        renderBoldCell(newestUpdateCache.get(details, of(SUBINCREMENTAL), isAllowSnapshots()));
-        renderBoldCell(newestUpdateCache.get(details, of(INCREMENTAL), isAllowSnapshots()));
-        renderBoldCell(newestUpdateCache.get(details, of(MINOR), isAllowSnapshots()));
-        renderBoldCell(newestUpdateCache.get(details, of(MAJOR), isAllowSnapshots()));
+        renderBoldCell(getNewestUpdate(details, of(SUBINCREMENTAL)));
+        renderBoldCell(getNewestUpdate(details, of(INCREMENTAL)));
+        renderBoldCell(getNewestUpdate(details, of(MINOR)));
+        renderBoldCell(getNewestUpdate(details, of(MAJOR)));
     }
 
     /**
@@ -280,7 +306,7 @@ public abstract class AbstractVersionsReportRenderer<T> extends VersionsReportRe
      * @param includeScope whether to include the scope row
      */
     protected void renderDependencyDetailTable(Dependency artifact, ArtifactVersions details, boolean includeScope) {
-        ArtifactVersion[] allUpdates = allUpdatesCache.get(details, empty(), isAllowSnapshots());
+        ArtifactVersion[] allUpdates = getReportUpdates(details);
         boolean upToDate = allUpdates == null || allUpdates.length == 0;
 
         startTable(new int[] {Sink.JUSTIFY_RIGHT, Sink.JUSTIFY_LEFT}, false);
@@ -339,19 +365,19 @@ public abstract class AbstractVersionsReportRenderer<T> extends VersionsReportRe
      * @param details the artifact for which to render the status.
      */
     protected void renderStatus(AbstractVersionDetails details) {
-        if (newestUpdateCache.get(details, of(SUBINCREMENTAL), isAllowSnapshots()) != null) {
+        if (getNewestUpdate(details, of(SUBINCREMENTAL)) != null) {
             renderWarningIcon();
             sink.nonBreakingSpace();
             sink.text(getText("report.otherUpdatesAvailable"));
-        } else if (newestUpdateCache.get(details, of(INCREMENTAL), isAllowSnapshots()) != null) {
+        } else if (getNewestUpdate(details, of(INCREMENTAL)) != null) {
             renderWarningIcon();
             sink.nonBreakingSpace();
             sink.text(getText("report.incrementalUpdatesAvailable"));
-        } else if (newestUpdateCache.get(details, of(MINOR), isAllowSnapshots()) != null) {
+        } else if (getNewestUpdate(details, of(MINOR)) != null) {
             renderWarningIcon();
             sink.nonBreakingSpace();
             sink.text(getText("report.minorUpdatesAvailable"));
-        } else if (newestUpdateCache.get(details, of(MAJOR), isAllowSnapshots()) != null) {
+        } else if (getNewestUpdate(details, of(MAJOR)) != null) {
             renderWarningIcon();
             sink.nonBreakingSpace();
             sink.text(getText("report.majorUpdatesAvailable"));
@@ -432,19 +458,19 @@ public abstract class AbstractVersionsReportRenderer<T> extends VersionsReportRe
      */
     protected String getLabel(ArtifactVersion version, AbstractVersionDetails details) {
 
-        if (equals(version, newestUpdateCache.get(details, of(SUBINCREMENTAL), isAllowSnapshots()))) {
+        if (equals(version, getNewestUpdate(details, of(SUBINCREMENTAL)))) {
             return getText("report.latestSubIncremental");
         }
 
-        if (equals(version, newestUpdateCache.get(details, of(INCREMENTAL), isAllowSnapshots()))) {
+        if (equals(version, getNewestUpdate(details, of(INCREMENTAL)))) {
             return getText("report.latestIncremental");
         }
 
-        if (equals(version, newestUpdateCache.get(details, of(MINOR), isAllowSnapshots()))) {
+        if (equals(version, getNewestUpdate(details, of(MINOR)))) {
             return getText("report.latestMinor");
         }
 
-        if (equals(version, newestUpdateCache.get(details, of(MAJOR), isAllowSnapshots()))) {
+        if (equals(version, getNewestUpdate(details, of(MAJOR)))) {
             return getText("report.latestMajor");
         }
 
@@ -21,16 +21,22 @@ package org.codehaus.mojo.versions.reporting;
 
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 
 import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.model.Dependency;
+import org.codehaus.mojo.versions.api.AbstractVersionDetails;
 import org.codehaus.mojo.versions.api.ArtifactVersions;
+import org.codehaus.mojo.versions.api.Segment;
 import org.codehaus.mojo.versions.reporting.model.DependencyUpdatesModel;
 import org.codehaus.plexus.i18n.I18N;
 
 /**
  * A renderer for Dependency updates reports, using a {@link DependencyUpdatesModel}.
+ * Update information is read from the {@linkplain DependencyUpdatesModel#getView(boolean) view}
+ * shared with the other output formats.
  * @param <K> type of the model
  * @since 1.0-beta-1
  */
@@ -91,7 +97,18 @@ public class DependencyUpdatesReportRenderer<K extends DependencyUpdatesModel>
 
     @Override
     protected OverviewStats computeOverviewStats() {
-        return OverviewStats.fromUpdates(model.getAllUpdates().values(), newestUpdateCache, isAllowSnapshots());
+        return model.getView(isAllowSnapshots())
+                .getOverviewStats(model.getAllUpdates().values());
+    }
+
+    @Override
+    protected ArtifactVersion getNewestUpdate(AbstractVersionDetails details, Optional<Segment> updateScope) {
+        return model.getView(isAllowSnapshots()).getNewestUpdate(details, updateScope);
+    }
+
+    @Override
+    protected ArtifactVersion[] getReportUpdates(AbstractVersionDetails details) {
+        return model.getView(isAllowSnapshots()).getReportUpdates(details);
     }
 
     /**
@@ -31,8 +31,6 @@ import org.codehaus.mojo.versions.api.PropertyVersions;
 import org.codehaus.mojo.versions.reporting.model.PropertyUpdatesModel;
 import org.codehaus.plexus.i18n.I18N;
 
-import static java.util.Optional.empty;
-
 /**
  * A renderer for Property updates reports, using a {@link PropertyUpdatesModel}.
  * @since 1.0-beta-1
@@ -110,7 +108,7 @@ public class PropertyUpdatesReportRenderer extends AbstractVersionsReportRendere
     }
 
     private void renderPropertySummaryTableRow(Property property, PropertyVersions details) {
-        ArtifactVersion[] allUpdates = allUpdatesCache.get(details, empty(), isAllowSnapshots());
+        ArtifactVersion[] allUpdates = getReportUpdates(details);
         boolean upToDate = allUpdates == null || allUpdates.length == 0;
 
         sink.tableRow();
@@ -131,7 +129,7 @@ public class PropertyUpdatesReportRenderer extends AbstractVersionsReportRendere
      * @param details the details of the property
      */
     protected void renderPropertyDetailTable(Property property, PropertyVersions details) {
-        ArtifactVersion[] allUpdates = allUpdatesCache.get(details, empty(), isAllowSnapshots());
+        ArtifactVersion[] allUpdates = getReportUpdates(details);
         boolean upToDate = allUpdates == null || allUpdates.length == 0;
 
         startTable(new int[] {Sink.JUSTIFY_RIGHT, Sink.JUSTIFY_LEFT}, false);
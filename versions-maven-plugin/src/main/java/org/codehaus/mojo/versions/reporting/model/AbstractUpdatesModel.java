@@ -19,13 +19,17 @@ package org.codehaus.mojo.versions.reporting.model;
  * under the License.
  */
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.apache.maven.model.Dependency;
 import org.codehaus.mojo.versions.api.ArtifactVersions;
 import org.codehaus.mojo.versions.utils.DependencyComparator;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 
 /**
  * Base class for using with the {@linkplain org.codehaus.mojo.versions.reporting.util.ReportRenderer} API
@@ -35,6 +39,7 @@ public abstract class AbstractUpdatesModel<V extends ArtifactVersions> {
     private final Map<Dependency, V> artifactUpdates;
     private final Map<Dependency, V> artifactManagementUpdates;
     private final Map<Dependency, V> allUpdates;
+    private final Map<Boolean, UpdatesViewModel> views = new ConcurrentHashMap<>();
 
     /**
      * <p>Creates a new instance of the model, based on the provided map of artifact (dependency or plugin) updates
@@ -88,4 +93,33 @@ public abstract class AbstractUpdatesModel<V extends ArtifactVersions> {
     public Map<Dependency, V> getAllUpdates() {
         return allUpdates;
     }
+
+    /**
+     * Computes the {@link UpdatesViewModel} of all updates of the model, unless it has already been computed.
+     * The report is expected to call this once before rendering, so that all renderers share the same view.
+     *
+     * @param allowSnapshots whether snapshots should be included
+     * @param executor if not {@code null}, the executor used to compute the view in parallel
+     * @return view of the updates
+     * @since 2.20.0
+     */
+    public UpdatesViewModel computeView(boolean allowSnapshots, SharedExecutor executor) {
+        return views.computeIfAbsent(allowSnapshots, snapshots -> {
+            List<V> details = new ArrayList<>(allUpdates.values());
+            details.addAll(artifactManagementUpdates.values());
+            return UpdatesViewModel.of(details, snapshots, executor);
+        });
+    }
+
+    /**
+     * Returns the {@link UpdatesViewModel} of all updates of the model, computing it sequentially
+     * if it has not been computed yet.
+     *
+     * @param allowSnapshots whether snapshots should be included
+     * @return view of the updates
+     * @since 2.20.0
+     */
+    public UpdatesViewModel getView(boolean allowSnapshots) {
+        return computeView(allowSnapshots, null);
+    }
 }
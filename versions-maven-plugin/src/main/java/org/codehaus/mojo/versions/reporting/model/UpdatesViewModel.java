@@ -0,0 +1,172 @@
+package org.codehaus.mojo.versions.reporting.model;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.codehaus.mojo.versions.api.AbstractVersionDetails;
+import org.codehaus.mojo.versions.api.ArtifactVersionsCache;
+import org.codehaus.mojo.versions.api.Segment;
+import org.codehaus.mojo.versions.reporting.OverviewStats;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
+
+import static java.util.Optional.empty;
+
+/**
+ * Immutable view of the update information rendered by the report renderers, computed once per report
+ * and shared by all output formats.
+ * <p>
+ * For every {@link AbstractVersionDetails} instance, the view holds the newest update overall and within
+ * each {@link Segment}, the updates listed in the detail section of the report
+ * (see {@link AbstractVersionDetails#getReportUpdates(Optional, boolean)}) and all updates within each segment.
+ * Renderers must treat the returned arrays as read-only.
+ *
+ * @since 2.20.0
+ */
+public final class UpdatesViewModel {
+    private final boolean allowSnapshots;
+
+    private final Map<AbstractVersionDetails, Entry> entries;
+
+    private UpdatesViewModel(boolean allowSnapshots, Map<AbstractVersionDetails, Entry> entries) {
+        this.allowSnapshots = allowSnapshots;
+        this.entries = entries;
+    }
+
+    /**
+     * Computes the view for the given version details. Each distinct instance is only computed once.
+     *
+     * @param details version details to include in the view
+     * @param allowSnapshots whether snapshots should be included
+     * @param executor if not {@code null}, the executor on which the details are computed in parallel;
+     *                 otherwise, the details are computed sequentially
+     * @return new view
+     */
+    public static UpdatesViewModel of(
+            Collection<? extends AbstractVersionDetails> details, boolean allowSnapshots, SharedExecutor executor) {
+        Map<AbstractVersionDetails, CompletableFuture<Entry>> futures = new IdentityHashMap<>();
+        for (AbstractVersionDetails d : details) {
+            if (!futures.containsKey(d)) {
+                futures.put(
+                        d,
+                        executor != null
+                                ? executor.submit(() -> new Entry(d, allowSnapshots))
+                                : CompletableFuture.completedFuture(new Entry(d, allowSnapshots)));
+            }
+        }
+        Map<AbstractVersionDetails, Entry> entries = new IdentityHashMap<>(futures.size());
+        try {
+            futures.forEach((d, future) -> entries.put(d, future.join()));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return new UpdatesViewModel(allowSnapshots, entries);
+    }
+
+    /**
+     * @return whether snapshots are included in the view
+     */
+    public boolean isAllowSnapshots() {
+        return allowSnapshots;
+    }
+
+    /**
+     * Computes the summary statistics of the given version details from the view
+     *
+     * @param details version details to summarize, typically all updates of the model
+     * @return new {@link OverviewStats} instance
+     */
+    public OverviewStats getOverviewStats(Collection<? extends AbstractVersionDetails> details) {
+        return OverviewStats.fromUpdates(
+                details, new ArtifactVersionsCache((d, scope, snapshots) -> getNewestUpdate(d, scope)), allowSnapshots);
+    }
+
+    /**
+     * Returns the newest update of the given details within the given segment, as per
+     * {@link AbstractVersionDetails#getReportNewestUpdate(Optional, boolean)}
+     *
+     * @param details version details
+     * @param updateScope segment, or empty for the newest update overall
+     * @return newest update or {@code null} if there is none
+     */
+    public ArtifactVersion getNewestUpdate(AbstractVersionDetails details, Optional<Segment> updateScope) {
+        Entry entry = entries.get(details);
+        if (entry == null) {
+            return details.getReportNewestUpdate(updateScope, allowSnapshots);
+        }
+        return updateScope.isPresent() ? entry.newestUpdates.get(updateScope.get()) : entry.newestUpdate;
+    }
+
+    /**
+     * Returns the updates of the given details listed in the detail section of the report, as per
+     * {@link AbstractVersionDetails#getReportUpdates(Optional, boolean)} with no segment restriction
+     *
+     * @param details version details
+     * @return read-only array of updates
+     */
+    public ArtifactVersion[] getReportUpdates(AbstractVersionDetails details) {
+        Entry entry = entries.get(details);
+        return entry == null ? details.getReportUpdates(empty(), allowSnapshots) : entry.reportUpdates;
+    }
+
+    /**
+     * Returns all updates of the given details within the given segment, as per
+     * {@link AbstractVersionDetails#getAllUpdates(Optional, boolean)}
+     *
+     * @param details version details
+     * @param segment segment
+     * @return read-only array of updates, {@code null} if the details have no current version
+     */
+    public ArtifactVersion[] getAllUpdates(AbstractVersionDetails details, Segment segment) {
+        Entry entry = entries.get(details);
+        return entry == null
+                ? details.getAllUpdates(Optional.of(segment), allowSnapshots)
+                : entry.allUpdates.get(segment);
+    }
+
+    private static final class Entry {
+        private final ArtifactVersion newestUpdate;
+
+        private final Map<Segment, ArtifactVersion> newestUpdates = new EnumMap<>(Segment.class);
+
+        private final ArtifactVersion[] reportUpdates;
+
+        private final Map<Segment, ArtifactVersion[]> allUpdates = new EnumMap<>(Segment.class);
+
+        Entry(AbstractVersionDetails details, boolean allowSnapshots) {
+            newestUpdate = details.getReportNewestUpdate(empty(), allowSnapshots);
+            reportUpdates = details.getReportUpdates(empty(), allowSnapshots);
+            for (Segment segment : Segment.values()) {
+                newestUpdates.put(segment, details.getReportNewestUpdate(Optional.of(segment), allowSnapshots));
+                allUpdates.put(segment, details.getAllUpdates(Optional.of(segment), allowSnapshots));
+            }
+        }
+    }
+}
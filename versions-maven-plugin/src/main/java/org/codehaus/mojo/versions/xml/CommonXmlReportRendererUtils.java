@@ -41,7 +41,11 @@ class CommonXmlReportRendererUtils {
             Segment segment,
             Consumer<List<String>> setterFunction,
             boolean allowSnapshots) {
-        ofNullable(versions.getAllUpdates(of(segment), allowSnapshots))
+        setSection(versions.getAllUpdates(of(segment), allowSnapshots), setterFunction);
+    }
+
+    static void setSection(ArtifactVersion[] updates, Consumer<List<String>> setterFunction) {
+        ofNullable(updates)
                 .map(v -> Arrays.stream(v).map(ArtifactVersion::toString).collect(Collectors.toList()))
                 .ifPresent(setterFunction);
     }
@@ -32,14 +32,13 @@ import java.util.stream.Collectors;
 
 import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.model.Dependency;
-import org.codehaus.mojo.versions.api.AbstractVersionDetails;
 import org.codehaus.mojo.versions.api.ArtifactVersions;
-import org.codehaus.mojo.versions.api.ArtifactVersionsCache;
 import org.codehaus.mojo.versions.reporting.OverviewStats;
 import org.codehaus.mojo.versions.reporting.model.DependencyInfo;
 import org.codehaus.mojo.versions.reporting.model.DependencyReportSummary;
 import org.codehaus.mojo.versions.reporting.model.DependencyUpdatesModel;
 import org.codehaus.mojo.versions.reporting.model.DependencyUpdatesReport;
+import org.codehaus.mojo.versions.reporting.model.UpdatesViewModel;
 import org.codehaus.mojo.versions.reporting.model.io.stax.DependencyUpdatesReportStaxWriter;
 import org.codehaus.mojo.versions.reporting.util.ReportRenderer;
 
@@ -61,8 +60,6 @@ import static org.codehaus.mojo.versions.xml.CommonXmlReportRendererUtils.status
 public class DependencyUpdatesXmlReportRenderer implements ReportRenderer {
     private final DependencyUpdatesModel model;
     private final Path outputFile;
-    private final ArtifactVersionsCache newestUpdateCache =
-            new ArtifactVersionsCache(AbstractVersionDetails::getNewestUpdateWithinSegment);
 
     private final boolean allowSnapshots;
 
@@ -93,13 +90,14 @@ public class DependencyUpdatesXmlReportRenderer implements ReportRenderer {
      */
     @Override
     public void render() {
+        UpdatesViewModel view = model.getView(isAllowSnapshots());
         try (BufferedWriter writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
             new DependencyUpdatesReportStaxWriter().write(writer, new DependencyUpdatesReport() {
                 {
                     setSummary(new DependencyReportSummary() {
                         {
-                            OverviewStats overviewStats = OverviewStats.fromUpdates(
-                                    model.getAllUpdates().values(), newestUpdateCache, isAllowSnapshots());
+                            OverviewStats overviewStats =
+                                    view.getOverviewStats(model.getAllUpdates().values());
                             setUsingLastVersion(String.valueOf(overviewStats.getUpToDate()));
                             setNextVersionAvailable(String.valueOf(overviewStats.getAny()));
                             setNextIncrementalAvailable(String.valueOf(overviewStats.getIncremental()));
@@ -107,9 +105,8 @@ public class DependencyUpdatesXmlReportRenderer implements ReportRenderer {
                             setNextMajorAvailable(String.valueOf(overviewStats.getMajor()));
                         }
                     });
-                    setDependencyManagements(
-                            createDependencyInfo(model.getArtifactManagementUpdates(), isAllowSnapshots()));
-                    setDependencies(createDependencyInfo(model.getArtifactUpdates(), isAllowSnapshots()));
+                    setDependencyManagements(createDependencyInfo(model.getArtifactManagementUpdates(), view));
+                    setDependencies(createDependencyInfo(model.getArtifactUpdates(), view));
                 }
             });
         } catch (IOException | XMLStreamException e) {
@@ -118,7 +115,7 @@ public class DependencyUpdatesXmlReportRenderer implements ReportRenderer {
     }
 
     private static List<DependencyInfo> createDependencyInfo(
-            Map<Dependency, ArtifactVersions> versions, boolean allowSnapshots) {
+            Map<Dependency, ArtifactVersions> versions, UpdatesViewModel view) {
         return versions.entrySet().stream()
                 .map(e -> new DependencyInfo() {
                     {
@@ -129,13 +126,13 @@ public class DependencyUpdatesXmlReportRenderer implements ReportRenderer {
                         setType(e.getKey().getType());
                         setClassifier(e.getKey().getClassifier());
 
-                        ofNullable(e.getValue().getNewestUpdateWithinSegment(empty(), allowSnapshots))
+                        ofNullable(view.getNewestUpdate(e.getValue(), empty()))
                                 .map(ArtifactVersion::toString)
                                 .ifPresent(this::setLastVersion);
 
-                        setSection(e.getValue(), INCREMENTAL, this::setIncrementals, allowSnapshots);
-                        setSection(e.getValue(), MINOR, this::setMinors, allowSnapshots);
-                        setSection(e.getValue(), MAJOR, this::setMajors, allowSnapshots);
+                        setSection(view.getAllUpdates(e.getValue(), INCREMENTAL), this::setIncrementals);
+                        setSection(view.getAllUpdates(e.getValue(), MINOR), this::setMinors);
+                        setSection(view.getAllUpdates(e.getValue(), MAJOR), this::setMajors);
 
                         setStatus(statusFor(getLastVersion(), getIncrementals(), getMinors()));
                     }
@@ -0,0 +1,178 @@
+package org.codehaus.mojo.versions;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import javax.xml.stream.XMLStreamException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.mojo.versions.api.VersionRetrievalException;
+import org.codehaus.mojo.versions.api.recording.ChangeRecorder;
+import org.codehaus.mojo.versions.recording.DefaultPropertyChangeRecord;
+import org.codehaus.mojo.versions.rewriting.MutableXMLStreamReader;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.apache.maven.plugin.testing.ArtifactStubFactory.setVariableValueToObject;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Unit tests for the change log handling of {@link AbstractVersionsUpdaterMojo}
+ */
+public class AbstractVersionsUpdaterMojoTest {
+    private MavenSession session;
+
+    private MavenProject first;
+
+    private MavenProject last;
+
+    @Before
+    public void setUp() {
+        DefaultRepositorySystemSession repositorySession = new DefaultRepositorySystemSession();
+        session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(repositorySession);
+        when(session.getRequest()).thenReturn(new DefaultMavenExecutionRequest());
+        first = project("first");
+        last = project("last");
+        when(session.getProjects()).thenReturn(Arrays.asList(first, last));
+    }
+
+    private static MavenProject project(String artifactId) {
+        MavenProject project = new MavenProject();
+        project.setGroupId("default-group");
+        project.setArtifactId(artifactId);
+        project.setVersion("1.0");
+        project.setFile(new File(artifactId, "pom.xml"));
+        return project;
+    }
+
+    private static Path outputPath(MavenProject project) {
+        return new File(project.getArtifactId(), "versions-changes.xml").toPath();
+    }
+
+    private AbstractVersionsUpdaterMojo mojo(MavenProject project, ChangeRecorder changeRecorder, boolean failing)
+            throws Exception {
+        AbstractVersionsUpdaterMojo mojo =
+                new AbstractVersionsUpdaterMojo(null, null, null, Collections.singletonMap("test", changeRecorder)) {
+                    @Override
+                    protected boolean getAllowSnapshots() {
+                        return false;
+                    }
+
+                    @Override
+                    protected void process(File outFile) throws MojoExecutionException, MojoFailureException {
+                        getChangeRecorder()
+                                .recordChange(DefaultPropertyChangeRecord.builder()
+                                        .withProperty("revision")
+                                        .withOldValue("1.0")
+                                        .withNewValue("2.0")
+                                        .build());
+                        if (failing) {
+                            throw new MojoFailureException("failed");
+                        }
+                    }
+
+                    @Override
+                    protected void update(MutableXMLStreamReader pom)
+                            throws MojoExecutionException, MojoFailureException, XMLStreamException,
+                                    VersionRetrievalException {}
+                };
+        mojo.setProject(project);
+        mojo.session = session;
+        mojo.mojoExecution = mock(MojoExecution.class);
+        when(mojo.mojoExecution.getMojoDescriptor()).thenReturn(new MojoDescriptor());
+        setVariableValueToObject(mojo, "changeRecorderFormat", "test");
+        setVariableValueToObject(
+                mojo, "changeRecorderOutputFile", outputPath(project).toFile());
+        mojo.changeRecorderFlushInterval = -1;
+        return mojo;
+    }
+
+    @Test
+    public void testDeferredChangeLogsOfAllModulesAreWrittenAtTheEndOfTheReactor() throws Exception {
+        List<ChangeRecorder> recorders = Arrays.asList(mock(ChangeRecorder.class), mock(ChangeRecorder.class));
+
+        mojo(first, recorders.get(0), false).execute();
+        verify(recorders.get(0), never()).writeReport(any());
+
+        mojo(last, recorders.get(1), false).execute();
+        verify(recorders.get(0)).writeReport(outputPath(first));
+        verify(recorders.get(1)).writeReport(outputPath(last));
+    }
+
+    @Test
+    public void testDeferredChangeLogsAreWrittenWhenTheLastModuleFails() throws Exception {
+        List<ChangeRecorder> recorders = Arrays.asList(mock(ChangeRecorder.class), mock(ChangeRecorder.class));
+
+        mojo(first, recorders.get(0), false).execute();
+        AbstractVersionsUpdaterMojo failing = mojo(last, recorders.get(1), true);
+        assertThrows(MojoFailureException.class, failing::execute);
+
+        verify(recorders.get(0)).writeReport(outputPath(first));
+        verify(recorders.get(1)).writeReport(outputPath(last));
+    }
+
+    @Test
+    public void testDeferredChangeLogsAreWrittenOnceEveryModuleOfAParallelBuildIsProcessed() throws Exception {
+        when(session.isParallel()).thenReturn(true);
+        List<ChangeRecorder> recorders = Arrays.asList(mock(ChangeRecorder.class), mock(ChangeRecorder.class));
+
+        // the last project of the reactor completes first
+        mojo(last, recorders.get(1), false).execute();
+        verify(recorders.get(1), never()).writeReport(any());
+
+        mojo(first, recorders.get(0), false).execute();
+        verify(recorders.get(0)).writeReport(outputPath(first));
+        verify(recorders.get(1)).writeReport(outputPath(last));
+    }
+
+    @Test
+    public void testDeferredChangeLogsAreWrittenAtTheEndOfTheSession() throws Exception {
+        when(session.isParallel()).thenReturn(true);
+        ChangeRecorder recorder = mock(ChangeRecorder.class, withSettings().extraInterfaces(Closeable.class));
+
+        // the goal is not executed for the first project, so the end of the reactor cannot be told
+        mojo(last, recorder, false).execute();
+        verify(recorder, never()).writeReport(any());
+
+        session.getRequest().getExecutionListener().sessionEnded(null);
+        verify(recorder).writeReport(outputPath(last));
+        verify((Closeable) recorder).close();
+    }
+}
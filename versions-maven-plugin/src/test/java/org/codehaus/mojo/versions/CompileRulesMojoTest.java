@@ -0,0 +1,115 @@
+package org.codehaus.mojo.versions;
+
+/*
+ * Copyright MojoHaus and Contributors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.codehaus.mojo.versions.model.Rule;
+import org.codehaus.mojo.versions.model.RuleSet;
+import org.codehaus.mojo.versions.rule.RuleSetSnapshot;
+import org.codehaus.mojo.versions.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.apache.maven.plugin.testing.ArtifactStubFactory.setVariableValueToObject;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Unit tests for {@link CompileRulesMojo}
+ */
+public class CompileRulesMojoTest {
+    private static final String RULES = "<ruleset comparisonMethod=\"maven\""
+            + " xmlns=\"https://www.mojohaus.org/VERSIONS/RULE/2.1.0\">\n"
+            + "  <ignoreVersions>\n"
+            + "    <ignoreVersion type=\"regex\">.*-alpha.*</ignoreVersion>\n"
+            + "  </ignoreVersions>\n"
+            + "  <rules>\n"
+            + "    <rule groupId=\"org.example\" artifactId=\"api\">\n"
+            + "      <ignoreVersions>\n"
+            + "        <ignoreVersion>2.0</ignoreVersion>\n"
+            + "      </ignoreVersions>\n"
+            + "    </rule>\n"
+            + "    <rule groupId=\"org.example.other\"/>\n"
+            + "  </rules>\n"
+            + "</ruleset>\n";
+
+    private Path tempDir;
+
+    @Before
+    public void setUp() throws IOException {
+        tempDir = TestUtils.createTempDir("compile-rules");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        TestUtils.tearDownTempDir(tempDir);
+    }
+
+    @Test
+    public void testSnapshotIsWrittenNextToTheRules() throws Exception {
+        Path rulesFile = Files.write(tempDir.resolve("rules.xml"), RULES.getBytes(StandardCharsets.UTF_8));
+        CompileRulesMojo mojo = new CompileRulesMojo();
+        setVariableValueToObject(mojo, "rulesFile", rulesFile.toFile());
+
+        mojo.execute();
+
+        Path snapshot = tempDir.resolve("rules.xml.bin");
+        assertThat(RuleSetSnapshot.isUpToDate(snapshot, rulesFile), is(true));
+        RuleSet ruleSet = RuleSetSnapshot.read(snapshot);
+        assertThat(ruleSet.getIgnoreVersions(), hasSize(1));
+        assertThat(ruleSet.getIgnoreVersions().get(0).getVersion(), is(".*-alpha.*"));
+        assertThat(ruleSet.getIgnoreVersions().get(0).getType(), is("regex"));
+        assertThat(ruleSet.getRules(), hasSize(2));
+        Rule rule = ruleSet.getRules().get(0);
+        assertThat(rule.getGroupId(), is("org.example"));
+        assertThat(rule.getArtifactId(), is("api"));
+        assertThat(rule.getIgnoreVersions(), hasSize(1));
+        assertThat(rule.getIgnoreVersions().get(0).getVersion(), is("2.0"));
+        assertThat(ruleSet.getRules().get(1).getGroupId(), is("org.example.other"));
+    }
+
+    @Test
+    public void testSnapshotIsWrittenToTheGivenFile() throws Exception {
+        Path rulesFile = Files.write(tempDir.resolve("rules.xml"), RULES.getBytes(StandardCharsets.UTF_8));
+        Path snapshot = tempDir.resolve("snapshots").resolve("rules.bin");
+        CompileRulesMojo mojo = new CompileRulesMojo();
+        setVariableValueToObject(mojo, "rulesFile", rulesFile.toFile());
+        setVariableValueToObject(mojo, "snapshotFile", snapshot.toFile());
+
+        mojo.execute();
+
+        assertThat(RuleSetSnapshot.read(snapshot).getRules(), hasSize(2));
+        assertThat(Files.exists(tempDir.resolve("rules.xml.bin")), is(false));
+    }
+
+    @Test
+    public void testInvalidRulesAreReported() throws Exception {
+        Path rulesFile = Files.write(tempDir.resolve("rules.xml"), "<ruleset>".getBytes(StandardCharsets.UTF_8));
+        CompileRulesMojo mojo = new CompileRulesMojo();
+        setVariableValueToObject(mojo, "rulesFile", rulesFile.toFile());
+
+        assertThrows(MojoExecutionException.class, mojo::execute);
+        assertThat(Files.exists(tempDir.resolve("rules.xml.bin")), is(false));
+    }
+}
@@ -27,8 +27,10 @@ import java.util.Arrays;
 import org.apache.maven.artifact.DefaultArtifact;
 import org.codehaus.mojo.versions.api.ArtifactVersions;
 import org.codehaus.mojo.versions.reporting.model.DependencyUpdatesModel;
+import org.codehaus.mojo.versions.reporting.model.UpdatesViewModel;
 import org.codehaus.mojo.versions.utils.ArtifactVersionService;
 import org.codehaus.mojo.versions.utils.DependencyBuilder;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.codehaus.mojo.versions.xml.DependencyUpdatesXmlReportRenderer;
 import org.junit.After;
 import org.junit.Before;
@@ -39,6 +41,7 @@ import static java.util.Collections.singletonMap;
 import static org.apache.maven.artifact.Artifact.SCOPE_COMPILE;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.sameInstance;
 
 /**
  * Basic tests for {@linkplain DependencyUpdatesXmlReportRenderer}.
@@ -103,4 +106,46 @@ public class DependencyUpdatesXmlRendererTest {
         assertThat(output, containsString("<major>2.0.0</major>"));
         assertThat(output, containsString("<status>incremental available</status>"));
     }
+
+    private static DependencyUpdatesModel createModel() {
+        return new DependencyUpdatesModel(
+                singletonMap(
+                        DependencyBuilder.newBuilder()
+                                .withGroupId("default-group")
+                                .withArtifactId("artifactA")
+                                .withVersion("1.0.0")
+                                .build(),
+                        new ArtifactVersions(
+                                new DefaultArtifact(
+                                        "default-group", "artifactA", "1.0.0", SCOPE_COMPILE, "jar", "default", null),
+                                Arrays.asList(
+                                        ArtifactVersionService.getArtifactVersion("1.0.0"),
+                                        ArtifactVersionService.getArtifactVersion("1.0.1"),
+                                        ArtifactVersionService.getArtifactVersion("1.1.0"),
+                                        ArtifactVersionService.getArtifactVersion("2.0.0")))),
+                emptyMap());
+    }
+
+    @Test
+    public void testReportGenerationFromSharedView() throws IOException {
+        DependencyUpdatesModel model = createModel();
+        SharedExecutor executor = SharedExecutor.forSession(null, 2, false);
+        UpdatesViewModel view;
+        try {
+            view = model.computeView(false, executor);
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(model.getView(false), sameInstance(view));
+
+        new DependencyUpdatesXmlReportRenderer(model, tempFile, false).render();
+        String output = String.join("", Files.readAllLines(tempFile)).replaceAll(">\\s*<", "><");
+
+        assertThat(model.getView(false), sameInstance(view));
+        assertThat(output, containsString("<nextIncrementalAvailable>1</nextIncrementalAvailable>"));
+        assertThat(output, containsString("<lastVersion>2.0.0</lastVersion>"));
+        assertThat(output, containsString("<incremental>1.0.1</incremental>"));
+        assertThat(output, containsString("<minor>1.1.0</minor>"));
+        assertThat(output, containsString("<major>2.0.0</major>"));
+    }
 }
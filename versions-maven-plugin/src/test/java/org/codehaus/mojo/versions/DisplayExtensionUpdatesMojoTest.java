@@ -35,7 +35,9 @@ import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.VersionRetrievalException;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
 import org.codehaus.mojo.versions.utils.ExtensionBuilder;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.eclipse.aether.DefaultSessionData;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -55,10 +57,12 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
 /**
@@ -129,7 +133,7 @@ public class DisplayExtensionUpdatesMojoTest {
         setVariableValueToObject(mojo, "extensionExcludes", emptyList());
         try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
             pomHelper
-                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any()))
+                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any(), any(), any()))
                     .then(i -> Collections.singletonMap(null, ((MavenProject) i.getArgument(0)).getModel()));
             mojo.execute();
         }
@@ -151,7 +155,7 @@ public class DisplayExtensionUpdatesMojoTest {
                         .build()));
         try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
             pomHelper
-                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any()))
+                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any(), any(), any()))
                     .then(i -> Collections.singletonMap(null, ((MavenProject) i.getArgument(0)).getModel()));
             mojo.execute();
         }
@@ -175,7 +179,7 @@ public class DisplayExtensionUpdatesMojoTest {
                         .build()));
         try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
             pomHelper
-                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any()))
+                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any(), any(), any()))
                     .then(i -> Collections.singletonMap(null, ((MavenProject) i.getArgument(0)).getModel()));
             mojo.execute();
         }
@@ -201,7 +205,7 @@ public class DisplayExtensionUpdatesMojoTest {
                         .build()));
         try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
             pomHelper
-                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any()))
+                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any(), any(), any()))
                     .then(i -> Collections.singletonMap(null, ((MavenProject) i.getArgument(0)).getModel()));
             mojo.execute();
         }
@@ -209,6 +213,24 @@ public class DisplayExtensionUpdatesMojoTest {
         assertThat(Files.readAllLines(tempPath), empty());
     }
 
+    @Test
+    public void testSharedExecutorIsReleased()
+            throws MojoExecutionException, MojoFailureException, IllegalAccessException {
+        when(mojo.session.getRepositorySession().getData()).thenReturn(new DefaultSessionData());
+        setVariableValueToObject(mojo, "extensionIncludes", singletonList("*"));
+        setVariableValueToObject(mojo, "extensionExcludes", emptyList());
+        try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
+            pomHelper
+                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any(), any(), any()))
+                    .then(i -> Collections.singletonMap(null, ((MavenProject) i.getArgument(0)).getModel()));
+            mojo.execute();
+        }
+        assertThat(
+                SharedExecutor.forSession(mojo.session, mojo.lookupThreads, mojo.lookupVirtualThreads)
+                        .isShutdown(),
+                is(true));
+    }
+
     @Test
     public void testMajorUpdates()
             throws MojoExecutionException, MojoFailureException, IOException, IllegalAccessException {
@@ -225,7 +247,7 @@ public class DisplayExtensionUpdatesMojoTest {
 
         try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
             pomHelper
-                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any()))
+                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any(), any(), any()))
                     .then(i -> Collections.singletonMap(null, ((MavenProject) i.getArgument(0)).getModel()));
             mojo.execute();
         }
@@ -249,7 +271,7 @@ public class DisplayExtensionUpdatesMojoTest {
 
         try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
             pomHelper
-                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any()))
+                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any(), any(), any()))
                     .then(i -> Collections.singletonMap(null, ((MavenProject) i.getArgument(0)).getModel()));
             mojo.execute();
         }
@@ -278,7 +300,7 @@ public class DisplayExtensionUpdatesMojoTest {
 
         try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
             pomHelper
-                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any()))
+                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any(), any(), any()))
                     .then(i -> Collections.singletonMap(null, ((MavenProject) i.getArgument(0)).getModel()));
             mojo.execute();
         }
@@ -302,7 +324,7 @@ public class DisplayExtensionUpdatesMojoTest {
 
         try (MockedStatic<PomHelper> pomHelper = mockStatic(PomHelper.class)) {
             pomHelper
-                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any()))
+                    .when(() -> PomHelper.getChildModels(ArgumentMatchers.any(MavenProject.class), any(), any(), any()))
                     .then(i -> Collections.singletonMap(null, ((MavenProject) i.getArgument(0)).getModel()));
             mojo.execute();
             fail("Should throw an exception");
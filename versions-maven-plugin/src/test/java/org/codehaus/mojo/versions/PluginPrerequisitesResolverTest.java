@@ -0,0 +1,168 @@
+package org.codehaus.mojo.versions;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.resolver.ArtifactResolutionException;
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.project.ProjectBuilder;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.codehaus.mojo.versions.api.VersionsHelper;
+import org.codehaus.mojo.versions.utils.ArtifactFactory;
+import org.codehaus.mojo.versions.utils.ArtifactVersionService;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
+import org.codehaus.mojo.versions.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link PluginPrerequisitesResolver}
+ */
+public class PluginPrerequisitesResolverTest {
+
+    private Path tempDir;
+
+    private VersionsHelper helper;
+
+    private ArtifactFactory artifactFactory;
+
+    private ProjectBuilder projectBuilder;
+
+    @Before
+    public void setUp() throws Exception {
+        tempDir = TestUtils.createTempDir("plugin-prerequisites");
+        Files.createDirectories(tempDir.resolve("poms"));
+        helper = mock(VersionsHelper.class);
+        artifactFactory = mock(ArtifactFactory.class);
+        projectBuilder = mock(ProjectBuilder.class);
+        when(artifactFactory.createArtifact(any(Dependency.class))).then(i -> {
+            Dependency dependency = i.getArgument(0);
+            return new DefaultArtifact(
+                    dependency.getGroupId(),
+                    dependency.getArtifactId(),
+                    dependency.getVersion(),
+                    dependency.getScope(),
+                    dependency.getType(),
+                    null,
+                    new DefaultArtifactHandler("pom"));
+        });
+        doAnswer(i -> {
+                    Artifact artifact = i.getArgument(0);
+                    artifact.setFile(tempDir.resolve("poms")
+                            .resolve(artifact.getVersion() + ".pom")
+                            .toFile());
+                    return null;
+                })
+                .when(helper)
+                .resolveArtifact(any(Artifact.class), anyBoolean());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        TestUtils.tearDownTempDir(tempDir);
+    }
+
+    private void writePom(String version, String content) throws Exception {
+        Files.write(
+                tempDir.resolve("poms").resolve(version + ".pom"),
+                ("<project><artifactId>plugin</artifactId><version>" + version + "</version>" + content + "</project>")
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private PluginPrerequisitesResolver createResolver() {
+        return new PluginPrerequisitesResolver(
+                helper,
+                artifactFactory,
+                projectBuilder,
+                null,
+                SharedExecutor.forSession(null, 2, false),
+                tempDir.resolve("cache"),
+                new SystemStreamLog());
+    }
+
+    @Test
+    public void testReadsPrerequisitesFromRawPom() throws Exception {
+        writePom("1.0", "<prerequisites><maven>3.2.5</maven></prerequisites>");
+        writePom(
+                "2.0",
+                "<properties><maven.version>3.6.3</maven.version></properties>"
+                        + "<prerequisites><maven>${maven.version}</maven></prerequisites>");
+        writePom("3.0", "");
+
+        Map<String, Optional<ArtifactVersion>> result =
+                createResolver().getRequiredMavenVersions("group", "plugin", Arrays.asList("1.0", "2.0", "3.0"));
+
+        assertThat(result.get("1.0"), is(Optional.of(ArtifactVersionService.getArtifactVersion("3.2.5"))));
+        assertThat(result.get("2.0"), is(Optional.of(ArtifactVersionService.getArtifactVersion("3.6.3"))));
+        assertThat(result.get("3.0"), is(Optional.empty()));
+        verify(projectBuilder, never()).build(any(Artifact.class), anyBoolean(), any(ProjectBuildingRequest.class));
+    }
+
+    @Test
+    public void testPrerequisitesAreMemoizedOnDisk() throws Exception {
+        writePom("1.0", "<prerequisites><maven>3.2.5</maven></prerequisites>");
+        createResolver().getRequiredMavenVersions("group", "plugin", Arrays.asList("1.0"));
+
+        Files.delete(tempDir.resolve("poms").resolve("1.0.pom"));
+        assertThat(
+                createResolver()
+                        .getRequiredMavenVersions("group", "plugin", Arrays.asList("1.0"))
+                        .get("1.0"),
+                is(Optional.of(ArtifactVersionService.getArtifactVersion("3.2.5"))));
+        verify(helper, times(1)).resolveArtifact(any(Artifact.class), anyBoolean());
+    }
+
+    @Test
+    public void testUnresolvableVersionIsOmitted() throws Exception {
+        doThrow(new ArtifactResolutionException("not found", mock(Artifact.class)))
+                .when(helper)
+                .resolveArtifact(any(Artifact.class), anyBoolean());
+
+        assertThat(
+                createResolver()
+                        .getRequiredMavenVersions("group", "plugin", Arrays.asList("1.0"))
+                        .containsKey("1.0"),
+                is(false));
+    }
+}
@@ -20,6 +20,7 @@ import org.apache.maven.plugin.testing.MojoRule;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
+import org.codehaus.mojo.versions.utils.SharedExecutor;
 import org.codehaus.mojo.versions.utils.TestLog;
 import org.codehaus.mojo.versions.utils.TestUtils;
 import org.junit.After;
@@ -188,6 +189,19 @@ public class SetMojoTest extends AbstractMojoTestCase {
                 containsString("<version>bar</version>"));
     }
 
+    @Test
+    public void testSharedExecutorIsReleased() throws Exception {
+        TestUtils.copyDir(Paths.get("src/test/resources/org/codehaus/mojo/set/issue-794"), tempDir);
+        SetMojo mojo = (SetMojo) mojoRule.lookupConfiguredMojo(tempDir.toFile(), "set");
+        setVariableValueToObject(mojo, "newVersion", "bar");
+        setVariableValueToObject(mojo, "processAllModules", true);
+        mojo.execute();
+        assertThat(
+                SharedExecutor.forSession(mojo.session, mojo.lookupThreads, mojo.lookupVirtualThreads)
+                        .isShutdown(),
+                is(true));
+    }
+
     private void testSetParameterValue(String filename, Consumer<SetMojo>... initializers) throws Exception {
         Files.copy(
                 Paths.get("src/test/resources/org/codehaus/mojo/set/issue-855/").resolve(filename),
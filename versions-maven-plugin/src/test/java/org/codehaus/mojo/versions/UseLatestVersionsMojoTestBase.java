@@ -14,6 +14,7 @@ import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
+import org.codehaus.mojo.versions.api.PomEdits;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.VersionRetrievalException;
 import org.codehaus.mojo.versions.change.DefaultDependencyVersionChange;
@@ -94,6 +95,9 @@ public abstract class UseLatestVersionsMojoTestBase {
             pomHelper
                     .when(() -> PomHelper.setDependencyVersion(any(), any(), any(), any(), any(), any(), any()))
                     .thenReturn(true);
+            pomHelper
+                    .when(() -> PomHelper.applyEdits(any(), any(), any(), any()))
+                    .then(i -> new HashSet<>(i.<PomEdits>getArgument(1).getEdits()));
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
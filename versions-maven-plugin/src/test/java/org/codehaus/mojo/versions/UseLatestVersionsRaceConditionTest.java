@@ -4,6 +4,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
@@ -13,6 +14,7 @@ import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.wagon.Wagon;
+import org.codehaus.mojo.versions.api.PomEdits;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.change.DefaultDependencyVersionChange;
 import org.codehaus.mojo.versions.utils.ArtifactFactory;
@@ -156,6 +158,9 @@ public class UseLatestVersionsRaceConditionTest {
             pomHelper
                     .when(() -> PomHelper.setDependencyVersion(any(), any(), any(), any(), any(), any(), any()))
                     .thenReturn(true);
+            pomHelper
+                    .when(() -> PomHelper.applyEdits(any(), any(), any(), any()))
+                    .then(i -> new HashSet<>(i.<PomEdits>getArgument(1).getEdits()));
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
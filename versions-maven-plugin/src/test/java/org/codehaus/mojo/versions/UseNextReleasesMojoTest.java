@@ -19,12 +19,14 @@ import javax.xml.stream.XMLStreamException;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 
 import org.apache.maven.model.Model;
 import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.project.MavenProject;
+import org.codehaus.mojo.versions.api.PomEdits;
 import org.codehaus.mojo.versions.api.PomHelper;
 import org.codehaus.mojo.versions.api.VersionRetrievalException;
 import org.codehaus.mojo.versions.change.DefaultDependencyVersionChange;
@@ -98,6 +100,9 @@ public class UseNextReleasesMojoTest extends UseLatestVersionsMojoTestBase {
             pomHelper
                     .when(() -> PomHelper.setDependencyVersion(any(), any(), any(), any(), any(), any(), any()))
                     .thenReturn(true);
+            pomHelper
+                    .when(() -> PomHelper.applyEdits(any(), any(), any(), any()))
+                    .then(i -> new HashSet<>(i.<PomEdits>getArgument(1).getEdits()));
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
@@ -119,6 +124,9 @@ public class UseNextReleasesMojoTest extends UseLatestVersionsMojoTestBase {
             pomHelper
                     .when(() -> PomHelper.setDependencyVersion(any(), any(), any(), any(), any(), any(), any()))
                     .thenReturn(true);
+            pomHelper
+                    .when(() -> PomHelper.applyEdits(any(), any(), any(), any()))
+                    .then(i -> new HashSet<>(i.<PomEdits>getArgument(1).getEdits()));
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
@@ -153,6 +161,9 @@ public class UseNextReleasesMojoTest extends UseLatestVersionsMojoTestBase {
                     .when(() -> PomHelper.setDependencyVersion(
                             any(), anyString(), anyString(), anyString(), anyString(), any(Model.class), any()))
                     .thenReturn(true);
+            pomHelper
+                    .when(() -> PomHelper.applyEdits(any(), any(), any(), any()))
+                    .then(i -> new HashSet<>(i.<PomEdits>getArgument(1).getEdits()));
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());
@@ -185,6 +196,9 @@ public class UseNextReleasesMojoTest extends UseLatestVersionsMojoTestBase {
                     .when(() -> PomHelper.setDependencyVersion(
                             any(), anyString(), anyString(), anyString(), anyString(), any(Model.class), any()))
                     .thenReturn(true);
+            pomHelper
+                    .when(() -> PomHelper.applyEdits(any(), any(), any(), any()))
+                    .then(i -> new HashSet<>(i.<PomEdits>getArgument(1).getEdits()));
             pomHelper
                     .when(() -> PomHelper.getRawModel(any(MavenProject.class)))
                     .thenReturn(mojo.getProject().getModel());